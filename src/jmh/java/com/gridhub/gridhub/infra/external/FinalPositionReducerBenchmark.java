@@ -0,0 +1,63 @@
+package com.gridhub.gridhub.infra.external;
+
+import com.gridhub.gridhub.domain.f1data.dto.PositionResponse;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 레이스 한 경기 분량(약 50,000개)의 /position 샘플에서 드라이버별 최종 순위를 구하는 비용 비교.
+ * - legacySortAndRescan: 기존 OpenF1Client.getRaceResult 구현 (정렬 후 드라이버마다 전체 재탐색)
+ * - singlePassReducer: FinalPositionReducer 단일 패스 집계
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class FinalPositionReducerBenchmark {
+
+    private static final int SAMPLE_COUNT = 50_000;
+    private static final int[] DRIVER_NUMBERS = {1, 4, 10, 11, 14, 16, 18, 20, 22, 23, 24, 27, 31, 44, 55, 63, 77, 81, 2, 3};
+
+    private List<PositionResponse> samples;
+
+    @Setup
+    public void setUp() {
+        Random random = new Random(42);
+        Instant start = Instant.parse("2024-05-26T13:00:00Z");
+        samples = new ArrayList<>(SAMPLE_COUNT);
+        for (int i = 0; i < SAMPLE_COUNT; i++) {
+            int driverNumber = DRIVER_NUMBERS[random.nextInt(DRIVER_NUMBERS.length)];
+            String date = start.plusMillis(i * 150L).toString();
+            samples.add(new PositionResponse(driverNumber, random.nextInt(DRIVER_NUMBERS.length) + 1, date, null));
+        }
+    }
+
+    @Benchmark
+    public void legacySortAndRescan(Blackhole blackhole) {
+        List<PositionResponse> allPositions = samples;
+        blackhole.consume(allPositions.stream()
+                .sorted(Comparator.comparing(PositionResponse::date).reversed())
+                .map(PositionResponse::driverNumber)
+                .distinct()
+                .map(driverNum -> allPositions.stream()
+                        .filter(p -> p.driverNumber().equals(driverNum))
+                        .max(Comparator.comparing(PositionResponse::date))
+                        .orElse(null))
+                .toList());
+    }
+
+    @Benchmark
+    public void singlePassReducer(Blackhole blackhole) {
+        FinalPositionReducer reducer = new FinalPositionReducer();
+        for (PositionResponse sample : samples) {
+            reducer.accept(sample);
+        }
+        blackhole.consume(reducer.toFinalPositions());
+    }
+}
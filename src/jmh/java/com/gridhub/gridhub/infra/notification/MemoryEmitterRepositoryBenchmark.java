@@ -0,0 +1,63 @@
+package com.gridhub.gridhub.infra.notification;
+
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+/**
+ * 알림 발송 시 수신자의 Emitter를 찾는 비용을 동시 접속 수(100 ~ 100,000)별로 비교.
+ * 접속자 한 명당 평균 2개의 연결(탭)을 가정.
+ * - legacyPrefixScan: 기존 MemoryEmitterRepository 구현 (emitterId 전체를 startsWith로 필터링)
+ * - indexedLookup: 사용자 ID로 바로 찾는 2단계 맵
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class MemoryEmitterRepositoryBenchmark {
+
+    private static final int EMITTERS_PER_USER = 2;
+
+    @Param({"100", "1000", "10000", "100000"})
+    private int connections;
+
+    private int userCount;
+    private Map<String, SseEmitter> legacyEmitters;
+    private MemoryEmitterRepository repository;
+
+    @Setup
+    public void setUp() {
+        userCount = Math.max(1, connections / EMITTERS_PER_USER);
+        legacyEmitters = new ConcurrentHashMap<>();
+        repository = new MemoryEmitterRepository();
+        for (int i = 0; i < connections; i++) {
+            String userId = String.valueOf(i % userCount);
+            String emitterId = userId + "_" + i;
+            SseEmitter emitter = new SseEmitter();
+            legacyEmitters.put(emitterId, emitter);
+            repository.save(userId, emitterId, emitter);
+        }
+    }
+
+    @Benchmark
+    public void legacyPrefixScan(Blackhole blackhole) {
+        String userId = randomUserId();
+        blackhole.consume(legacyEmitters.entrySet().stream()
+                .filter(entry -> entry.getKey().startsWith(userId))
+                .collect(Collectors.toMap(Map.Entry::getKey, Map.Entry::getValue)));
+    }
+
+    @Benchmark
+    public void indexedLookup(Blackhole blackhole) {
+        repository.findAllByUserId(randomUserId()).forEach((emitterId, emitter) -> blackhole.consume(emitter));
+    }
+
+    private String randomUserId() {
+        return String.valueOf(ThreadLocalRandom.current().nextInt(userCount));
+    }
+}
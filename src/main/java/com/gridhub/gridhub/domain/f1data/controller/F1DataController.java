@@ -2,13 +2,17 @@ package com.gridhub.gridhub.domain.f1data.controller;
 
 import com.gridhub.gridhub.domain.f1data.dto.DriverInfoResponse;
 import com.gridhub.gridhub.domain.f1data.dto.RaceCalendarDto;
-import com.gridhub.gridhub.domain.f1data.dto.RaceDetailResponse;
+import com.gridhub.gridhub.domain.f1data.dto.RaceDetailSnapshotDto;
 import com.gridhub.gridhub.domain.f1data.dto.TeamInfoResponse;
 import com.gridhub.gridhub.domain.f1data.service.F1DataService;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
+import java.time.Duration;
 import java.time.Year;
 import java.util.List;
 
@@ -33,9 +37,58 @@ public class F1DataController {
     }
 
     @GetMapping("/races/{raceId}")
-    public ResponseEntity<RaceDetailResponse> getRaceDetail(@PathVariable Long raceId) {
-        RaceDetailResponse raceDetail = f1DataService.getRaceDetail(raceId);
-        return ResponseEntity.ok(raceDetail);
+    public ResponseEntity<byte[]> getRaceDetail(
+            @PathVariable Long raceId,
+            @RequestHeader(value = HttpHeaders.ACCEPT_ENCODING, required = false) String acceptEncoding
+    ) {
+        RaceDetailSnapshotDto snapshot = f1DataService.getRaceDetailSnapshot(raceId);
+        boolean gzip = acceptsGzip(acceptEncoding);
+
+        // 확정된 레이스 결과는 변하지 않으므로 immutable 캐시 지정
+        // If-None-Match가 ETag와 일치하면 Spring MVC가 304 Not Modified로 응답
+        ResponseEntity.BodyBuilder response = ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_JSON)
+                .eTag(gzip ? snapshot.gzipEtag() : snapshot.etag())
+                .cacheControl(CacheControl.maxAge(Duration.ofDays(365)).cachePublic().immutable())
+                .varyBy(HttpHeaders.ACCEPT_ENCODING);
+
+        if (gzip) {
+            return response.header(HttpHeaders.CONTENT_ENCODING, "gzip").body(snapshot.gzippedBody());
+        }
+        return response.body(snapshot.jsonBody());
+    }
+
+    // "gzip;q=0"처럼 명시적으로 거부한 경우는 제외 (RFC 9110 12.5.3)
+    static boolean acceptsGzip(String acceptEncoding) {
+        if (acceptEncoding == null) {
+            return false;
+        }
+        Double gzipQuality = null;
+        Double wildcardQuality = null;
+        for (String coding : acceptEncoding.split(",")) {
+            String[] parts = coding.split(";");
+            String name = parts[0].trim();
+            double quality = 1.0;
+            for (int i = 1; i < parts.length; i++) {
+                String param = parts[i].trim();
+                if (param.startsWith("q=") || param.startsWith("Q=")) {
+                    try {
+                        quality = Double.parseDouble(param.substring(2).trim());
+                    } catch (NumberFormatException e) {
+                        quality = 0;
+                    }
+                }
+            }
+            if (name.equalsIgnoreCase("gzip") || name.equalsIgnoreCase("x-gzip")) {
+                gzipQuality = quality;
+            } else if (name.equals("*")) {
+                wildcardQuality = quality;
+            }
+        }
+        if (gzipQuality != null) {
+            return gzipQuality > 0;
+        }
+        return wildcardQuality != null && wildcardQuality > 0;
     }
 
     @GetMapping("/drivers")
@@ -0,0 +1,15 @@
+package com.gridhub.gridhub.domain.f1data.dto;
+
+import java.time.ZonedDateTime;
+import java.util.Map;
+
+/**
+ * 레이스 상세 응답의 상단 정보 (Race + RaceResult 날씨) 조회용 프로젝션
+ */
+public record RaceDetailHeaderDto(
+        Long sessionKey,
+        String meetingName,
+        String sessionName,
+        ZonedDateTime dateStart,
+        Map<String, Object> latestWeather
+) {}
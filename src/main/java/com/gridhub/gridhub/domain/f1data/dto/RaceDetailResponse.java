@@ -36,4 +36,16 @@ public record RaceDetailResponse(
                 raceControlDtos
         );
     }
-}
\ No newline at end of file
+
+    public static RaceDetailResponse of(RaceDetailHeaderDto header, List<PositionDto> positions, List<RaceControlDto> raceControls) {
+        return new RaceDetailResponse(
+                header.sessionKey(),
+                header.meetingName(),
+                header.sessionName(),
+                header.dateStart(),
+                header.latestWeather(),
+                positions,
+                raceControls
+        );
+    }
+}
@@ -0,0 +1,39 @@
+package com.gridhub.gridhub.domain.f1data.dto;
+
+import com.gridhub.gridhub.domain.f1data.entity.RaceDetailSnapshot;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.util.zip.GZIPInputStream;
+
+/**
+ * 캐시 및 컨트롤러 응답에 사용하는 레이스 상세 스냅샷 (엔티티와 분리된 불변 값)
+ *
+ * @param gzippedBody gzip으로 압축된 JSON 본문
+ * @param jsonBody    gzip을 지원하지 않는 클라이언트를 위한 압축 해제 본문. 요청마다 풀지 않도록 캐시에 넣기 전에 한 번만 풂
+ * @param etag        압축 해제 본문의 ETag
+ */
+public record RaceDetailSnapshotDto(
+        byte[] gzippedBody,
+        byte[] jsonBody,
+        String etag
+) {
+    public static RaceDetailSnapshotDto from(RaceDetailSnapshot snapshot) {
+        return new RaceDetailSnapshotDto(snapshot.getGzippedBody(), gunzip(snapshot.getGzippedBody()), snapshot.getEtag());
+    }
+
+    // gzip 표현은 바이트가 다르므로 별도의 강한 ETag를 사용
+    public String gzipEtag() {
+        return etag + "-gzip";
+    }
+
+    private static byte[] gunzip(byte[] gzippedBody) {
+        try (InputStream in = new GZIPInputStream(new ByteArrayInputStream(gzippedBody))) {
+            return in.readAllBytes();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
@@ -11,7 +11,8 @@ import lombok.*;
 public class Position {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "position_seq_generator")
+    @SequenceGenerator(name = "position_seq_generator", sequenceName = "position_seq", allocationSize = 50)
     @Column(name = "position_id")
     private Long id;
 
@@ -6,6 +6,7 @@ import lombok.AccessLevel;
 import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
+import org.springframework.data.domain.Persistable;
 
 import java.time.ZonedDateTime;
 
@@ -17,7 +18,7 @@ import java.time.ZonedDateTime;
 @Table(name = "race")
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
-public class Race extends BaseTimeEntity {
+public class Race extends BaseTimeEntity implements Persistable<Long> {
 
     /**
      * 세션 고유 키 (Open F1 API의 session_key)
@@ -82,6 +83,19 @@ public class Race extends BaseTimeEntity {
     @OneToOne(mappedBy = "race", cascade = CascadeType.ALL, orphanRemoval = true, fetch = FetchType.LAZY)
     private RaceResult raceResult;
 
+    /**
+     * 예측 채점 완료 시각. null이면 아직 채점되지 않은 레이스.
+     * RaceRepository.markScored로만 설정하여 같은 레이스가 두 번 채점되지 않도록 함.
+     */
+    private ZonedDateTime scoredAt;
+
+    /**
+     * 신규 엔티티 여부. ID(session_key)를 직접 할당하므로 Spring Data가 save 시
+     * 존재 여부 확인용 SELECT(merge)를 하지 않고 바로 persist 하도록 사용.
+     */
+    @Transient
+    private boolean isNew = true;
+
     @Builder
     public Race(Long id, String sessionName, ZonedDateTime dateStart, ZonedDateTime dateEnd, Long meetingKey, String meetingName, String countryName, String circuitShortName, Integer year) {
         this.id = id;
@@ -95,6 +109,38 @@ public class Race extends BaseTimeEntity {
         this.year = year;
     }
 
+    @Override
+    public boolean isNew() {
+        return isNew;
+    }
+
+    @PostLoad
+    @PostPersist
+    void markNotNew() {
+        this.isNew = false;
+    }
+
+    /**
+     * API에서 받은 최신 일정으로 세션 정보를 갱신. (일정 변경, 세션 이름 변경 반영)
+     * @return 변경된 값이 있으면 true
+     */
+    public boolean updateSchedule(String sessionName, ZonedDateTime dateStart, ZonedDateTime dateEnd) {
+        boolean changed = false;
+        if (sessionName != null && !sessionName.equals(this.sessionName)) {
+            this.sessionName = sessionName;
+            changed = true;
+        }
+        if (dateStart != null && (this.dateStart == null || !this.dateStart.isEqual(dateStart))) {
+            this.dateStart = dateStart;
+            changed = true;
+        }
+        if (dateEnd != null && (this.dateEnd == null || !this.dateEnd.isEqual(dateEnd))) {
+            this.dateEnd = dateEnd;
+            changed = true;
+        }
+        return changed;
+    }
+
     // == 연관관계 편의 메서드 == //
     public void setRaceResult(RaceResult raceResult) {
         this.raceResult = raceResult;
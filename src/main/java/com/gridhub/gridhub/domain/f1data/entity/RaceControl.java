@@ -10,8 +10,10 @@ import lombok.*;
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 public class RaceControl {
 
+    // 레이스당 수백 건이 저장되므로 ID를 50개씩 미리 할당받아(pooled) INSERT를 JDBC 배치로 묶음
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "race_control_seq_generator")
+    @SequenceGenerator(name = "race_control_seq_generator", sequenceName = "race_control_seq", allocationSize = 50)
     @Column(name = "race_control_id")
     private Long id;
 
@@ -0,0 +1,37 @@
+package com.gridhub.gridhub.domain.f1data.entity;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 결과가 확정된 레이스의 상세 응답(RaceDetailResponse)을 미리 직렬화해 둔 스냅샷.
+ * RaceResult는 저장 이후 변하지 않으므로, 한 번 만든 gzip JSON을 그대로 응답 본문으로 사용.
+ */
+@Entity
+@Table(name = "race_detail_snapshot")
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class RaceDetailSnapshot {
+
+    @Id
+    @Column(name = "session_key")
+    private Long id; // Race의 PK와 동일한 값 사용
+
+    @Lob
+    @Column(nullable = false)
+    private byte[] gzippedBody;
+
+    // 압축 전 JSON의 SHA-256 해시 (강한 ETag 값)
+    @Column(nullable = false, length = 64)
+    private String etag;
+
+    @Builder
+    public RaceDetailSnapshot(Long id, byte[] gzippedBody, String etag) {
+        this.id = id;
+        this.gzippedBody = gzippedBody;
+        this.etag = etag;
+    }
+}
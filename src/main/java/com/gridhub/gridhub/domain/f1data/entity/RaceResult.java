@@ -16,7 +16,8 @@ import java.util.Map;
 public class RaceResult {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "race_result_seq_generator")
+    @SequenceGenerator(name = "race_result_seq_generator", sequenceName = "race_result_seq", allocationSize = 50)
     @Column(name = "race_result_id")
     private Long id;
 
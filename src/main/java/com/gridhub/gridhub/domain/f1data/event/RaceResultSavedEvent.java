@@ -0,0 +1,9 @@
+package com.gridhub.gridhub.domain.f1data.event;
+
+/**
+ * 동기화 작업이 종료된 레이스의 결과(RaceResult)를 저장했을 때 발행되는 이벤트.
+ * @param raceId 결과가 저장된 레이스(세션) ID
+ */
+public record RaceResultSavedEvent(
+        Long raceId
+) {}
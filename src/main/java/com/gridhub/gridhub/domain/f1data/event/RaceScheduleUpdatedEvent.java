@@ -0,0 +1,11 @@
+package com.gridhub.gridhub.domain.f1data.event;
+
+import java.util.Set;
+
+/**
+ * 동기화 작업이 레이스 일정을 새로 저장하거나 변경했을 때 발행되는 이벤트.
+ * @param years 일정이 변경된 시즌 연도 목록
+ */
+public record RaceScheduleUpdatedEvent(
+        Set<Integer> years
+) {}
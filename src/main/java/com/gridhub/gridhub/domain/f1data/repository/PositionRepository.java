@@ -1,7 +1,27 @@
 package com.gridhub.gridhub.domain.f1data.repository;
 
+import com.gridhub.gridhub.domain.f1data.dto.PositionDto;
 import com.gridhub.gridhub.domain.f1data.entity.Position;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.List;
 
 public interface PositionRepository extends JpaRepository<Position,Long> {
+
+    // 엔티티를 만들지 않고 드라이버/팀 컬럼까지 한 번에 DTO로 조회
+    @Query("SELECT new com.gridhub.gridhub.domain.f1data.dto.PositionDto(" +
+            "d.id, d.fullName, t.name, t.teamColour, p.qualifyingPosition, p.racePosition) " +
+            "FROM Position p " +
+            "JOIN p.driver d " +
+            "LEFT JOIN d.team t " +
+            "WHERE p.raceResult.race.id = :raceId " +
+            "ORDER BY p.id")
+    List<PositionDto> findDtosByRaceId(@Param("raceId") Long raceId);
+
+    // 채점용 포디움(1~3위) 조회. driver는 지연 로딩 프록시지만 ID 조회만 하므로 추가 쿼리 없음
+    @Query("SELECT p FROM Position p " +
+            "WHERE p.raceResult.race.id = :raceId AND p.racePosition BETWEEN 1 AND 3")
+    List<Position> findPodiumByRaceId(@Param("raceId") Long raceId);
 }
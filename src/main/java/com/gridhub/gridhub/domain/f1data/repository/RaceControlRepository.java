@@ -1,7 +1,18 @@
 package com.gridhub.gridhub.domain.f1data.repository;
 
+import com.gridhub.gridhub.domain.f1data.dto.RaceControlDto;
 import com.gridhub.gridhub.domain.f1data.entity.RaceControl;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.List;
 
 public interface RaceControlRepository extends JpaRepository<RaceControl,Long> {
+
+    @Query("SELECT new com.gridhub.gridhub.domain.f1data.dto.RaceControlDto(rc.date, rc.message, rc.flag) " +
+            "FROM RaceControl rc " +
+            "WHERE rc.raceResult.race.id = :raceId " +
+            "ORDER BY rc.id")
+    List<RaceControlDto> findDtosByRaceId(@Param("raceId") Long raceId);
 }
@@ -0,0 +1,15 @@
+package com.gridhub.gridhub.domain.f1data.repository;
+
+import com.gridhub.gridhub.domain.f1data.entity.RaceDetailSnapshot;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+
+import java.util.List;
+
+public interface RaceDetailSnapshotRepository extends JpaRepository<RaceDetailSnapshot, Long> {
+
+    // 결과는 저장되어 있지만 스냅샷이 아직 없는 레이스 ID (스냅샷 도입 이전에 저장된 결과)
+    @Query("SELECT rr.race.id FROM RaceResult rr " +
+            "WHERE NOT EXISTS (SELECT s.id FROM RaceDetailSnapshot s WHERE s.id = rr.race.id)")
+    List<Long> findRaceIdsWithoutSnapshot();
+}
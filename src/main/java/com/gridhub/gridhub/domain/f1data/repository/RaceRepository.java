@@ -2,6 +2,9 @@ package com.gridhub.gridhub.domain.f1data.repository;
 
 import com.gridhub.gridhub.domain.f1data.entity.Race;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 import java.time.ZonedDateTime;
 import java.util.List;
@@ -9,5 +12,30 @@ import java.util.List;
 public interface RaceRepository extends JpaRepository<Race, Long> {
     List<Race> findByYearOrderByDateStartAsc(Integer year);
 
-    List<Race> findAllBySessionNameAndDateEndBetween(String sessionName, ZonedDateTime start, ZonedDateTime end);
+    /**
+     * 결과가 저장되었지만 아직 채점되지 않은 'Race' 세션 ID 목록을 조회.
+     * scoredAt 도입 이전에 채점된 레이스(포인트가 지급된 예측이 있는 레이스)는 scoredAt이 비어 있어도 제외.
+     * @param since 이 시각 이후에 종료된 레이스만 대상
+     */
+    @Query("SELECT r.id FROM Race r JOIN r.raceResult rr " +
+            "WHERE r.sessionName = 'Race' AND r.scoredAt IS NULL AND r.dateEnd > :since " +
+            "AND NOT EXISTS (SELECT p.id FROM Prediction p WHERE p.race = r AND p.earnedPoints > 0)")
+    List<Long> findUnscoredRaceIdsWithResultSince(@Param("since") ZonedDateTime since);
+
+    /**
+     * scoredAt 도입 이전에 채점된 레이스에 채점 완료 표시 (기존 방식의 판단 기준: 포인트가 지급된 예측이 있음).
+     * @return 표시된 레이스 수
+     */
+    @Modifying(clearAutomatically = true)
+    @Query("UPDATE Race r SET r.scoredAt = :scoredAt WHERE r.scoredAt IS NULL " +
+            "AND EXISTS (SELECT p.id FROM Prediction p WHERE p.race = r AND p.earnedPoints > 0)")
+    int markLegacyScoredRaces(@Param("scoredAt") ZonedDateTime scoredAt);
+
+    /**
+     * 채점 완료 표시. 아직 채점되지 않은 경우에만 갱신되므로 동시에 채점을 시도해도 한 쪽만 성공.
+     * @return 갱신된 행 수 (0이면 이미 채점된 레이스)
+     */
+    @Modifying
+    @Query("UPDATE Race r SET r.scoredAt = :scoredAt WHERE r.id = :raceId AND r.scoredAt IS NULL")
+    int markScored(@Param("raceId") Long raceId, @Param("scoredAt") ZonedDateTime scoredAt);
 }
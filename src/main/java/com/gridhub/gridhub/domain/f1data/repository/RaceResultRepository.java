@@ -1,6 +1,6 @@
 package com.gridhub.gridhub.domain.f1data.repository;
 
-import com.gridhub.gridhub.domain.f1data.entity.Race;
+import com.gridhub.gridhub.domain.f1data.dto.RaceDetailHeaderDto;
 import com.gridhub.gridhub.domain.f1data.entity.RaceResult;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
@@ -9,10 +9,11 @@ import org.springframework.data.repository.query.Param;
 import java.util.Optional;
 
 public interface RaceResultRepository extends JpaRepository<RaceResult, Long> {
-    @Query("SELECT rr FROM RaceResult rr " +
-            "LEFT JOIN FETCH rr.positions p " +
-            "LEFT JOIN FETCH p.driver d " +
-            "LEFT JOIN FETCH d.team " +
-            "WHERE rr.race = :race")
-    Optional<RaceResult> findByRaceWithDetails(@Param("race") Race race);
+    // 결과가 저장된 레이스만 조회됨 (결과가 없으면 Optional.empty)
+    @Query("SELECT new com.gridhub.gridhub.domain.f1data.dto.RaceDetailHeaderDto(" +
+            "r.id, r.meetingName, r.sessionName, r.dateStart, rr.latestWeather) " +
+            "FROM RaceResult rr " +
+            "JOIN rr.race r " +
+            "WHERE r.id = :raceId")
+    Optional<RaceDetailHeaderDto> findDetailHeaderByRaceId(@Param("raceId") Long raceId);
 }
@@ -0,0 +1,40 @@
+package com.gridhub.gridhub.domain.f1data.service;
+
+import com.gridhub.gridhub.domain.f1data.event.RaceResultSavedEvent;
+import com.gridhub.gridhub.domain.f1data.event.RaceScheduleUpdatedEvent;
+import com.gridhub.gridhub.global.config.CacheConfig;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * 동기화 작업이 레이스 데이터를 변경하면 관련 캐시를 비우는 리스너.
+ * 트랜잭션 커밋 이후에 실행되므로, 커밋 전 데이터가 다시 캐시에 채워지는 일이 없음.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class F1DataCacheEvictionListener {
+
+    private final CacheManager cacheManager;
+
+    @TransactionalEventListener
+    public void onRaceScheduleUpdated(RaceScheduleUpdatedEvent event) {
+        Cache calendarCache = cacheManager.getCache(CacheConfig.RACE_CALENDAR);
+        if (calendarCache != null) {
+            event.years().forEach(calendarCache::evict);
+            log.info("{}년도 레이스 캘린더 캐시를 비웠습니다.", event.years());
+        }
+    }
+
+    @TransactionalEventListener
+    public void onRaceResultSaved(RaceResultSavedEvent event) {
+        Cache detailCache = cacheManager.getCache(CacheConfig.RACE_DETAIL);
+        if (detailCache != null) {
+            detailCache.evict(event.raceId());
+        }
+    }
+}
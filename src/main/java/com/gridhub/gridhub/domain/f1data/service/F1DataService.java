@@ -1,18 +1,13 @@
 package com.gridhub.gridhub.domain.f1data.service;
 
-import com.gridhub.gridhub.domain.f1data.dto.DriverInfoResponse;
-import com.gridhub.gridhub.domain.f1data.dto.RaceCalendarDto;
-import com.gridhub.gridhub.domain.f1data.dto.RaceDetailResponse;
-import com.gridhub.gridhub.domain.f1data.dto.TeamInfoResponse;
+import com.gridhub.gridhub.domain.f1data.dto.*;
 import com.gridhub.gridhub.domain.f1data.entity.Race;
-import com.gridhub.gridhub.domain.f1data.entity.RaceResult;
 import com.gridhub.gridhub.domain.f1data.exception.RaceNotFoundException;
 import com.gridhub.gridhub.domain.f1data.exception.RaceResultNotFoundException;
-import com.gridhub.gridhub.domain.f1data.repository.DriverRepository;
-import com.gridhub.gridhub.domain.f1data.repository.RaceRepository;
-import com.gridhub.gridhub.domain.f1data.repository.RaceResultRepository;
-import com.gridhub.gridhub.domain.f1data.repository.TeamRepository;
+import com.gridhub.gridhub.domain.f1data.repository.*;
+import com.gridhub.gridhub.global.config.CacheConfig;
 import lombok.RequiredArgsConstructor;
+import org.springframework.cache.annotation.Cacheable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -28,7 +23,13 @@ public class F1DataService {
     private final RaceResultRepository raceResultRepository;
     private final DriverRepository driverRepository;
     private final TeamRepository teamRepository;
+    private final PositionRepository positionRepository;
+    private final RaceControlRepository raceControlRepository;
+    private final RaceDetailSnapshotRepository raceDetailSnapshotRepository;
+    private final RaceDetailSnapshotService raceDetailSnapshotService;
 
+    // 동기화 작업이 일정을 변경할 때 F1DataCacheEvictionListener가 해당 연도 캐시를 비움
+    @Cacheable(cacheNames = CacheConfig.RACE_CALENDAR, key = "#year")
     @Transactional(readOnly = true)
     public List<RaceCalendarDto> getRaceCalendarByYear(int year) {
         // 1. 해당연도의 모든 레이스 데이터를 DB에서 조회
@@ -47,16 +48,30 @@ public class F1DataService {
 
     @Transactional(readOnly = true)
     public RaceDetailResponse getRaceDetail(Long raceId) {
-        // 1. raceId로 레이스 엔티티 조회(존재하지 않으면 예외 던짐)
-        Race race = raceRepository.findById(raceId)
-                .orElseThrow(RaceNotFoundException::new);
+        // 1. 레이스 기본 정보 + 날씨를 조회 (결과가 없으면 레이스 존재 여부에 따라 예외 구분)
+        RaceDetailHeaderDto header = raceResultRepository.findDetailHeaderByRaceId(raceId)
+                .orElseThrow(() -> raceRepository.existsById(raceId)
+                        ? new RaceResultNotFoundException()
+                        : new RaceNotFoundException());
 
-        // 2. 조회된 레이스와 연관된 raceResult 조회(존재하지 않으면 예외 던짐)
-        RaceResult result = raceResultRepository.findByRaceWithDetails(race)
-                .orElseThrow(RaceResultNotFoundException::new);
+        // 2. 순위와 레이스 컨트롤 메시지를 각각 평탄한 DTO 프로젝션으로 조회 (엔티티 로딩 없음)
+        List<PositionDto> positions = positionRepository.findDtosByRaceId(raceId);
+        List<RaceControlDto> raceControls = raceControlRepository.findDtosByRaceId(raceId);
 
-        // 3. 두 엔티티를 조합하여 최종 응답 dto 생성
-        return RaceDetailResponse.of(race, result);
+        // 3. 조회 결과를 조합하여 최종 응답 dto 생성
+        return RaceDetailResponse.of(header, positions, raceControls);
+    }
+
+    // 결과가 없는 레이스는 예외가 발생하므로 캐시되지 않음
+    @Cacheable(cacheNames = CacheConfig.RACE_DETAIL, key = "#raceId")
+    @Transactional(readOnly = true)
+    public RaceDetailSnapshotDto getRaceDetailSnapshot(Long raceId) {
+        // 1. 동기화 시점에 만들어 둔 스냅샷이 있으면 그대로 사용
+        // 2. 아직 스냅샷이 없는 결과(백필 전)는 메모리에서만 만들어 응답. 저장은 동기화 작업과 백필이 담당
+        return raceDetailSnapshotRepository.findById(raceId)
+                .map(RaceDetailSnapshotDto::from)
+                .orElseGet(() -> RaceDetailSnapshotDto.from(
+                        raceDetailSnapshotService.build(getRaceDetail(raceId))));
     }
 
     @Transactional(readOnly = true)
@@ -1,17 +1,19 @@
 package com.gridhub.gridhub.domain.f1data.service;
 
-import com.gridhub.gridhub.domain.f1data.dto.DriverResponse;
-import com.gridhub.gridhub.domain.f1data.dto.MeetingResponse;
-import com.gridhub.gridhub.domain.f1data.dto.PositionResponse;
-import com.gridhub.gridhub.domain.f1data.dto.SessionResponse;
+import com.gridhub.gridhub.domain.f1data.dto.*;
 import com.gridhub.gridhub.domain.f1data.entity.*;
+import com.gridhub.gridhub.domain.f1data.event.RaceResultSavedEvent;
+import com.gridhub.gridhub.domain.f1data.event.RaceScheduleUpdatedEvent;
 import com.gridhub.gridhub.domain.f1data.repository.*;
 import com.gridhub.gridhub.infra.external.OpenF1Client;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
 
 import java.time.Year;
 import java.time.ZonedDateTime;
@@ -34,9 +36,15 @@ public class F1DataSyncService {
     private final RaceResultRepository raceResultRepository;
     private final PositionRepository positionRepository;
     private final RaceControlRepository raceControlRepository;
+    private final RaceDetailSnapshotService raceDetailSnapshotService;
+    private final ApplicationEventPublisher eventPublisher;
+
+    // OpenF1 API에 동시에 보낼 수 있는 최대 요청(레이스) 수
+    private static final int MAX_CONCURRENT_REQUESTS = 4;
 
     /**
      * 매일 새벽 5시에 F1 데이터 동기화를 실행합니다.
+     * Meeting 목록은 한 번만 조회하고, Meeting별 세션과 레이스별 결과 데이터는 동시에 조회합니다.
      */
     @Scheduled(cron = "0 0 5 * * *")
     @Transactional
@@ -44,31 +52,55 @@ public class F1DataSyncService {
         log.info("F1 데이터 동기화 스케줄을 시작합니다.");
         int currentYear = Year.now().getValue();
 
-        // 1. 드라이버 및 팀 정보 동기화
-        synchronizeDriversAndTeams(currentYear);
+        // 1. Meeting 및 Meeting별 세션 정보 조회 (이번 동기화 동안 재사용)
+        List<MeetingResponse> meetings = openF1Client.fetchMeetingsByYear(currentYear).block();
+        if (meetings == null || meetings.isEmpty()) {
+            log.warn("{}년도 Meeting 정보가 없어 동기화를 건너뜁니다.", currentYear);
+            return;
+        }
+        Map<Long, List<SessionResponse>> sessionsByMeeting = fetchSessionsByMeeting(meetings);
+
+        // 2. 드라이버 및 팀 정보 동기화
+        synchronizeDriversAndTeams(currentYear, meetings, sessionsByMeeting);
 
-        // 2. 레이스 일정(Meeting, Session) 동기화
-        List<MeetingResponse> meetings = openF1Client.getMeetingsByYear(currentYear);
-        synchronizeRaceSchedule(meetings);
+        // 3. 레이스 일정(Meeting, Session) 동기화
+        synchronizeRaceSchedule(meetings, sessionsByMeeting);
 
-        // 3. 종료된 레이스의 '결과' 데이터 동기화
-        synchronizeFinishedRaceResults(meetings);
+        // 4. 종료된 레이스의 '결과' 데이터 동기화
+        synchronizeFinishedRaceResults(meetings, sessionsByMeeting);
 
         log.info("F1 데이터 동기화 스케줄을 종료합니다.");
     }
 
-    private void synchronizeDriversAndTeams(int year) {
-        Optional<SessionResponse> latestSessionOpt = openF1Client.getMeetingsByYear(year).stream()
-                .findFirst()
-                .flatMap(meeting -> openF1Client.getSessionsByMeeting(meeting.meetingKey()).stream()
-                        .max(Comparator.comparing(SessionResponse::dateStart)));
+    private Map<Long, List<SessionResponse>> fetchSessionsByMeeting(List<MeetingResponse> meetings) {
+        Map<Long, List<SessionResponse>> sessionsByMeeting = Flux.fromIterable(meetings)
+                .flatMap(meeting -> openF1Client.fetchSessionsByMeeting(meeting.meetingKey())
+                                .map(sessions -> Map.entry(meeting.meetingKey(), sessions))
+                                .onErrorResume(e -> {
+                                    log.warn("Meeting {}의 세션 정보를 가져오지 못해 건너뜁니다.", meeting.meetingKey());
+                                    return Mono.empty();
+                                }),
+                        MAX_CONCURRENT_REQUESTS)
+                .collectMap(Map.Entry::getKey, Map.Entry::getValue)
+                .block();
+
+        return sessionsByMeeting != null ? sessionsByMeeting : Collections.emptyMap();
+    }
+
+    private void synchronizeDriversAndTeams(int year, List<MeetingResponse> meetings, Map<Long, List<SessionResponse>> sessionsByMeeting) {
+        Optional<SessionResponse> latestSessionOpt = sessionsByMeeting
+                .getOrDefault(meetings.get(0).meetingKey(), Collections.emptyList()).stream()
+                .max(Comparator.comparing(SessionResponse::dateStart));
 
         if (latestSessionOpt.isEmpty()) {
             log.warn("{}년도 세션 정보가 없어 드라이버/팀 동기화를 건너<binary data, 1 bytes>니다.", year);
             return;
         }
 
-        List<DriverResponse> driverDtos = openF1Client.getDriversBySession(latestSessionOpt.get().sessionKey());
+        List<DriverResponse> driverDtos = openF1Client.fetchDriversBySession(latestSessionOpt.get().sessionKey()).block();
+        if (driverDtos == null) {
+            driverDtos = Collections.emptyList();
+        }
 
         Map<String, Team> teamsMap = driverDtos.stream()
                 .map(dto -> Team.builder()
@@ -98,70 +130,136 @@ public class F1DataSyncService {
         log.info("{}명의 드라이버 정보 동기화 완료.", drivers.size());
     }
 
-    private void synchronizeRaceSchedule(List<MeetingResponse> meetingDtos) {
+    private void synchronizeRaceSchedule(List<MeetingResponse> meetingDtos, Map<Long, List<SessionResponse>> sessionsByMeeting) {
+        // 1. API로 받은 모든 세션 키에 대해 이미 저장된 Race를 한 번의 쿼리로 조회
+        List<Long> sessionKeys = sessionsByMeeting.values().stream()
+                .flatMap(List::stream)
+                .map(SessionResponse::sessionKey)
+                .toList();
+        Map<Long, Race> existingRaces = raceRepository.findAllById(sessionKeys).stream()
+                .collect(Collectors.toMap(Race::getId, Function.identity()));
+
+        // 2. 메모리에서 신규/변경 세션을 구분
         List<Race> racesToSave = new ArrayList<>();
+        Set<Integer> changedYears = new HashSet<>();
+        int updatedCount = 0;
         for (MeetingResponse meetingDto : meetingDtos) {
-            List<SessionResponse> sessionDtos = openF1Client.getSessionsByMeeting(meetingDto.meetingKey());
-            sessionDtos.forEach(sessionDto -> {
-                // DB에 해당 Race가 없을 때만 새로 생성 (중복 방지)
-                if (!raceRepository.existsById(sessionDto.sessionKey())) {
-                    Race race = Race.builder()
-                            .id(sessionDto.sessionKey())
-                            .sessionName(sessionDto.sessionName())
-                            .dateStart(sessionDto.dateStart())
-                            .dateEnd(sessionDto.dateEnd())
-                            .meetingKey(meetingDto.meetingKey())
-                            .meetingName(meetingDto.meetingName())
-                            .countryName(meetingDto.countryName())
-                            .circuitShortName(meetingDto.circuitShortName())
-                            .year(meetingDto.year())
-                            .build();
-                    racesToSave.add(race);
+            List<SessionResponse> sessionDtos = sessionsByMeeting.getOrDefault(meetingDto.meetingKey(), Collections.emptyList());
+            for (SessionResponse sessionDto : sessionDtos) {
+                Race existingRace = existingRaces.get(sessionDto.sessionKey());
+                if (existingRace != null) {
+                    // 이미 저장된 세션은 일정 변경 사항만 반영 (Dirty Checking)
+                    if (existingRace.updateSchedule(sessionDto.sessionName(), sessionDto.dateStart(), sessionDto.dateEnd())) {
+                        updatedCount++;
+                        changedYears.add(existingRace.getYear());
+                    }
+                    continue;
                 }
-            });
+
+                Race race = Race.builder()
+                        .id(sessionDto.sessionKey())
+                        .sessionName(sessionDto.sessionName())
+                        .dateStart(sessionDto.dateStart())
+                        .dateEnd(sessionDto.dateEnd())
+                        .meetingKey(meetingDto.meetingKey())
+                        .meetingName(meetingDto.meetingName())
+                        .countryName(meetingDto.countryName())
+                        .circuitShortName(meetingDto.circuitShortName())
+                        .year(meetingDto.year())
+                        .build();
+                racesToSave.add(race);
+                changedYears.add(meetingDto.year());
+            }
         }
+
+        // 3. 신규 세션은 JDBC 배치 INSERT, 변경된 세션은 flush 시 배치 UPDATE로 반영
         raceRepository.saveAll(racesToSave);
-        log.info("{}개의 신규 세션(레이스) 일정 동기화 완료.", racesToSave.size());
+        log.info("{}개의 신규 세션(레이스) 일정 동기화 완료. ({}개 세션 일정 변경)", racesToSave.size(), updatedCount);
+
+        // 4. 일정이 바뀐 연도의 캘린더 캐시를 커밋 이후 비우도록 이벤트 발행
+        if (!changedYears.isEmpty()) {
+            eventPublisher.publishEvent(new RaceScheduleUpdatedEvent(changedYears));
+        }
     }
 
-    private void synchronizeFinishedRaceResults(List<MeetingResponse> meetings) {
+    private void synchronizeFinishedRaceResults(List<MeetingResponse> meetings, Map<Long, List<SessionResponse>> sessionsByMeeting) {
         log.info("종료된 레이스 결과 데이터 동기화를 시작합니다.");
         ZonedDateTime now = ZonedDateTime.now();
         Map<Integer, Driver> driverMap = driverRepository.findAll().stream()
                 .collect(Collectors.toMap(Driver::getId, Function.identity()));
 
+        // 1. 결과 데이터가 아직 없는 종료된 레이스 선별 (DB 조회는 현재 트랜잭션 스레드에서 수행)
+        List<RaceSyncTarget> targets = new ArrayList<>();
         for (MeetingResponse meeting : meetings) {
-            List<SessionResponse> sessions = openF1Client.getSessionsByMeeting(meeting.meetingKey());
+            List<SessionResponse> sessions = sessionsByMeeting.getOrDefault(meeting.meetingKey(), Collections.emptyList());
 
             sessions.stream()
                     .filter(session -> "Race".equalsIgnoreCase(session.sessionName()))
                     .filter(session -> session.dateEnd().isBefore(now))
                     .findFirst()
-                    .ifPresent(raceSession -> {
-                        Optional<Race> raceEntityOpt = raceRepository.findById(raceSession.sessionKey());
-                        if (raceEntityOpt.isPresent() && raceEntityOpt.get().getRaceResult() == null) {
-                            Race race = raceEntityOpt.get();
-                            log.info("'{}' 결과 데이터 동기화 시작.", race.getMeetingName());
+                    .flatMap(raceSession -> raceRepository.findById(raceSession.sessionKey()))
+                    .filter(race -> race.getRaceResult() == null)
+                    .ifPresent(race -> targets.add(new RaceSyncTarget(race, sessions)));
+        }
 
-                            RaceResult raceResult = createRaceResult(race, sessions, driverMap);
+        // 2. 대상 레이스들의 결과 데이터를 동시에 조회
+        List<RaceSyncData> fetched = Flux.fromIterable(targets)
+                .flatMap(this::fetchRaceSyncData, MAX_CONCURRENT_REQUESTS)
+                .collectList()
+                .block();
 
-                            race.setRaceResult(raceResult);
+        // 3. 조회한 데이터로 RaceResult 엔티티를 생성하고 저장
+        if (fetched != null) {
+            for (RaceSyncData data : fetched) {
+                Race race = data.race();
+                log.info("'{}' 결과 데이터 동기화 시작.", race.getMeetingName());
 
-                            raceResultRepository.save(raceResult);
-                        }
-                    });
+                RaceResult raceResult = createRaceResult(data, driverMap);
+
+                race.setRaceResult(raceResult);
+
+                raceResultRepository.save(raceResult);
+                // 결과는 이후 변하지 않으므로 상세 응답을 지금 한 번만 직렬화해 둠
+                raceDetailSnapshotService.materialize(RaceDetailResponse.of(race, raceResult));
+                eventPublisher.publishEvent(new RaceResultSavedEvent(race.getId()));
+            }
         }
         log.info("종료된 레이스 결과 데이터 동기화를 종료합니다.");
     }
 
-    private RaceResult createRaceResult(Race race, List<SessionResponse> sessions, Map<Integer, Driver> driverMap) {
+    /**
+     * 한 레이스의 결과 생성에 필요한 순위/퀄리파잉/레이스 컨트롤/날씨 데이터를 동시에 조회.
+     * 조회에 실패한 레이스는 이번 동기화에서 제외되고 다음 스케줄에서 다시 시도.
+     */
+    private Mono<RaceSyncData> fetchRaceSyncData(RaceSyncTarget target) {
+        Race race = target.race();
+        Mono<List<PositionResponse>> qualifyingResult = target.sessions().stream()
+                .filter(s -> s.sessionName().toLowerCase().contains("qualifying"))
+                .max(Comparator.comparing(SessionResponse::dateStart))
+                .map(qualifyingSession -> openF1Client.fetchQualifyingResult(qualifyingSession.sessionKey()))
+                .orElseGet(() -> Mono.just(Collections.emptyList()));
+
+        return Mono.zip(
+                        openF1Client.fetchRaceResult(race.getId()),
+                        qualifyingResult,
+                        openF1Client.fetchRaceControlMessages(race.getId()),
+                        openF1Client.fetchWeather(race.getId()))
+                .map(tuple -> new RaceSyncData(race, tuple.getT1(), tuple.getT2(), tuple.getT3(), tuple.getT4()))
+                .onErrorResume(e -> {
+                    log.warn("레이스 ID {}의 결과 데이터를 가져오지 못해 건너뜁니다.", race.getId());
+                    return Mono.empty();
+                });
+    }
+
+    private RaceResult createRaceResult(RaceSyncData data, Map<Integer, Driver> driverMap) {
         // 1. RaceResult 엔티티 생성
-        Map<String, Object> latestWeather = findLatestWeather(race.getId());
-        RaceResult raceResult = RaceResult.builder().race(race).latestWeather(latestWeather).build();
+        Map<String, Object> latestWeather = findLatestWeather(data.weather());
+        RaceResult raceResult = RaceResult.builder().race(data.race()).latestWeather(latestWeather).build();
 
         // 2. 퀄리파잉 및 레이스 결과 Position 엔티티 생성
-        Map<Integer, Integer> qualifyingResults = findAndFetchQualifyingResults(sessions);
-        Map<Integer, Integer> raceResults = openF1Client.getRaceResult(race.getId()).stream()
+        Map<Integer, Integer> qualifyingResults = data.qualifyingResult().stream()
+                .collect(Collectors.toMap(PositionResponse::driverNumber, PositionResponse::position));
+        Map<Integer, Integer> raceResults = data.raceResult().stream()
                 .collect(Collectors.toMap(PositionResponse::driverNumber, PositionResponse::position, (pos1, pos2) -> pos1)); // 중복 키 발생 시 첫 번째 값 사용
 
         // 모든 드라이버에 대해 Position 엔티티 생성
@@ -176,7 +274,7 @@ public class F1DataSyncService {
         });
 
         // 3. RaceControl 메시지 엔티티 생성
-        openF1Client.getRaceControlMessages(race.getId()).forEach(rc -> {
+        data.raceControls().forEach(rc -> {
             RaceControl raceControl = RaceControl.builder()
                     .date(rc.date())
                     .message(rc.message())
@@ -188,17 +286,8 @@ public class F1DataSyncService {
         return raceResult;
     }
 
-    private Map<Integer, Integer> findAndFetchQualifyingResults(List<SessionResponse> sessions) {
-        return sessions.stream()
-                .filter(s -> s.sessionName().toLowerCase().contains("qualifying"))
-                .max(Comparator.comparing(SessionResponse::dateStart))
-                .map(qualifyingSession -> openF1Client.getQualifyingResult(qualifyingSession.sessionKey()).stream()
-                        .collect(Collectors.toMap(PositionResponse::driverNumber, PositionResponse::position)))
-                .orElse(Collections.emptyMap());
-    }
-
-    private Map<String, Object> findLatestWeather(long raceSessionKey) {
-        return openF1Client.getWeather(raceSessionKey).stream()
+    private Map<String, Object> findLatestWeather(List<WeatherResponse> weather) {
+        return weather.stream()
                 .max(Comparator.comparing(w -> w.airTemperature() != null ? w.airTemperature() : Float.MIN_VALUE))
                 .map(w -> {
                     Map<String, Object> weatherMap = new HashMap<>();
@@ -209,4 +298,16 @@ public class F1DataSyncService {
                 })
                 .orElse(Collections.emptyMap());
     }
-}
\ No newline at end of file
+
+    // 결과 동기화 대상 레이스와 해당 Meeting의 세션 목록
+    private record RaceSyncTarget(Race race, List<SessionResponse> sessions) {}
+
+    // 결과 동기화에 필요한 OpenF1 응답 묶음
+    private record RaceSyncData(
+            Race race,
+            List<PositionResponse> raceResult,
+            List<PositionResponse> qualifyingResult,
+            List<RaceControlResponse> raceControls,
+            List<WeatherResponse> weather
+    ) {}
+}
@@ -0,0 +1,36 @@
+package com.gridhub.gridhub.domain.f1data.service;
+
+import com.gridhub.gridhub.domain.f1data.repository.RaceDetailSnapshotRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+
+/**
+ * 스냅샷 도입 이전에 저장된 레이스 결과의 상세 스냅샷을 애플리케이션 시작 시 한 번 생성.
+ * 이후 새 결과의 스냅샷은 동기화 작업이 결과 저장과 함께 만들므로, 조회 API는 스냅샷을 저장하지 않음.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class RaceDetailSnapshotBackfill {
+
+    private final RaceDetailSnapshotRepository raceDetailSnapshotRepository;
+    private final RaceDetailSnapshotService raceDetailSnapshotService;
+    private final F1DataService f1DataService;
+
+    @EventListener(ApplicationReadyEvent.class)
+    @Transactional
+    public void backfill() {
+        List<Long> raceIds = raceDetailSnapshotRepository.findRaceIdsWithoutSnapshot();
+        if (raceIds.isEmpty()) {
+            return;
+        }
+        raceIds.forEach(raceId -> raceDetailSnapshotService.materialize(f1DataService.getRaceDetail(raceId)));
+        log.info("레이스 상세 스냅샷 백필 완료. ({}건)", raceIds.size());
+    }
+}
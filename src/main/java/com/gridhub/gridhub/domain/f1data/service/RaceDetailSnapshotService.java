@@ -0,0 +1,75 @@
+package com.gridhub.gridhub.domain.f1data.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.gridhub.gridhub.domain.f1data.dto.RaceDetailResponse;
+import com.gridhub.gridhub.domain.f1data.entity.RaceDetailSnapshot;
+import com.gridhub.gridhub.domain.f1data.repository.RaceDetailSnapshotRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * 레이스 상세 응답을 JSON으로 한 번만 직렬화하여 gzip 스냅샷으로 저장하는 서비스.
+ * 호출하는 쪽의 트랜잭션 안에서 동작. 저장은 동기화 작업(F1DataSyncService)과 RaceDetailSnapshotBackfill에서만 수행.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class RaceDetailSnapshotService {
+
+    private final RaceDetailSnapshotRepository raceDetailSnapshotRepository;
+    private final ObjectMapper objectMapper;
+
+    public RaceDetailSnapshot materialize(RaceDetailResponse detail) {
+        RaceDetailSnapshot snapshot = build(detail);
+        log.info("레이스 ID {}의 상세 응답 스냅샷 생성 완료. ({} bytes, gzip)", detail.sessionKey(), snapshot.getGzippedBody().length);
+        return raceDetailSnapshotRepository.save(snapshot);
+    }
+
+    /**
+     * 저장하지 않고 스냅샷만 만든다. 같은 상세 응답이면 항상 같은 본문과 ETag가 나옴.
+     */
+    public RaceDetailSnapshot build(RaceDetailResponse detail) {
+        byte[] json = serialize(detail);
+        return RaceDetailSnapshot.builder()
+                .id(detail.sessionKey())
+                .gzippedBody(gzip(json))
+                .etag(sha256Hex(json))
+                .build();
+    }
+
+    private byte[] serialize(RaceDetailResponse detail) {
+        try {
+            return objectMapper.writeValueAsBytes(detail);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("레이스 상세 응답 직렬화 실패", e);
+        }
+    }
+
+    private byte[] gzip(byte[] json) {
+        ByteArrayOutputStream out = new ByteArrayOutputStream(json.length / 4);
+        try (GZIPOutputStream gzip = new GZIPOutputStream(out)) {
+            gzip.write(json);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return out.toByteArray();
+    }
+
+    private String sha256Hex(byte[] json) {
+        try {
+            return HexFormat.of().formatHex(MessageDigest.getInstance("SHA-256").digest(json));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
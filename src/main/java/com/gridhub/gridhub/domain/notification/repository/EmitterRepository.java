@@ -5,7 +5,7 @@ import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 import java.util.Map;
 
 public interface EmitterRepository {
-    SseEmitter save(String emitterId, SseEmitter sseEmitter);
-    void deleteById(String emitterId);
+    SseEmitter save(String userId, String emitterId, SseEmitter sseEmitter);
+    void deleteById(String userId, String emitterId);
     Map<String, SseEmitter> findAllByUserId(String userId);
 }
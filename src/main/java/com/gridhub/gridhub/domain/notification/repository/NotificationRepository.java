@@ -5,6 +5,10 @@ import com.gridhub.gridhub.domain.user.entity.User;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+
+import java.util.List;
+import java.util.Optional;
 
 public interface NotificationRepository extends JpaRepository<Notification, Long> {
 
@@ -13,4 +17,10 @@ public interface NotificationRepository extends JpaRepository<Notification, Long
 
     // 특정 수신자의 읽지 않은 알림 개수를 조회
     long countByReceiverAndIsReadFalse(User receiver);
+
+    // SSE 재연결 시 Last-Event-ID(알림 ID) 이후에 받지 못한 알림을 오래된 순으로 조회
+    List<Notification> findAllByReceiverIdAndIdGreaterThanOrderByIdAsc(Long receiverId, Long id, Pageable pageable);
+
+    @Query("select max(n.id) from Notification n")
+    Optional<Long> findMaxId();
 }
@@ -0,0 +1,104 @@
+package com.gridhub.gridhub.domain.notification.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.RemovalCause;
+import com.gridhub.gridhub.domain.notification.dto.NotificationResponse;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.TreeMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 재연결한 클라이언트에게 Last-Event-ID 이후의 알림을 다시 보내기 위한 사용자별 최근 알림 링 버퍼.
+ * 이벤트 ID는 알림 ID(DB IDENTITY)를 그대로 사용하므로 배포 후에도 단조 증가가 유지됨.
+ * 버퍼만으로 빠진 알림이 없다고 보장할 수 없는 경우(오래 끊겨 있었거나 서버 재시작 이전의 ID)에는
+ * since()가 비어 있는 Optional을 반환하고, 호출자가 DB에서 조회.
+ */
+@Component
+public class NotificationReplayBuffer {
+
+    static final int CAPACITY_PER_USER = 32;
+    private static final int MAX_USERS = 20_000;
+
+    // 버퍼가 없는 사용자는 이 ID 이후의 알림이 하나도 없었음이 보장됨. initialize 전에는 아무것도 보장하지 않음
+    private final AtomicLong floorId = new AtomicLong(Long.MAX_VALUE);
+
+    private final Cache<String, UserBuffer> buffers = Caffeine.newBuilder()
+            .maximumSize(MAX_USERS)
+            .evictionListener((String userId, UserBuffer buffer, RemovalCause cause) -> {
+                // 밀려난 사용자의 알림은 더 이상 버퍼로 보장할 수 없으므로 기준 ID를 올림
+                if (buffer != null) {
+                    floorId.accumulateAndGet(buffer.lastId(), Math::max);
+                }
+            })
+            .build();
+
+    /**
+     * 애플리케이션 시작 시점의 마지막 알림 ID로 기준점을 설정. 이후 발행된 알림은 모두 append를 거침.
+     */
+    public void initialize(long lastNotificationId) {
+        floorId.set(lastNotificationId);
+    }
+
+    public void append(String userId, NotificationResponse notification) {
+        buffers.asMap().compute(userId, (id, buffer) -> {
+            UserBuffer current = buffer != null ? buffer : new UserBuffer(floorId.get());
+            current.add(notification);
+            return current;
+        });
+    }
+
+    /**
+     * lastEventId 이후의 알림을 오래된 순으로 반환.
+     *
+     * @return 버퍼만으로 빠짐없이 알 수 없으면 Optional.empty()
+     */
+    public Optional<List<NotificationResponse>> since(String userId, long lastEventId) {
+        UserBuffer buffer = buffers.getIfPresent(userId);
+        if (buffer == null) {
+            return lastEventId >= floorId.get() ? Optional.of(List.of()) : Optional.empty();
+        }
+        return buffer.since(lastEventId);
+    }
+
+    // 커밋 순서는 알림 ID 순서와 다를 수 있으므로 ID 순으로 정렬해 보관
+    private static final class UserBuffer {
+
+        private final TreeMap<Long, NotificationResponse> notifications = new TreeMap<>();
+        // 이 ID보다 큰 알림은 모두 notifications에 들어 있음
+        private long completeAfterId;
+        private long lastId;
+
+        private UserBuffer(long completeAfterId) {
+            this.completeAfterId = completeAfterId;
+            this.lastId = completeAfterId;
+        }
+
+        synchronized void add(NotificationResponse notification) {
+            long id = notification.notificationId();
+            lastId = Math.max(lastId, id);
+            if (id <= completeAfterId) {
+                return; // 이미 버퍼로 보장하지 않는 범위
+            }
+            notifications.put(id, notification);
+            if (notifications.size() > CAPACITY_PER_USER) {
+                // 가장 오래된(ID가 가장 작은) 알림을 밀어냄. 늦게 커밋된 알림이 가장 오래됐다면 그 알림이 밀려남
+                completeAfterId = Math.max(completeAfterId, notifications.pollFirstEntry().getKey());
+            }
+        }
+
+        synchronized Optional<List<NotificationResponse>> since(long lastEventId) {
+            if (lastEventId < completeAfterId) {
+                return Optional.empty();
+            }
+            return Optional.of(List.copyOf(notifications.tailMap(lastEventId, false).values()));
+        }
+
+        synchronized long lastId() {
+            return lastId;
+        }
+    }
+}
@@ -9,15 +9,25 @@ import com.gridhub.gridhub.domain.notification.repository.NotificationRepository
 import com.gridhub.gridhub.domain.user.entity.User;
 import com.gridhub.gridhub.domain.user.exception.UserNotFoundException;
 import com.gridhub.gridhub.domain.user.repository.UserRepository;
+import com.gridhub.gridhub.infra.notification.NotificationSinkRegistry;
+import com.gridhub.gridhub.infra.notification.SseEventDispatcher;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.http.codec.ServerSentEvent;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+import reactor.core.publisher.Flux;
 
-import java.io.IOException;
+import java.time.Duration;
+import java.util.List;
 
 @Slf4j
 @Service
@@ -26,33 +36,78 @@ public class NotificationService {
 
     // SSE 기본 타임아웃 시간 (1시간)
     private static final Long DEFAULT_TIMEOUT = 60L * 60 * 1000;
+    // 프론트엔드에서 addEventListener("sse", ...)로 받을 수 있음
+    private static final String EVENT_NAME = "sse";
+    // 재연결 시 버퍼로 복구할 수 없어 DB에서 다시 보내는 최대 알림 수
+    private static final int MAX_REPLAY_FROM_DB = 100;
 
     private final EmitterRepository emitterRepository;
+    private final NotificationSinkRegistry notificationSinkRegistry;
+    private final SseEventDispatcher sseEventDispatcher;
+    private final NotificationReplayBuffer notificationReplayBuffer;
     private final NotificationRepository notificationRepository;
     private final UserRepository userRepository;
 
+    // 애플리케이션 시작 시점의 마지막 알림 ID를 재연결 버퍼의 기준점으로 설정
+    @EventListener(ApplicationReadyEvent.class)
+    @Transactional(readOnly = true)
+    public void initializeReplayBuffer() {
+        notificationReplayBuffer.initialize(notificationRepository.findMaxId().orElse(0L));
+    }
+
     /**
      * 클라이언트가 SSE 연결을 요청할 때 호출되는 메서드
      * @param userId 현재 로그인한 사용자의 ID
+     * @param lastEventId 재연결 시 브라우저가 보내는 Last-Event-ID 헤더 값 (없으면 null)
      * @return SseEmitter 객체
      */
-    public SseEmitter subscribe(Long userId) {
+    public SseEmitter subscribe(Long userId, String lastEventId) {
+        String receiverId = String.valueOf(userId);
         String emitterId = userId + "_" + System.currentTimeMillis();
-        SseEmitter emitter = emitterRepository.save(emitterId, new SseEmitter(DEFAULT_TIMEOUT));
+        // 전송 큐가 넘치거나 전송에 실패해 연결을 끊을 때도 EmitterRepository에서 제거
+        SseEmitter emitter = emitterRepository.save(receiverId, emitterId,
+                sseEventDispatcher.newEmitter(DEFAULT_TIMEOUT, () -> emitterRepository.deleteById(receiverId, emitterId)));
 
         // 타임아웃, 에러, 연결 종료 시 EmitterRepository에서 해당 Emitter 제거
-        emitter.onCompletion(() -> emitterRepository.deleteById(emitterId));
-        emitter.onTimeout(() -> emitterRepository.deleteById(emitterId));
-        emitter.onError(e -> emitterRepository.deleteById(emitterId));
+        emitter.onCompletion(() -> emitterRepository.deleteById(receiverId, emitterId));
+        emitter.onTimeout(() -> emitterRepository.deleteById(receiverId, emitterId));
+        emitter.onError(e -> emitterRepository.deleteById(receiverId, emitterId));
+
+        // 503 Service Unavailable 방지를 위한 더미 이벤트 전송.
+        // id를 붙이지 않아야 브라우저가 기억하는 Last-Event-ID가 유지됨
+        sendToClient(receiverId, emitter, emitterId, SseEmitter.event()
+                .name(EVENT_NAME)
+                .data("EventStream Created. [userId=" + userId + "]"));
 
-        // 503 Service Unavailable 방지를 위한 더미 이벤트 전송
-        sendToClient(emitter, emitterId, "EventStream Created. [userId=" + userId + "]");
+        // 연결이 끊긴 동안 놓친 알림 재전송. Emitter를 먼저 등록했으므로 그 사이 발행된 알림은 중복될 수 있지만 유실되지 않음
+        for (NotificationResponse missed : findMissedNotifications(userId, lastEventId)) {
+            sendToClient(receiverId, emitter, emitterId, toSseEvent(missed));
+        }
 
         return emitter;
     }
 
     /**
-     * 특정 사용자에게 알림을 보내는 메서드
+     * 리액티브 SSE 스트림으로 구독. 연결을 유지하는 동안 서버 스레드를 점유하지 않음.
+     * subscribe와 같은 이벤트를 보내며, DEFAULT_TIMEOUT이 지나면 스트림을 닫아 클라이언트가 재연결하도록 함.
+     * @param userId 현재 로그인한 사용자의 ID
+     * @param lastEventId 재연결 시 브라우저가 보내는 Last-Event-ID 헤더 값 (없으면 null)
+     * @return 알림 이벤트 스트림
+     */
+    public Flux<ServerSentEvent<Object>> stream(Long userId, String lastEventId) {
+        ServerSentEvent<Object> connectEvent = ServerSentEvent.builder()
+                .event(EVENT_NAME)
+                .data((Object) ("EventStream Created. [userId=" + userId + "]"))
+                .build();
+        // sink를 구독한 뒤에 조회됨. 조회 중 발행된 알림은 실시간 이벤트로 이어서 전달되고, 조회 결과와 겹치면 한 번만 전달됨
+        Flux<ServerSentEvent<Object>> missed = Flux.defer(() -> Flux.fromIterable(findMissedNotifications(userId, lastEventId)))
+                .map(this::toServerSentEvent);
+        return notificationSinkRegistry.connect(String.valueOf(userId), Flux.concat(Flux.just(connectEvent), missed),
+                Duration.ofMillis(DEFAULT_TIMEOUT));
+    }
+
+    /**
+     * 특정 사용자에게 알림을 보내는 메서드. SSE 전송은 연결별 큐에 넣기만 하므로 클라이언트 속도와 무관하게 바로 반환.
      * @param receiver 알림을 받을 사용자
      * @param content 알림 내용
      * @param url 클릭 시 이동할 URL
@@ -64,31 +119,94 @@ public class NotificationService {
                 new Notification(receiver, content, url)
         );
 
-        // 2. 해당 사용자에게 연결된 모든 SseEmitter를 찾아 알림 전송
+        // 2. 버퍼 기록과 전송은 커밋된 뒤에 수행 (롤백된 알림은 전송하지 않고, 받은 알림은 DB에서도 조회 가능)
         String userId = String.valueOf(receiver.getId());
+        NotificationResponse response = NotificationResponse.from(notification);
+        runAfterCommit(() -> deliver(userId, response));
+    }
+
+    private void deliver(String userId, NotificationResponse response) {
+        // 재연결한 클라이언트가 받을 수 있도록 버퍼에 기록
+        notificationReplayBuffer.append(userId, response);
+
+        // 해당 사용자에게 연결된 모든 SseEmitter를 찾아 알림 전송
         emitterRepository.findAllByUserId(userId).forEach((emitterId, emitter) -> {
-            sendToClient(emitter, emitterId, NotificationResponse.from(notification));
+            sendToClient(userId, emitter, emitterId, toSseEvent(response));
+        });
+
+        // 리액티브 스트림 구독자에게 발행
+        notificationSinkRegistry.publish(userId, toServerSentEvent(response));
+    }
+
+    // 트랜잭션 안이면 커밋된 뒤에 실행하고, 트랜잭션 밖이면 바로 실행
+    private static void runAfterCommit(Runnable action) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            action.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                action.run();
+            }
         });
     }
 
     /**
-     * 클라이언트에게 실제 이벤트를 전송하는 헬퍼 메서드
+     * 클라이언트에게 이벤트 전송을 예약하는 헬퍼 메서드
+     * @param userId 수신자 ID
      * @param emitter 대상 Emitter
      * @param emitterId Emitter ID
-     * @param data 전송할 데이터
+     * @param event 전송할 이벤트
      */
-    private void sendToClient(SseEmitter emitter, String emitterId, Object data) {
+    private void sendToClient(String userId, SseEmitter emitter, String emitterId, SseEmitter.SseEventBuilder event) {
+        if (!sseEventDispatcher.send(emitter, event)) {
+            emitterRepository.deleteById(userId, emitterId);
+            log.debug("끊긴 SSE 연결 제거: {}", emitterId);
+        }
+    }
+
+    // Last-Event-ID 이후의 알림. 버퍼로 알 수 없을 때만 DB에서 한 번 조회 (헤더가 없거나 알림 ID 형식이 아니면 빈 목록)
+    private List<NotificationResponse> findMissedNotifications(Long userId, String lastEventId) {
+        Long lastNotificationId = parseEventId(lastEventId);
+        if (lastNotificationId == null) {
+            return List.of();
+        }
+        return notificationReplayBuffer.since(String.valueOf(userId), lastNotificationId)
+                .orElseGet(() -> notificationRepository
+                        .findAllByReceiverIdAndIdGreaterThanOrderByIdAsc(userId, lastNotificationId, PageRequest.of(0, MAX_REPLAY_FROM_DB))
+                        .stream()
+                        .map(NotificationResponse::from)
+                        .toList());
+    }
+
+    private Long parseEventId(String lastEventId) {
+        if (lastEventId == null || lastEventId.isBlank()) {
+            return null;
+        }
         try {
-            emitter.send(SseEmitter.event()
-                    .id(emitterId)
-                    .name("sse") // 프론트엔드에서 addEventListener("sse", ...)로 받을 수 있음
-                    .data(data));
-        } catch (IOException e) {
-            emitterRepository.deleteById(emitterId);
-            log.error("SSE 연결 오류!", e);
+            return Long.parseLong(lastEventId.trim());
+        } catch (NumberFormatException e) {
+            return null; // 이전 형식(emitterId)의 이벤트 ID
         }
     }
 
+    // 이벤트 ID로 알림 ID를 사용해, 브라우저가 재연결 시 마지막으로 받은 알림을 Last-Event-ID로 보내도록 함
+    private SseEmitter.SseEventBuilder toSseEvent(NotificationResponse notification) {
+        return SseEmitter.event()
+                .id(String.valueOf(notification.notificationId()))
+                .name(EVENT_NAME)
+                .data(notification);
+    }
+
+    private ServerSentEvent<Object> toServerSentEvent(NotificationResponse notification) {
+        return ServerSentEvent.builder()
+                .id(String.valueOf(notification.notificationId()))
+                .event(EVENT_NAME)
+                .data((Object) notification)
+                .build();
+    }
+
     /**
      * 현재 로그인한 사용자의 모든 알림을 페이징하여 조회.
      * @param userId 현재 사용자 ID
@@ -3,6 +3,7 @@ package com.gridhub.gridhub.domain.post.controller;
 import com.gridhub.gridhub.domain.post.dto.*;
 import com.gridhub.gridhub.domain.post.entity.PostCategory;
 import com.gridhub.gridhub.domain.post.service.PostService;
+import com.gridhub.gridhub.global.dto.CursorSliceResponse;
 import com.gridhub.gridhub.global.security.UserDetailsImpl;
 import jakarta.servlet.http.Cookie;
 import jakarta.servlet.http.HttpServletRequest;
@@ -22,6 +23,7 @@ import org.springframework.web.multipart.MultipartFile;
 
 import java.io.IOException;
 import java.util.Arrays;
+import java.util.UUID;
 
 @RestController
 @RequiredArgsConstructor
@@ -29,8 +31,10 @@ import java.util.Arrays;
 public class PostController {
 
     private final PostService postService;
-    private static final String VIEW_COOKIE_NAME = "post_view";
-    private static final int COOKIE_MAX_AGE = 60 * 60 * 24; // 24시간
+    // 익명 조회자 식별용 쿠키 (고정 길이 UUID 하나만 저장)
+    private static final String VIEWER_COOKIE_NAME = "viewer_id";
+    private static final int VIEWER_COOKIE_MAX_AGE = 60 * 60 * 24 * 365; // 1년
+    private static final int MAX_FEED_SIZE = 50;
 
     @PostMapping(consumes = {MediaType.APPLICATION_JSON_VALUE, MediaType.MULTIPART_FORM_DATA_VALUE})
     public ResponseEntity<PostIdResponse> createPost(
@@ -46,22 +50,13 @@ public class PostController {
     @GetMapping("/{postId}")
     public ResponseEntity<PostResponse> getPost(
             @PathVariable Long postId,
+            @AuthenticationPrincipal UserDetailsImpl userDetails,
             HttpServletRequest request,
             HttpServletResponse response
     ) {
-        Cookie oldCookie = findCookie(request, VIEW_COOKIE_NAME);
-
-        // 1. 쿠키가 존재하고, 이미 해당 게시글 ID를 포함하는지 확인
-        if (isAlreadyViewed(oldCookie, postId)) {
-            // 조회수 증가 없이 게시글 조회
-            PostResponse postResponse = postService.getPost(postId);
-            return ResponseEntity.ok(postResponse);
-        }
-
-        // 2. 쿠키가 없거나, 해당 게시글 ID가 포함되어 있지 않으면 조회수 증가 및 쿠키 업데이트
-        PostResponse postResponse = postService.getPostAndUpdateViewCount(postId);
-        updateViewCookie(oldCookie, postId, response);
+        String viewerKey = resolveViewerKey(userDetails, request, response);
 
+        PostResponse postResponse = postService.getPostAndUpdateViewCount(postId, viewerKey);
         return ResponseEntity.ok(postResponse);
     }
 
@@ -76,6 +71,17 @@ public class PostController {
         return ResponseEntity.ok(postList);
     }
 
+    @GetMapping("/scroll")
+    public ResponseEntity<CursorSliceResponse<PostSimpleResponse>> getPostFeed(
+            @RequestParam(required = false) PostCategory category,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "10") int size
+    ) {
+        int boundedSize = Math.max(1, Math.min(size, MAX_FEED_SIZE));
+        CursorSliceResponse<PostSimpleResponse> feed = postService.getPostFeed(category, cursor, boundedSize);
+        return ResponseEntity.ok(feed);
+    }
+
     @PutMapping(value = "/{postId}", consumes = {MediaType.APPLICATION_JSON_VALUE, MediaType.MULTIPART_FORM_DATA_VALUE})
     public ResponseEntity<Void> updatePost(
             @PathVariable Long postId,
@@ -133,21 +139,32 @@ public class PostController {
                 .orElse(null);
     }
 
-    // 쿠키 값에 현재 postId가 포함되어 있는지 확인하는 헬퍼 메서드
-    private boolean isAlreadyViewed(Cookie cookie, Long postId) {
-        return cookie != null && cookie.getValue().contains("[" + postId + "]");
-    }
+    // 로그인 사용자는 이메일, 익명 사용자는 viewer_id 쿠키(없으면 새로 발급)로 조회자를 구분
+    private String resolveViewerKey(UserDetailsImpl userDetails, HttpServletRequest request, HttpServletResponse response) {
+        if (userDetails != null) {
+            return "user:" + userDetails.getUsername();
+        }
 
-    // 조회수 쿠키를 업데이트(또는 생성)하는 헬퍼 메서드
-    private void updateViewCookie(Cookie oldCookie, Long postId, HttpServletResponse response) {
-        String newValue = "[" + postId + "]";
-        if (oldCookie != null) {
-            newValue = oldCookie.getValue() + newValue;
+        Cookie viewerCookie = findCookie(request, VIEWER_COOKIE_NAME);
+        if (viewerCookie != null && isValidViewerId(viewerCookie.getValue())) {
+            return "anonymous:" + viewerCookie.getValue();
         }
 
-        Cookie newCookie = new Cookie(VIEW_COOKIE_NAME, newValue);
+        String viewerId = UUID.randomUUID().toString();
+        Cookie newCookie = new Cookie(VIEWER_COOKIE_NAME, viewerId);
         newCookie.setPath("/");
-        newCookie.setMaxAge(COOKIE_MAX_AGE);
+        newCookie.setHttpOnly(true);
+        newCookie.setMaxAge(VIEWER_COOKIE_MAX_AGE);
         response.addCookie(newCookie);
+        return "anonymous:" + viewerId;
+    }
+
+    private boolean isValidViewerId(String value) {
+        try {
+            UUID.fromString(value);
+            return true;
+        } catch (IllegalArgumentException e) {
+            return false;
+        }
     }
 }
@@ -3,6 +3,7 @@ package com.gridhub.gridhub.domain.post.dto;
 import com.gridhub.gridhub.domain.post.entity.Post;
 import com.gridhub.gridhub.domain.post.entity.PostCategory;
 import com.gridhub.gridhub.domain.user.entity.User;
+import com.gridhub.gridhub.infra.s3.UploadedImage;
 import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.NotNull;
 import jakarta.validation.constraints.Size;
@@ -22,13 +23,15 @@ public class PostRequestDto {
     @NotNull(message = "카테고리를 선택해주세요.")
     private PostCategory category;
 
-    public Post toEntity(User author, String imageUrl) {
+    public Post toEntity(User author, UploadedImage image) {
         return Post.builder()
                 .title(this.title)
                 .content(this.content)
                 .category(this.category)
                 .author(author)
-                .imageUrl(imageUrl)
+                .imageUrl(image != null ? image.originalUrl() : null)
+                .imageMediumUrl(image != null ? image.mediumUrl() : null)
+                .imageThumbnailUrl(image != null ? image.thumbnailUrl() : null)
                 .build();
     }
 }
\ No newline at end of file
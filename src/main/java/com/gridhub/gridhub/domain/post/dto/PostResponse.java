@@ -14,20 +14,23 @@ public record PostResponse(
         int viewCount,
         int likeCount,
         String imageUrl,
+        String mediumImageUrl, // 본문 표시용 축소본 (축소본이 없으면 원본)
         LocalDateTime createdAt,
         LocalDateTime updatedAt
 ) {
     // 엔티티를 DTO로 변환하는 정적 팩토리 메서드
-    public static PostResponse from(Post post) {
+    // pendingViewCount: 아직 DB에 반영되지 않은 조회수 (PostViewCountBuffer)
+    public static PostResponse from(Post post, long pendingViewCount) {
         return new PostResponse(
                 post.getId(),
                 post.getTitle(),
                 post.getContent(),
                 post.getAuthor().getNickname(), // 지연 로딩 발생 지점
                 post.getCategory(),
-                post.getViewCount(),
+                (int) (post.getViewCount() + pendingViewCount),
                 post.getLikeCount(),
                 post.getImageUrl(),
+                post.getImageMediumUrl() != null ? post.getImageMediumUrl() : post.getImageUrl(),
                 post.getCreatedAt(),
                 post.getUpdatedAt()
         );
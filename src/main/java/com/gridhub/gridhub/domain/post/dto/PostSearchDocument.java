@@ -0,0 +1,27 @@
+package com.gridhub.gridhub.domain.post.dto;
+
+import com.gridhub.gridhub.domain.post.entity.Post;
+import com.gridhub.gridhub.domain.post.entity.PostCategory;
+
+/**
+ * 게시글 검색 인덱스(PostSearchIndex)에 색인되는 게시글 단위 문서 (색인 시에만 사용하고 보관하지 않음)
+ */
+public record PostSearchDocument(
+        Long postId,
+        Long authorId,
+        String authorNickname,
+        PostCategory category,
+        String title,
+        String content
+) {
+    public static PostSearchDocument from(Post post) {
+        return new PostSearchDocument(
+                post.getId(),
+                post.getAuthor().getId(),
+                post.getAuthor().getNickname(),
+                post.getCategory(),
+                post.getTitle(),
+                post.getContent()
+        );
+    }
+}
@@ -11,7 +11,8 @@ public record PostSimpleResponse(
         String authorNickname,
         PostCategory category,
         int viewCount,
-        String imageUrl,
+        String imageUrl, // 원본
+        String thumbnailUrl, // 목록 표시용 축소본 (축소본이 없으면 원본)
         LocalDateTime createdAt
 ) {
     public static  PostSimpleResponse from(Post post) {
@@ -22,6 +23,7 @@ public record PostSimpleResponse(
                 post.getCategory(),
                 post.getViewCount(),
                 post.getImageUrl(),
+                post.getImageThumbnailUrl() != null ? post.getImageThumbnailUrl() : post.getImageUrl(),
                 post.getCreatedAt()
         );
     }
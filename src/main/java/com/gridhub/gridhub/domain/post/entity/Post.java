@@ -2,6 +2,7 @@ package com.gridhub.gridhub.domain.post.entity;
 
 import com.gridhub.gridhub.domain.BaseTimeEntity;
 import com.gridhub.gridhub.domain.comment.entity.Comment;
+import com.gridhub.gridhub.domain.post.service.PostSearchEntityListener;
 import com.gridhub.gridhub.domain.user.entity.User;
 import jakarta.persistence.*;
 import lombok.AccessLevel;
@@ -12,10 +13,17 @@ import lombok.NoArgsConstructor;
 import java.util.ArrayList;
 import java.util.HashSet;
 import java.util.List;
+import java.util.Objects;
 import java.util.Set;
+import java.util.stream.Stream;
 
 @Entity
-@Table(name = "post")
+@Table(name = "post", indexes = {
+        // 커서 기반 피드 조회(createdAt DESC, id DESC)용 복합 인덱스
+        @Index(name = "idx_post_created_at_id", columnList = "created_at, post_id"),
+        @Index(name = "idx_post_category_created_at_id", columnList = "category, created_at, post_id")
+})
+@EntityListeners(PostSearchEntityListener.class) // 제목/내용 변경 시 검색 색인 갱신
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 public class Post extends BaseTimeEntity {
@@ -41,7 +49,11 @@ public class Post extends BaseTimeEntity {
     @Column(nullable = false)
     private int likeCount = 0;
 
-    private String imageUrl;
+    private String imageUrl; // 원본
+
+    private String imageMediumUrl; // 상세 화면용 축소본 (이미지가 아니거나 이전 게시글이면 null)
+
+    private String imageThumbnailUrl; // 목록용 축소본 (이미지가 아니거나 이전 게시글이면 null)
 
     @OneToMany(mappedBy = "post", cascade = CascadeType.ALL, orphanRemoval = true)
     private Set<PostLike> likes = new HashSet<>();
@@ -54,38 +66,33 @@ public class Post extends BaseTimeEntity {
     private List<Comment> comments = new ArrayList<>();
 
     @Builder
-    public Post(String title, String content, PostCategory category, User author, String imageUrl) {
+    public Post(String title, String content, PostCategory category, User author,
+                String imageUrl, String imageMediumUrl, String imageThumbnailUrl) {
         this.title = title;
         this.content = content;
         this.category = category;
         this.author = author;
         this.imageUrl = imageUrl;
+        this.imageMediumUrl = imageMediumUrl;
+        this.imageThumbnailUrl = imageThumbnailUrl;
     }
 
     /*
     * 게시글 수정 메서드
     * */
-    public void update(String title, String content, String imageUrl) {
+    public void update(String title, String content) {
         this.title = title;
         this.content = content;
-        this.imageUrl = imageUrl;
-    }
-
-    /**
-     * 조회수 증가 메서드
-     */
-    public void increaseViewCount() {
-        this.viewCount++;
     }
 
-    /*
-    * 추천수 관리 메서드
-    * */
-    public void increaseLikeCount() {
-        this.likeCount++;
+    public void updateImage(String imageUrl, String imageMediumUrl, String imageThumbnailUrl) {
+        this.imageUrl = imageUrl;
+        this.imageMediumUrl = imageMediumUrl;
+        this.imageThumbnailUrl = imageThumbnailUrl;
     }
 
-    public void decreaseLikeCount() {
-        this.likeCount--;
+    // 원본과 축소본을 포함해 저장된 모든 이미지 URL
+    public List<String> getImageUrls() {
+        return Stream.of(imageUrl, imageMediumUrl, imageThumbnailUrl).filter(Objects::nonNull).toList();
     }
 }
\ No newline at end of file
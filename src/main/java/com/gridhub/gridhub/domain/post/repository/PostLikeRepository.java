@@ -4,9 +4,29 @@ import com.gridhub.gridhub.domain.post.entity.Post;
 import com.gridhub.gridhub.domain.post.entity.PostLike;
 import com.gridhub.gridhub.domain.user.entity.User;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 import java.util.Optional;
 
 public interface PostLikeRepository extends JpaRepository<PostLike, Long> {
     Optional<PostLike> findByUserAndPost(User user, Post post);
+
+    /**
+     * 추천 기록이 없을 때만 추가 (insert-or-ignore).
+     * 동시에 같은 추천이 들어오면 post_like_uk 유니크 제약이 최종적으로 중복을 막음.
+     * @return 추가된 행 수 (이미 추천했다면 0)
+     */
+    @Modifying
+    @Query(value = "INSERT INTO post_like (user_id, post_id) " +
+            "SELECT CAST(:userId AS BIGINT), CAST(:postId AS BIGINT) " +
+            "WHERE NOT EXISTS (SELECT 1 FROM post_like pl WHERE pl.user_id = :userId AND pl.post_id = :postId)",
+            nativeQuery = true)
+    int insertIfAbsent(@Param("postId") Long postId, @Param("userId") Long userId);
+
+    // 엔티티를 읽지 않고 바로 삭제, 삭제된 행 수 반환
+    @Modifying
+    @Query("DELETE FROM PostLike pl WHERE pl.post.id = :postId AND pl.user.id = :userId")
+    int deleteByPostIdAndUserId(@Param("postId") Long postId, @Param("userId") Long userId);
 }
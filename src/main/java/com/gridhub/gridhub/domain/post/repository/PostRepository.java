@@ -1,31 +1,75 @@
 package com.gridhub.gridhub.domain.post.repository;
 
+import com.gridhub.gridhub.domain.post.dto.PostSearchDocument;
 import com.gridhub.gridhub.domain.post.entity.Post;
 import com.gridhub.gridhub.domain.post.entity.PostCategory;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
 
 public interface PostRepository extends JpaRepository<Post, Long> {
 
     // 특정 카테고리에 해당하는 게시글들을 페이징하여 조회
     Page<Post> findByCategory(PostCategory category, Pageable pageable);
 
-    //===검색용 메서드 추가
+    //===검색용 메서드 (검색 자체는 PostSearchIndex가 담당)
 
-    // 제목으로 검색 (카테고리 필터링 포함)
-    Page<Post> findByCategoryAndTitleContaining(PostCategory category, String title, Pageable pageable);
-    // 제목으로 검색 (카테고리 필터링 없음)
-    Page<Post> findByTitleContaining(String title, Pageable pageable);
+    // 검색 색인 생성용 전체 게시글 조회
+    @Query("SELECT new com.gridhub.gridhub.domain.post.dto.PostSearchDocument(" +
+            "p.id, a.id, a.nickname, p.category, p.title, p.content) FROM Post p JOIN p.author a")
+    List<PostSearchDocument> findAllSearchDocuments();
 
-    // 내용으로 검색 (카테고리 필터링 포함)
-    Page<Post> findByCategoryAndContentContaining(PostCategory category, String content, Pageable pageable);
-    // 내용으로 검색 (카테고리 필터링 없음)
-    Page<Post> findByContentContaining(String content, Pageable pageable);
+    // 게시글 엔티티를 읽지 않고 작성자 ID만 조회 (수정 전 권한 확인용)
+    @Query("SELECT p.author.id FROM Post p WHERE p.id = :postId")
+    Optional<Long> findAuthorIdById(@Param("postId") Long postId);
 
-    // 작성자 닉네임으로 검색 (카테고리 필터링 포함)
-    Page<Post> findByCategoryAndAuthor_NicknameContaining(PostCategory category, String nickname, Pageable pageable);
-    // 작성자 닉네임으로 검색 (카테고리 필터링 없음)
-    Page<Post> findByAuthor_NicknameContaining(String nickname, Pageable pageable);
-}
+    // 검색 결과 페이지에 해당하는 게시글만 작성자와 함께 조회
+    @Query("SELECT p FROM Post p JOIN FETCH p.author WHERE p.id IN :ids")
+    List<Post> findAllWithAuthorByIdIn(@Param("ids") Collection<Long> ids);
+
+    //===추천수 갱신 (엔티티를 읽어 +1 하지 않고 DB에서 원자적으로 증감)
+
+    @Modifying
+    @Query("UPDATE Post p SET p.likeCount = p.likeCount + 1 WHERE p.id = :postId")
+    int increaseLikeCount(@Param("postId") Long postId);
+
+    @Modifying
+    @Query("UPDATE Post p SET p.likeCount = p.likeCount - 1 WHERE p.id = :postId AND p.likeCount > 0")
+    int decreaseLikeCount(@Param("postId") Long postId);
 
+    //===커서 기반(keyset) 피드 조회용 메서드
+    // 정렬 기준: createdAt DESC, id DESC / Slice 반환으로 COUNT 쿼리 없이 size + 1건만 조회
+
+    // 첫 페이지 (카테고리 필터링 없음)
+    @Query("SELECT p FROM Post p JOIN FETCH p.author ORDER BY p.createdAt DESC, p.id DESC")
+    Slice<Post> findFeed(Pageable pageable);
+
+    // 커서 이후 페이지 (카테고리 필터링 없음)
+    @Query("SELECT p FROM Post p JOIN FETCH p.author " +
+            "WHERE p.createdAt <= :createdAt AND (p.createdAt < :createdAt OR p.id < :id) " +
+            "ORDER BY p.createdAt DESC, p.id DESC")
+    Slice<Post> findFeedAfter(@Param("createdAt") LocalDateTime createdAt, @Param("id") Long id, Pageable pageable);
+
+    // 첫 페이지 (카테고리 필터링 포함)
+    @Query("SELECT p FROM Post p JOIN FETCH p.author WHERE p.category = :category " +
+            "ORDER BY p.createdAt DESC, p.id DESC")
+    Slice<Post> findFeedByCategory(@Param("category") PostCategory category, Pageable pageable);
+
+    // 커서 이후 페이지 (카테고리 필터링 포함)
+    @Query("SELECT p FROM Post p JOIN FETCH p.author WHERE p.category = :category " +
+            "AND p.createdAt <= :createdAt AND (p.createdAt < :createdAt OR p.id < :id) " +
+            "ORDER BY p.createdAt DESC, p.id DESC")
+    Slice<Post> findFeedByCategoryAfter(@Param("category") PostCategory category,
+                                        @Param("createdAt") LocalDateTime createdAt,
+                                        @Param("id") Long id,
+                                        Pageable pageable);
+}
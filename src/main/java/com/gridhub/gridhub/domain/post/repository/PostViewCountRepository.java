@@ -0,0 +1,35 @@
+package com.gridhub.gridhub.domain.post.repository;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.Map;
+
+/**
+ * 버퍼링된 게시글 조회수를 JDBC 배치 UPDATE로 반영.
+ * 엔티티를 읽지 않고 증가분만 더하므로 그 사이 다른 트랜잭션의 변경을 덮어쓰지 않음.
+ */
+@Repository
+@RequiredArgsConstructor
+public class PostViewCountRepository {
+
+    private static final String ADD_VIEW_COUNT_SQL = "UPDATE post SET view_count = view_count + ? WHERE post_id = ?";
+    private static final int BATCH_SIZE = 500;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * @param deltasByPostId 게시글 ID별 더할 조회수
+     */
+    @Transactional
+    public void addViewCounts(Map<Long, Long> deltasByPostId) {
+        jdbcTemplate.batchUpdate(ADD_VIEW_COUNT_SQL, new ArrayList<>(deltasByPostId.entrySet()), BATCH_SIZE,
+                (ps, delta) -> {
+                    ps.setLong(1, delta.getValue());
+                    ps.setLong(2, delta.getKey());
+                });
+    }
+}
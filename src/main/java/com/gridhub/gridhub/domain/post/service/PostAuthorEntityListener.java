@@ -0,0 +1,23 @@
+package com.gridhub.gridhub.domain.post.service;
+
+import com.gridhub.gridhub.domain.user.entity.User;
+import jakarta.persistence.PostUpdate;
+import org.springframework.beans.factory.ObjectProvider;
+
+/**
+ * 사용자 닉네임이 바뀌면 해당 사용자가 쓴 게시글의 닉네임 검색 색인을 갱신하는 JPA 엔티티 리스너.
+ * 포인트 변경 등 닉네임과 무관한 수정은 색인 조회 한 번으로 끝남.
+ */
+public class PostAuthorEntityListener {
+
+    private final ObjectProvider<PostSearchSynchronizer> postSearchSynchronizer;
+
+    public PostAuthorEntityListener(ObjectProvider<PostSearchSynchronizer> postSearchSynchronizer) {
+        this.postSearchSynchronizer = postSearchSynchronizer;
+    }
+
+    @PostUpdate
+    void onUpdated(User user) {
+        postSearchSynchronizer.ifAvailable(synchronizer -> synchronizer.renameAuthor(user.getId(), user.getNickname()));
+    }
+}
@@ -0,0 +1,31 @@
+package com.gridhub.gridhub.domain.post.service;
+
+import com.gridhub.gridhub.domain.post.dto.PostSearchDocument;
+import com.gridhub.gridhub.domain.post.entity.Post;
+import jakarta.persistence.PostPersist;
+import jakarta.persistence.PostRemove;
+import jakarta.persistence.PostUpdate;
+import org.springframework.beans.factory.ObjectProvider;
+
+/**
+ * Post 엔티티가 저장/변경/삭제될 때(flush 시점) 게시글 검색 색인을 갱신하는 JPA 엔티티 리스너.
+ */
+public class PostSearchEntityListener {
+
+    private final ObjectProvider<PostSearchSynchronizer> postSearchSynchronizer;
+
+    public PostSearchEntityListener(ObjectProvider<PostSearchSynchronizer> postSearchSynchronizer) {
+        this.postSearchSynchronizer = postSearchSynchronizer;
+    }
+
+    @PostPersist
+    @PostUpdate
+    void onSaved(Post post) {
+        postSearchSynchronizer.ifAvailable(synchronizer -> synchronizer.index(PostSearchDocument.from(post)));
+    }
+
+    @PostRemove
+    void onRemoved(Post post) {
+        postSearchSynchronizer.ifAvailable(synchronizer -> synchronizer.remove(post.getId()));
+    }
+}
@@ -0,0 +1,238 @@
+package com.gridhub.gridhub.domain.post.service;
+
+import com.gridhub.gridhub.domain.post.dto.PostSearchDocument;
+import com.gridhub.gridhub.domain.post.entity.PostCategory;
+import com.gridhub.gridhub.global.util.NGramTokenizer;
+import org.springframework.stereotype.Component;
+
+import java.util.*;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Function;
+
+/**
+ * 제목/내용/작성자 닉네임에 대한 n-gram 역색인 (LIKE '%keyword%' 전체 스캔 대체).
+ * 검색어의 모든 n-gram을 포함하는 게시글만 후보로 삼고, TF-IDF 점수가 높은 순(같으면 최신 글 먼저)으로 정렬.
+ * 색인은 메모리에만 유지되며 애플리케이션 시작 시 DB에서 다시 생성 (PostSearchSynchronizer).
+ * 제목/내용 원문은 보관하지 않고 n-gram posting(게시글 ID, 등장 횟수)과 카테고리/작성자만 유지하며,
+ * 목록에 표시할 값은 PostService가 결과 페이지에 해당하는 게시글만 DB에서 조회.
+ */
+@Component
+public class PostSearchIndex {
+
+    public enum Field {
+        TITLE(PostSearchDocument::title),
+        CONTENT(PostSearchDocument::content),
+        NICKNAME(PostSearchDocument::authorNickname);
+
+        private final Function<PostSearchDocument, String> extractor;
+
+        Field(Function<PostSearchDocument, String> extractor) {
+            this.extractor = extractor;
+        }
+    }
+
+    private final Map<Long, IndexedPost> postsById = new HashMap<>();
+    private final Map<Long, Set<Long>> postIdsByAuthorId = new HashMap<>();
+    // 작성자별로 색인된 닉네임 (게시글마다 따로 보관하지 않음)
+    private final Map<Long, String> nicknameByAuthorId = new HashMap<>();
+    // 필드별 n-gram -> posting
+    private final Map<Field, Map<String, Posting>> postings = new EnumMap<>(Field.class);
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+
+    public PostSearchIndex() {
+        for (Field field : Field.values()) {
+            postings.put(field, new HashMap<>());
+        }
+    }
+
+    public void rebuild(Collection<PostSearchDocument> documents) {
+        lock.writeLock().lock();
+        try {
+            postsById.clear();
+            postIdsByAuthorId.clear();
+            nicknameByAuthorId.clear();
+            postings.values().forEach(Map::clear);
+            documents.forEach(document -> putInternal(document, termFrequencies(document)));
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    // 새 게시글 색인 또는 기존 게시글 재색인
+    public void put(PostSearchDocument document) {
+        // n-gram 추출은 잠금 밖에서 수행
+        Map<Field, Map<String, Integer>> termFrequencies = termFrequencies(document);
+        lock.writeLock().lock();
+        try {
+            putInternal(document, termFrequencies);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void remove(Long postId) {
+        lock.writeLock().lock();
+        try {
+            removeInternal(postId);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    // 작성자 닉네임 변경 시 해당 작성자의 게시글들을 닉네임 필드만 재색인 (이미 같은 닉네임으로 색인되어 있으면 생략)
+    public void renameAuthor(Long authorId, String nickname) {
+        lock.writeLock().lock();
+        try {
+            if (postIdsByAuthorId.containsKey(authorId) && !Objects.equals(nicknameByAuthorId.get(authorId), nickname)) {
+                renameInternal(authorId, nickname);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return postsById.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * @param category null이면 전체 카테고리
+     * @return 관련도 순으로 정렬된 게시글 ID 목록, 검색어에서 n-gram을 만들 수 없으면 빈 목록
+     */
+    public List<Long> search(Field field, String keyword, PostCategory category) {
+        Set<String> terms = NGramTokenizer.queryTerms(keyword);
+        if (terms.isEmpty()) {
+            return List.of();
+        }
+
+        lock.readLock().lock();
+        try {
+            Map<String, Posting> fieldPostings = postings.get(field);
+            List<Map<Long, Integer>> termPostings = new ArrayList<>(terms.size());
+            for (String term : terms) {
+                Posting posting = fieldPostings.get(term);
+                if (posting == null) {
+                    return List.of();
+                }
+                termPostings.add(posting.frequencies);
+            }
+            // 가장 짧은 posting 목록을 기준으로 교집합 계산
+            termPostings.sort(Comparator.comparingInt(Map::size));
+
+            int documentCount = postsById.size();
+            Map<Long, Double> scores = new HashMap<>();
+            candidates:
+            for (Long postId : termPostings.get(0).keySet()) {
+                if (category != null && postsById.get(postId).category() != category) {
+                    continue;
+                }
+                double score = 0;
+                for (Map<Long, Integer> posting : termPostings) {
+                    Integer frequency = posting.get(postId);
+                    if (frequency == null) {
+                        continue candidates;
+                    }
+                    double idf = Math.log(1 + (double) documentCount / posting.size());
+                    score += (1 + Math.log(frequency)) * idf;
+                }
+                scores.put(postId, score);
+            }
+
+            return scores.entrySet().stream()
+                    .sorted(Map.Entry.<Long, Double>comparingByValue().reversed()
+                            .thenComparing(Map.Entry.<Long, Double>comparingByKey().reversed()))
+                    .map(Map.Entry::getKey)
+                    .toList();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private void putInternal(PostSearchDocument document, Map<Field, Map<String, Integer>> termFrequencies) {
+        removeInternal(document.postId());
+
+        Map<Field, Posting[]> postPostings = new EnumMap<>(Field.class);
+        termFrequencies.forEach((field, frequencies) ->
+                postPostings.put(field, addPostings(field, document.postId(), frequencies)));
+        postsById.put(document.postId(), new IndexedPost(document.authorId(), document.category(), postPostings));
+        postIdsByAuthorId.computeIfAbsent(document.authorId(), id -> new HashSet<>()).add(document.postId());
+
+        // 닉네임은 작성자 단위로 보관하므로, 다른 닉네임으로 색인되면 같은 작성자의 게시글을 모두 맞춤
+        String previous = nicknameByAuthorId.put(document.authorId(), document.authorNickname());
+        if (previous != null && !Objects.equals(previous, document.authorNickname())) {
+            renameInternal(document.authorId(), document.authorNickname());
+        }
+    }
+
+    private static Map<Field, Map<String, Integer>> termFrequencies(PostSearchDocument document) {
+        Map<Field, Map<String, Integer>> termFrequencies = new EnumMap<>(Field.class);
+        for (Field field : Field.values()) {
+            termFrequencies.put(field, NGramTokenizer.termFrequencies(field.extractor.apply(document)));
+        }
+        return termFrequencies;
+    }
+
+    private void renameInternal(Long authorId, String nickname) {
+        nicknameByAuthorId.put(authorId, nickname);
+        Map<String, Integer> frequencies = NGramTokenizer.termFrequencies(nickname);
+        for (Long postId : postIdsByAuthorId.get(authorId)) {
+            Map<Field, Posting[]> postPostings = postsById.get(postId).postings();
+            removePostings(Field.NICKNAME, postId, postPostings.get(Field.NICKNAME));
+            postPostings.put(Field.NICKNAME, addPostings(Field.NICKNAME, postId, frequencies));
+        }
+    }
+
+    private void removeInternal(Long postId) {
+        IndexedPost removed = postsById.remove(postId);
+        if (removed == null) {
+            return;
+        }
+        removed.postings().forEach((field, postPostings) -> removePostings(field, postId, postPostings));
+        Set<Long> authorPostIds = postIdsByAuthorId.get(removed.authorId());
+        authorPostIds.remove(postId);
+        if (authorPostIds.isEmpty()) {
+            postIdsByAuthorId.remove(removed.authorId());
+            nicknameByAuthorId.remove(removed.authorId());
+        }
+    }
+
+    private Posting[] addPostings(Field field, Long postId, Map<String, Integer> frequencies) {
+        Map<String, Posting> fieldPostings = postings.get(field);
+        Posting[] added = new Posting[frequencies.size()];
+        int i = 0;
+        for (Map.Entry<String, Integer> entry : frequencies.entrySet()) {
+            Posting posting = fieldPostings.computeIfAbsent(entry.getKey(), Posting::new);
+            posting.frequencies.put(postId, entry.getValue());
+            added[i++] = posting;
+        }
+        return added;
+    }
+
+    private void removePostings(Field field, Long postId, Posting[] postPostings) {
+        Map<String, Posting> fieldPostings = postings.get(field);
+        for (Posting posting : postPostings) {
+            posting.frequencies.remove(postId);
+            if (posting.frequencies.isEmpty()) {
+                fieldPostings.remove(posting.term);
+            }
+        }
+    }
+
+    // n-gram 하나의 posting. 게시글은 자신이 속한 posting의 참조만 들고 있어 n-gram 문자열을 따로 복사하지 않음
+    private static final class Posting {
+
+        private final String term;
+        private final Map<Long, Integer> frequencies = new HashMap<>(); // 게시글 ID -> 등장 횟수
+
+        private Posting(String term) {
+            this.term = term;
+        }
+    }
+
+    private record IndexedPost(Long authorId, PostCategory category, Map<Field, Posting[]> postings) {}
+}
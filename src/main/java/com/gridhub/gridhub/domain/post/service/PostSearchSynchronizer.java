@@ -0,0 +1,94 @@
+package com.gridhub.gridhub.domain.post.service;
+
+import com.gridhub.gridhub.domain.post.dto.PostSearchDocument;
+import com.gridhub.gridhub.domain.post.repository.PostRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * 게시글 생성/수정/삭제와 작성자 닉네임 변경을 PostSearchIndex에 반영.
+ * 트랜잭션 안의 변경은 커밋된 뒤에 반영하고, 롤백된 트랜잭션의 변경은 반영하지 않음.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class PostSearchSynchronizer {
+
+    private final PostSearchIndex postSearchIndex;
+    private final PostRepository postRepository;
+
+    // 애플리케이션 시작 시 DB의 전체 게시글로 색인 생성
+    @EventListener(ApplicationReadyEvent.class)
+    @Transactional(readOnly = true)
+    public void rebuild() {
+        List<PostSearchDocument> documents = postRepository.findAllSearchDocuments();
+        postSearchIndex.rebuild(documents);
+        log.info("게시글 검색 색인 생성 완료. ({}건)", documents.size());
+    }
+
+    public void index(PostSearchDocument document) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            postSearchIndex.put(document);
+            return;
+        }
+        // 같은 트랜잭션에서 여러 번 바뀐 게시글은 마지막 상태만 반영
+        pendingChanges().posts.put(document.postId(), Optional.of(document));
+    }
+
+    public void remove(Long postId) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            postSearchIndex.remove(postId);
+            return;
+        }
+        pendingChanges().posts.put(postId, Optional.empty());
+    }
+
+    public void renameAuthor(Long authorId, String nickname) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            postSearchIndex.renameAuthor(authorId, nickname);
+            return;
+        }
+        pendingChanges().nicknames.put(authorId, nickname);
+    }
+
+    private PendingChanges pendingChanges() {
+        PendingChanges pending = (PendingChanges) TransactionSynchronizationManager.getResource(this);
+        if (pending == null) {
+            pending = new PendingChanges();
+            TransactionSynchronizationManager.bindResource(this, pending);
+            TransactionSynchronizationManager.registerSynchronization(pending);
+        }
+        return pending;
+    }
+
+    private class PendingChanges implements TransactionSynchronization {
+
+        private final Map<Long, Optional<PostSearchDocument>> posts = new LinkedHashMap<>();
+        private final Map<Long, String> nicknames = new LinkedHashMap<>();
+
+        // 닉네임 변경은 마지막에 반영해, 변경 전 닉네임으로 색인된 게시글도 최종 닉네임으로 맞춤
+        @Override
+        public void afterCommit() {
+            posts.forEach((postId, document) -> document.ifPresentOrElse(
+                    postSearchIndex::put,
+                    () -> postSearchIndex.remove(postId)));
+            nicknames.forEach(postSearchIndex::renameAuthor);
+        }
+
+        @Override
+        public void afterCompletion(int status) {
+            TransactionSynchronizationManager.unbindResourceIfPossible(PostSearchSynchronizer.this);
+        }
+    }
+}
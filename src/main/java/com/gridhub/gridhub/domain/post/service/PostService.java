@@ -6,7 +6,6 @@ import com.gridhub.gridhub.domain.post.dto.PostSimpleResponse;
 import com.gridhub.gridhub.domain.post.dto.PostUpdateRequest;
 import com.gridhub.gridhub.domain.post.entity.Post;
 import com.gridhub.gridhub.domain.post.entity.PostCategory;
-import com.gridhub.gridhub.domain.post.entity.PostLike;
 import com.gridhub.gridhub.domain.post.exception.*;
 import com.gridhub.gridhub.domain.post.repository.PostLikeRepository;
 import com.gridhub.gridhub.domain.post.repository.PostRepository;
@@ -14,15 +13,31 @@ import com.gridhub.gridhub.domain.user.entity.User;
 import com.gridhub.gridhub.domain.user.entity.UserRole;
 import com.gridhub.gridhub.domain.user.exception.UserNotFoundException;
 import com.gridhub.gridhub.domain.user.repository.UserRepository;
+import com.gridhub.gridhub.global.dto.CursorSliceResponse;
+import com.gridhub.gridhub.global.exception.InvalidCursorException;
+import com.gridhub.gridhub.global.util.CursorCodec;
 import com.gridhub.gridhub.infra.s3.S3UploaderService;
+import com.gridhub.gridhub.infra.s3.UploadedImage;
 import lombok.RequiredArgsConstructor;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 import org.springframework.web.multipart.MultipartFile;
 
 import java.io.IOException;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 @Service
 @RequiredArgsConstructor
@@ -32,22 +47,26 @@ public class PostService {
     private final UserRepository userRepository; // 작성자 정보 호출용
     private final PostLikeRepository postLikeRepository; // 게시글 추천
     private final S3UploaderService s3UploaderService;
+    private final PostViewCountBuffer postViewCountBuffer; // 조회수 지연 반영
+    private final PostViewDeduplicator postViewDeduplicator; // 같은 조회자의 반복 조회 판별
+    private final PostSearchIndex postSearchIndex; // 제목/내용/닉네임 검색
+    private final TransactionTemplate transactionTemplate; // 이미지 업로드를 트랜잭션 밖으로 분리하기 위해 사용
 
     /*
     * 게시글 생성
+    * 이미지는 트랜잭션 밖에서 먼저 업로드하고, 트랜잭션이 롤백되면 업로드한 이미지를 삭제
     * */
-    @Transactional
     public Long createPost(PostRequestDto requestDto, MultipartFile image, String userEmail) throws IOException {
-        User author = userRepository.findByEmail(userEmail).orElseThrow(UserNotFoundException::new);
+        UploadedImage uploadedImage = uploadImage(image);
 
-        String imageUrl = null;
-        if (image != null && !image.isEmpty()) {
-            imageUrl = s3UploaderService.upload(image);
-        }
+        return transactionTemplate.execute(status -> {
+            s3UploaderService.deleteOnRollback(uploadedImage);
+            User author = userRepository.findByEmail(userEmail).orElseThrow(UserNotFoundException::new);
 
-        Post newPost = requestDto.toEntity(author, imageUrl);
-        Post savedPost = postRepository.save(newPost);
-        return savedPost.getId();
+            Post newPost = requestDto.toEntity(author, uploadedImage);
+            Post savedPost = postRepository.save(newPost);
+            return savedPost.getId();
+        });
     }
 
     /*
@@ -55,15 +74,19 @@ public class PostService {
     * */
 
     // 게시글 단건 조회
-    @Transactional
-    public PostResponse getPostAndUpdateViewCount(Long postId) {
+    @Transactional(readOnly = true)
+    public PostResponse getPostAndUpdateViewCount(Long postId, String viewerKey) {
         Post post = postRepository.findById(postId)
                 .orElseThrow(PostNotFoundException::new);
 
-        // 조회수 증가
-        post.increaseViewCount();
+        // 존재하는 게시글만 조회 기록을 남겨, 없는 게시글 요청이 중복 판별기를 채우지 않도록 함.
+        // 최근에 이미 조회한 게시글이면 조회수를 올리지 않음
+        if (postViewDeduplicator.isFirstView(viewerKey, postId)) {
+            // 조회수 증가는 버퍼에만 기록하고 DB 반영은 PostViewCountBuffer가 주기적으로 일괄 처리
+            postViewCountBuffer.increment(postId);
+        }
 
-        return PostResponse.from(post);
+        return PostResponse.from(post, postViewCountBuffer.pending(postId));
     }
 
     // 조회수 증가 로직이 없는 순수 조회 메서드 (필요시 사용)
@@ -71,7 +94,7 @@ public class PostService {
     public PostResponse getPost(Long postId) {
         Post post = postRepository.findById(postId)
                 .orElseThrow(PostNotFoundException::new);
-        return PostResponse.from(post);
+        return PostResponse.from(post, postViewCountBuffer.pending(postId));
     }
 
     // 게시글 목록 조회
@@ -91,52 +114,103 @@ public class PostService {
             }
         }
 
-        // 검색어가 있으면, searchType에 따라 분기
-        Page<Post> posts;
-        if (category != null) {
-            // 카테고리 필터링이 있는 경우
-            posts = switch (searchType) {
-                case "title" -> postRepository.findByCategoryAndTitleContaining(category, keyword, pageable);
-                case "content" -> postRepository.findByCategoryAndContentContaining(category, keyword, pageable);
-                case "nickname" -> postRepository.findByCategoryAndAuthor_NicknameContaining(category, keyword, pageable);
-                default -> postRepository.findByCategory(category, pageable); // 유효하지 않은 searchType이면 카테고리 필터링만 적용
-            };
+        // 검색어가 있으면, searchType에 따라 검색 색인에서 관련도 순으로 조회
+        PostSearchIndex.Field field = switch (searchType == null ? "" : searchType) {
+            case "title" -> PostSearchIndex.Field.TITLE;
+            case "content" -> PostSearchIndex.Field.CONTENT;
+            case "nickname" -> PostSearchIndex.Field.NICKNAME;
+            default -> null;
+        };
+        if (field == null) {
+            // 유효하지 않은 searchType이면 카테고리 필터링만 적용 (또는 전체 조회)
+            return (category != null)
+                    ? postRepository.findByCategory(category, pageable).map(PostSimpleResponse::from)
+                    : postRepository.findAll(pageable).map(PostSimpleResponse::from);
+        }
+
+        List<Long> rankedPostIds = postSearchIndex.search(field, keyword, category);
+        return toPage(rankedPostIds, pageable);
+    }
+
+    // 관련도 순 게시글 ID 중 요청한 페이지에 해당하는 게시글만 조회하여 순서대로 변환
+    private Page<PostSimpleResponse> toPage(List<Long> rankedPostIds, Pageable pageable) {
+        int from = (int) Math.min(pageable.getOffset(), rankedPostIds.size());
+        int to = Math.min(from + pageable.getPageSize(), rankedPostIds.size());
+        List<Long> pagePostIds = rankedPostIds.subList(from, to);
+        if (pagePostIds.isEmpty()) {
+            return new PageImpl<>(List.of(), pageable, rankedPostIds.size());
+        }
+
+        Map<Long, Post> postsById = postRepository.findAllWithAuthorByIdIn(pagePostIds).stream()
+                .collect(Collectors.toMap(Post::getId, Function.identity()));
+        List<PostSimpleResponse> content = pagePostIds.stream()
+                .map(postsById::get)
+                .filter(Objects::nonNull)
+                .map(PostSimpleResponse::from)
+                .toList();
+        return new PageImpl<>(content, pageable, rankedPostIds.size());
+    }
+
+    // 게시글 피드 조회 (커서 기반, 무한 스크롤용)
+    @Transactional(readOnly = true)
+    public CursorSliceResponse<PostSimpleResponse> getPostFeed(PostCategory category, String cursor, int size) {
+        Pageable pageable = PageRequest.ofSize(size);
+
+        Slice<Post> posts;
+        if (cursor == null || cursor.isBlank()) {
+            posts = (category != null)
+                    ? postRepository.findFeedByCategory(category, pageable)
+                    : postRepository.findFeed(pageable);
         } else {
-            // 카테고리 필터링이 없는 경우
-            posts = switch (searchType) {
-                case "title" -> postRepository.findByTitleContaining(keyword, pageable);
-                case "content" -> postRepository.findByContentContaining(keyword, pageable);
-                case "nickname" -> postRepository.findByAuthor_NicknameContaining(keyword, pageable);
-                default -> postRepository.findAll(pageable); // 유효하지 않은 searchType이면 전체 조회
-            };
+            // 커서: 이전 페이지 마지막 게시글의 (createdAt, id)
+            String[] keys = CursorCodec.decode(cursor, 2);
+            LocalDateTime createdAt;
+            Long id;
+            try {
+                createdAt = LocalDateTime.parse(keys[0]);
+                id = Long.parseLong(keys[1]);
+            } catch (DateTimeParseException | NumberFormatException e) {
+                throw new InvalidCursorException();
+            }
+            posts = (category != null)
+                    ? postRepository.findFeedByCategoryAfter(category, createdAt, id, pageable)
+                    : postRepository.findFeedAfter(createdAt, id, pageable);
         }
 
-        return posts.map(PostSimpleResponse::from);
+        return CursorSliceResponse.of(posts, PostSimpleResponse::from,
+                post -> CursorCodec.encode(post.getCreatedAt(), post.getId()));
     }
 
     /*
     * 게시글 수정
+    * 새 이미지는 트랜잭션 밖에서 먼저 업로드 (createPost와 동일)
+    * 업로드/리사이즈 전에 작성자 여부를 읽기 전용으로 먼저 확인해, 권한 없는 요청은 업로드하지 않음
     * */
-    @Transactional
     public void updatePost(Long postId, PostUpdateRequest request, MultipartFile newImage, String userEmail) throws IOException {
-        User currentUser = userRepository.findByEmail(userEmail).orElseThrow(UserNotFoundException::new);
-        Post post = postRepository.findById(postId).orElseThrow(PostNotFoundException::new);
-
-        if (!post.getAuthor().getId().equals(currentUser.getId())) {
-            throw new PostUpdateForbiddenException();
+        if (newImage != null && !newImage.isEmpty()) {
+            validatePostAuthor(postId, userEmail);
         }
+        UploadedImage uploadedImage = uploadImage(newImage);
 
-        String newImageUrl = post.getImageUrl(); // 기본적으로 기존 이미지 유지
-        if (newImage != null && !newImage.isEmpty()) {
-            // 새 이미지가 있으면 기존 이미지 S3에서 삭제
-            if (post.getImageUrl() != null) {
-                s3UploaderService.delete(post.getImageUrl());
+        transactionTemplate.executeWithoutResult(status -> {
+            s3UploaderService.deleteOnRollback(uploadedImage);
+            User currentUser = userRepository.findByEmail(userEmail).orElseThrow(UserNotFoundException::new);
+            Post post = postRepository.findById(postId).orElseThrow(PostNotFoundException::new);
+
+            if (!post.getAuthor().getId().equals(currentUser.getId())) {
+                throw new PostUpdateForbiddenException();
+            }
+
+            if (uploadedImage != null) { // 새 이미지가 없으면 기존 이미지 유지
+                // 새 이미지가 있으면 기존 이미지(원본과 축소본)는 커밋 후 S3에서 삭제
+                if (post.getImageUrl() != null) {
+                    s3UploaderService.deleteLater(post.getImageUrls());
+                }
+                post.updateImage(uploadedImage.originalUrl(), uploadedImage.mediumUrl(), uploadedImage.thumbnailUrl());
             }
-            // 새 이미지 S3에 업로드
-            newImageUrl = s3UploaderService.upload(newImage);
-        }
 
-        post.update(request.title(), request.content(), newImageUrl);
+            post.update(request.title(), request.content());
+        });
     }
 
     /*
@@ -149,9 +223,9 @@ public class PostService {
 
         validatePostAuthorOrAdmin(post, currentUser);
 
-        // S3에 이미지가 있다면 삭제
+        // S3에 이미지가 있다면 원본과 축소본 모두 삭제 예약
         if (post.getImageUrl() != null) {
-            s3UploaderService.delete(post.getImageUrl());
+            s3UploaderService.deleteLater(post.getImageUrls());
         }
 
         postRepository.delete(post);
@@ -165,17 +239,20 @@ public class PostService {
         User user =
                 userRepository.findByEmail(userEmail)
                         .orElseThrow(UserNotFoundException::new);
-        Post post = postRepository.findById(postId)
-                .orElseThrow(PostNotFoundException::new);
+        if (!postRepository.existsById(postId)) {
+            throw new PostNotFoundException();
+        }
 
-        // 이미 추천했는지 확인
-        if (postLikeRepository.findByUserAndPost(user, post).isPresent()) {
+        // 중복 추천 여부는 별도 조회 없이 insert 결과와 유니크 제약으로 판단
+        try {
+            if (postLikeRepository.insertIfAbsent(postId, user.getId()) == 0) {
+                throw new AlreadyLikedPostException();
+            }
+        } catch (DataIntegrityViolationException e) {
+            // 같은 사용자의 동시 요청이 먼저 커밋된 경우
             throw new AlreadyLikedPostException();
         }
-
-        PostLike postLike = PostLike.builder().user(user).post(post).build();
-        postLikeRepository.save(postLike);
-        post.increaseLikeCount();
+        postRepository.increaseLikeCount(postId);
     }
 
     /*
@@ -186,14 +263,14 @@ public class PostService {
         User user =
                 userRepository.findByEmail(userEmail)
                         .orElseThrow(UserNotFoundException::new);
-        Post post = postRepository.findById(postId)
-                .orElseThrow(PostNotFoundException::new);
-
-        PostLike postLike = postLikeRepository.findByUserAndPost(user, post)
-                .orElseThrow(LikeNotFoundException::new);
+        if (!postRepository.existsById(postId)) {
+            throw new PostNotFoundException();
+        }
 
-        postLikeRepository.delete(postLike);
-        post.decreaseLikeCount();
+        if (postLikeRepository.deleteByPostIdAndUserId(postId, user.getId()) == 0) {
+            throw new LikeNotFoundException();
+        }
+        postRepository.decreaseLikeCount(postId);
     }
 
     /**
@@ -208,4 +285,21 @@ public class PostService {
             throw new PostDeleteForbiddenException();
         }
     }
+
+    // 이미지가 있으면 원본과 축소본을 업로드 후 URL 반환, 없으면 null
+    // 게시글 엔티티를 읽지 않고 작성자 ID만 비교 (트랜잭션 안에서 다시 확인함)
+    private void validatePostAuthor(Long postId, String userEmail) {
+        Long authorId = postRepository.findAuthorIdById(postId).orElseThrow(PostNotFoundException::new);
+        User currentUser = userRepository.findByEmail(userEmail).orElseThrow(UserNotFoundException::new);
+        if (!authorId.equals(currentUser.getId())) {
+            throw new PostUpdateForbiddenException();
+        }
+    }
+
+    private UploadedImage uploadImage(MultipartFile image) throws IOException {
+        if (image == null || image.isEmpty()) {
+            return null;
+        }
+        return s3UploaderService.uploadImage(image);
+    }
 }
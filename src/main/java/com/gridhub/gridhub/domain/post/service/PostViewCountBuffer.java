@@ -0,0 +1,102 @@
+package com.gridhub.gridhub.domain.post.service;
+
+import com.gridhub.gridhub.domain.post.repository.PostViewCountRepository;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataAccessException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 게시글 조회수 증가분을 메모리에 모아 두었다가 주기적으로 DB에 일괄 반영 (write-behind).
+ * 조회 요청은 게시글 행을 수정하지 않으므로 인기 게시글에 대한 행 잠금 경합이 생기지 않음.
+ * 반영 전 애플리케이션이 비정상 종료되면 마지막 주기의 증가분은 유실될 수 있음.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class PostViewCountBuffer {
+
+    private static final long FLUSH_INTERVAL_MILLIS = 5_000;
+    // 이 횟수만큼 연속으로 조회가 없던 게시글은 맵에서 정리 (인기 게시글은 계속 같은 항목을 재사용)
+    private static final int IDLE_FLUSHES_BEFORE_EVICTION = 3;
+
+    private final PostViewCountRepository postViewCountRepository;
+    private final Map<Long, PendingViews> pendingViews = new ConcurrentHashMap<>();
+
+    private static class PendingViews {
+        private final LongAdder count = new LongAdder();
+        // 맵에서 제거된 뒤 true. 이후 더해진 증가분은 증가시킨 쪽이 새 항목으로 옮김
+        private volatile boolean retired;
+        private int idleFlushes; // flush에서만 사용
+    }
+
+    public void increment(Long postId) {
+        add(postId, 1);
+    }
+
+    // 아직 DB에 반영되지 않은 조회수
+    public long pending(Long postId) {
+        PendingViews views = pendingViews.get(postId);
+        return views == null ? 0 : views.count.sum();
+    }
+
+    // 조회수를 모으고 있는 게시글 수
+    int trackedPostCount() {
+        return pendingViews.size();
+    }
+
+    @Scheduled(fixedDelay = FLUSH_INTERVAL_MILLIS)
+    @PreDestroy
+    public synchronized void flush() {
+        Map<Long, Long> deltas = new HashMap<>();
+        pendingViews.forEach((postId, views) -> {
+            long delta = views.count.sumThenReset();
+            if (delta > 0) {
+                views.idleFlushes = 0;
+                deltas.merge(postId, delta, Long::sum);
+            } else if (++views.idleFlushes >= IDLE_FLUSHES_BEFORE_EVICTION && pendingViews.remove(postId, views)) {
+                // 제거 → retired 표시 → 남은 값 회수 순서라, 회수 이후에 더해진 증가분은 증가시킨 쪽이 retired를 보고 옮김
+                views.retired = true;
+                long residual = views.count.sumThenReset();
+                if (residual > 0) {
+                    deltas.merge(postId, residual, Long::sum);
+                }
+            }
+        });
+        if (deltas.isEmpty()) {
+            return;
+        }
+
+        try {
+            postViewCountRepository.addViewCounts(deltas);
+        } catch (DataAccessException e) {
+            // 배치 전체가 롤백되므로 증가분을 버퍼에 되돌려 다음 주기에 재시도
+            log.warn("게시글 조회수 반영 실패, 다음 주기에 재시도합니다. ({}개 게시글)", deltas.size(), e);
+            deltas.forEach(this::add);
+        }
+    }
+
+    // 이미 있는 게시글은 잠금 없이 LongAdder에만 더하고, 처음 조회된 게시글만 computeIfAbsent로 항목 생성
+    private void add(Long postId, long delta) {
+        PendingViews views = pendingViews.get(postId);
+        if (views == null) {
+            views = pendingViews.computeIfAbsent(postId, id -> new PendingViews());
+        }
+        views.count.add(delta);
+        if (views.retired) {
+            // flush가 정리한 항목에 더한 경우, 아직 회수되지 않은 만큼을 새 항목으로 옮김
+            // (sumThenReset은 셀마다 원자적으로 비우므로 flush와 나눠 가져가도 중복/유실 없음)
+            long orphaned = views.count.sumThenReset();
+            if (orphaned > 0) {
+                add(postId, orphaned);
+            }
+        }
+    }
+}
@@ -0,0 +1,35 @@
+package com.gridhub.gridhub.domain.post.service;
+
+import com.gridhub.gridhub.global.util.RotatingBloomFilter;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * 같은 조회자가 같은 게시글을 반복 조회할 때 조회수를 한 번만 올리기 위한 서버 측 중복 판별기.
+ * 12시간마다 세대를 교체하므로 한 번 센 조회는 12~24시간 동안 다시 세지 않으며, 메모리 사용량은 고정.
+ * 오탐(약 1%) 시에는 처음 본 게시글이라도 조회수가 오르지 않을 수 있음.
+ */
+@Component
+public class PostViewDeduplicator {
+
+    // 한 세대 동안 기록될 것으로 예상되는 (조회자, 게시글) 쌍 수
+    private static final int EXPECTED_VIEWS_PER_WINDOW = 1_000_000;
+    private static final double FALSE_POSITIVE_RATE = 0.01;
+    private static final long WINDOW_MILLIS = 12 * 60 * 60 * 1000L;
+
+    private final RotatingBloomFilter viewedPosts =
+            new RotatingBloomFilter(EXPECTED_VIEWS_PER_WINDOW, FALSE_POSITIVE_RATE);
+
+    /**
+     * @param viewerKey 로그인 사용자 또는 익명 조회자를 구분하는 키
+     * @return 이번 창에서 처음 조회한 게시글이면 true (동시에 조회 기록도 남김)
+     */
+    public boolean isFirstView(String viewerKey, Long postId) {
+        return viewedPosts.add(viewerKey + ":" + postId);
+    }
+
+    @Scheduled(fixedRate = WINDOW_MILLIS, initialDelay = WINDOW_MILLIS)
+    public void rotate() {
+        viewedPosts.rotate();
+    }
+}
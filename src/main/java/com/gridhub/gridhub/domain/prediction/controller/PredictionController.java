@@ -4,6 +4,7 @@ import com.gridhub.gridhub.domain.prediction.dto.LeaderboardResponse;
 import com.gridhub.gridhub.domain.prediction.dto.PredictionRequest;
 import com.gridhub.gridhub.domain.prediction.dto.PredictionResponse;
 import com.gridhub.gridhub.domain.prediction.service.PredictionService;
+import com.gridhub.gridhub.global.dto.CursorSliceResponse;
 import com.gridhub.gridhub.global.security.UserDetailsImpl;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
@@ -15,11 +16,16 @@ import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.*;
 
+import java.util.List;
+
 @RestController
 @RequiredArgsConstructor
 @RequestMapping("/api/predictions")
 public class PredictionController {
 
+    private static final int MAX_AROUND_RADIUS = 50;
+    private static final int MAX_SCROLL_SIZE = 100;
+
     private final PredictionService predictionService;
 
     @PostMapping("/races/{raceId}")
@@ -53,4 +59,33 @@ public class PredictionController {
         Page<LeaderboardResponse> leaderboard = predictionService.getLeaderboard(pageable);
         return ResponseEntity.ok(leaderboard);
     }
+
+    @GetMapping("/leaderboard/scroll")
+    public ResponseEntity<CursorSliceResponse<LeaderboardResponse>> getLeaderboardScroll(
+            @RequestParam(value = "cursor", required = false) String cursor,
+            @RequestParam(value = "size", defaultValue = "20") int size
+    ) {
+        int boundedSize = Math.max(1, Math.min(size, MAX_SCROLL_SIZE));
+        CursorSliceResponse<LeaderboardResponse> leaderboard = predictionService.getLeaderboardScroll(cursor, boundedSize);
+        return ResponseEntity.ok(leaderboard);
+    }
+
+    @GetMapping("/leaderboard/me")
+    public ResponseEntity<LeaderboardResponse> getMyRank(
+            @AuthenticationPrincipal UserDetailsImpl userDetails
+    ) {
+        LeaderboardResponse myRank = predictionService.getMyRank(userDetails.getUsername());
+        return ResponseEntity.ok(myRank);
+    }
+
+    @GetMapping("/leaderboard/me/around")
+    public ResponseEntity<List<LeaderboardResponse>> getLeaderboardAroundMe(
+            @RequestParam(value = "radius", defaultValue = "5") int radius,
+            @AuthenticationPrincipal UserDetailsImpl userDetails
+    ) {
+        // 과도한 범위 요청 방지
+        int boundedRadius = Math.max(0, Math.min(radius, MAX_AROUND_RADIUS));
+        List<LeaderboardResponse> around = predictionService.getLeaderboardAroundMe(userDetails.getUsername(), boundedRadius);
+        return ResponseEntity.ok(around);
+    }
 }
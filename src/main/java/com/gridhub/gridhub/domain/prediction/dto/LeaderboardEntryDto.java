@@ -0,0 +1,22 @@
+package com.gridhub.gridhub.domain.prediction.dto;
+
+import com.gridhub.gridhub.domain.user.entity.User;
+
+/**
+ * 인메모리 리더보드 인덱스(LeaderboardIndex)에 저장되는 사용자별 항목
+ */
+public record LeaderboardEntryDto(
+        Long userId,
+        String nickname,
+        String profileImageUrl,
+        int points
+) {
+    public static LeaderboardEntryDto from(User user) {
+        return new LeaderboardEntryDto(
+                user.getId(),
+                user.getNickname(),
+                user.getProfileImageUrl(),
+                user.getPoints()
+        );
+    }
+}
@@ -0,0 +1,10 @@
+package com.gridhub.gridhub.domain.prediction.dto;
+
+/**
+ * 순위 스냅샷에 기록된 사용자별 이전 순위 (LeaderboardIndex의 순위 변동 계산용)
+ */
+public record LeaderboardPreviousRankDto(
+        Long userId,
+        Long previousRank
+) {
+}
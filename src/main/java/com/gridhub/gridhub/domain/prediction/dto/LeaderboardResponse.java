@@ -1,19 +1,26 @@
 package com.gridhub.gridhub.domain.prediction.dto;
 
-import com.gridhub.gridhub.domain.user.entity.User;
-
+/**
+ * @param rank 현재 포인트 기준 순위, 동점자는 같은 순위 (dense rank)
+ * @param previousRank 마지막 채점 직전의 순위, 순위 스냅샷에 이전 순위가 없으면 null
+ * @param rankChange previousRank - rank (양수면 상승), previousRank가 없으면 null
+ */
 public record LeaderboardResponse(
         Long rank,
         String nickname,
         String profileImageUrl,
-        int points
+        int points,
+        Long previousRank,
+        Long rankChange
 ) {
-    public static LeaderboardResponse of(User user, Long rank) {
+    public static LeaderboardResponse of(LeaderboardEntryDto entry, Long rank, Long previousRank) {
         return new LeaderboardResponse(
                 rank,
-                user.getNickname(),
-                user.getProfileImageUrl(),
-                user.getPoints()
+                entry.nickname(),
+                entry.profileImageUrl(),
+                entry.points(),
+                previousRank,
+                previousRank == null ? null : previousRank - rank
         );
     }
-}
\ No newline at end of file
+}
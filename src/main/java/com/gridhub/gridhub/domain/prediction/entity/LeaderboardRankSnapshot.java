@@ -0,0 +1,37 @@
+package com.gridhub.gridhub.domain.prediction.entity;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.ZonedDateTime;
+
+/**
+ * 채점이 끝날 때마다 갱신되는 사용자별 순위 스냅샷.
+ * 행은 LeaderboardRankSnapshotRepository.refreshRanks()의 MERGE 문으로만 생성/갱신.
+ * 리더보드 조회는 LeaderboardIndex가 담당하고, 스냅샷은 순위 변동 계산에 쓰이는 이전 순위만 제공.
+ */
+@Entity
+@Table(name = "leaderboard_rank_snapshot")
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class LeaderboardRankSnapshot {
+
+    @Id
+    @Column(name = "user_id")
+    private Long userId;
+
+    @Column(nullable = false)
+    private int points;
+
+    @Column(nullable = false)
+    private long ranking; // 동점자는 같은 순위 (dense rank)
+
+    private Long previousRanking; // 직전 스냅샷의 순위, 처음 집계된 사용자는 null
+
+    private Long rankChange; // previousRanking - ranking (양수면 상승)
+
+    @Column(nullable = false)
+    private ZonedDateTime snapshotAt;
+}
@@ -0,0 +1,43 @@
+package com.gridhub.gridhub.domain.prediction.repository;
+
+import com.gridhub.gridhub.domain.prediction.dto.LeaderboardPreviousRankDto;
+import com.gridhub.gridhub.domain.prediction.entity.LeaderboardRankSnapshot;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+
+import java.util.List;
+
+public interface LeaderboardRankSnapshotRepository extends JpaRepository<LeaderboardRankSnapshot, Long> {
+
+    /**
+     * 전체 사용자의 dense rank를 윈도우 함수 한 번으로 계산해 스냅샷에 반영.
+     * 기존 행은 현재 순위를 previous_ranking으로 옮기고 변동폭을 기록, 새 사용자는 추가.
+     * (SET 절의 s.ranking은 갱신 전 값으로 평가됨)
+     */
+    @Modifying(flushAutomatically = true)
+    @Query(value = "MERGE INTO leaderboard_rank_snapshot s " +
+            "USING (SELECT u.user_id, u.points, DENSE_RANK() OVER (ORDER BY u.points DESC) AS new_ranking FROM users u) r " +
+            "ON (s.user_id = r.user_id) " +
+            "WHEN MATCHED THEN UPDATE SET " +
+            "previous_ranking = s.ranking, " +
+            "rank_change = s.ranking - r.new_ranking, " +
+            "ranking = r.new_ranking, " +
+            "points = r.points, " +
+            "snapshot_at = CURRENT_TIMESTAMP " +
+            "WHEN NOT MATCHED THEN INSERT (user_id, points, ranking, previous_ranking, rank_change, snapshot_at) " +
+            "VALUES (r.user_id, r.points, r.new_ranking, NULL, NULL, CURRENT_TIMESTAMP)",
+            nativeQuery = true)
+    int refreshRanks();
+
+    // 탈퇴 등으로 사라진 사용자의 스냅샷 정리
+    @Modifying
+    @Query(value = "DELETE FROM leaderboard_rank_snapshot WHERE user_id NOT IN (SELECT u.user_id FROM users u)",
+            nativeQuery = true)
+    int deleteWithoutUser();
+
+    // 리더보드 인덱스의 순위 변동 계산용 (처음 집계된 사용자는 이전 순위가 없어 제외)
+    @Query("SELECT new com.gridhub.gridhub.domain.prediction.dto.LeaderboardPreviousRankDto(s.userId, s.previousRanking) " +
+            "FROM LeaderboardRankSnapshot s WHERE s.previousRanking IS NOT NULL")
+    List<LeaderboardPreviousRankDto> findPreviousRanks();
+}
@@ -4,6 +4,7 @@ import com.gridhub.gridhub.domain.prediction.entity.Prediction;
 import com.gridhub.gridhub.domain.f1data.entity.Race;
 import com.gridhub.gridhub.domain.user.entity.User;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
@@ -14,9 +15,26 @@ public interface PredictionRepository extends JpaRepository<Prediction, Long> {
     // 특정 사용자가 특정 레이스에 대해 예측했는지 확인할 때 사용
     Optional<Prediction> findByUserAndRace(User user, Race race);
 
-    // 특정 레이스에 대한 모든 예측 목록을 조회 (사용자 정보와 함께)
-    @Query("SELECT p FROM Prediction p JOIN FETCH p.user WHERE p.race = :race")
-    List<Prediction> findAllByRaceWithUser(@Param("race") Race race);
+    /**
+     * 레이스의 모든 예측을 한 번의 UPDATE로 채점 (엔티티 로딩 없이 earnedPoints, isCorrect 계산).
+     * @param p1 실제 1위 드라이버 번호
+     * @param p2 실제 2위 드라이버 번호
+     * @param p3 실제 3위 드라이버 번호
+     * @return 채점된 예측 수
+     */
+    @Modifying(flushAutomatically = true)
+    @Query("UPDATE Prediction p SET " +
+            "p.earnedPoints = " +
+            "(CASE WHEN p.predictedP1.id = :p1 THEN :p1Points ELSE 0 END) + " +
+            "(CASE WHEN p.predictedP2.id = :p2 THEN :p2Points ELSE 0 END) + " +
+            "(CASE WHEN p.predictedP3.id = :p3 THEN :p3Points ELSE 0 END) + " +
+            "(CASE WHEN p.predictedP1.id = :p1 AND p.predictedP2.id = :p2 AND p.predictedP3.id = :p3 THEN :bonusPoints ELSE 0 END), " +
+            "p.isCorrect = (CASE WHEN p.predictedP1.id = :p1 AND p.predictedP2.id = :p2 AND p.predictedP3.id = :p3 THEN true ELSE false END) " +
+            "WHERE p.race.id = :raceId")
+    int scoreAllByRaceId(@Param("raceId") Long raceId,
+                         @Param("p1") Integer p1, @Param("p2") Integer p2, @Param("p3") Integer p3,
+                         @Param("p1Points") int p1Points, @Param("p2Points") int p2Points,
+                         @Param("p3Points") int p3Points, @Param("bonusPoints") int bonusPoints);
 
     /**
      * 특정 사용자가 참여한 전체 예측 횟수를 조회.
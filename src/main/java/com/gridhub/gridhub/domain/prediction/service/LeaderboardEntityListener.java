@@ -0,0 +1,32 @@
+package com.gridhub.gridhub.domain.prediction.service;
+
+import com.gridhub.gridhub.domain.prediction.dto.LeaderboardEntryDto;
+import com.gridhub.gridhub.domain.user.entity.User;
+import jakarta.persistence.PostPersist;
+import jakarta.persistence.PostRemove;
+import jakarta.persistence.PostUpdate;
+import org.springframework.beans.factory.ObjectProvider;
+
+/**
+ * User 엔티티가 저장/변경/삭제될 때(flush 시점) 리더보드 인덱스를 갱신하는 JPA 엔티티 리스너.
+ * Hibernate가 스프링 빈으로 생성하며, 리더보드 빈이 없는 슬라이스 테스트에서는 아무 일도 하지 않음.
+ */
+public class LeaderboardEntityListener {
+
+    private final ObjectProvider<LeaderboardSynchronizer> leaderboardSynchronizer;
+
+    public LeaderboardEntityListener(ObjectProvider<LeaderboardSynchronizer> leaderboardSynchronizer) {
+        this.leaderboardSynchronizer = leaderboardSynchronizer;
+    }
+
+    @PostPersist
+    @PostUpdate
+    void onSaved(User user) {
+        leaderboardSynchronizer.ifAvailable(synchronizer -> synchronizer.apply(LeaderboardEntryDto.from(user)));
+    }
+
+    @PostRemove
+    void onRemoved(User user) {
+        leaderboardSynchronizer.ifAvailable(synchronizer -> synchronizer.remove(user.getId()));
+    }
+}
@@ -0,0 +1,236 @@
+package com.gridhub.gridhub.domain.prediction.service;
+
+import com.gridhub.gridhub.domain.prediction.dto.LeaderboardEntryDto;
+import com.gridhub.gridhub.domain.prediction.dto.LeaderboardResponse;
+import com.gridhub.gridhub.global.dto.CursorSliceResponse;
+import com.gridhub.gridhub.global.exception.InvalidCursorException;
+import com.gridhub.gridhub.global.util.CursorCodec;
+import com.gridhub.gridhub.global.util.OrderStatisticTree;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
+import org.springframework.stereotype.Component;
+
+import java.util.*;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * 포인트 순으로 정렬된 전체 사용자 리더보드를 메모리에 유지하는 인덱스.
+ * 순위 조회, 커서 페이지, 내 주변 순위를 DB 조회(OFFSET, COUNT) 없이 O(log n)으로 처리.
+ * 순서: 포인트 내림차순, 같은 포인트는 사용자 ID 오름차순 (먼저 가입한 사용자가 앞에 표시)
+ * 순위: 같은 포인트면 같은 순위이며 다음 순위는 건너뛰지 않음 (dense rank, e.g. 1, 2, 2, 3)
+ * 순위 변동은 순위 스냅샷의 이전 순위(마지막 채점 직전 순위)와 현재 순위의 차이로 계산.
+ */
+@Component
+public class LeaderboardIndex {
+
+    private static final Comparator<LeaderboardEntryDto> RANKING_ORDER =
+            Comparator.comparingInt(LeaderboardEntryDto::points).reversed()
+                    .thenComparing(LeaderboardEntryDto::userId);
+
+    private final OrderStatisticTree<LeaderboardEntryDto> tree = new OrderStatisticTree<>(RANKING_ORDER);
+    private final Map<Long, LeaderboardEntryDto> entriesByUserId = new HashMap<>();
+    // dense rank 계산용: 서로 다른 포인트 값(내림차순)과 각 포인트를 가진 사용자 수
+    private final OrderStatisticTree<Integer> distinctPoints = new OrderStatisticTree<>(Comparator.reverseOrder());
+    private final Map<Integer, Integer> holdersByPoints = new HashMap<>();
+    // 사용자 ID → 마지막 채점 직전 순위. 스냅샷이 갱신될 때마다 통째로 교체
+    private Map<Long, Long> previousRanks = Map.of();
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+
+    public void rebuild(Collection<LeaderboardEntryDto> entries) {
+        lock.writeLock().lock();
+        try {
+            tree.clear();
+            entriesByUserId.clear();
+            distinctPoints.clear();
+            holdersByPoints.clear();
+            entries.forEach(this::putInternal);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    // 새 사용자 추가 또는 기존 사용자의 포인트/프로필 갱신
+    public void put(LeaderboardEntryDto entry) {
+        lock.writeLock().lock();
+        try {
+            putInternal(entry);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void remove(Long userId) {
+        lock.writeLock().lock();
+        try {
+            LeaderboardEntryDto removed = entriesByUserId.remove(userId);
+            if (removed != null) {
+                removeInternal(removed);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void updatePreviousRanks(Map<Long, Long> previousRanks) {
+        lock.writeLock().lock();
+        try {
+            this.previousRanks = Map.copyOf(previousRanks);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public Optional<LeaderboardEntryDto> find(Long userId) {
+        lock.readLock().lock();
+        try {
+            return Optional.ofNullable(entriesByUserId.get(userId));
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return tree.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * OFFSET 페이지 조회. 전체 개수는 인덱스 크기를 그대로 사용하므로 COUNT 쿼리가 없음.
+     */
+    public Page<LeaderboardResponse> page(Pageable pageable) {
+        lock.readLock().lock();
+        try {
+            int total = tree.size();
+            if (pageable.getOffset() >= total) {
+                return new PageImpl<>(List.of(), pageable, total);
+            }
+            List<LeaderboardEntryDto> entries = tree.range((int) pageable.getOffset(), pageable.getPageSize());
+            return new PageImpl<>(ranked(entries), pageable, total);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * 커서(이전 페이지 마지막 사용자의 포인트, 사용자 ID) 바로 뒤 순위부터 조회.
+     * OFFSET 방식과 달리 페이지 사이에 순위 변동이 있어도 같은 사용자가 중복으로 내려가지 않는다.
+     *
+     * @param cursor 이전 응답의 nextCursor, 첫 페이지면 null
+     */
+    public CursorSliceResponse<LeaderboardResponse> scroll(String cursor, int size) {
+        LeaderboardEntryDto after = (cursor == null || cursor.isBlank()) ? null : decodeCursor(cursor);
+
+        lock.readLock().lock();
+        try {
+            int from = (after == null) ? 0 : tree.countBefore(after, true);
+            List<LeaderboardEntryDto> entries = tree.range(from, size + 1);
+            boolean hasNext = entries.size() > size;
+            if (hasNext) {
+                entries = entries.subList(0, size);
+            }
+            String nextCursor = entries.isEmpty() ? null : encodeCursor(entries.get(entries.size() - 1));
+            return CursorSliceResponse.of(ranked(entries), size, hasNext, nextCursor);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * @return 해당 사용자의 순위 정보 (1위부터 시작), 인덱스에 없으면 Optional.empty
+     */
+    public Optional<LeaderboardResponse> rankOf(Long userId) {
+        lock.readLock().lock();
+        try {
+            LeaderboardEntryDto entry = entriesByUserId.get(userId);
+            if (entry == null) {
+                return Optional.empty();
+            }
+            return Optional.of(response(entry, denseRankOf(entry.points())));
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * @param radius 위/아래로 함께 조회할 사용자 수
+     * @return 해당 사용자를 포함한 주변 순위 목록, 인덱스에 없으면 빈 목록
+     */
+    public List<LeaderboardResponse> around(Long userId, int radius) {
+        lock.readLock().lock();
+        try {
+            LeaderboardEntryDto entry = entriesByUserId.get(userId);
+            if (entry == null) {
+                return List.of();
+            }
+            int index = tree.indexOf(entry);
+            int from = Math.max(0, index - radius);
+            int count = index - from + radius + 1;
+            return ranked(tree.range(from, count));
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private void putInternal(LeaderboardEntryDto entry) {
+        LeaderboardEntryDto previous = entriesByUserId.put(entry.userId(), entry);
+        if (previous != null) {
+            removeInternal(previous);
+        }
+        tree.add(entry);
+        if (holdersByPoints.merge(entry.points(), 1, Integer::sum) == 1) {
+            distinctPoints.add(entry.points());
+        }
+    }
+
+    private void removeInternal(LeaderboardEntryDto entry) {
+        tree.remove(entry);
+        if (holdersByPoints.merge(entry.points(), -1, Integer::sum) == 0) {
+            holdersByPoints.remove(entry.points());
+            distinctPoints.remove(entry.points());
+        }
+    }
+
+    private long denseRankOf(int points) {
+        return (long) distinctPoints.indexOf(points) + 1;
+    }
+
+    private LeaderboardResponse response(LeaderboardEntryDto entry, long rank) {
+        return LeaderboardResponse.of(entry, rank, previousRanks.get(entry.userId()));
+    }
+
+    private static String encodeCursor(LeaderboardEntryDto entry) {
+        return CursorCodec.encode(entry.points(), entry.userId());
+    }
+
+    // 정렬 비교에는 포인트와 사용자 ID만 쓰이므로 나머지 필드는 비워둔 탐색용 항목으로 복원
+    private static LeaderboardEntryDto decodeCursor(String cursor) {
+        String[] keys = CursorCodec.decode(cursor, 2);
+        try {
+            return new LeaderboardEntryDto(Long.parseLong(keys[1]), null, null, Integer.parseInt(keys[0]));
+        } catch (NumberFormatException e) {
+            throw new InvalidCursorException();
+        }
+    }
+
+    // 정렬 순서상 연속된 항목들이므로 첫 항목의 순위만 조회하고, 포인트가 바뀔 때마다 1씩 증가
+    private List<LeaderboardResponse> ranked(List<LeaderboardEntryDto> entries) {
+        List<LeaderboardResponse> result = new ArrayList<>(entries.size());
+        long rank = 0;
+        Integer previousPoints = null;
+        for (LeaderboardEntryDto entry : entries) {
+            if (previousPoints == null) {
+                rank = denseRankOf(entry.points());
+            } else if (previousPoints != entry.points()) {
+                rank++;
+            }
+            previousPoints = entry.points();
+            result.add(response(entry, rank));
+        }
+        return result;
+    }
+}
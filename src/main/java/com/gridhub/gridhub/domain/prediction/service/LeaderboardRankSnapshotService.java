@@ -0,0 +1,39 @@
+package com.gridhub.gridhub.domain.prediction.service;
+
+import com.gridhub.gridhub.domain.prediction.repository.LeaderboardRankSnapshotRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * 리더보드 순위 스냅샷(leaderboard_rank_snapshot) 갱신.
+ * 채점이 끝날 때마다 호출되며, 갱신된 이전 순위는 커밋 후 LeaderboardIndex의 순위 변동 계산에 쓰임.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class LeaderboardRankSnapshotService {
+
+    private final LeaderboardRankSnapshotRepository leaderboardRankSnapshotRepository;
+    private final LeaderboardSynchronizer leaderboardSynchronizer;
+
+    @Transactional
+    public void refresh() {
+        int refreshed = leaderboardRankSnapshotRepository.refreshRanks();
+        int removed = leaderboardRankSnapshotRepository.deleteWithoutUser();
+        leaderboardSynchronizer.reloadPreviousRanks();
+        log.info("리더보드 순위 스냅샷 갱신 완료. (갱신 {}명, 삭제 {}명)", refreshed, removed);
+    }
+
+    // 최초 배포 등으로 스냅샷이 비어 있으면 첫 채점 전이라도 현재 포인트 기준으로 생성
+    @EventListener(ApplicationReadyEvent.class)
+    @Transactional
+    public void initializeIfEmpty() {
+        if (leaderboardRankSnapshotRepository.count() == 0) {
+            refresh();
+        }
+    }
+}
@@ -0,0 +1,110 @@
+package com.gridhub.gridhub.domain.prediction.service;
+
+import com.gridhub.gridhub.domain.prediction.dto.LeaderboardEntryDto;
+import com.gridhub.gridhub.domain.prediction.dto.LeaderboardPreviousRankDto;
+import com.gridhub.gridhub.domain.prediction.repository.LeaderboardRankSnapshotRepository;
+import com.gridhub.gridhub.domain.user.repository.UserRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.stream.Collectors;
+
+/**
+ * 사용자 포인트/프로필 변경과 순위 스냅샷의 이전 순위를 LeaderboardIndex에 반영.
+ * 트랜잭션 안의 변경은 커밋된 뒤에 반영하고, 롤백된 트랜잭션의 변경은 반영하지 않음.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class LeaderboardSynchronizer {
+
+    private final LeaderboardIndex leaderboardIndex;
+    private final UserRepository userRepository;
+    private final LeaderboardRankSnapshotRepository leaderboardRankSnapshotRepository;
+
+    // 애플리케이션 시작 시 DB의 전체 사용자와 순위 스냅샷으로 인덱스를 생성
+    @EventListener(ApplicationReadyEvent.class)
+    @Transactional(readOnly = true)
+    public void rebuild() {
+        List<LeaderboardEntryDto> entries = userRepository.findAllLeaderboardEntries();
+        leaderboardIndex.rebuild(entries);
+        leaderboardIndex.updatePreviousRanks(loadPreviousRanks());
+        log.info("리더보드 인덱스 생성 완료. ({}명)", entries.size());
+    }
+
+    // 순위 스냅샷 갱신 직후 호출. 갱신한 트랜잭션이 커밋된 뒤에 이전 순위를 교체
+    public void reloadPreviousRanks() {
+        Map<Long, Long> previousRanks = loadPreviousRanks();
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            leaderboardIndex.updatePreviousRanks(previousRanks);
+            return;
+        }
+        pendingChanges().previousRanks = previousRanks;
+    }
+
+    public void apply(LeaderboardEntryDto entry) {
+        applyAfterCommit(entry.userId(), Optional.of(entry));
+    }
+
+    public void remove(Long userId) {
+        applyAfterCommit(userId, Optional.empty());
+    }
+
+    // 트랜잭션 안이면 커밋된 뒤에만 반영해, 다른 요청이 커밋되지 않은 포인트를 보지 않도록 함 (롤백 시 되돌릴 필요 없음)
+    private void applyAfterCommit(Long userId, Optional<LeaderboardEntryDto> change) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            applyNow(userId, change);
+            return;
+        }
+        // 같은 트랜잭션에서 여러 번 바뀐 사용자는 마지막 상태만 반영
+        pendingChanges().changes.put(userId, change);
+    }
+
+    private PendingChanges pendingChanges() {
+        PendingChanges pending = (PendingChanges) TransactionSynchronizationManager.getResource(this);
+        if (pending == null) {
+            pending = new PendingChanges();
+            TransactionSynchronizationManager.bindResource(this, pending);
+            TransactionSynchronizationManager.registerSynchronization(pending);
+        }
+        return pending;
+    }
+
+    private Map<Long, Long> loadPreviousRanks() {
+        return leaderboardRankSnapshotRepository.findPreviousRanks().stream()
+                .collect(Collectors.toMap(LeaderboardPreviousRankDto::userId, LeaderboardPreviousRankDto::previousRank));
+    }
+
+    private void applyNow(Long userId, Optional<LeaderboardEntryDto> change) {
+        change.ifPresentOrElse(leaderboardIndex::put, () -> leaderboardIndex.remove(userId));
+    }
+
+    private class PendingChanges implements TransactionSynchronization {
+
+        private final Map<Long, Optional<LeaderboardEntryDto>> changes = new LinkedHashMap<>();
+        private Map<Long, Long> previousRanks; // 스냅샷이 갱신되지 않은 트랜잭션이면 null
+
+        @Override
+        public void afterCommit() {
+            changes.forEach(LeaderboardSynchronizer.this::applyNow);
+            if (previousRanks != null) {
+                leaderboardIndex.updatePreviousRanks(previousRanks);
+            }
+        }
+
+        @Override
+        public void afterCompletion(int status) {
+            TransactionSynchronizationManager.unbindResourceIfPossible(LeaderboardSynchronizer.this);
+        }
+    }
+}
@@ -0,0 +1,28 @@
+package com.gridhub.gridhub.domain.prediction.service;
+
+import com.gridhub.gridhub.domain.f1data.event.RaceResultSavedEvent;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * 레이스 결과가 저장(커밋)되는 즉시 해당 레이스의 예측을 채점.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class PredictionScoringEventListener {
+
+    private final PredictionScoringService predictionScoringService;
+
+    @TransactionalEventListener
+    public void onRaceResultSaved(RaceResultSavedEvent event) {
+        try {
+            predictionScoringService.scoreRace(event.raceId());
+        } catch (RuntimeException e) {
+            // 실패한 레이스는 scoredAt이 비어 있으므로 정기 채점에서 다시 시도됨
+            log.error("레이스 ID {}의 예측 채점에 실패했습니다.", event.raceId(), e);
+        }
+    }
+}
@@ -1,16 +1,19 @@
 package com.gridhub.gridhub.domain.prediction.service;
 
-import com.gridhub.gridhub.domain.f1data.dto.PositionResponse;
-import com.gridhub.gridhub.domain.f1data.entity.Race;
+import com.gridhub.gridhub.domain.f1data.entity.Position;
+import com.gridhub.gridhub.domain.f1data.repository.PositionRepository;
 import com.gridhub.gridhub.domain.f1data.repository.RaceRepository;
-import com.gridhub.gridhub.domain.prediction.entity.Prediction;
 import com.gridhub.gridhub.domain.prediction.repository.PredictionRepository;
-import com.gridhub.gridhub.infra.external.OpenF1Client;
+import com.gridhub.gridhub.domain.user.repository.UserRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
 import java.time.ZonedDateTime;
 import java.util.List;
@@ -23,8 +26,12 @@ import java.util.stream.Collectors;
 public class PredictionScoringService {
 
     private final RaceRepository raceRepository;
+    private final PositionRepository positionRepository;
     private final PredictionRepository predictionRepository;
-    private final OpenF1Client openF1Client;
+    private final UserRepository userRepository;
+    private final LeaderboardSynchronizer leaderboardSynchronizer;
+    private final LeaderboardRankSnapshotService leaderboardRankSnapshotService;
+    private final TransactionTemplate transactionTemplate; // 정기 채점에서 레이스마다 트랜잭션을 나누기 위해 사용
 
     // 포인트 정책
     private static final int P1_CORRECT_POINTS = 10;
@@ -32,83 +39,101 @@ public class PredictionScoringService {
     private static final int P3_CORRECT_POINTS = 3;
     private static final int PODIUM_ALL_CORRECT_BONUS = 15;
 
-    // 매 시간 10분에 실행 (e.g., 01:10, 02:10...)
+    // 정기 채점에서 다시 확인할 기간 (이벤트 처리 실패 등으로 누락된 레이스 대상)
+    private static final int RECOVERY_WINDOW_DAYS = 7;
+
+    /**
+     * 채점은 레이스 결과 저장 이벤트(PredictionScoringEventListener)로 즉시 수행되며,
+     * 이 스케줄은 이벤트 처리에 실패해 누락된 레이스만 다시 채점하는 안전장치.
+     * 레이스마다 별도 트랜잭션으로 채점하므로 한 레이스가 실패해도 나머지 레이스의 채점은 유지되며,
+     * 순위 스냅샷은 모든 레이스를 채점한 뒤 한 번만 갱신.
+     * 매 시간 10분에 실행 (e.g., 01:10, 02:10...)
+     */
     @Scheduled(cron = "0 10 * * * *")
-    @Transactional
     public void scorePredictionsForFinishedRaces() {
-        log.info("예측 채점 스케줄을 시작합니다.");
-
-        // 최근 24시간 이내에 종료된 'Race' 세션들만 조회
-        List<Race> finishedRaces = raceRepository.findAllBySessionNameAndDateEndBetween(
-                "Race", ZonedDateTime.now().minusHours(24), ZonedDateTime.now()
+        List<Long> unscoredRaceIds = raceRepository.findUnscoredRaceIdsWithResultSince(
+                ZonedDateTime.now().minusDays(RECOVERY_WINDOW_DAYS)
         );
+        if (unscoredRaceIds.isEmpty()) {
+            return;
+        }
 
-        for (Race race : finishedRaces) {
-            // 이미 채점된 레이스인지 확인 (earnedPoints > 0인 예측이 하나라도 있으면 채점된 것으로 간주)
-            boolean alreadyScored = predictionRepository.findAllByRaceWithUser(race).stream()
-                    .anyMatch(p -> p.getEarnedPoints() > 0);
-
-            if (alreadyScored) {
-                log.info("레이스 ID {}: '{}'는 이미 채점되었으므로 건너<binary data, 1 bytes>니다.", race.getId(), race.getMeetingName());
-                continue;
+        log.info("채점되지 않은 {}개의 레이스에 대한 예측 채점을 시작합니다.", unscoredRaceIds.size());
+        int scoredRaceCount = 0;
+        for (Long raceId : unscoredRaceIds) {
+            try {
+                if (Boolean.TRUE.equals(transactionTemplate.execute(status -> scoreSingleRace(raceId)))) {
+                    scoredRaceCount++;
+                }
+            } catch (RuntimeException e) {
+                // scoredAt 선점도 함께 롤백되므로 다음 스케줄에서 다시 시도됨
+                log.error("레이스 ID {}의 예측 채점에 실패했습니다.", raceId, e);
             }
+        }
 
-            log.info("레이스 ID {}: '{}'에 대한 채점을 시작합니다.", race.getId(), race.getMeetingName());
-            scoreSingleRace(race);
+        // 채점 결과가 반영된 포인트로 순위 스냅샷 갱신 (채점된 레이스가 있을 때 한 번만)
+        if (scoredRaceCount > 0) {
+            leaderboardRankSnapshotService.refresh();
         }
+    }
 
-        log.info("예측 채점 스케줄을 종료합니다.");
+    /**
+     * scoredAt 컬럼 도입 이전에 채점된 레이스에 채점 완료 표시를 채워, 정기 채점이 포인트를 다시 지급하지 않도록 함.
+     * 이미 채워져 있으면 갱신되는 행이 없음.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    @Transactional
+    public void backfillScoredAt() {
+        int marked = raceRepository.markLegacyScoredRaces(ZonedDateTime.now());
+        if (marked > 0) {
+            log.info("기존 방식으로 채점된 레이스 {}개에 채점 완료 표시를 채웠습니다.", marked);
+        }
     }
 
-    private void scoreSingleRace(Race race) {
-        // 1. Open F1 API를 통해 실제 레이스 결과 가져오기
-        List<PositionResponse> results = openF1Client.getRaceResult(race.getId());
-        if (results == null || results.size() < 3) {
-            log.warn("레이스 ID {}: 결과 데이터가 충분하지 않아 채점을 스킵합니다.", race.getId());
-            return;
+    /**
+     * 저장된 레이스 결과(Position)로 해당 레이스의 예측을 채점.
+     * 레이스 결과 저장 트랜잭션의 커밋 이후에 호출되므로 새 트랜잭션에서 실행.
+     */
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    public void scoreRace(Long raceId) {
+        if (scoreSingleRace(raceId)) {
+            // 채점 결과가 반영된 포인트로 순위 스냅샷 갱신 (같은 트랜잭션)
+            leaderboardRankSnapshotService.refresh();
         }
+    }
 
-        Map<Integer, Integer> resultMap = results.stream()
-                .collect(Collectors.toMap(PositionResponse::position, PositionResponse::driverNumber));
+    /**
+     * @return 이번 호출에서 채점했으면 true, 포디움이 불완전하거나 이미 채점된 레이스면 false
+     */
+    private boolean scoreSingleRace(Long raceId) {
+        // 1. DB에 저장된 레이스 결과에서 포디움 가져오기 (외부 API 호출 없음)
+        Map<Integer, Integer> podium = positionRepository.findPodiumByRaceId(raceId).stream()
+                .collect(Collectors.toMap(Position::getRacePosition, p -> p.getDriver().getId(), (first, second) -> first));
 
-        Integer actualP1 = resultMap.get(1);
-        Integer actualP2 = resultMap.get(2);
-        Integer actualP3 = resultMap.get(3);
+        Integer actualP1 = podium.get(1);
+        Integer actualP2 = podium.get(2);
+        Integer actualP3 = podium.get(3);
 
         if (actualP1 == null || actualP2 == null || actualP3 == null) {
-            log.warn("레이스 ID {}: 포디움(1-3위) 결과가 완전하지 않아 채점을 스킵합니다.", race.getId());
-            return;
+            log.warn("레이스 ID {}: 포디움(1-3위) 결과가 완전하지 않아 채점을 스킵합니다.", raceId);
+            return false;
         }
 
-        // 2. 해당 레이스에 대한 모든 예측 기록을 가져오기
-        List<Prediction> predictions = predictionRepository.findAllByRaceWithUser(race);
-
-        // 3. 각 예측을 채점하고 포인트 지급
-        for (Prediction prediction : predictions) {
-            int points = 0;
-
-            // 순위별 포인트 계산
-            if (prediction.getPredictedP1().getId().equals(actualP1)) points += P1_CORRECT_POINTS;
-            if (prediction.getPredictedP2().getId().equals(actualP2)) points += P2_CORRECT_POINTS;
-            if (prediction.getPredictedP3().getId().equals(actualP3)) points += P3_CORRECT_POINTS;
+        // 2. 채점 완료 표시를 먼저 선점하여 중복 채점 방지
+        if (raceRepository.markScored(raceId, ZonedDateTime.now()) == 0) {
+            log.info("레이스 ID {}는 이미 채점되었으므로 건너뜁니다.", raceId);
+            return false;
+        }
 
-            // 포디움 전체 정답 보너스
-            boolean isPodiumCorrect = prediction.getPredictedP1().getId().equals(actualP1) &&
-                    prediction.getPredictedP2().getId().equals(actualP2) &&
-                    prediction.getPredictedP3().getId().equals(actualP3);
-            if (isPodiumCorrect) {
-                points += PODIUM_ALL_CORRECT_BONUS;
-            }
+        // 3. 예측 채점과 사용자 포인트 지급을 각각 한 번의 집합 UPDATE로 처리
+        int scoredCount = predictionRepository.scoreAllByRaceId(raceId, actualP1, actualP2, actualP3,
+                P1_CORRECT_POINTS, P2_CORRECT_POINTS, P3_CORRECT_POINTS, PODIUM_ALL_CORRECT_BONUS);
+        int rewardedUserCount = userRepository.addEarnedPointsOfRace(raceId);
 
-            // 결과 업데이트
-            prediction.updateResult(isPodiumCorrect, points);
+        // 4. 집합 UPDATE는 엔티티 리스너를 거치지 않으므로 리더보드 인덱스에 직접 반영 (커밋 후)
+        userRepository.findLeaderboardEntriesRewardedInRace(raceId).forEach(leaderboardSynchronizer::apply);
 
-            // 사용자에게 포인트 지급
-            if (points > 0) {
-                prediction.getUser().addPoints(points);
-            }
-        }
-        // Dirty Checking에 의해 변경된 Prediction 및 User 엔티티가 트랜잭션 종료 시 DB에 반영됨
-        log.info("{}개의 예측에 대한 채점 및 포인트 지급 완료.", predictions.size());
+        log.info("레이스 ID {}: {}개의 예측 채점 완료, {}명에게 포인트 지급.", raceId, scoredCount, rewardedUserCount);
+        return true;
     }
-}
\ No newline at end of file
+}
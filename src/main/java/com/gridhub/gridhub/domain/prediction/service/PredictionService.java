@@ -17,16 +17,15 @@ import com.gridhub.gridhub.domain.prediction.repository.PredictionRepository;
 import com.gridhub.gridhub.domain.user.entity.User;
 import com.gridhub.gridhub.domain.user.exception.UserNotFoundException;
 import com.gridhub.gridhub.domain.user.repository.UserRepository;
+import com.gridhub.gridhub.global.dto.CursorSliceResponse;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
-import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.ZonedDateTime;
 import java.util.List;
-import java.util.concurrent.atomic.AtomicLong;
 
 @Service
 @RequiredArgsConstructor
@@ -36,6 +35,7 @@ public class PredictionService {
     private final UserRepository userRepository;
     private final RaceRepository raceRepository;
     private final DriverRepository driverRepository;
+    private final LeaderboardIndex leaderboardIndex;
 
     @Transactional
     public void createPrediction(Long raceId, PredictionRequest request, String userEmail) {
@@ -86,22 +86,24 @@ public class PredictionService {
                 .orElse(null); // 예측이 없으면 null 반환 (Controller에서 404 처리)
     }
 
-    @Transactional(readOnly = true)
+    // 다른 리더보드 조회와 같은 인메모리 인덱스에서 조회 (DB 조회, COUNT 없음)
     public Page<LeaderboardResponse> getLeaderboard(Pageable pageable) {
-        // 1. UserRepository를 통해 포인트를 기준으로 정렬된 사용자 목록을 페이징하여 조회
-        Page<User> userPage = userRepository.findAllByOrderByPointsDesc(pageable);
+        return leaderboardIndex.page(pageable);
+    }
 
-        // 2. 순위(rank) 계산을 위한 시작점 설정
-        long startRank = pageable.getOffset() + 1;
-        AtomicLong rank = new AtomicLong(startRank);
+    public CursorSliceResponse<LeaderboardResponse> getLeaderboardScroll(String cursor, int size) {
+        return leaderboardIndex.scroll(cursor, size);
+    }
 
-        // 3. Page<User>를 List<LeaderboardResponse>로 변환하면서 순위 정보 추가
-        List<LeaderboardResponse> leaderboardContent = userPage.getContent().stream()
-                .map(user -> LeaderboardResponse.of(user, rank.getAndIncrement()))
-                .toList();
+    @Transactional(readOnly = true)
+    public LeaderboardResponse getMyRank(String userEmail) {
+        User user = userRepository.findByEmail(userEmail).orElseThrow(UserNotFoundException::new);
+        return leaderboardIndex.rankOf(user.getId()).orElseThrow(UserNotFoundException::new);
+    }
 
-        // 4. 새로운 DTO 리스트와 기존 페이징 정보를 사용하여 새로운 Page 객체 생성 후 반환
-        return new PageImpl<>(leaderboardContent, pageable, userPage.getTotalElements());
+    @Transactional(readOnly = true)
+    public List<LeaderboardResponse> getLeaderboardAroundMe(String userEmail, int radius) {
+        User user = userRepository.findByEmail(userEmail).orElseThrow(UserNotFoundException::new);
+        return leaderboardIndex.around(user.getId(), radius);
     }
 }
-
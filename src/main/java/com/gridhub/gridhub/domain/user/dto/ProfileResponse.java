@@ -13,6 +13,7 @@ public record ProfileResponse(
         String nickname,
         String bio,
         String profileImageUrl,
+        String profileImageThumbnailUrl, // 아바타 표시용 축소본 (축소본이 없으면 원본)
         int points,
         String tier,
         FavoriteDriverDto favoriteDriver,
@@ -29,6 +30,7 @@ public record ProfileResponse(
                 user.getNickname(),
                 user.getBio(),
                 user.getProfileImageUrl(),
+                user.getProfileImageThumbnailUrl() != null ? user.getProfileImageThumbnailUrl() : user.getProfileImageUrl(),
                 user.getPoints(),
                 UserTier.getTierByPoints(user.getPoints()).getTierName(),
                 driver != null ? new FavoriteDriverDto(driver.getId(), driver.getFullName()) : null,
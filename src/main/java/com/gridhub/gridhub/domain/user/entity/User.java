@@ -3,14 +3,24 @@ package com.gridhub.gridhub.domain.user.entity;
 import com.gridhub.gridhub.domain.BaseTimeEntity;
 import com.gridhub.gridhub.domain.f1data.entity.Driver;
 import com.gridhub.gridhub.domain.f1data.entity.Team;
+import com.gridhub.gridhub.domain.post.service.PostAuthorEntityListener;
+import com.gridhub.gridhub.domain.prediction.service.LeaderboardEntityListener;
 import jakarta.persistence.*;
 import lombok.AccessLevel;
 import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 
+import java.util.List;
+import java.util.Objects;
+import java.util.stream.Stream;
+
 @Entity
 @Table(name = "users") // DB 테이블 이름을 명시적으로 지정
+@EntityListeners({
+        LeaderboardEntityListener.class, // 포인트 변경 시 리더보드 인덱스 갱신
+        PostAuthorEntityListener.class // 닉네임 변경 시 게시글 검색 색인 갱신
+})
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 public class User extends BaseTimeEntity {
@@ -31,7 +41,9 @@ public class User extends BaseTimeEntity {
 
     private String bio; // 자기소개
 
-    private String profileImageUrl;
+    private String profileImageUrl; // 원본
+
+    private String profileImageThumbnailUrl; // 아바타용 축소본 (이미지가 아니거나 이전 프로필이면 null)
 
     @Enumerated(EnumType.STRING) // Enum 타입을 DB에 저장할 때, Enum의 이름을 String으로 저장
     @Column(nullable = false)
@@ -69,7 +81,13 @@ public class User extends BaseTimeEntity {
         this.favoriteTeam = favoriteTeam;
     }
 
-    public void updateProfileImage(String profileImageUrl) {
+    public void updateProfileImage(String profileImageUrl, String profileImageThumbnailUrl) {
         this.profileImageUrl = profileImageUrl;
+        this.profileImageThumbnailUrl = profileImageThumbnailUrl;
+    }
+
+    // 원본과 축소본을 포함해 저장된 모든 프로필 이미지 URL
+    public List<String> getProfileImageUrls() {
+        return Stream.of(profileImageUrl, profileImageThumbnailUrl).filter(Objects::nonNull).toList();
     }
 }
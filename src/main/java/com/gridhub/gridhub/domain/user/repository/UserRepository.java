@@ -1,10 +1,13 @@
 package com.gridhub.gridhub.domain.user.repository;
 
+import com.gridhub.gridhub.domain.prediction.dto.LeaderboardEntryDto;
 import com.gridhub.gridhub.domain.user.entity.User;
-import org.springframework.data.domain.Page;
-import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
+import java.util.List;
 import java.util.Optional;
 
 public interface UserRepository extends JpaRepository<User, Long> {
@@ -19,9 +22,29 @@ public interface UserRepository extends JpaRepository<User, Long> {
     // 닉네임 중복 체크를 위한 메서드
     boolean existsByNickname(String nickname);
 
-    // points를 기준으로 내림차순 정렬하여 페이징 조회
-    Page<User> findAllByOrderByPointsDesc(Pageable pageable);
-
     // 닉네임으로 사용자를 찾는 메서드(다른 사용자 프로필 조회시 사용)
     Optional<User> findByNickname(String nickname);
+
+    /**
+     * 채점이 끝난 레이스에서 포인트를 얻은 사용자들의 points를 한 번의 UPDATE로 증가.
+     * (사용자당 레이스 예측은 하나이므로 서브쿼리는 단일 값)
+     * @param raceId 채점된 레이스 ID
+     * @return 포인트가 증가한 사용자 수
+     */
+    @Modifying(clearAutomatically = true)
+    @Query("UPDATE User u SET u.points = u.points + " +
+            "(SELECT p.earnedPoints FROM Prediction p WHERE p.user = u AND p.race.id = :raceId) " +
+            "WHERE u.id IN (SELECT sp.user.id FROM Prediction sp WHERE sp.race.id = :raceId AND sp.earnedPoints > 0)")
+    int addEarnedPointsOfRace(@Param("raceId") Long raceId);
+
+    // 리더보드 인덱스 생성용 전체 사용자 조회 (엔티티 로딩 없이 필요한 컬럼만)
+    @Query("SELECT new com.gridhub.gridhub.domain.prediction.dto.LeaderboardEntryDto(u.id, u.nickname, u.profileImageUrl, u.points) " +
+            "FROM User u")
+    List<LeaderboardEntryDto> findAllLeaderboardEntries();
+
+    // 집합 UPDATE로 포인트가 바뀐 사용자만 다시 조회하여 리더보드 인덱스에 반영할 때 사용
+    @Query("SELECT new com.gridhub.gridhub.domain.prediction.dto.LeaderboardEntryDto(u.id, u.nickname, u.profileImageUrl, u.points) " +
+            "FROM User u " +
+            "WHERE u.id IN (SELECT p.user.id FROM Prediction p WHERE p.race.id = :raceId AND p.earnedPoints > 0)")
+    List<LeaderboardEntryDto> findLeaderboardEntriesRewardedInRace(@Param("raceId") Long raceId);
 }
@@ -14,25 +14,33 @@ import com.gridhub.gridhub.domain.user.entity.User;
 import com.gridhub.gridhub.domain.user.exception.NicknameAlreadyExistsException;
 import com.gridhub.gridhub.domain.user.exception.UserNotFoundException;
 import com.gridhub.gridhub.domain.user.repository.UserRepository;
+import com.gridhub.gridhub.infra.s3.ImageVariant;
 import com.gridhub.gridhub.infra.s3.S3UploaderService;
+import com.gridhub.gridhub.infra.s3.UploadedImage;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 import org.springframework.web.multipart.MultipartFile;
 
 import java.io.IOException;
+import java.util.EnumSet;
 import java.util.List;
+import java.util.Set;
 import java.util.stream.Collectors;
 
 @Service
 @RequiredArgsConstructor
 public class UserService {
 
+    private static final Set<ImageVariant> PROFILE_IMAGE_VARIANTS = EnumSet.of(ImageVariant.THUMBNAIL);
+
     private final UserRepository userRepository;
     private final S3UploaderService s3UploaderService;
     private final DriverRepository driverRepository;
     private final TeamRepository teamRepository;
     private final PredictionRepository predictionRepository;
+    private final TransactionTemplate transactionTemplate;
 
     /**
      * 내 프로필 조회
@@ -45,42 +53,49 @@ public class UserService {
 
     /**
      * 내 프로필 수정
+     * 프로필 이미지는 트랜잭션 시작 전에 업로드하고, 트랜잭션이 롤백되면 업로드한 이미지를 삭제
      */
-    @Transactional
     public void updateMyProfile(String userEmail, ProfileUpdateRequest request, MultipartFile profileImage) throws IOException {
-        User user = userRepository.findByEmail(userEmail).orElseThrow(UserNotFoundException::new);
+        // 0. 새 프로필 이미지 업로드 (DB 커넥션을 잡지 않은 상태에서 수행). 프로필은 원본과 아바타용 축소본만 사용
+        UploadedImage newImage = (profileImage != null && !profileImage.isEmpty())
+                ? s3UploaderService.uploadImage(profileImage, PROFILE_IMAGE_VARIANTS)
+                : null;
+
+        transactionTemplate.executeWithoutResult(status -> {
+            s3UploaderService.deleteOnRollback(newImage);
+            User user = userRepository.findByEmail(userEmail).orElseThrow(UserNotFoundException::new);
 
-        // 1. 닉네임 변경 시 중복 확인
-        if (request.getNickname() != null && !request.getNickname().equals(user.getNickname())) {
-            if (userRepository.existsByNickname(request.getNickname())) {
-                throw new NicknameAlreadyExistsException();
+            // 1. 닉네임 변경 시 중복 확인
+            if (request.getNickname() != null && !request.getNickname().equals(user.getNickname())) {
+                if (userRepository.existsByNickname(request.getNickname())) {
+                    throw new NicknameAlreadyExistsException();
+                }
             }
-        }
 
-        // 2. 프로필 이미지 변경 처리
-        if (profileImage != null && !profileImage.isEmpty()) {
-            if (user.getProfileImageUrl() != null) {
-                s3UploaderService.delete(user.getProfileImageUrl());
+            // 2. 프로필 이미지 변경 처리
+            if (newImage != null) {
+                if (user.getProfileImageUrl() != null) {
+                    s3UploaderService.deleteLater(user.getProfileImageUrls()); // 기존 이미지는 커밋 후 삭제
+                }
+                user.updateProfileImage(newImage.originalUrl(), newImage.thumbnailUrl());
             }
-            String newImageUrl = s3UploaderService.upload(profileImage);
-            user.updateProfileImage(newImageUrl);
-        }
-
-        // 3. 선호 드라이버/팀 ID 유효성 검증 및 엔티티 조회
-        Driver favoriteDriver = (request.getFavoriteDriverId() != null)
-                ? driverRepository.findById(request.getFavoriteDriverId()).orElse(null)
-                : user.getFavoriteDriver();
-        Team favoriteTeam = (request.getFavoriteTeamId() != null)
-                ? teamRepository.findById(request.getFavoriteTeamId()).orElse(null)
-                : user.getFavoriteTeam();
-
-        // 4. 나머지 텍스트 정보 업데이트
-        user.updateProfile(
-                request.getNickname() != null ? request.getNickname() : user.getNickname(),
-                request.getBio() != null ? request.getBio() : user.getBio(),
-                favoriteDriver,
-                favoriteTeam
-        );
+
+            // 3. 선호 드라이버/팀 ID 유효성 검증 및 엔티티 조회
+            Driver favoriteDriver = (request.getFavoriteDriverId() != null)
+                    ? driverRepository.findById(request.getFavoriteDriverId()).orElse(null)
+                    : user.getFavoriteDriver();
+            Team favoriteTeam = (request.getFavoriteTeamId() != null)
+                    ? teamRepository.findById(request.getFavoriteTeamId()).orElse(null)
+                    : user.getFavoriteTeam();
+
+            // 4. 나머지 텍스트 정보 업데이트
+            user.updateProfile(
+                    request.getNickname() != null ? request.getNickname() : user.getNickname(),
+                    request.getBio() != null ? request.getBio() : user.getBio(),
+                    favoriteDriver,
+                    favoriteTeam
+            );
+        });
     }
 
     /**
@@ -0,0 +1,41 @@
+package com.gridhub.gridhub.global.config;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.annotation.EnableCaching;
+import org.springframework.cache.caffeine.CaffeineCacheManager;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+
+/**
+ * 애플리케이션 내부(in-process) 캐시 설정.
+ * 캐시별 hit/miss 통계는 recordStats()로 수집되어 Actuator 메트릭(cache.gets 등)으로 노출.
+ */
+@Configuration
+@EnableCaching
+public class CacheConfig {
+
+    // 연도별 레이스 캘린더 (F1DataService.getRaceCalendarByYear)
+    public static final String RACE_CALENDAR = "raceCalendar";
+    // 레이스 상세 정보 (F1DataService.getRaceDetail)
+    public static final String RACE_DETAIL = "raceDetail";
+
+    @Bean
+    public CacheManager cacheManager() {
+        CaffeineCacheManager cacheManager = new CaffeineCacheManager();
+        // 동기화 작업이 하루 한 번 데이터를 갱신하고 캐시를 직접 비우므로, TTL은 비우기 누락에 대한 안전장치
+        cacheManager.registerCustomCache(RACE_CALENDAR, Caffeine.newBuilder()
+                .maximumSize(20)
+                .expireAfterWrite(Duration.ofHours(12))
+                .recordStats()
+                .build());
+        cacheManager.registerCustomCache(RACE_DETAIL, Caffeine.newBuilder()
+                .maximumSize(500)
+                .expireAfterWrite(Duration.ofHours(24))
+                .recordStats()
+                .build());
+        return cacheManager;
+    }
+}
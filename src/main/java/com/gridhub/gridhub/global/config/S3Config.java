@@ -7,11 +7,15 @@ import org.springframework.context.annotation.Configuration;
 import software.amazon.awssdk.auth.credentials.AwsBasicCredentials;
 import software.amazon.awssdk.auth.credentials.StaticCredentialsProvider;
 import software.amazon.awssdk.regions.Region;
-import software.amazon.awssdk.services.s3.S3Client;
+import software.amazon.awssdk.services.s3.S3AsyncClient;
+import software.amazon.awssdk.services.s3.multipart.MultipartConfiguration;
 
 @Configuration
 public class S3Config {
 
+    // 이 크기를 넘는 파일은 파트 단위로 나눠 병렬 업로드 (S3 최소 파트 크기는 5MB)
+    private static final long MULTIPART_THRESHOLD_BYTES = 8L * 1024 * 1024;
+
     @Value("${cloud.aws.credentials.access-key}")
     private String accessKey;
 
@@ -22,12 +26,17 @@ public class S3Config {
     private String region;
 
     @Bean
-    public S3Client s3Client() {
+    public S3AsyncClient s3AsyncClient() {
         AwsBasicCredentials credentials = AwsBasicCredentials.create(accessKey, secretKey);
 
-        return S3Client.builder()
+        return S3AsyncClient.builder()
                 .region(Region.of(region))
                 .credentialsProvider(StaticCredentialsProvider.create(credentials))
+                .multipartEnabled(true)
+                .multipartConfiguration(MultipartConfiguration.builder()
+                        .thresholdInBytes(MULTIPART_THRESHOLD_BYTES)
+                        .minimumPartSizeInBytes(MULTIPART_THRESHOLD_BYTES)
+                        .build())
                 .build();
     }
-}
\ No newline at end of file
+}
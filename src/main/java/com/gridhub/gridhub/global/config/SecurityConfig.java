@@ -49,7 +49,8 @@ public class SecurityConfig {
 
                         // 2. 비로그인 사용자도 조회(GET)는 가능하도록 허용할 경로
                         .requestMatchers(HttpMethod.GET, "/api/posts/**", "/api/comments/**",
-                                "/api/f1-data/**", "/api/predictions/leaderboard", "/api/users/**").permitAll()
+                                "/api/f1-data/**", "/api/predictions/leaderboard",
+                                "/api/predictions/leaderboard/scroll", "/api/users/**").permitAll()
 
                         // 3. 관리자(ADMIN) 역할만 접근 가능한 경로
                         .requestMatchers("/api/admin/**").hasRole("ADMIN")
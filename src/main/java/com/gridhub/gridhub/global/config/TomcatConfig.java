@@ -0,0 +1,31 @@
+package com.gridhub.gridhub.global.config;
+
+import org.apache.coyote.AbstractProtocol;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.web.embedded.tomcat.TomcatServletWebServerFactory;
+import org.springframework.boot.web.server.WebServerFactoryCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * 내장 Tomcat 연결 수 설정.
+ * 알림 스트림(SSE)은 연결을 오래 열어 두므로 기본값(max-connections 8192)에서는 그 이상의 동시 접속이 accept 대기열에 묶임.
+ * NIO 커넥터에서 대기 중인 SSE 연결은 요청 스레드를 점유하지 않으므로, 스레드 수는 그대로 두고 연결 수만 늘림.
+ * 연결마다 소켓(파일 디스크립터)을 하나씩 쓰므로 OS의 open files 제한(ulimit -n)도 max-connections보다 커야 함.
+ */
+@Configuration
+public class TomcatConfig {
+
+    @Bean
+    public WebServerFactoryCustomizer<TomcatServletWebServerFactory> tomcatConnectionCustomizer(
+            @Value("${server.tomcat.max-connections:30000}") int maxConnections,
+            @Value("${server.tomcat.accept-count:1000}") int acceptCount
+    ) {
+        return factory -> factory.addConnectorCustomizers(connector -> {
+            if (connector.getProtocolHandler() instanceof AbstractProtocol<?> protocol) {
+                protocol.setMaxConnections(maxConnections);
+                protocol.setAcceptCount(acceptCount);
+            }
+        });
+    }
+}
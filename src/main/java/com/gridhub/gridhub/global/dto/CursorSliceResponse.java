@@ -0,0 +1,31 @@
+package com.gridhub.gridhub.global.dto;
+
+import org.springframework.data.domain.Slice;
+
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * 커서 기반 페이지 응답. 전체 개수(COUNT)는 계산하지 않고 다음 페이지 존재 여부와 이어서 조회할 커서만 제공.
+ *
+ * @param nextCursor 다음 페이지 요청 시 cursor 파라미터로 전달할 토큰, 마지막 페이지면 null
+ */
+public record CursorSliceResponse<T>(
+        List<T> content,
+        int size,
+        boolean hasNext,
+        String nextCursor
+) {
+    public static <T> CursorSliceResponse<T> of(List<T> content, int size, boolean hasNext, String nextCursor) {
+        return new CursorSliceResponse<>(content, size, hasNext, hasNext ? nextCursor : null);
+    }
+
+    /**
+     * @param cursorOf 마지막 원소로부터 다음 페이지 커서를 만드는 함수
+     */
+    public static <S, T> CursorSliceResponse<T> of(Slice<S> slice, Function<S, T> mapper, Function<S, String> cursorOf) {
+        List<S> content = slice.getContent();
+        String nextCursor = content.isEmpty() ? null : cursorOf.apply(content.get(content.size() - 1));
+        return of(content.stream().map(mapper).toList(), slice.getSize(), slice.hasNext(), nextCursor);
+    }
+}
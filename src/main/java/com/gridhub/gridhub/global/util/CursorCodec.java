@@ -0,0 +1,47 @@
+package com.gridhub.gridhub.global.util;
+
+import com.gridhub.gridhub.global.exception.InvalidCursorException;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
+/**
+ * 커서 기반(keyset) 페이지네이션의 정렬 키를 클라이언트에 노출할 불투명 토큰으로 변환.
+ * 클라이언트는 토큰 내용을 해석하지 않고 다음 요청에 그대로 전달하기만 하면 된다.
+ */
+public final class CursorCodec {
+
+    private static final String DELIMITER = ",";
+
+    private CursorCodec() {
+    }
+
+    public static String encode(Object... keys) {
+        StringBuilder raw = new StringBuilder();
+        for (int i = 0; i < keys.length; i++) {
+            if (i > 0) {
+                raw.append(DELIMITER);
+            }
+            raw.append(keys[i]);
+        }
+        return Base64.getUrlEncoder().withoutPadding()
+                .encodeToString(raw.toString().getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * @param expectedKeys 토큰에 들어 있어야 하는 정렬 키 개수
+     * @throws InvalidCursorException 디코딩할 수 없거나 키 개수가 맞지 않는 경우
+     */
+    public static String[] decode(String cursor, int expectedKeys) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            String[] keys = raw.split(DELIMITER, -1);
+            if (keys.length != expectedKeys) {
+                throw new InvalidCursorException();
+            }
+            return keys;
+        } catch (IllegalArgumentException e) {
+            throw new InvalidCursorException();
+        }
+    }
+}
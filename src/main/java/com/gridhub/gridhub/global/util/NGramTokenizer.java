@@ -0,0 +1,69 @@
+package com.gridhub.gridhub.global.util;
+
+import java.text.Normalizer;
+import java.util.*;
+
+/**
+ * 한국어처럼 띄어쓰기/형태소 경계가 불분명한 텍스트를 위한 문자 n-gram 토크나이저.
+ * 문자/숫자가 아닌 문자를 기준으로 단어를 나눈 뒤, 단어마다 1-gram과 2-gram을 만든다.
+ * e.g. "F1 그랑프리" -> [f, 1, f1, 그, 랑, 프, 리, 그랑, 랑프, 프리]
+ */
+public final class NGramTokenizer {
+
+    private NGramTokenizer() {
+    }
+
+    /**
+     * 색인용: 텍스트에 등장하는 모든 1-gram, 2-gram과 그 등장 횟수
+     */
+    public static Map<String, Integer> termFrequencies(String text) {
+        Map<String, Integer> frequencies = new HashMap<>();
+        for (int[] word : words(text)) {
+            for (int i = 0; i < word.length; i++) {
+                frequencies.merge(new String(word, i, 1), 1, Integer::sum);
+                if (i + 1 < word.length) {
+                    frequencies.merge(new String(word, i, 2), 1, Integer::sum);
+                }
+            }
+        }
+        return frequencies;
+    }
+
+    /**
+     * 검색용: 두 글자 이상인 단어는 2-gram, 한 글자 단어는 1-gram으로 변환
+     */
+    public static Set<String> queryTerms(String keyword) {
+        Set<String> terms = new LinkedHashSet<>();
+        for (int[] word : words(keyword)) {
+            if (word.length == 1) {
+                terms.add(new String(word, 0, 1));
+                continue;
+            }
+            for (int i = 0; i + 1 < word.length; i++) {
+                terms.add(new String(word, i, 2));
+            }
+        }
+        return terms;
+    }
+
+    // 전각/반각 등을 통일(NFKC)하고 소문자로 바꾼 뒤 문자/숫자 연속 구간을 코드 포인트 배열로 분리
+    private static List<int[]> words(String text) {
+        if (text == null || text.isEmpty()) {
+            return List.of();
+        }
+        String normalized = Normalizer.normalize(text, Normalizer.Form.NFKC).toLowerCase(Locale.ROOT);
+        List<int[]> words = new ArrayList<>();
+        int[] codePoints = normalized.codePoints().toArray();
+        int start = -1;
+        for (int i = 0; i <= codePoints.length; i++) {
+            boolean letterOrDigit = i < codePoints.length && Character.isLetterOrDigit(codePoints[i]);
+            if (letterOrDigit && start < 0) {
+                start = i;
+            } else if (!letterOrDigit && start >= 0) {
+                words.add(Arrays.copyOfRange(codePoints, start, i));
+                start = -1;
+            }
+        }
+        return words;
+    }
+}
@@ -0,0 +1,209 @@
+package com.gridhub.gridhub.global.util;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.Deque;
+import java.util.List;
+import java.util.SplittableRandom;
+
+/**
+ * 순위(몇 번째인지) 조회와 k번째 원소 조회를 O(log n)에 처리하는 정렬 트리 (서브트리 크기를 저장하는 Treap).
+ * comparator 기준으로 같은 원소는 하나만 저장하며, 스레드 안전하지 않으므로 호출하는 쪽에서 동기화해야 함.
+ */
+public class OrderStatisticTree<T> {
+
+    private final Comparator<? super T> comparator;
+    private final SplittableRandom random = new SplittableRandom();
+    private Node<T> root;
+
+    public OrderStatisticTree(Comparator<? super T> comparator) {
+        this.comparator = comparator;
+    }
+
+    public int size() {
+        return size(root);
+    }
+
+    public void clear() {
+        root = null;
+    }
+
+    /**
+     * 원소를 추가. 이미 같은 원소가 있으면 아무것도 하지 않음.
+     * @return 추가되었으면 true
+     */
+    public boolean add(T value) {
+        if (indexOf(value) >= 0) {
+            return false;
+        }
+        Split<T> split = split(root, value, false);
+        root = merge(merge(split.left(), new Node<>(value, random.nextInt())), split.right());
+        return true;
+    }
+
+    /**
+     * @return 삭제되었으면 true
+     */
+    public boolean remove(T value) {
+        Split<T> lessAndRest = split(root, value, false);
+        Split<T> equalAndGreater = split(lessAndRest.right(), value, true);
+        root = merge(lessAndRest.left(), equalAndGreater.right());
+        return equalAndGreater.left() != null;
+    }
+
+    /**
+     * @return 정렬 순서상 0부터 시작하는 위치, 없으면 -1
+     */
+    public int indexOf(T value) {
+        int index = 0;
+        Node<T> node = root;
+        while (node != null) {
+            int cmp = comparator.compare(value, node.value);
+            if (cmp < 0) {
+                node = node.left;
+            } else if (cmp > 0) {
+                index += size(node.left) + 1;
+                node = node.right;
+            } else {
+                return index + size(node.left);
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * @param inclusive true면 value와 같은 원소도 개수에 포함
+     * @return 정렬 순서상 value보다 앞에 있는 원소 수 (value가 트리에 없어도 계산 가능)
+     */
+    public int countBefore(T value, boolean inclusive) {
+        int count = 0;
+        Node<T> node = root;
+        while (node != null) {
+            int cmp = comparator.compare(value, node.value);
+            if (cmp < 0 || (cmp == 0 && !inclusive)) {
+                node = node.left;
+            } else {
+                count += size(node.left) + 1;
+                node = node.right;
+            }
+        }
+        return count;
+    }
+
+    /**
+     * @param index 0부터 시작하는 위치
+     */
+    public T get(int index) {
+        if (index < 0 || index >= size()) {
+            throw new IndexOutOfBoundsException(index);
+        }
+        Node<T> node = root;
+        while (true) {
+            int leftSize = size(node.left);
+            if (index < leftSize) {
+                node = node.left;
+            } else if (index > leftSize) {
+                index -= leftSize + 1;
+                node = node.right;
+            } else {
+                return node.value;
+            }
+        }
+    }
+
+    /**
+     * fromIndex부터 최대 count개의 원소를 정렬 순서대로 반환.
+     * fromIndex까지 한 번만 내려간 뒤 중위 순회로 이어서 읽으므로 O(log n + count).
+     */
+    public List<T> range(int fromIndex, int count) {
+        int from = Math.max(0, fromIndex);
+        int toIndex = (int) Math.min(size(), (long) from + Math.max(0, count));
+        List<T> result = new ArrayList<>(Math.max(0, toIndex - from));
+        if (from >= toIndex) {
+            return result;
+        }
+
+        // 스택에는 아직 방문하지 않은, 현재 위치 이후의 조상 노드가 순서대로 쌓임
+        Deque<Node<T>> pending = new ArrayDeque<>();
+        Node<T> node = root;
+        int index = from;
+        while (node != null) {
+            int leftSize = size(node.left);
+            if (index < leftSize) {
+                pending.push(node);
+                node = node.left;
+            } else if (index > leftSize) {
+                index -= leftSize + 1;
+                node = node.right;
+            } else {
+                pending.push(node);
+                break;
+            }
+        }
+
+        while (result.size() < toIndex - from) {
+            Node<T> current = pending.pop();
+            result.add(current.value);
+            for (Node<T> next = current.right; next != null; next = next.left) {
+                pending.push(next);
+            }
+        }
+        return result;
+    }
+
+    // value보다 작은(inclusive면 작거나 같은) 원소들과 나머지로 분리
+    private Split<T> split(Node<T> node, T value, boolean inclusive) {
+        if (node == null) {
+            return new Split<>(null, null);
+        }
+        int cmp = comparator.compare(node.value, value);
+        if (cmp < 0 || (inclusive && cmp == 0)) {
+            Split<T> rightSplit = split(node.right, value, inclusive);
+            node.right = rightSplit.left();
+            node.update();
+            return new Split<>(node, rightSplit.right());
+        }
+        Split<T> leftSplit = split(node.left, value, inclusive);
+        node.left = leftSplit.right();
+        node.update();
+        return new Split<>(leftSplit.left(), node);
+    }
+
+    // left의 모든 원소가 right의 모든 원소보다 앞선다고 가정하고 합침
+    private Node<T> merge(Node<T> left, Node<T> right) {
+        if (left == null) return right;
+        if (right == null) return left;
+        if (left.priority > right.priority) {
+            left.right = merge(left.right, right);
+            left.update();
+            return left;
+        }
+        right.left = merge(left, right.left);
+        right.update();
+        return right;
+    }
+
+    private static int size(Node<?> node) {
+        return node == null ? 0 : node.size;
+    }
+
+    private record Split<T>(Node<T> left, Node<T> right) {}
+
+    private static final class Node<T> {
+        private final T value;
+        private final int priority;
+        private int size = 1;
+        private Node<T> left;
+        private Node<T> right;
+
+        private Node(T value, int priority) {
+            this.value = value;
+            this.priority = priority;
+        }
+
+        private void update() {
+            size = 1 + OrderStatisticTree.size(left) + OrderStatisticTree.size(right);
+        }
+    }
+}
@@ -0,0 +1,133 @@
+package com.gridhub.gridhub.global.util;
+
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * 현재/이전 두 세대로 구성된 시간 창 Bloom filter.
+ * rotate()를 호출할 때마다 이전 세대를 버리고 현재 세대를 이전 세대로 넘기므로,
+ * 추가된 키는 최소 한 주기에서 최대 두 주기 동안 유지되고 메모리는 항상 두 세대 크기로 고정.
+ * 없는 키를 있다고 판단할 확률(false positive)이 있으며, 있는 키를 없다고 판단하지는 않음.
+ */
+public class RotatingBloomFilter {
+
+    // 2의 거듭제곱이어야 함 (해시 하위 비트로 잠금 선택)
+    private static final int LOCK_STRIPES = 64;
+
+    private final int bitCount;
+    private final int hashCount;
+    private final AtomicReference<Generations> generations;
+    private final Object[] locks = new Object[LOCK_STRIPES];
+
+    /**
+     * @param expectedInsertions 한 세대(주기)에 추가될 것으로 예상되는 키 수
+     * @param falsePositiveRate 예상 키 수만큼 추가됐을 때의 목표 오탐률 (0 ~ 1)
+     */
+    public RotatingBloomFilter(int expectedInsertions, double falsePositiveRate) {
+        double ln2 = Math.log(2);
+        long bits = (long) Math.ceil(-expectedInsertions * Math.log(falsePositiveRate) / (ln2 * ln2));
+        this.bitCount = (int) Math.max(Long.SIZE, Math.min(bits, Integer.MAX_VALUE - Long.SIZE));
+        this.hashCount = Math.max(1, (int) Math.round((double) bitCount / expectedInsertions * ln2));
+        this.generations = new AtomicReference<>(new Generations(newBits(), newBits()));
+        for (int i = 0; i < LOCK_STRIPES; i++) {
+            locks[i] = new Object();
+        }
+    }
+
+    /**
+     * 키를 현재 세대에 추가.
+     * 같은 키의 동시 추가가 모두 처음 추가로 판단되지 않도록, 확인과 비트 설정을 키 해시로 나눈 잠금 안에서 수행하고
+     * 결과는 이번 호출이 현재 세대의 비트를 실제로 바꿨는지로 판단. 잠금은 같은 줄무늬(stripe)에 속한 키끼리만 경합.
+     * @return 두 세대 모두에 없던 키면 true, 이미 있던(또는 오탐된) 키면 false
+     */
+    public boolean add(String key) {
+        long hash = hash64(key);
+        int h1 = (int) hash;
+        int h2 = (int) (hash >>> 32);
+
+        synchronized (locks[h1 & (LOCK_STRIPES - 1)]) {
+            Generations current = generations.get();
+            if (mightContain(current.previous(), h1, h2)) {
+                return false;
+            }
+            boolean flipped = false;
+            for (int i = 0; i < hashCount; i++) {
+                flipped |= setBit(current.current(), index(h1, h2, i));
+            }
+            return flipped;
+        }
+    }
+
+    public boolean mightContain(String key) {
+        long hash = hash64(key);
+        int h1 = (int) hash;
+        int h2 = (int) (hash >>> 32);
+        Generations current = generations.get();
+        return mightContain(current.current(), h1, h2) || mightContain(current.previous(), h1, h2);
+    }
+
+    // 이전 세대를 버리고 빈 현재 세대로 교체
+    public void rotate() {
+        generations.updateAndGet(old -> new Generations(newBits(), old.current()));
+    }
+
+    public int bitCount() {
+        return bitCount;
+    }
+
+    public int hashCount() {
+        return hashCount;
+    }
+
+    private boolean mightContain(AtomicLongArray bits, int h1, int h2) {
+        for (int i = 0; i < hashCount; i++) {
+            int index = index(h1, h2, i);
+            if ((bits.get(index >>> 6) & (1L << index)) == 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    // double hashing: h1 + i * h2
+    private int index(int h1, int h2, int i) {
+        int combined = h1 + i * h2;
+        return (combined & Integer.MAX_VALUE) % bitCount;
+    }
+
+    // 이번 호출이 비트를 0에서 1로 바꿨으면 true
+    private static boolean setBit(AtomicLongArray bits, int index) {
+        int word = index >>> 6;
+        long mask = 1L << index;
+        long value;
+        do {
+            value = bits.get(word);
+            if ((value & mask) != 0) {
+                return false;
+            }
+        } while (!bits.compareAndSet(word, value, value | mask));
+        return true;
+    }
+
+    private AtomicLongArray newBits() {
+        return new AtomicLongArray((bitCount + Long.SIZE - 1) / Long.SIZE);
+    }
+
+    // FNV-1a 64비트 해시 후 비트 확산(splitmix64 finalizer)
+    private static long hash64(String key) {
+        long hash = 0xcbf29ce484222325L;
+        for (byte b : key.getBytes(StandardCharsets.UTF_8)) {
+            hash ^= b;
+            hash *= 0x100000001b3L;
+        }
+        hash ^= hash >>> 33;
+        hash *= 0xff51afd7ed558ccdL;
+        hash ^= hash >>> 33;
+        hash *= 0xc4ceb9fe1a85ec53L;
+        hash ^= hash >>> 33;
+        return hash;
+    }
+
+    private record Generations(AtomicLongArray current, AtomicLongArray previous) {}
+}
@@ -0,0 +1,32 @@
+package com.gridhub.gridhub.infra.external;
+
+import java.time.Duration;
+import java.time.Instant;
+
+/**
+ * 디스크에 보관되는 OpenF1 응답 캐시 항목의 메타데이터. 본문(JSON 배열)은 OpenF1ResponseCache가 별도 파일로 보관.
+ *
+ * @param etag            응답의 ETag 헤더 (재검증 요청의 If-None-Match로 사용)
+ * @param lastModified    응답의 Last-Modified 헤더 (재검증 요청의 If-Modified-Since로 사용)
+ * @param fetchedAtMillis 마지막으로 서버에서 받아오거나 재검증한 시각 (epoch millis)
+ * @param immutable       종료된 세션의 응답이라 다시 요청할 필요가 없는지 여부
+ * @param empty           본문이 빈 배열인지 여부
+ */
+public record CachedResponse(
+        String etag,
+        String lastModified,
+        long fetchedAtMillis,
+        boolean immutable,
+        boolean empty
+) {
+    public boolean isFresh(Instant now, Duration ttl) {
+        return immutable || now.toEpochMilli() - fetchedAtMillis < ttl.toMillis();
+    }
+
+    /**
+     * 304 Not Modified 응답으로 재검증된 항목을 반환. 본문과 검증자(ETag 등)는 그대로 유지.
+     */
+    public CachedResponse revalidated(Instant now, boolean immutable) {
+        return new CachedResponse(etag, lastModified, now.toEpochMilli(), immutable, empty);
+    }
+}
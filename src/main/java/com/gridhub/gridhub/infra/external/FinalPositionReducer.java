@@ -0,0 +1,55 @@
+package com.gridhub.gridhub.infra.external;
+
+import com.gridhub.gridhub.domain.f1data.dto.PositionResponse;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+
+/**
+ * OpenF1 /position 샘플 스트림에서 드라이버별 마지막(date 기준) 순위 기록만 남기는 단일 패스 리듀서.
+ * 드라이버 번호는 작은 양의 정수이므로 번호를 인덱스로 사용하는 배열에 최신 기록을 보관.
+ * 샘플 수와 무관하게 드라이버 수만큼의 메모리만 사용하며, 샘플 하나당 O(1)로 처리.
+ */
+final class FinalPositionReducer {
+
+    private static final int INITIAL_CAPACITY = 100; // 현재 F1 드라이버 번호 범위(1~99)
+
+    private PositionResponse[] latestByDriver = new PositionResponse[INITIAL_CAPACITY];
+    private int driverCount = 0;
+
+    void accept(PositionResponse sample) {
+        Integer driverNumber = sample.driverNumber();
+        if (driverNumber == null || driverNumber < 0 || sample.date() == null) {
+            return; // 집계할 수 없는 샘플은 무시
+        }
+
+        if (driverNumber >= latestByDriver.length) {
+            latestByDriver = Arrays.copyOf(latestByDriver, Math.max(driverNumber + 1, latestByDriver.length * 2));
+        }
+
+        PositionResponse current = latestByDriver[driverNumber];
+        if (current == null) {
+            latestByDriver[driverNumber] = sample;
+            driverCount++;
+        } else if (sample.date().compareTo(current.date()) > 0) {
+            // 같은 시각의 기록이 여러 개면 먼저 들어온 기록을 유지
+            latestByDriver[driverNumber] = sample;
+        }
+    }
+
+    /**
+     * 드라이버별 최종 기록을 마지막 기록 시각의 내림차순으로 반환.
+     */
+    List<PositionResponse> toFinalPositions() {
+        List<PositionResponse> finalPositions = new ArrayList<>(driverCount);
+        for (PositionResponse position : latestByDriver) {
+            if (position != null) {
+                finalPositions.add(position);
+            }
+        }
+        finalPositions.sort(Comparator.comparing(PositionResponse::date).reversed());
+        return finalPositions;
+    }
+}
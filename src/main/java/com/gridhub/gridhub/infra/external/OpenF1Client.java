@@ -1,24 +1,50 @@
 // OpenF1Client.java (최종 리팩토링 버전)
 package com.gridhub.gridhub.infra.external;
 
+import com.fasterxml.jackson.databind.MappingIterator;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import com.gridhub.gridhub.domain.f1data.dto.*;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
 import org.springframework.stereotype.Component;
 import org.springframework.web.reactive.function.client.WebClient;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
 
-import java.util.Collections;
+import java.io.IOException;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZonedDateTime;
 import java.util.Comparator;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
 
 @Slf4j
 @Component
 @RequiredArgsConstructor
 public class OpenF1Client {
 
+    // 진행 중이거나 일정이 바뀔 수 있는 데이터의 캐시 유효 시간
+    private static final Duration LIVE_RESPONSE_TTL = Duration.ofMinutes(5);
+    // 세션 종료 직후에는 데이터가 보정될 수 있으므로, 종료 후 이 시간이 지나야 캐시를 불변으로 취급
+    private static final Duration SETTLE_MARGIN = Duration.ofHours(2);
+
     private final WebClient openF1WebClient;
+    private final OpenF1ResponseCache responseCache;
+    private final ObjectMapper objectMapper;
+
+    // /sessions 응답에서 알게 된 세션/미팅별 종료 시각 (캐시 불변 여부 판단용)
+    private final Map<Long, ZonedDateTime> sessionEndTimes = new ConcurrentHashMap<>();
+    private final Map<Long, ZonedDateTime> meetingEndTimes = new ConcurrentHashMap<>();
+
+    // get* 메서드는 결과를 블로킹으로 반환하고, fetch* 메서드는 동일한 요청을 Mono로 반환한다.
+    // 여러 요청을 동시에 보내야 하는 동기화 작업에서는 fetch* 메서드를 조합해서 사용한다.
 
     // ================== 캘린더 및 기본 정보 조회 ==================
 
@@ -26,27 +52,37 @@ public class OpenF1Client {
      * 특정 연도의 모든 그랑프리(Meeting) 정보를 조회.
      */
     public List<MeetingResponse> getMeetingsByYear(int year) {
+        return fetchMeetingsByYear(year).block();
+    }
+
+    public Mono<List<MeetingResponse>> fetchMeetingsByYear(int year) {
         return performRequest("/meetings", "year", year, MeetingResponse.class)
-                .collectList()
-                .block();
+                .collectList();
     }
 
     /**
      * 특정 그랑프리(Meeting)에 포함된 모든 세션(연습, 퀄리, 레이스 등) 정보를 조회.
      */
     public List<SessionResponse> getSessionsByMeeting(long meetingKey) {
+        return fetchSessionsByMeeting(meetingKey).block();
+    }
+
+    public Mono<List<SessionResponse>> fetchSessionsByMeeting(long meetingKey) {
         return performRequest("/sessions", "meeting_key", meetingKey, SessionResponse.class)
                 .collectList()
-                .block();
+                .doOnNext(sessions -> rememberEndTimes(meetingKey, sessions));
     }
 
     /**
      * 특정 세션의 드라이버 라인업을 조회. 팀 색상 정보가 포함.
      */
     public List<DriverResponse> getDriversBySession(long sessionKey) {
+        return fetchDriversBySession(sessionKey).block();
+    }
+
+    public Mono<List<DriverResponse>> fetchDriversBySession(long sessionKey) {
         return performRequest("/drivers", "session_key", sessionKey, DriverResponse.class)
-                .collectList()
-                .block();
+                .collectList();
     }
 
     // ================== 레이스 결과 정보 조회 ==================
@@ -56,25 +92,16 @@ public class OpenF1Client {
      *
      */
     public List<PositionResponse> getRaceResult(long raceSessionKey) {
-        List<PositionResponse> allPositions = performRequest("/position", "session_key", raceSessionKey, PositionResponse.class)
-                .collectList()
-                .block();
-
-        if (allPositions == null || allPositions.isEmpty()) {
-            return Collections.emptyList();
-        }
+        return fetchRaceResult(raceSessionKey).block();
+    }
 
+    public Mono<List<PositionResponse>> fetchRaceResult(long raceSessionKey) {
         // 가장 마지막 시간(date)의 기록을 드라이버별로 필터링
+        // 전체 position 샘플을 리스트로 모으지 않고, 응답 스트림을 한 번 순회하면서 드라이버별 최신 기록만 유지.
         // TODO: 경기 종료후 페널티 여부도 고려 이후 코드 리팩토링
-        return allPositions.stream()
-                .sorted(Comparator.comparing(PositionResponse::date).reversed())
-                .map(PositionResponse::driverNumber)
-                .distinct()
-                .map(driverNum -> allPositions.stream()
-                        .filter(p -> p.driverNumber().equals(driverNum))
-                        .max(Comparator.comparing(PositionResponse::date))
-                        .orElse(null))
-                .toList();
+        return performRequest("/position", "session_key", raceSessionKey, PositionResponse.class)
+                .collect(FinalPositionReducer::new, FinalPositionReducer::accept)
+                .map(FinalPositionReducer::toFinalPositions);
     }
 
     /**
@@ -82,8 +109,12 @@ public class OpenF1Client {
      *
      */
     public List<PositionResponse> getQualifyingResult(long qualifyingSessionKey) {
+        return fetchQualifyingResult(qualifyingSessionKey).block();
+    }
+
+    public Mono<List<PositionResponse>> fetchQualifyingResult(long qualifyingSessionKey) {
         // 퀄리파잉 최종 결과는 position 정보의 마지막 기록과 동일.
-        return getRaceResult(qualifyingSessionKey);
+        return fetchRaceResult(qualifyingSessionKey);
     }
 
     /**
@@ -91,9 +122,12 @@ public class OpenF1Client {
      *
      */
     public List<RaceControlResponse> getRaceControlMessages(long raceSessionKey) {
+        return fetchRaceControlMessages(raceSessionKey).block();
+    }
+
+    public Mono<List<RaceControlResponse>> fetchRaceControlMessages(long raceSessionKey) {
         return performRequest("/race_control", "session_key", raceSessionKey, RaceControlResponse.class)
-                .collectList()
-                .block();
+                .collectList();
     }
 
     /**
@@ -101,23 +135,111 @@ public class OpenF1Client {
      *
      */
     public List<WeatherResponse> getWeather(long raceSessionKey) {
+        return fetchWeather(raceSessionKey).block();
+    }
+
+    public Mono<List<WeatherResponse>> fetchWeather(long raceSessionKey) {
         return performRequest("/weather", "session_key", raceSessionKey, WeatherResponse.class)
-                .collectList()
-                .block();
+                .collectList();
     }
 
     /**
      * WebClient 요청을 수행하는 중복 로직 추출
+     * 응답은 경로+쿼리 단위로 디스크에 캐시되며, 유효 시간이 지난 항목은 ETag/Last-Modified로 재검증.
      */
     private <T> Flux<T> performRequest(String path, String queryParamName, Object queryParamValue, Class<T> responseType) {
+        String cacheKey = path + "?" + queryParamName + "=" + queryParamValue;
+
+        return Mono.fromCallable(() -> responseCache.get(cacheKey))
+                .subscribeOn(Schedulers.boundedElastic())
+                .flatMap(cached -> cached
+                        .filter(response -> response.isFresh(Instant.now(), LIVE_RESPONSE_TTL))
+                        .map(Mono::just)
+                        .orElseGet(() -> fetchAndCache(path, queryParamName, queryParamValue, cacheKey, cached.orElse(null))))
+                .flatMapMany(response -> decode(cacheKey, responseType))
+                .doOnError(e -> log.error("Failed to fetch data from OpenF1 API [path: {}, param: {}]", path, queryParamValue, e));
+    }
+
+    /**
+     * 서버에 요청을 보내고 응답을 캐시에 저장. 캐시 항목이 있으면 조건부 요청으로 보내 304 응답 시 본문을 재사용.
+     */
+    private Mono<CachedResponse> fetchAndCache(String path, String queryParamName, Object queryParamValue, String cacheKey, CachedResponse cached) {
         return openF1WebClient.get()
                 .uri(uriBuilder -> uriBuilder
                         .path(path)
                         .queryParam(queryParamName, queryParamValue)
                         .build())
-                .retrieve()
-                .bodyToFlux(responseType)
-                .doOnError(e -> log.error("Failed to fetch data from OpenF1 API [path: {}, param: {}]", path, queryParamValue, e));
+                .headers(headers -> {
+                    if (cached != null && cached.etag() != null) {
+                        headers.setIfNoneMatch(cached.etag());
+                    }
+                    if (cached != null && cached.lastModified() != null) {
+                        headers.set(HttpHeaders.IF_MODIFIED_SINCE, cached.lastModified());
+                    }
+                })
+                .exchangeToMono(response -> {
+                    boolean finished = isFinished(queryParamName, queryParamValue);
+                    if (response.statusCode().isSameCodeAs(HttpStatus.NOT_MODIFIED) && cached != null) {
+                        return response.releaseBody()
+                                .thenReturn(cached.revalidated(Instant.now(), finished && !cached.empty()));
+                    }
+                    if (response.statusCode().is2xxSuccessful()) {
+                        HttpHeaders responseHeaders = response.headers().asHttpHeaders();
+                        // 본문은 메모리에 모으지 않고 캐시 파일로 바로 씀 (레이스 한 경기의 /position 응답은 수 MB)
+                        return responseCache.writeBody(cacheKey, response.bodyToFlux(DataBuffer.class))
+                                .map(empty -> new CachedResponse(
+                                        responseHeaders.getETag(),
+                                        responseHeaders.getFirst(HttpHeaders.LAST_MODIFIED),
+                                        Instant.now().toEpochMilli(),
+                                        finished && !empty,
+                                        empty));
+                    }
+                    return response.createError();
+                })
+                .flatMap(response -> Mono.fromRunnable(() -> responseCache.put(cacheKey, response))
+                        .subscribeOn(Schedulers.boundedElastic())
+                        .thenReturn(response));
+    }
+
+    // 캐시 파일의 JSON 배열을 요소 단위로 읽어 Flux로 변환 (본문 전체나 전체 리스트를 한 번에 만들지 않음)
+    private <T> Flux<T> decode(String cacheKey, Class<T> responseType) {
+        return Flux.using(
+                        () -> objectMapper.readerFor(responseType).<T>readValues(responseCache.openBody(cacheKey)),
+                        iterator -> Flux.fromIterable(() -> iterator),
+                        this::closeQuietly)
+                .subscribeOn(Schedulers.boundedElastic());
+    }
+
+    private void closeQuietly(MappingIterator<?> iterator) {
+        try {
+            iterator.close();
+        } catch (IOException e) {
+            log.warn("OpenF1 응답 캐시 파일을 닫지 못했습니다.", e);
+        }
+    }
+
+    // 조회 대상 세션(또는 미팅의 모든 세션)이 종료되어 더 이상 데이터가 바뀌지 않는지 확인
+    private boolean isFinished(String queryParamName, Object queryParamValue) {
+        if (!(queryParamValue instanceof Number key)) {
+            return false;
+        }
+        ZonedDateTime endTime = switch (queryParamName) {
+            case "session_key" -> sessionEndTimes.get(key.longValue());
+            case "meeting_key" -> meetingEndTimes.get(key.longValue());
+            default -> null; // 연도별 Meeting 목록 등은 언제든 바뀔 수 있음
+        };
+        return endTime != null && endTime.plus(SETTLE_MARGIN).isBefore(ZonedDateTime.now());
+    }
+
+    private void rememberEndTimes(long meetingKey, List<SessionResponse> sessions) {
+        sessions.stream()
+                .filter(session -> session.sessionKey() != null && session.dateEnd() != null)
+                .forEach(session -> sessionEndTimes.put(session.sessionKey(), session.dateEnd()));
+        sessions.stream()
+                .map(SessionResponse::dateEnd)
+                .filter(Objects::nonNull)
+                .max(Comparator.naturalOrder())
+                .ifPresent(endTime -> meetingEndTimes.put(meetingKey, endTime));
     }
 
     //TODO: 필요에 따라 추가적인 메서드 구현 예정
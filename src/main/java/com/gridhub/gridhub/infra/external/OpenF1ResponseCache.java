@@ -0,0 +1,232 @@
+package com.gridhub.gridhub.infra.external;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DataBufferUtils;
+import org.springframework.stereotype.Component;
+import org.springframework.util.unit.DataSize;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+
+import java.io.BufferedInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Comparator;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Stream;
+
+/**
+ * OpenF1 API 응답을 파일로 보관하는 캐시 저장소.
+ * 요청 경로+쿼리를 키로 사용하며, 애플리케이션이 재시작되어도 캐시가 유지된다.
+ * 항목마다 메타데이터(.json)와 응답 본문(.body)을 따로 저장하고, 본문은 메모리에 모으지 않고 네트워크에서 파일로 바로 쓴다.
+ * 본문 파일 크기의 합이 maxSize를 넘으면 가장 오래 사용되지 않은 항목부터 지운다 (LRU).
+ * 메타데이터 읽기/쓰기에 실패하면 캐시가 없는 것처럼 동작하지만, 본문은 파일을 거쳐 읽으므로 본문을 쓰지 못하면 요청도 실패한다.
+ */
+@Slf4j
+@Component
+public class OpenF1ResponseCache {
+
+    private static final String METADATA_SUFFIX = ".json";
+    private static final String BODY_SUFFIX = ".body";
+    private static final String TEMP_SUFFIX = ".tmp";
+
+    private final ObjectMapper objectMapper;
+    private final Path cacheDir;
+    private final long maxBytes;
+
+    // 항목 이름(키 해시) → 본문 크기와 마지막 사용 시각. 재시작 후에는 파일 수정 시각으로 시작
+    private final Map<String, Usage> usages = new ConcurrentHashMap<>();
+    private final AtomicLong totalBytes = new AtomicLong();
+
+    private record Usage(long bytes, long lastAccessMillis) {
+    }
+
+    // 임시 디렉터리는 OS 정리 작업에 지워질 수 있으므로 재시작 후에도 남는 경로를 직접 지정해야 함
+    public OpenF1ResponseCache(
+            ObjectMapper objectMapper,
+            @Value("${openf1-api.cache-dir}") String cacheDir,
+            @Value("${openf1-api.cache-max-size:1GB}") DataSize maxSize
+    ) {
+        this.objectMapper = objectMapper;
+        this.cacheDir = Path.of(cacheDir);
+        this.maxBytes = maxSize.toBytes();
+        loadUsages();
+    }
+
+    public Optional<CachedResponse> get(String key) {
+        String name = name(key);
+        Path metadata = cacheDir.resolve(name + METADATA_SUFFIX);
+        if (!Files.exists(metadata) || !Files.exists(cacheDir.resolve(name + BODY_SUFFIX))) {
+            return Optional.empty();
+        }
+
+        try {
+            CachedResponse response = objectMapper.readValue(metadata.toFile(), CachedResponse.class);
+            usages.computeIfPresent(name, (n, usage) -> new Usage(usage.bytes(), System.currentTimeMillis()));
+            return Optional.of(response);
+        } catch (IOException e) {
+            log.warn("OpenF1 응답 캐시를 읽지 못해 무시합니다. [key: {}]", key, e);
+            return Optional.empty();
+        }
+    }
+
+    /**
+     * 캐시된 응답 본문을 연다. 호출한 쪽에서 닫아야 함.
+     */
+    public InputStream openBody(String key) throws IOException {
+        return Files.newInputStream(cacheDir.resolve(name(key) + BODY_SUFFIX));
+    }
+
+    /**
+     * 응답 본문을 임시 파일에 흘려 쓴 뒤 캐시 본문으로 교체. 버퍼는 쓰는 즉시 해제됨.
+     * 메타데이터는 이후 put으로 따로 저장.
+     *
+     * @return 본문이 빈 배열(또는 빈 본문)인지 여부
+     */
+    public Mono<Boolean> writeBody(String key, Flux<DataBuffer> body) {
+        String name = name(key);
+        return Mono.fromCallable(() -> {
+                    Files.createDirectories(cacheDir);
+                    return Files.createTempFile(cacheDir, "body", TEMP_SUFFIX);
+                })
+                .subscribeOn(Schedulers.boundedElastic())
+                .flatMap(tempFile -> DataBufferUtils.write(body, tempFile)
+                        .then(Mono.fromCallable(() -> commitBody(name, tempFile)).subscribeOn(Schedulers.boundedElastic()))
+                        .doOnError(e -> deleteQuietly(tempFile))
+                        .doOnCancel(() -> deleteQuietly(tempFile)));
+    }
+
+    public void put(String key, CachedResponse response) {
+        Path file = cacheDir.resolve(name(key) + METADATA_SUFFIX);
+        try {
+            Files.createDirectories(cacheDir);
+            // 다른 스레드가 쓰다 만 파일을 읽지 않도록 임시 파일에 쓴 뒤 교체
+            Path tempFile = Files.createTempFile(cacheDir, "entry", TEMP_SUFFIX);
+            objectMapper.writeValue(tempFile.toFile(), response);
+            Files.move(tempFile, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (IOException e) {
+            log.warn("OpenF1 응답 캐시를 저장하지 못했습니다. [key: {}]", key, e);
+        }
+    }
+
+    // 캐시된 본문 크기의 합 (바이트)
+    public long totalBytes() {
+        return totalBytes.get();
+    }
+
+    // 종료된 세션이라도 OpenF1 수집이 늦어지면 빈 배열이 오므로, 빈 응답은 불변으로 고정하지 않고 TTL마다 다시 요청
+    static boolean isEmptyArray(InputStream body) throws IOException {
+        InputStream input = new BufferedInputStream(body);
+        int c = skipWhitespace(input);
+        if (c < 0) {
+            return true;
+        }
+        if (c != '[') {
+            return false;
+        }
+        return skipWhitespace(input) == ']';
+    }
+
+    private static int skipWhitespace(InputStream input) throws IOException {
+        int c;
+        do {
+            c = input.read();
+        } while (c >= 0 && Character.isWhitespace(c));
+        return c;
+    }
+
+    private boolean commitBody(String name, Path tempFile) throws IOException {
+        boolean empty;
+        try (InputStream input = Files.newInputStream(tempFile)) {
+            empty = isEmptyArray(input);
+        }
+        long bytes = Files.size(tempFile);
+        // 기존 본문을 읽는 중인 요청은 교체 전 파일을 끝까지 읽음
+        Files.move(tempFile, cacheDir.resolve(name + BODY_SUFFIX), StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        Usage previous = usages.put(name, new Usage(bytes, System.currentTimeMillis()));
+        totalBytes.addAndGet(bytes - (previous == null ? 0 : previous.bytes()));
+        evictIfNeeded(name);
+        return empty;
+    }
+
+    // 방금 쓴 항목은 남겨 두고, 가장 오래 사용되지 않은 항목부터 용량 이하가 될 때까지 삭제
+    private synchronized void evictIfNeeded(String keep) {
+        if (totalBytes.get() <= maxBytes) {
+            return;
+        }
+        List<Map.Entry<String, Usage>> leastRecentlyUsed = usages.entrySet().stream()
+                .sorted(Comparator.comparingLong(entry -> entry.getValue().lastAccessMillis()))
+                .toList();
+        for (Map.Entry<String, Usage> entry : leastRecentlyUsed) {
+            if (totalBytes.get() <= maxBytes) {
+                break;
+            }
+            String name = entry.getKey();
+            if (name.equals(keep) || !usages.remove(name, entry.getValue())) {
+                continue;
+            }
+            totalBytes.addAndGet(-entry.getValue().bytes());
+            deleteQuietly(cacheDir.resolve(name + METADATA_SUFFIX));
+            deleteQuietly(cacheDir.resolve(name + BODY_SUFFIX));
+        }
+    }
+
+    // 재시작 시 남아 있는 본문 파일의 크기를 집계하고, 쓰다 만 임시 파일은 정리
+    private void loadUsages() {
+        if (!Files.isDirectory(cacheDir)) {
+            return;
+        }
+        try (Stream<Path> files = Files.list(cacheDir)) {
+            files.forEach(file -> {
+                String fileName = file.getFileName().toString();
+                try {
+                    if (fileName.endsWith(TEMP_SUFFIX)) {
+                        Files.deleteIfExists(file);
+                    } else if (fileName.endsWith(BODY_SUFFIX)) {
+                        long bytes = Files.size(file);
+                        usages.put(fileName.substring(0, fileName.length() - BODY_SUFFIX.length()),
+                                new Usage(bytes, Files.getLastModifiedTime(file).toMillis()));
+                        totalBytes.addAndGet(bytes);
+                    }
+                } catch (IOException e) {
+                    log.warn("OpenF1 응답 캐시 파일을 확인하지 못했습니다. [file: {}]", file, e);
+                }
+            });
+        } catch (IOException e) {
+            log.warn("OpenF1 응답 캐시 디렉터리를 읽지 못했습니다. [dir: {}]", cacheDir, e);
+        }
+        evictIfNeeded(null);
+    }
+
+    private static void deleteQuietly(Path file) {
+        try {
+            Files.deleteIfExists(file);
+        } catch (IOException e) {
+            log.warn("OpenF1 응답 캐시 파일을 삭제하지 못했습니다. [file: {}]", file, e);
+        }
+    }
+
+    // 경로+쿼리 문자열을 파일 이름으로 쓸 수 있도록 해시로 변환
+    private static String name(String key) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(key.getBytes(StandardCharsets.UTF_8));
+            return HexFormat.of().formatHex(digest);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
@@ -4,31 +4,76 @@ import com.gridhub.gridhub.domain.notification.repository.EmitterRepository;
 import org.springframework.stereotype.Repository;
 import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
 import java.util.Map;
 import java.util.concurrent.ConcurrentHashMap;
-import java.util.stream.Collectors;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicInteger;
 
+/**
+ * 사용자 ID → (emitterId → SseEmitter) 2단계 맵.
+ * 사용자별 조회는 전체 연결 수와 무관하게 해시 조회 한 번이며, 사용자 ID 접두어가 겹쳐도("1"과 "12_...") 섞이지 않음.
+ * 추가/삭제는 ConcurrentHashMap.compute로 해당 사용자 버킷만 원자적으로 갱신하므로 전역 잠금이 없음.
+ * 바깥 맵은 사용자 ID 해시로 HEARTBEAT_SLOTS개로 나뉘어 있어, SseHeartbeatScheduler가 타이머 휠처럼 한 칸씩 순회.
+ */
 @Repository
 public class MemoryEmitterRepository implements EmitterRepository {
 
-    // 동시성 문제 해결
-    private final Map<String, SseEmitter> emitters = new ConcurrentHashMap<>();
+    public static final int HEARTBEAT_SLOTS = 32;
+
+    private final List<ConcurrentMap<String, ConcurrentMap<String, SseEmitter>>> slots = new ArrayList<>(HEARTBEAT_SLOTS);
+    private final AtomicInteger connectionCount = new AtomicInteger();
+
+    public MemoryEmitterRepository() {
+        for (int i = 0; i < HEARTBEAT_SLOTS; i++) {
+            slots.add(new ConcurrentHashMap<>());
+        }
+    }
 
     @Override
-    public SseEmitter save(String emitterId, SseEmitter sseEmitter) {
-        emitters.put(emitterId, sseEmitter);
+    public SseEmitter save(String userId, String emitterId, SseEmitter sseEmitter) {
+        slotOf(userId).compute(userId, (id, emitters) -> {
+            ConcurrentMap<String, SseEmitter> userEmitters = emitters != null ? emitters : new ConcurrentHashMap<>(4);
+            if (userEmitters.put(emitterId, sseEmitter) == null) {
+                connectionCount.incrementAndGet();
+            }
+            return userEmitters;
+        });
         return sseEmitter;
     }
 
     @Override
-    public void deleteById(String emitterId) {
-        emitters.remove(emitterId);
+    public void deleteById(String userId, String emitterId) {
+        // 마지막 연결이 끊긴 사용자는 바깥 맵에서도 제거해 연결된 사용자 수만큼만 메모리를 사용
+        slotOf(userId).computeIfPresent(userId, (id, emitters) -> {
+            if (emitters.remove(emitterId) != null) {
+                connectionCount.decrementAndGet();
+            }
+            return emitters.isEmpty() ? null : emitters;
+        });
     }
 
     @Override
     public Map<String, SseEmitter> findAllByUserId(String userId) {
-        return emitters.entrySet().stream()
-                .filter(entry -> entry.getKey().startsWith(userId))
-                .collect(Collectors.toMap(Map.Entry::getKey, Map.Entry::getValue));
+        ConcurrentMap<String, SseEmitter> emitters = slotOf(userId).get(userId);
+        return emitters != null ? Collections.unmodifiableMap(emitters) : Map.of();
+    }
+
+    /**
+     * 하트비트 휠의 한 칸에 배정된 사용자들의 연결 (사용자 ID → emitterId → SseEmitter).
+     * 순회 중 추가/삭제가 일어나도 안전함.
+     */
+    public Map<String, ? extends Map<String, SseEmitter>> findAllInSlot(int slot) {
+        return Collections.unmodifiableMap(slots.get(slot));
+    }
+
+    public int connectionCount() {
+        return connectionCount.get();
+    }
+
+    private ConcurrentMap<String, ConcurrentMap<String, SseEmitter>> slotOf(String userId) {
+        return slots.get(Math.floorMod(userId.hashCode(), HEARTBEAT_SLOTS));
     }
 }
@@ -0,0 +1,143 @@
+package com.gridhub.gridhub.infra.notification;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.codec.ServerSentEvent;
+import org.springframework.stereotype.Component;
+import reactor.core.Disposable;
+import reactor.core.publisher.BufferOverflowStrategy;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Sinks;
+
+import java.time.Duration;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * 사용자별 Sinks.Many(multicast)로 알림 스트림을 관리.
+ * 같은 사용자의 여러 연결(탭)은 하나의 sink를 구독하며, 대기 중인 연결은 스레드를 점유하지 않음
+ * (발행 스레드는 구독자별 버퍼에 넣기만 하고, 응답 쓰기는 Spring MVC가 별도 스레드에서 수행).
+ * 마지막 구독자가 끊기면 사용자 sink도 제거해 접속 중인 사용자 수만큼만 메모리를 사용.
+ * 알림이 없어도 연결마다 주기적으로 하트비트(SSE 주석)를 보내, 프록시의 유휴 타임아웃을 막고 끊긴 연결은 쓰기 실패로 정리되도록 함.
+ */
+@Component
+public class NotificationSinkRegistry {
+
+    // EventSource는 주석 줄을 무시하며, Last-Event-ID도 바뀌지 않음
+    private static final ServerSentEvent<Object> HEARTBEAT = ServerSentEvent.<Object>builder().comment("heartbeat").build();
+
+    private final SseEventDispatcher sseEventDispatcher;
+    private final Duration heartbeatInterval;
+    private final ConcurrentMap<String, UserSink> sinksByUserId = new ConcurrentHashMap<>();
+    private final AtomicInteger totalSubscriberCount = new AtomicInteger();
+
+    public NotificationSinkRegistry(SseEventDispatcher sseEventDispatcher,
+                                    @Value("${notification.heartbeat.interval:30s}") Duration heartbeatInterval) {
+        this.sseEventDispatcher = sseEventDispatcher;
+        this.heartbeatInterval = heartbeatInterval;
+    }
+
+    /**
+     * 사용자의 알림 스트림을 연다. 구독 시점에 sink에 등록되고, 구독이 끝나면(취소/완료/오류) 해제됨.
+     * initialEvents보다 sink를 먼저 구독하므로, initialEvents를 만드는 동안(놓친 알림 조회 등) 발행된 알림은
+     * 유실되지 않고 쌓여 있다가 initialEvents 뒤에 전달됨. 양쪽에 모두 있는 알림은 이벤트 ID 기준으로 한 번만 보냄.
+     *
+     * @param userId 구독할 사용자 ID
+     * @param initialEvents 실시간 이벤트보다 먼저 보낼 이벤트 (연결 이벤트, 놓친 알림 재전송 등). sink 구독 이후에 구독됨
+     * @param lifetime 연결 유지 시간. 끝나면 스트림이 완료되고 클라이언트(EventSource)가 재연결
+     */
+    public Flux<ServerSentEvent<Object>> connect(String userId, Flux<ServerSentEvent<Object>> initialEvents, Duration lifetime) {
+        return Flux.defer(() -> {
+            UserSink userSink = attach(userId);
+            // initialEvents보다 먼저 sink에 붙어 두고, initialEvents가 끝날 때까지 받은 알림은 큐 크기만큼 보관
+            AtomicReference<Disposable> liveConnection = new AtomicReference<>();
+            Flux<ServerSentEvent<Object>> live = userSink.sink.asFlux()
+                    .publish(sseEventDispatcher.queueCapacity())
+                    .autoConnect(0, liveConnection::set);
+            // 재전송한 알림이 실시간으로도 발행된 경우 중복 전송하지 않음
+            Set<String> replayedIds = ConcurrentHashMap.newKeySet();
+            return initialEvents
+                    .doOnNext(event -> {
+                        if (event.id() != null) {
+                            replayedIds.add(event.id());
+                        }
+                    })
+                    .concatWith(live.filter(event -> event.id() == null || !replayedIds.contains(event.id())))
+                    // 타이머는 공유 스케줄러에서 돌므로 연결마다 스레드를 만들지 않음.
+                    // 쓰기가 밀린 연결에서는 하트비트도 버퍼를 차지하지만, 버퍼 크기만큼의 주기 동안 밀린 경우에만 알림을 밀어냄
+                    .mergeWith(Flux.interval(heartbeatInterval).map(tick -> HEARTBEAT))
+                    // Spring MVC는 요청량을 하나씩 보내며 별도 스레드에서 쓰므로, 발행 스레드는 버퍼에 넣고 바로 반환.
+                    // 쓰기가 밀린 구독자는 버퍼 크기만큼만 보관하고 오래된 이벤트부터 버림
+                    .onBackpressureBuffer(sseEventDispatcher.queueCapacity(),
+                            dropped -> sseEventDispatcher.recordStreamOverflow(),
+                            BufferOverflowStrategy.DROP_OLDEST)
+                    .take(lifetime)
+                    .doFinally(signal -> {
+                        // autoConnect로 붙은 sink 구독은 하위 구독이 끝나도 유지되므로 직접 해제
+                        Disposable connection = liveConnection.get();
+                        if (connection != null) {
+                            connection.dispose();
+                        }
+                        detach(userId, userSink);
+                    });
+        });
+    }
+
+    /**
+     * 사용자에게 연결된 모든 구독자에게 이벤트 발행. 구독자가 없으면 아무것도 하지 않음.
+     * 쓰기가 밀린 구독자에게는 버퍼에 쌓이며, 버퍼가 가득 차면 그 구독자의 가장 오래된 이벤트를 버림.
+     */
+    public void publish(String userId, ServerSentEvent<Object> event) {
+        UserSink userSink = sinksByUserId.get(userId);
+        if (userSink == null) {
+            return;
+        }
+        // 다른 스레드가 같은 사용자에게 발행 중이면 FAIL_NON_SERIALIZED이므로 재시도.
+        // emitNext는 FAIL_OVERFLOW(모든 구독자의 요청량 부족)에서 sink를 오류로 종료시키므로 사용하지 않음
+        Sinks.EmitResult result;
+        do {
+            result = userSink.sink.tryEmitNext(event);
+            if (result == Sinks.EmitResult.FAIL_NON_SERIALIZED) {
+                Thread.onSpinWait();
+            }
+        } while (result == Sinks.EmitResult.FAIL_NON_SERIALIZED);
+    }
+
+    public int subscriberCount(String userId) {
+        UserSink userSink = sinksByUserId.get(userId);
+        return userSink != null ? userSink.sink.currentSubscriberCount() : 0;
+    }
+
+    public int totalSubscriberCount() {
+        return totalSubscriberCount.get();
+    }
+
+    // 구독자 수 증감과 sink 생성/제거를 같은 compute 안에서 처리해, 제거 중인 sink에 새 구독자가 붙는 경우를 막음
+    private UserSink attach(String userId) {
+        return sinksByUserId.compute(userId, (id, userSink) -> {
+            UserSink current = userSink != null ? userSink : new UserSink();
+            current.subscribers++;
+            totalSubscriberCount.incrementAndGet();
+            return current;
+        });
+    }
+
+    private void detach(String userId, UserSink detaching) {
+        sinksByUserId.computeIfPresent(userId, (id, userSink) -> {
+            if (userSink != detaching) {
+                return userSink;
+            }
+            totalSubscriberCount.decrementAndGet();
+            return --userSink.subscribers == 0 ? null : userSink;
+        });
+    }
+
+    private static final class UserSink {
+        // 구독자마다 독립적으로 전달하며, 느린 구독자 때문에 다른 구독자의 전송이 실패하지 않음
+        private final Sinks.Many<ServerSentEvent<Object>> sink = Sinks.many().multicast().directBestEffort();
+        // sinksByUserId의 compute 안에서만 변경
+        private int subscribers;
+    }
+}
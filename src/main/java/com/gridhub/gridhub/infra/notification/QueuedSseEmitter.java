@@ -0,0 +1,203 @@
+package com.gridhub.gridhub.infra.notification;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 크기가 제한된 전송 큐를 가진 SseEmitter. SseEventDispatcher.newEmitter로 생성.
+ * enqueue는 큐에 넣기만 하고, 실제 쓰기는 SseEventDispatcher의 스레드 풀에서 연결당 한 번에 한 스레드만 수행.
+ * 쓰기 하나가 제한 시간을 넘기면 SseEventDispatcher의 감시 스레드가 abortIfStalled로 연결을 끊음.
+ */
+@Slf4j
+public class QueuedSseEmitter extends SseEmitter {
+
+    // 한 번 실행에서 보낼 최대 이벤트 수. 밀린 이벤트가 많은 연결이 디스패처 스레드를 독점하지 않도록 나눠서 보냄
+    private static final int MAX_EVENTS_PER_DRAIN = 16;
+
+    private final SseEventDispatcher dispatcher;
+    private final int capacity;
+    private final Runnable onDisconnect;
+    private final Queue<SseEventBuilder> queue = new ConcurrentLinkedQueue<>();
+    private final AtomicInteger depth = new AtomicInteger();
+    private final AtomicBoolean draining = new AtomicBoolean();
+    private final AtomicBoolean closed = new AtomicBoolean();
+
+    // 진행 중인 쓰기. 감시 스레드가 다른 작업을 실행 중인 스레드를 깨우지 않도록 writeGuard 안에서만 바꾸고 확인
+    private final Object writeGuard = new Object();
+    private Thread writer;
+    private long writeStartedAt;
+    private volatile boolean writeTimedOut;
+
+    QueuedSseEmitter(Long timeout, SseEventDispatcher dispatcher, int capacity, Runnable onDisconnect) {
+        super(timeout);
+        this.dispatcher = dispatcher;
+        this.capacity = capacity;
+        this.onDisconnect = onDisconnect;
+    }
+
+    /**
+     * 이벤트를 전송 큐에 넣는다. 큐가 가득 차 있으면 밀린 이벤트를 모두 버리고 연결을 끊음.
+     *
+     * @return 이벤트가 큐에 들어갔으면 true, 이미 끊긴 연결이거나 큐가 넘쳤으면 false
+     */
+    boolean enqueue(SseEventBuilder event) {
+        if (closed.get()) {
+            return false;
+        }
+        if (depth.incrementAndGet() > capacity) {
+            depth.decrementAndGet();
+            dispatcher.recordEmitterOverflow();
+            log.warn("SSE 전송 큐가 가득 차 연결을 끊습니다. (capacity={})", capacity);
+            disconnect(null);
+            return false;
+        }
+        queue.offer(event);
+        dispatcher.queued(1);
+        if (closed.get()) {
+            // 넣는 사이에 연결이 끊긴 경우 방금 넣은 이벤트도 정리
+            discardQueued();
+            return false;
+        }
+        scheduleDrain();
+        return true;
+    }
+
+    public int queueDepth() {
+        return depth.get();
+    }
+
+    /**
+     * 진행 중인 쓰기가 timeoutNanos보다 오래 걸렸으면 연결을 끊고 쓰는 스레드를 인터럽트.
+     * 완료 처리는 쓰기 잠금을 가진 drain이 쓰기에서 빠져나온 뒤 수행.
+     *
+     * @return 이 호출로 연결을 끊었으면 true
+     */
+    boolean abortIfStalled(long now, long timeoutNanos) {
+        boolean aborted;
+        synchronized (writeGuard) {
+            if (writer == null || now - writeStartedAt < timeoutNanos) {
+                return false;
+            }
+            aborted = closed.compareAndSet(false, true);
+            if (aborted) {
+                writeTimedOut = true;
+            }
+            writer.interrupt();
+        }
+        if (!aborted) {
+            return false;
+        }
+        dispatcher.recordWriteTimeout();
+        log.warn("SSE 쓰기가 {}ms 넘게 끝나지 않아 연결을 끊습니다.", TimeUnit.NANOSECONDS.toMillis(timeoutNanos));
+        discardQueued();
+        onDisconnect.run();
+        return true;
+    }
+
+    private void scheduleDrain() {
+        if (!draining.compareAndSet(false, true)) {
+            return;
+        }
+        try {
+            dispatcher.execute(this::drain);
+        } catch (RejectedExecutionException e) {
+            // 애플리케이션 종료 중
+            draining.set(false);
+            disconnect(null);
+        }
+    }
+
+    private void drain() {
+        dispatcher.drainStarted(this);
+        try {
+            for (int i = 0; i < MAX_EVENTS_PER_DRAIN && !closed.get(); i++) {
+                SseEventBuilder event = queue.poll();
+                if (event == null) {
+                    break;
+                }
+                depth.decrementAndGet();
+                dispatcher.dequeued(1);
+                write(event);
+            }
+        } catch (IOException | IllegalStateException e) {
+            // 이미 끊은 연결(큐 초과, 쓰기 시간 초과)에서 난 실패는 다시 집계하지 않음
+            if (!closed.get()) {
+                log.debug("SSE 전송 실패로 연결을 끊습니다.", e);
+                dispatcher.recordWriteFailure();
+                disconnect(e);
+            }
+        } finally {
+            dispatcher.drainFinished(this);
+            // 감시 스레드가 보낸 인터럽트가 다음 작업에 남지 않도록 정리
+            Thread.interrupted();
+            if (writeTimedOut) {
+                completeQuietly(new IOException("SSE write timed out"));
+            }
+            draining.set(false);
+            // 플래그를 내린 뒤에 다시 확인해야, 그 사이 들어온 이벤트가 누락되지 않음
+            if (!closed.get() && !queue.isEmpty()) {
+                scheduleDrain();
+            }
+        }
+    }
+
+    private void write(SseEventBuilder event) throws IOException {
+        synchronized (writeGuard) {
+            writer = Thread.currentThread();
+            writeStartedAt = System.nanoTime();
+        }
+        try {
+            send(event);
+        } finally {
+            synchronized (writeGuard) {
+                writer = null;
+            }
+        }
+    }
+
+    private void disconnect(Exception cause) {
+        if (!closed.compareAndSet(false, true)) {
+            return;
+        }
+        discardQueued();
+        onDisconnect.run();
+        // 다른 스레드가 쓰는 중이면 완료 처리가 쓰기 잠금을 기다리므로, 호출 스레드가 아닌 디스패처에서 수행
+        Runnable complete = () -> completeQuietly(cause);
+        try {
+            dispatcher.execute(complete);
+        } catch (RejectedExecutionException e) {
+            complete.run();
+        }
+    }
+
+    private void completeQuietly(Exception cause) {
+        try {
+            if (cause != null) {
+                completeWithError(cause);
+            } else {
+                complete();
+            }
+        } catch (Exception ignored) {
+            // 이미 완료된 연결
+        }
+    }
+
+    private void discardQueued() {
+        int discarded = 0;
+        while (queue.poll() != null) {
+            discarded++;
+        }
+        if (discarded > 0) {
+            depth.addAndGet(-discarded);
+            dispatcher.dequeued(discarded);
+        }
+    }
+}
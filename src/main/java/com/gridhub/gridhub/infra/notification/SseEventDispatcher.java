@@ -0,0 +1,180 @@
+package com.gridhub.gridhub.infra.notification;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * SSE 이벤트를 호출 스레드에서 직접 쓰지 않고, 연결마다 크기가 제한된 큐(QueuedSseEmitter)에 넣은 뒤
+ * 공유 디스패처 스레드 풀에서 전송. 느린 클라이언트가 있어도 알림을 발행하는 쪽(댓글 작성 트랜잭션 등)은 기다리지 않음.
+ * 큐가 가득 찬 연결은 밀린 이벤트를 버리고 연결을 끊어, 클라이언트가 Last-Event-ID로 재연결해 놓친 알림을 받도록 함.
+ * 쓰기 자체는 블로킹이므로, 한 번의 쓰기가 writeTimeout을 넘긴 연결은 감시 스레드가 끊고 쓰는 스레드를 깨워
+ * 응답이 멈춘 클라이언트들이 디스패처 스레드를 모두 점유하지 않도록 함.
+ */
+@Slf4j
+@Component
+public class SseEventDispatcher {
+
+    private final int queueCapacity;
+    private final long writeTimeoutNanos;
+    private final ThreadPoolExecutor dispatchExecutor;
+    private final ScheduledExecutorService writeWatchdog = Executors.newSingleThreadScheduledExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "sse-write-watchdog");
+        thread.setDaemon(true);
+        return thread;
+    });
+    // 디스패처 스레드에서 전송 중인 연결. 감시 스레드는 이 연결들만 확인
+    private final Set<QueuedSseEmitter> drainingEmitters = ConcurrentHashMap.newKeySet();
+    private final AtomicLong queuedEvents = new AtomicLong();
+    private final Counter emitterOverflows;
+    private final Counter streamOverflows;
+    // SseHeartbeatScheduler가 등록하는 것과 같은 카운터. 하트비트/알림 쓰기 실패로 끊긴 연결도 함께 집계
+    private final Counter reapedConnections;
+    private final Counter writeTimeouts;
+
+    public SseEventDispatcher(MeterRegistry meterRegistry,
+                              @Value("${notification.sse.queue-capacity:64}") int queueCapacity,
+                              @Value("${notification.sse.write-timeout:10s}") Duration writeTimeout) {
+        this.queueCapacity = queueCapacity;
+        this.writeTimeoutNanos = writeTimeout.toNanos();
+        int threads = Math.max(4, Runtime.getRuntime().availableProcessors() * 2);
+        AtomicInteger threadNumber = new AtomicInteger();
+        // 연결마다 실행 대기 중인 작업은 최대 하나이므로, 작업 큐의 길이는 연결 수를 넘지 않음
+        this.dispatchExecutor = new ThreadPoolExecutor(threads, threads, 0L, TimeUnit.MILLISECONDS,
+                new LinkedBlockingQueue<>(),
+                runnable -> {
+                    Thread thread = new Thread(runnable, "sse-dispatch-" + threadNumber.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                });
+
+        Gauge.builder("notification.sse.queue.depth", queuedEvents, AtomicLong::get)
+                .description("전송 대기 중인 SSE 이벤트 수 (전체 연결 합계)")
+                .register(meterRegistry);
+        Gauge.builder("notification.sse.dispatcher.pending", dispatchExecutor, executor -> executor.getQueue().size())
+                .description("디스패처 스레드를 기다리는 연결 수")
+                .register(meterRegistry);
+        this.emitterOverflows = overflowCounter(meterRegistry, "emitter");
+        this.streamOverflows = overflowCounter(meterRegistry, "stream");
+        this.reapedConnections = Counter.builder("notification.sse.reaped")
+                .description("전송에 실패해 정리된 SSE 연결 수")
+                .register(meterRegistry);
+        this.writeTimeouts = Counter.builder("notification.sse.write.timeout")
+                .description("쓰기가 제한 시간을 넘겨 끊은 SSE 연결 수")
+                .register(meterRegistry);
+
+        long checkMillis = Math.max(10, writeTimeout.toMillis() / 4);
+        writeWatchdog.scheduleWithFixedDelay(this::abortStalledWrites, checkMillis, checkMillis, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * 전송 큐를 가진 SseEmitter 생성.
+     *
+     * @param onDisconnect 큐가 넘치거나 전송에 실패해 연결을 끊을 때 실행 (저장소에서 제거 등)
+     */
+    public QueuedSseEmitter newEmitter(Long timeout, Runnable onDisconnect) {
+        return new QueuedSseEmitter(timeout, this, queueCapacity, onDisconnect);
+    }
+
+    /**
+     * 이벤트 전송을 예약하고 바로 반환. QueuedSseEmitter가 아니면 호출 스레드에서 바로 전송.
+     *
+     * @return 연결이 이미 끊겼거나 큐가 넘쳐 이벤트를 받을 수 없으면 false
+     */
+    public boolean send(SseEmitter emitter, SseEmitter.SseEventBuilder event) {
+        if (emitter instanceof QueuedSseEmitter queuedEmitter) {
+            return queuedEmitter.enqueue(event);
+        }
+        try {
+            emitter.send(event);
+            return true;
+        } catch (IOException | IllegalStateException e) {
+            return false;
+        }
+    }
+
+    public int queueCapacity() {
+        return queueCapacity;
+    }
+
+    // 리액티브 스트림(NotificationSinkRegistry)에서 구독자 버퍼가 넘쳐 이벤트를 버린 경우
+    public void recordStreamOverflow() {
+        streamOverflows.increment();
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        writeWatchdog.shutdownNow();
+        dispatchExecutor.shutdownNow();
+    }
+
+    // 예외가 밖으로 나가면 이후 실행이 모두 취소되므로 연결마다 처리
+    void abortStalledWrites() {
+        long now = System.nanoTime();
+        for (QueuedSseEmitter emitter : drainingEmitters) {
+            try {
+                emitter.abortIfStalled(now, writeTimeoutNanos);
+            } catch (Exception e) {
+                log.error("멈춘 SSE 연결 정리 중 오류 발생", e);
+            }
+        }
+    }
+
+    void execute(Runnable task) throws RejectedExecutionException {
+        dispatchExecutor.execute(task);
+    }
+
+    void recordEmitterOverflow() {
+        emitterOverflows.increment();
+    }
+
+    void recordWriteFailure() {
+        reapedConnections.increment();
+    }
+
+    void recordWriteTimeout() {
+        writeTimeouts.increment();
+        reapedConnections.increment();
+    }
+
+    void drainStarted(QueuedSseEmitter emitter) {
+        drainingEmitters.add(emitter);
+    }
+
+    void drainFinished(QueuedSseEmitter emitter) {
+        drainingEmitters.remove(emitter);
+    }
+
+    void queued(int count) {
+        queuedEvents.addAndGet(count);
+    }
+
+    void dequeued(int count) {
+        queuedEvents.addAndGet(-count);
+    }
+
+    private Counter overflowCounter(MeterRegistry meterRegistry, String transport) {
+        return Counter.builder("notification.sse.queue.overflow")
+                .description("전송 큐가 가득 찬 횟수 (emitter: 연결 끊김, stream: 가장 오래된 이벤트 버림)")
+                .tag("transport", transport)
+                .register(meterRegistry);
+    }
+}
@@ -0,0 +1,115 @@
+package com.gridhub.gridhub.infra.notification;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * SseEmitter 연결에 주기적으로 하트비트(SSE 주석)를 보내 끊긴 연결을 찾아 정리.
+ * 실제 알림 전송이 실패할 때까지 기다리지 않으므로, 죽은 연결이 1시간 타임아웃까지 쌓이지 않음.
+ * MemoryEmitterRepository의 HEARTBEAT_SLOTS칸을 interval 동안 한 칸씩 순회해(타이머 휠),
+ * 전체 연결에 한꺼번에 쓰지 않고 작은 묶음으로 나눠 보냄.
+ */
+@Slf4j
+@Component
+public class SseHeartbeatScheduler {
+
+    // EventSource는 주석 줄을 무시하며, Last-Event-ID도 바뀌지 않음
+    private static final String HEARTBEAT_COMMENT = "heartbeat";
+
+    private final MemoryEmitterRepository emitterRepository;
+    private final SseEventDispatcher sseEventDispatcher;
+    private final Duration interval;
+    private final Counter reapedConnections;
+    private final ScheduledExecutorService ticker = Executors.newSingleThreadScheduledExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "sse-heartbeat");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    // ticker 스레드에서만 접근
+    private int cursor;
+
+    public SseHeartbeatScheduler(MemoryEmitterRepository emitterRepository,
+                                 NotificationSinkRegistry notificationSinkRegistry,
+                                 SseEventDispatcher sseEventDispatcher,
+                                 MeterRegistry meterRegistry,
+                                 @Value("${notification.heartbeat.interval:30s}") Duration interval) {
+        this.emitterRepository = emitterRepository;
+        this.sseEventDispatcher = sseEventDispatcher;
+        this.interval = interval;
+        Gauge.builder("notification.sse.connections", emitterRepository, MemoryEmitterRepository::connectionCount)
+                .description("연결 중인 SSE 구독 수")
+                .tag("transport", "emitter")
+                .register(meterRegistry);
+        Gauge.builder("notification.sse.connections", notificationSinkRegistry, NotificationSinkRegistry::totalSubscriberCount)
+                .description("연결 중인 SSE 구독 수")
+                .tag("transport", "stream")
+                .register(meterRegistry);
+        this.reapedConnections = Counter.builder("notification.sse.reaped")
+                .description("전송에 실패해 정리된 SSE 연결 수")
+                .register(meterRegistry);
+    }
+
+    @PostConstruct
+    public void start() {
+        long tickMillis = Math.max(1, interval.toMillis() / MemoryEmitterRepository.HEARTBEAT_SLOTS);
+        ticker.scheduleAtFixedRate(this::tick, tickMillis, tickMillis, TimeUnit.MILLISECONDS);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        ticker.shutdownNow();
+    }
+
+    // 예외가 밖으로 나가면 이후 실행이 모두 취소되므로 여기서 처리
+    void tick() {
+        try {
+            heartbeat(cursor);
+        } catch (Exception e) {
+            log.error("SSE 하트비트 전송 중 오류 발생 (slot={})", cursor, e);
+        } finally {
+            cursor = (cursor + 1) % MemoryEmitterRepository.HEARTBEAT_SLOTS;
+        }
+    }
+
+    /**
+     * 한 칸에 배정된 모든 연결에 하트비트를 보내고, 실패한 연결을 정리.
+     *
+     * @return 정리된 연결 수
+     */
+    int heartbeat(int slot) {
+        int reaped = 0;
+        for (Map.Entry<String, ? extends Map<String, SseEmitter>> user : emitterRepository.findAllInSlot(slot).entrySet()) {
+            for (Map.Entry<String, SseEmitter> connection : user.getValue().entrySet()) {
+                if (!ping(connection.getValue())) {
+                    emitterRepository.deleteById(user.getKey(), connection.getKey());
+                    reaped++;
+                }
+            }
+        }
+        if (reaped > 0) {
+            reapedConnections.increment(reaped);
+            log.debug("끊긴 SSE 연결 {}개 정리 (slot={})", reaped, slot);
+        }
+        return reaped;
+    }
+
+    // 하트비트도 전송 큐를 거치므로 쓰기 실패는 디스패처 스레드에서 감지되어 QueuedSseEmitter가 직접 정리함.
+    // 여기서는 이미 끊겼거나 큐가 넘쳐 받을 수 없는 연결을 걸러냄
+    private boolean ping(SseEmitter emitter) {
+        return sseEventDispatcher.send(emitter, SseEmitter.event().comment(HEARTBEAT_COMMENT));
+    }
+}
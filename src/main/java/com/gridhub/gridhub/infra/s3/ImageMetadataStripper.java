@@ -0,0 +1,191 @@
+package com.gridhub.gridhub.infra.s3;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.SequenceInputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+
+/**
+ * JPEG 원본에서 EXIF/XMP(APP1), IPTC(APP13) 등 APP1~APP15 세그먼트와 주석(COM)을 제거해
+ * 촬영 위치(GPS), 기기 정보, 작성자/연락처 등이 공개되지 않도록 한다.
+ * 색 재현에 필요한 ICC 프로파일(APP2)과 Adobe 색 변환 정보(APP14)는 디코딩에 쓰이므로 남긴다.
+ * 압축 데이터는 건드리지 않고 이미지 데이터(SOS) 앞의 헤더만 메모리에서 다시 쓰므로 화질 손실이 없고,
+ * 나머지 본문은 스트림 그대로 전달된다. 회전 정보(Orientation)는 그대로 보이도록 최소한의 EXIF로 다시 넣는다.
+ * JPEG가 아니면 내용을 바꾸지 않는다.
+ */
+final class ImageMetadataStripper {
+
+    static final int ORIENTATION_NORMAL = 1;
+
+    // 헤더가 이보다 크면 더 이상 해석하지 않고 나머지를 그대로 전달 (APP 세그먼트 하나는 최대 64KB)
+    private static final int MAX_HEADER_BYTES = 1024 * 1024;
+
+    private static final int MARKER_SOI = 0xD8;
+    private static final int MARKER_SOS = 0xDA;
+    private static final int MARKER_EOI = 0xD9;
+    private static final int MARKER_APP0 = 0xE0;
+    private static final int MARKER_APP1 = 0xE1;
+    private static final int MARKER_APP2 = 0xE2;
+    private static final int MARKER_APP14 = 0xEE;
+    private static final int MARKER_APP15 = 0xEF;
+    private static final int MARKER_COM = 0xFE;
+    private static final int TAG_ORIENTATION = 0x0112;
+    private static final byte[] EXIF_HEADER = "Exif\0\0".getBytes(StandardCharsets.US_ASCII);
+    private static final byte[] ICC_PROFILE_HEADER = "ICC_PROFILE\0".getBytes(StandardCharsets.US_ASCII);
+    private static final byte[] ADOBE_HEADER = "Adobe".getBytes(StandardCharsets.US_ASCII);
+
+    private ImageMetadataStripper() {
+    }
+
+    /**
+     * @param content    메타데이터가 제거된 이미지 스트림
+     * @param sizeDelta  원본 대비 바뀐 바이트 수 (원본 크기 + sizeDelta = content 크기)
+     * @param orientation EXIF Orientation 값 (1~8, 없으면 1)
+     */
+    record StrippedImage(InputStream content, long sizeDelta, int orientation) {
+    }
+
+    static StrippedImage strip(InputStream source) throws IOException {
+        ByteArrayOutputStream kept = new ByteArrayOutputStream();
+        byte[] soi = source.readNBytes(2);
+        kept.writeBytes(soi);
+        if (soi.length < 2 || (soi[0] & 0xFF) != 0xFF || (soi[1] & 0xFF) != MARKER_SOI) {
+            return new StrippedImage(new SequenceInputStream(new ByteArrayInputStream(kept.toByteArray()), source),
+                    0, ORIENTATION_NORMAL);
+        }
+
+        long read = 2;
+        int orientation = ORIENTATION_NORMAL;
+        int insertAt = kept.size();
+        boolean first = true;
+        while (read < MAX_HEADER_BYTES) {
+            int prefix = source.read();
+            int marker = source.read();
+            if (prefix < 0 || marker < 0) {
+                break;
+            }
+            read += 2;
+            if (prefix != 0xFF || marker == MARKER_SOS || marker == MARKER_EOI || !hasLength(marker)) {
+                // 이미지 데이터 시작(또는 해석할 수 없는 구간): 읽은 마커를 되돌려 놓고 나머지는 그대로 전달
+                kept.write(prefix);
+                kept.write(marker);
+                break;
+            }
+
+            byte[] length = source.readNBytes(2);
+            byte[] payload = length.length < 2 ? new byte[0] : source.readNBytes(Math.max(0, segmentLength(length) - 2));
+            read += length.length + payload.length;
+            if (isMetadata(marker, payload) && length.length == 2 && payload.length == segmentLength(length) - 2) {
+                if (marker == MARKER_APP1 && startsWith(payload, EXIF_HEADER)) {
+                    orientation = readOrientation(payload);
+                }
+                first = false;
+                continue; // EXIF/XMP/IPTC/주석 등 제거
+            }
+
+            kept.write(0xFF);
+            kept.write(marker);
+            kept.writeBytes(length);
+            kept.writeBytes(payload);
+            if (first && marker == MARKER_APP0) {
+                insertAt = kept.size(); // JFIF APP0은 SOI 바로 뒤에 있어야 하므로 그 뒤에 삽입
+            }
+            first = false;
+        }
+
+        byte[] header = kept.toByteArray();
+        if (orientation != ORIENTATION_NORMAL) {
+            byte[] orientationSegment = orientationSegment(orientation);
+            byte[] withOrientation = new byte[header.length + orientationSegment.length];
+            System.arraycopy(header, 0, withOrientation, 0, insertAt);
+            System.arraycopy(orientationSegment, 0, withOrientation, insertAt, orientationSegment.length);
+            System.arraycopy(header, insertAt, withOrientation, insertAt + orientationSegment.length, header.length - insertAt);
+            header = withOrientation;
+        }
+        return new StrippedImage(new SequenceInputStream(new ByteArrayInputStream(header), source),
+                header.length - read, orientation);
+    }
+
+    // APP1~APP15와 COM은 제거 대상. 단, 디코딩에 필요한 ICC 프로파일(APP2)과 Adobe(APP14)는 유지
+    private static boolean isMetadata(int marker, byte[] payload) {
+        if (marker == MARKER_COM) {
+            return true;
+        }
+        if (marker < MARKER_APP1 || marker > MARKER_APP15) {
+            return false;
+        }
+        if (marker == MARKER_APP2) {
+            return !startsWith(payload, ICC_PROFILE_HEADER);
+        }
+        if (marker == MARKER_APP14) {
+            return !startsWith(payload, ADOBE_HEADER);
+        }
+        return true;
+    }
+
+    // SOI/EOI, RSTn, TEM은 길이 필드가 없음
+    private static boolean hasLength(int marker) {
+        return marker != 0x01 && (marker < 0xD0 || marker > 0xD9);
+    }
+
+    private static int segmentLength(byte[] length) {
+        return ((length[0] & 0xFF) << 8) | (length[1] & 0xFF);
+    }
+
+    private static boolean startsWith(byte[] bytes, byte[] prefix) {
+        return bytes.length >= prefix.length && Arrays.equals(bytes, 0, prefix.length, prefix, 0, prefix.length);
+    }
+
+    // TIFF 헤더의 첫 번째 IFD에서 Orientation 태그를 찾음. 형식이 잘못됐으면 1
+    private static int readOrientation(byte[] exif) {
+        int tiff = EXIF_HEADER.length;
+        if (exif.length < tiff + 8) {
+            return ORIENTATION_NORMAL;
+        }
+        boolean littleEndian = exif[tiff] == 'I' && exif[tiff + 1] == 'I';
+        long ifd = tiff + readInt(exif, tiff + 4, littleEndian);
+        if (ifd + 2 > exif.length) {
+            return ORIENTATION_NORMAL;
+        }
+        int entries = readShort(exif, (int) ifd, littleEndian);
+        for (int i = 0; i < entries; i++) {
+            int entry = (int) ifd + 2 + i * 12;
+            if (entry + 12 > exif.length) {
+                break;
+            }
+            if (readShort(exif, entry, littleEndian) == TAG_ORIENTATION) {
+                int value = readShort(exif, entry + 8, littleEndian);
+                return value >= 1 && value <= 8 ? value : ORIENTATION_NORMAL;
+            }
+        }
+        return ORIENTATION_NORMAL;
+    }
+
+    private static int readShort(byte[] bytes, int offset, boolean littleEndian) {
+        int b0 = bytes[offset] & 0xFF;
+        int b1 = bytes[offset + 1] & 0xFF;
+        return littleEndian ? (b1 << 8) | b0 : (b0 << 8) | b1;
+    }
+
+    private static long readInt(byte[] bytes, int offset, boolean littleEndian) {
+        long high = readShort(bytes, offset, littleEndian);
+        long low = readShort(bytes, offset + 2, littleEndian);
+        return littleEndian ? (low << 16) | high : (high << 16) | low;
+    }
+
+    // Orientation 태그 하나만 담은 APP1 세그먼트 (big-endian TIFF)
+    static byte[] orientationSegment(int orientation) {
+        return new byte[]{
+                (byte) 0xFF, (byte) MARKER_APP1, 0, 34,
+                'E', 'x', 'i', 'f', 0, 0,
+                'M', 'M', 0, 42, 0, 0, 0, 8,       // TIFF 헤더, 첫 IFD 오프셋 8
+                0, 1,                               // 항목 수
+                0x01, 0x12, 0, 3, 0, 0, 0, 1,       // Orientation, SHORT, 1개
+                0, (byte) orientation, 0, 0,
+                0, 0, 0, 0                          // 다음 IFD 없음
+        };
+    }
+}
@@ -0,0 +1,17 @@
+package com.gridhub.gridhub.infra.s3;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 업로드 시 원본과 함께 생성하는 축소 이미지 종류. maxDimension은 긴 변 기준 최대 픽셀.
+ */
+@Getter
+@RequiredArgsConstructor
+public enum ImageVariant {
+    MEDIUM(1024, "_medium"),   // 게시글 상세 화면용
+    THUMBNAIL(320, "_thumb");  // 목록/아바타용
+
+    private final int maxDimension;
+    private final String keySuffix;
+}
@@ -0,0 +1,216 @@
+package com.gridhub.gridhub.infra.s3;
+
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import javax.imageio.IIOImage;
+import javax.imageio.ImageIO;
+import javax.imageio.ImageReader;
+import javax.imageio.ImageWriteParam;
+import javax.imageio.ImageWriter;
+import javax.imageio.stream.ImageInputStream;
+import javax.imageio.stream.ImageOutputStream;
+import java.awt.Graphics2D;
+import java.awt.RenderingHints;
+import java.awt.geom.AffineTransform;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.EnumSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 업로드 이미지의 축소본(ImageVariant)을 만든다.
+ * 디코딩/리사이즈는 CPU를 많이 쓰므로 코어 수만큼의 고정 스레드 풀에서만 수행하고,
+ * 대기열이 가득 차면 호출 스레드에서 직접 처리해 작업이 무한정 쌓이지 않도록 함.
+ * 픽셀만 다시 인코딩하므로 EXIF(촬영 위치 등) 메타데이터는 축소본에 남지 않으며,
+ * 그 대신 EXIF 회전 정보(Orientation)를 축소 전에 픽셀에 적용해 원본과 같은 방향으로 보이도록 함.
+ */
+@Slf4j
+@Component
+public class ImageVariantGenerator {
+
+    // 디코딩 시 메모리 폭증(압축 폭탄)을 막기 위한 원본 최대 픽셀 수
+    static final long MAX_SOURCE_PIXELS = 40_000_000L;
+
+    private static final int QUEUE_CAPACITY = 64;
+    private static final float JPEG_QUALITY = 0.85f;
+
+    private final ThreadPoolExecutor resizeExecutor;
+
+    public ImageVariantGenerator() {
+        int threads = Math.max(2, Runtime.getRuntime().availableProcessors());
+        AtomicInteger threadNumber = new AtomicInteger();
+        this.resizeExecutor = new ThreadPoolExecutor(threads, threads, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(QUEUE_CAPACITY),
+                runnable -> {
+                    Thread thread = new Thread(runnable, "image-resize-" + threadNumber.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                },
+                new ThreadPoolExecutor.CallerRunsPolicy());
+    }
+
+    /**
+     * 이미지 축소본 생성 결과
+     *
+     * @param extension 저장 키에 붙일 확장자 (e.g., ".jpg")
+     */
+    public record GeneratedImage(ImageVariant variant, byte[] content, String contentType, String extension) {
+    }
+
+    /**
+     * 모든 ImageVariant를 생성. 이미지로 읽을 수 없거나 너무 큰 파일이면 빈 목록으로 완료.
+     */
+    public CompletableFuture<List<GeneratedImage>> generate(InputStream source) {
+        return generate(source, EnumSet.allOf(ImageVariant.class));
+    }
+
+    /**
+     * 지정한 ImageVariant만 생성. 이미지로 읽을 수 없거나 너무 큰 파일이면 빈 목록으로 완료.
+     */
+    public CompletableFuture<List<GeneratedImage>> generate(InputStream source, Set<ImageVariant> variants) {
+        return CompletableFuture.supplyAsync(() -> {
+            try (source) {
+                BufferedImage image = read(source);
+                if (image == null) {
+                    return List.of();
+                }
+                List<GeneratedImage> generated = new ArrayList<>();
+                for (ImageVariant variant : ImageVariant.values()) {
+                    if (variants.contains(variant)) {
+                        generated.add(encode(variant, resize(image, variant.getMaxDimension())));
+                    }
+                }
+                return generated;
+            } catch (IOException e) {
+                log.warn("이미지 축소본 생성 실패, 원본만 사용합니다.", e);
+                return List.of();
+            }
+        }, resizeExecutor);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        resizeExecutor.shutdown();
+    }
+
+    // 크기를 먼저 확인한 뒤 디코딩하고 EXIF 회전 정보를 적용. 지원하지 않는 형식이거나 MAX_SOURCE_PIXELS를 넘으면 null
+    private BufferedImage read(InputStream source) throws IOException {
+        ImageMetadataStripper.StrippedImage stripped = ImageMetadataStripper.strip(source);
+        try (ImageInputStream input = ImageIO.createImageInputStream(stripped.content())) {
+            if (input == null) {
+                return null;
+            }
+            Iterator<ImageReader> readers = ImageIO.getImageReaders(input);
+            if (!readers.hasNext()) {
+                return null;
+            }
+            ImageReader reader = readers.next();
+            try {
+                reader.setInput(input, true, true); // 메타데이터는 읽지 않음
+                long pixels = (long) reader.getWidth(0) * reader.getHeight(0);
+                if (pixels > MAX_SOURCE_PIXELS) {
+                    log.warn("이미지가 너무 커서 축소본을 만들지 않습니다. ({} px)", pixels);
+                    return null;
+                }
+                return orient(reader.read(0), stripped.orientation());
+            } finally {
+                reader.dispose();
+            }
+        }
+    }
+
+    // EXIF Orientation(1~8)에 따라 뒤집기/회전. 5~8은 가로세로가 바뀜
+    static BufferedImage orient(BufferedImage source, int orientation) {
+        int w = source.getWidth();
+        int h = source.getHeight();
+        AffineTransform transform = switch (orientation) {
+            case 2 -> new AffineTransform(-1, 0, 0, 1, w, 0);  // 좌우 반전
+            case 3 -> new AffineTransform(-1, 0, 0, -1, w, h); // 180도
+            case 4 -> new AffineTransform(1, 0, 0, -1, 0, h);  // 상하 반전
+            case 5 -> new AffineTransform(0, 1, 1, 0, 0, 0);   // 주대각선 기준 반전
+            case 6 -> new AffineTransform(0, 1, -1, 0, h, 0);  // 시계 방향 90도
+            case 7 -> new AffineTransform(0, -1, -1, 0, h, w); // 부대각선 기준 반전
+            case 8 -> new AffineTransform(0, -1, 1, 0, 0, w);  // 반시계 방향 90도
+            default -> null;
+        };
+        if (transform == null) {
+            return source;
+        }
+
+        boolean swapped = orientation >= 5;
+        int type = source.getColorModel().hasAlpha() ? BufferedImage.TYPE_INT_ARGB : BufferedImage.TYPE_INT_RGB;
+        BufferedImage target = new BufferedImage(swapped ? h : w, swapped ? w : h, type);
+        Graphics2D graphics = target.createGraphics();
+        try {
+            graphics.drawImage(source, transform, null);
+        } finally {
+            graphics.dispose();
+        }
+        return target;
+    }
+
+    // 긴 변이 maxDimension 이하가 되도록 비율을 유지해 축소 (확대는 하지 않음).
+    // 한 번에 크게 줄이면 계단 현상이 생기므로 절반씩 여러 번 줄인다.
+    static BufferedImage resize(BufferedImage source, int maxDimension) {
+        int width = source.getWidth();
+        int height = source.getHeight();
+        double scale = Math.min(1.0, (double) maxDimension / Math.max(width, height));
+        int targetWidth = Math.max(1, (int) Math.round(width * scale));
+        int targetHeight = Math.max(1, (int) Math.round(height * scale));
+
+        BufferedImage current = source;
+        do {
+            width = Math.max(targetWidth, width / 2);
+            height = Math.max(targetHeight, height / 2);
+            current = draw(current, width, height);
+        } while (width != targetWidth || height != targetHeight);
+        return current;
+    }
+
+    private static BufferedImage draw(BufferedImage source, int width, int height) {
+        int type = source.getColorModel().hasAlpha() ? BufferedImage.TYPE_INT_ARGB : BufferedImage.TYPE_INT_RGB;
+        BufferedImage target = new BufferedImage(width, height, type);
+        Graphics2D graphics = target.createGraphics();
+        try {
+            graphics.setRenderingHint(RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_BILINEAR);
+            graphics.setRenderingHint(RenderingHints.KEY_RENDERING, RenderingHints.VALUE_RENDER_QUALITY);
+            graphics.drawImage(source, 0, 0, width, height, null);
+        } finally {
+            graphics.dispose();
+        }
+        return target;
+    }
+
+    // 투명도가 있으면 PNG, 없으면 JPEG로 인코딩
+    private GeneratedImage encode(ImageVariant variant, BufferedImage image) throws IOException {
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+        if (image.getColorModel().hasAlpha()) {
+            ImageIO.write(image, "png", output);
+            return new GeneratedImage(variant, output.toByteArray(), "image/png", ".png");
+        }
+
+        ImageWriter writer = ImageIO.getImageWritersByFormatName("jpeg").next();
+        try (ImageOutputStream imageOutput = ImageIO.createImageOutputStream(output)) {
+            ImageWriteParam param = writer.getDefaultWriteParam();
+            param.setCompressionMode(ImageWriteParam.MODE_EXPLICIT);
+            param.setCompressionQuality(JPEG_QUALITY);
+            writer.setOutput(imageOutput);
+            writer.write(null, new IIOImage(image, null, null), param);
+        } finally {
+            writer.dispose();
+        }
+        return new GeneratedImage(variant, output.toByteArray(), "image/jpeg", ".jpg");
+    }
+}
@@ -0,0 +1,119 @@
+package com.gridhub.gridhub.infra.s3;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.*;
+
+/**
+ * 저장소 객체 삭제를 요청 처리에서 분리하는 지연 삭제 큐.
+ * 삭제 요청은 outbox(PendingObjectDeletion)에 기록만 하고, 백그라운드에서 최대 BATCH_SIZE개씩
+ * 일괄 삭제(S3 DeleteObjects)한다. 실패한 항목은 지수 백오프로 재시도하므로 삭제가 누락되지 않음.
+ * 같은 키를 두 번 삭제해도 결과는 같으므로, 여러 인스턴스가 같은 항목을 동시에 처리해도 무방.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ObjectDeletionQueue {
+
+    static final int BATCH_SIZE = 1_000; // DeleteObjects 한 번에 지정할 수 있는 최대 키 수
+    private static final long DRAIN_INTERVAL_MILLIS = 10_000;
+    private static final int ALERT_ATTEMPTS = 10;
+
+    private final PendingObjectDeletionRepository pendingObjectDeletionRepository;
+    private final ObjectStorage objectStorage;
+
+    /**
+     * 파일 삭제를 예약. 호출한 트랜잭션에 참여하므로 트랜잭션이 롤백되면 삭제도 취소됨.
+     *
+     * @param fileUrls 삭제할 파일 URL 목록
+     */
+    @Transactional
+    public void enqueue(Collection<String> fileUrls) {
+        LocalDateTime now = LocalDateTime.now();
+        List<PendingObjectDeletion> deletions = fileUrls.stream()
+                .filter(url -> url != null && !url.isBlank())
+                .map(url -> new PendingObjectDeletion(objectStorage.keyOf(url), now))
+                .toList();
+        if (!deletions.isEmpty()) {
+            pendingObjectDeletionRepository.saveAll(deletions);
+        }
+    }
+
+    /**
+     * 호출한 트랜잭션과 무관하게 파일 삭제를 예약.
+     * 롤백된 트랜잭션의 afterCompletion처럼 기존 트랜잭션에 더 이상 쓸 수 없는 곳에서 사용.
+     */
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    public void enqueueInNewTransaction(Collection<String> fileUrls) {
+        enqueue(fileUrls);
+    }
+
+    /**
+     * 기한이 된 삭제 대기 항목을 모두 처리. 배치마다 저장소 호출은 한 번이며, DB 트랜잭션 밖에서 수행.
+     */
+    @Scheduled(fixedDelay = DRAIN_INTERVAL_MILLIS)
+    public void drain() {
+        List<PendingObjectDeletion> due;
+        do {
+            due = pendingObjectDeletionRepository.findDue(LocalDateTime.now(), PageRequest.of(0, BATCH_SIZE));
+            if (!due.isEmpty()) {
+                deleteBatch(due);
+            }
+        } while (due.size() == BATCH_SIZE);
+    }
+
+    private void deleteBatch(List<PendingObjectDeletion> batch) {
+        Set<String> keys = new LinkedHashSet<>();
+        batch.forEach(deletion -> keys.add(deletion.getObjectKey()));
+
+        Map<String, String> failures;
+        try {
+            failures = objectStorage.deleteAll(List.copyOf(keys));
+        } catch (RuntimeException e) {
+            log.warn("저장소 일괄 삭제 실패, {}개 항목을 재시도합니다.", keys.size(), e);
+            String error = e.getClass().getSimpleName() + ": " + e.getMessage();
+            failures = new HashMap<>();
+            for (String key : keys) {
+                failures.put(key, error);
+            }
+        }
+
+        LocalDateTime now = LocalDateTime.now();
+        List<Long> deletedIds = new ArrayList<>();
+        // 재시도 상태(시도 횟수, 다음 시도 시각, 오류)가 같은 항목끼리 모아 UPDATE 한 번으로 갱신
+        Map<RetryState, List<Long>> retries = new LinkedHashMap<>();
+        for (PendingObjectDeletion deletion : batch) {
+            String error = failures.get(deletion.getObjectKey());
+            if (error == null) {
+                deletedIds.add(deletion.getId());
+                continue;
+            }
+            deletion.retryLater(now, error);
+            retries.computeIfAbsent(RetryState.of(deletion), state -> new ArrayList<>()).add(deletion.getId());
+            if (deletion.getAttempts() == ALERT_ATTEMPTS) {
+                log.error("저장소 객체 삭제가 {}회 연속 실패했습니다: {} ({})", ALERT_ATTEMPTS, deletion.getObjectKey(), error);
+            }
+        }
+
+        if (!deletedIds.isEmpty()) {
+            pendingObjectDeletionRepository.deleteAllByIdInBatch(deletedIds);
+        }
+        retries.forEach((state, ids) -> pendingObjectDeletionRepository.updateRetries(
+                ids, state.attempts(), state.nextAttemptAt(), state.lastError(), now));
+        int retryCount = retries.values().stream().mapToInt(List::size).sum();
+        log.info("저장소 객체 일괄 삭제: 성공 {}건, 재시도 예정 {}건", deletedIds.size(), retryCount);
+    }
+
+    private record RetryState(int attempts, LocalDateTime nextAttemptAt, String lastError) {
+        static RetryState of(PendingObjectDeletion deletion) {
+            return new RetryState(deletion.getAttempts(), deletion.getNextAttemptAt(), deletion.getLastError());
+        }
+    }
+}
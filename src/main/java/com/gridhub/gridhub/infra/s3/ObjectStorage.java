@@ -0,0 +1,34 @@
+package com.gridhub.gridhub.infra.s3;
+
+import java.io.InputStream;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * 파일 저장소 추상화. 운영에서는 S3(S3ObjectStorage), 테스트에서는 로컬 파일시스템 구현을 사용.
+ */
+public interface ObjectStorage {
+
+    /**
+     * content를 key 위치에 비동기로 저장. 스트림은 저장이 끝나면(성공/실패 모두) 구현체가 닫는다.
+     */
+    CompletableFuture<Void> put(String key, InputStream content, long contentLength, String contentType);
+
+    void delete(String key);
+
+    /**
+     * 여러 객체를 한 번의 요청으로 삭제 (최대 ObjectDeletionQueue.BATCH_SIZE개).
+     * 존재하지 않는 키는 성공으로 취급.
+     *
+     * @return 삭제에 실패한 키와 실패 사유 (모두 성공하면 빈 맵)
+     */
+    Map<String, String> deleteAll(List<String> keys);
+
+    String urlOf(String key);
+
+    /**
+     * urlOf로 만든 URL에서 key를 다시 추출. 이 저장소의 URL이 아니면 입력값을 그대로 반환.
+     */
+    String keyOf(String url);
+}
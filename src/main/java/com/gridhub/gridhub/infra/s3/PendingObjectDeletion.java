@@ -0,0 +1,58 @@
+package com.gridhub.gridhub.infra.s3;
+
+import com.gridhub.gridhub.domain.BaseTimeEntity;
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+
+/**
+ * 삭제 대기 중인 저장소 객체 (outbox). 게시글/프로필 변경과 같은 트랜잭션에서 저장되므로
+ * 변경이 커밋된 경우에만 삭제되며, ObjectDeletionQueue가 주기적으로 모아서 일괄 삭제.
+ */
+@Entity
+@Table(name = "pending_object_deletion", indexes = {
+        @Index(name = "idx_pending_object_deletion_next_attempt", columnList = "next_attempt_at, pending_object_deletion_id")
+})
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class PendingObjectDeletion extends BaseTimeEntity {
+
+    private static final Duration BASE_RETRY_DELAY = Duration.ofSeconds(30);
+    private static final Duration MAX_RETRY_DELAY = Duration.ofHours(1);
+    private static final int MAX_ERROR_LENGTH = 500;
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "pending_object_deletion_seq_generator")
+    @SequenceGenerator(name = "pending_object_deletion_seq_generator", sequenceName = "pending_object_deletion_seq", allocationSize = 50)
+    @Column(name = "pending_object_deletion_id")
+    private Long id;
+
+    @Column(nullable = false, length = 1024)
+    private String objectKey;
+
+    @Column(nullable = false)
+    private int attempts = 0;
+
+    @Column(name = "next_attempt_at", nullable = false)
+    private LocalDateTime nextAttemptAt;
+
+    @Column(length = MAX_ERROR_LENGTH)
+    private String lastError;
+
+    public PendingObjectDeletion(String objectKey, LocalDateTime nextAttemptAt) {
+        this.objectKey = objectKey;
+        this.nextAttemptAt = nextAttemptAt;
+    }
+
+    // 삭제 실패 시 지수 백오프(30초, 1분, 2분, ... 최대 1시간)로 다음 시도 시각을 미룸
+    public void retryLater(LocalDateTime now, String error) {
+        attempts++;
+        Duration delay = BASE_RETRY_DELAY.multipliedBy(1L << Math.min(attempts - 1, 16));
+        nextAttemptAt = now.plus(delay.compareTo(MAX_RETRY_DELAY) > 0 ? MAX_RETRY_DELAY : delay);
+        lastError = error != null && error.length() > MAX_ERROR_LENGTH ? error.substring(0, MAX_ERROR_LENGTH) : error;
+    }
+}
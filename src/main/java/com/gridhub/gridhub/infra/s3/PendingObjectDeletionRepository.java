@@ -0,0 +1,33 @@
+package com.gridhub.gridhub.infra.s3;
+
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+public interface PendingObjectDeletionRepository extends JpaRepository<PendingObjectDeletion, Long> {
+
+    // 다음 시도 시각이 지난 삭제 대기 항목을 먼저 들어온 순서대로 조회
+    @Query("SELECT d FROM PendingObjectDeletion d WHERE d.nextAttemptAt <= :now ORDER BY d.nextAttemptAt, d.id")
+    List<PendingObjectDeletion> findDue(@Param("now") LocalDateTime now, Pageable pageable);
+
+    /**
+     * 같은 재시도 상태가 된 항목들을 엔티티 조회 없이 UPDATE 한 번으로 갱신.
+     * 벌크 UPDATE는 auditing을 거치지 않으므로 updatedAt도 직접 지정.
+     */
+    @Transactional
+    @Modifying
+    @Query("UPDATE PendingObjectDeletion d SET d.attempts = :attempts, d.nextAttemptAt = :nextAttemptAt, " +
+            "d.lastError = :lastError, d.updatedAt = :now WHERE d.id IN :ids")
+    int updateRetries(@Param("ids") Collection<Long> ids,
+                      @Param("attempts") int attempts,
+                      @Param("nextAttemptAt") LocalDateTime nextAttemptAt,
+                      @Param("lastError") String lastError,
+                      @Param("now") LocalDateTime now);
+}
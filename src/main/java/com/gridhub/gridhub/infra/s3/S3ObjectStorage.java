@@ -0,0 +1,129 @@
+package com.gridhub.gridhub.infra.s3;
+
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import software.amazon.awssdk.core.async.AsyncRequestBody;
+import software.amazon.awssdk.services.s3.S3AsyncClient;
+import software.amazon.awssdk.services.s3.model.Delete;
+import software.amazon.awssdk.services.s3.model.DeleteObjectRequest;
+import software.amazon.awssdk.services.s3.model.DeleteObjectsRequest;
+import software.amazon.awssdk.services.s3.model.DeleteObjectsResponse;
+import software.amazon.awssdk.services.s3.model.ObjectIdentifier;
+import software.amazon.awssdk.services.s3.model.PutObjectRequest;
+import software.amazon.awssdk.services.s3.model.S3Error;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * S3AsyncClient(멀티파트 활성화, S3Config 참고) 기반 저장소.
+ * 업로드 스트림 읽기는 블로킹이라 SDK 이벤트 루프가 아닌 별도 스레드 풀에서 수행.
+ */
+@Slf4j
+@Component
+public class S3ObjectStorage implements ObjectStorage {
+
+    private static final int STREAM_READER_THREADS = 4;
+
+    private final S3AsyncClient s3AsyncClient;
+    private final String bucketName;
+    private final ExecutorService streamReaderExecutor;
+
+    public S3ObjectStorage(S3AsyncClient s3AsyncClient, @Value("${cloud.aws.s3.bucket}") String bucketName) {
+        this.s3AsyncClient = s3AsyncClient;
+        this.bucketName = bucketName;
+        AtomicInteger threadNumber = new AtomicInteger();
+        this.streamReaderExecutor = Executors.newFixedThreadPool(STREAM_READER_THREADS, runnable -> {
+            Thread thread = new Thread(runnable, "s3-upload-reader-" + threadNumber.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    @Override
+    public CompletableFuture<Void> put(String key, InputStream content, long contentLength, String contentType) {
+        PutObjectRequest putObjectRequest = PutObjectRequest.builder()
+                .bucket(bucketName)
+                .key(key)
+                .contentType(contentType)
+                .contentLength(contentLength)
+                .build();
+
+        return s3AsyncClient.putObject(putObjectRequest, AsyncRequestBody.fromInputStream(content, contentLength, streamReaderExecutor))
+                .whenComplete((response, throwable) -> closeQuietly(content))
+                .thenAccept(response -> log.info("S3에 파일 업로드 완료: {}", key));
+    }
+
+    @Override
+    public void delete(String key) {
+        DeleteObjectRequest deleteObjectRequest = DeleteObjectRequest.builder()
+                .bucket(bucketName)
+                .key(key)
+                .build();
+
+        s3AsyncClient.deleteObject(deleteObjectRequest).join();
+        log.info("S3에서 파일 삭제 완료: {}", key);
+    }
+
+    @Override
+    public Map<String, String> deleteAll(List<String> keys) {
+        if (keys.isEmpty()) {
+            return Map.of();
+        }
+        DeleteObjectsRequest deleteObjectsRequest = DeleteObjectsRequest.builder()
+                .bucket(bucketName)
+                .delete(Delete.builder()
+                        .objects(keys.stream().map(key -> ObjectIdentifier.builder().key(key).build()).toList())
+                        .quiet(true) // 실패한 키만 응답에 포함
+                        .build())
+                .build();
+
+        DeleteObjectsResponse response = s3AsyncClient.deleteObjects(deleteObjectsRequest).join();
+        Map<String, String> failures = new HashMap<>();
+        for (S3Error error : response.errors()) {
+            failures.put(error.key(), error.code() + ": " + error.message());
+        }
+        log.info("S3에서 파일 일괄 삭제 완료: 요청 {}건, 실패 {}건", keys.size(), failures.size());
+        return failures;
+    }
+
+    @Override
+    public String urlOf(String key) {
+        return s3AsyncClient.utilities().getUrl(builder -> builder.bucket(bucketName).key(key)).toExternalForm();
+    }
+
+    // S3 URL 형식: https://<bucket-name>.s3.<region>.amazonaws.com/<key>
+    @Override
+    public String keyOf(String url) {
+        String baseUrl = "https://" + bucketName + ".s3.";
+        if (url.startsWith(baseUrl)) {
+            int keyStart = url.indexOf('/', baseUrl.length());
+            if (keyStart >= 0) {
+                return url.substring(keyStart + 1);
+            }
+        }
+        return url; // URL 형식이 다를 경우를 대비
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        streamReaderExecutor.shutdown();
+    }
+
+    private void closeQuietly(InputStream content) {
+        try {
+            content.close();
+        } catch (IOException e) {
+            log.warn("업로드 스트림 닫기 실패", e);
+        }
+    }
+}
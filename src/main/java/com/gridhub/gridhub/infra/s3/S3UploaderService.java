@@ -2,89 +2,231 @@ package com.gridhub.gridhub.infra.s3;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 import org.springframework.web.multipart.MultipartFile;
-import software.amazon.awssdk.core.sync.RequestBody;
-import software.amazon.awssdk.services.s3.S3Client;
-import software.amazon.awssdk.services.s3.model.DeleteObjectRequest;
-import software.amazon.awssdk.services.s3.model.PutObjectRequest;
 
+import java.io.ByteArrayInputStream;
 import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.util.Collection;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
 import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutionException;
 
 @Slf4j
 @Service
 @RequiredArgsConstructor
 public class S3UploaderService {
 
-    private final S3Client s3Client;
-
-    @Value("${cloud.aws.s3.bucket}")
-    private String bucketName;
+    private final ObjectStorage objectStorage;
+    private final ImageVariantGenerator imageVariantGenerator;
+    private final ObjectDeletionQueue objectDeletionQueue;
 
     private final String s3Dir = "images"; // S3 버킷 내에 이미지를 저장할 디렉토리 이름
 
+    /**
+     * MultipartFile을 S3에 비동기로 업로드. 파일 내용은 메모리에 올리지 않고 스트림으로 전송.
+     *
+     * @param multipartFile 업로드할 파일
+     * @return 업로드가 끝나면 S3 URL로 완료되는 future (빈 파일이면 null로 완료)
+     * @throws IOException 파일 스트림을 열 수 없는 경우
+     */
+    public CompletableFuture<String> uploadAsync(MultipartFile multipartFile) throws IOException {
+        if (multipartFile.isEmpty()) {
+            return CompletableFuture.completedFuture(null);
+        }
+
+        // 파일 이름 중복을 피하기 위해 UUID를 사용한 새로운 파일 이름 생성
+        String s3Key = s3Dir + "/" + createUniqueFileName(multipartFile.getOriginalFilename());
+
+        return objectStorage.put(s3Key, multipartFile.getInputStream(), multipartFile.getSize(), multipartFile.getContentType())
+                .thenApply(ignored -> objectStorage.urlOf(s3Key));
+    }
+
     /**
      * MultipartFile을 S3에 업로드하고, 업로드된 파일의 URL을 반환.
+     * DB 커넥션을 잡은 채 기다리지 않도록 트랜잭션 밖에서 호출하고, 트랜잭션 안에서는 deleteOnRollback을 등록할 것.
      *
      * @param multipartFile 업로드할 파일
      * @return 업로드된 파일의 S3 URL
-     * @throws IOException 파일 처리 중 발생할 수 있는 예외
+     * @throws IOException 파일 처리 또는 업로드 중 발생할 수 있는 예외
      */
     public String upload(MultipartFile multipartFile) throws IOException {
+        return await(uploadAsync(multipartFile), multipartFile);
+    }
+
+    /**
+     * 이미지 원본과 모든 축소본(ImageVariant)을 함께 업로드.
+     *
+     * @see #uploadImageAsync(MultipartFile, Set)
+     */
+    public CompletableFuture<UploadedImage> uploadImageAsync(MultipartFile multipartFile) throws IOException {
+        return uploadImageAsync(multipartFile, EnumSet.allOf(ImageVariant.class));
+    }
+
+    /**
+     * 이미지 원본과 지정한 축소본(ImageVariant)을 함께 업로드. 쓰지 않는 축소본은 만들지 않도록 필요한 것만 지정할 것.
+     * 원본 업로드와 축소본 생성(ImageVariantGenerator)은 동시에 진행되며, 하나라도 업로드에 실패하면 이미 올라간 파일은 삭제.
+     * 원본이 JPEG면 EXIF/XMP(촬영 위치 등)를 제거하고 회전 정보만 남겨 저장 (ImageMetadataStripper, 재인코딩 없음).
+     * 축소본 키는 원본 키에 ImageVariant의 접미사를 붙인 형태 (e.g., images/uuid_thumb.jpg).
+     *
+     * @param multipartFile 업로드할 이미지
+     * @param variantsToGenerate 생성할 축소본 종류 (생성하지 않은 축소본의 URL은 null)
+     * @return 업로드가 끝나면 원본/축소본 URL로 완료되는 future (빈 파일이면 null로 완료)
+     * @throws IOException 파일 스트림을 열 수 없는 경우
+     */
+    public CompletableFuture<UploadedImage> uploadImageAsync(MultipartFile multipartFile, Set<ImageVariant> variantsToGenerate)
+            throws IOException {
         if (multipartFile.isEmpty()) {
-            return null; // 또는 예외 처리
+            return CompletableFuture.completedFuture(null);
         }
 
-        // 1. 파일 이름 중복을 피하기 위해 UUID를 사용한 새로운 파일 이름 생성
-        String originalFilename = multipartFile.getOriginalFilename();
-        String uniqueFileName = createUniqueFileName(originalFilename);
-        String s3Key = s3Dir + "/" + uniqueFileName;
-
-        // 2. S3에 업로드하기 위한 요청 객체 생성
-        PutObjectRequest putObjectRequest = PutObjectRequest.builder()
-                .bucket(bucketName)
-                .key(s3Key)
-                .contentType(multipartFile.getContentType())
-                .contentLength(multipartFile.getSize())
-                .build();
-
-        // 3. S3Client를 사용하여 파일 업로드
-        s3Client.putObject(putObjectRequest, RequestBody.fromInputStream(multipartFile.getInputStream(), multipartFile.getSize()));
-        log.info("S3에 파일 업로드 완료: {}", s3Key);
-
-        // 4. 업로드된 파일의 URL 반환
-        return s3Client.utilities().getUrl(builder -> builder.bucket(bucketName).key(s3Key)).toExternalForm();
+        String baseKey = s3Dir + "/" + UUID.randomUUID();
+        String originalKey = baseKey + getFileExtension(multipartFile.getOriginalFilename());
+        List<String> storedKeys = new CopyOnWriteArrayList<>();
+
+        ImageMetadataStripper.StrippedImage stripped = ImageMetadataStripper.strip(multipartFile.getInputStream());
+        CompletableFuture<String> original = objectStorage
+                .put(originalKey, stripped.content(), multipartFile.getSize() + stripped.sizeDelta(), multipartFile.getContentType())
+                .thenApply(ignored -> {
+                    storedKeys.add(originalKey);
+                    return objectStorage.urlOf(originalKey);
+                });
+
+        CompletableFuture<List<ImageVariantGenerator.GeneratedImage>> generated = variantsToGenerate.isEmpty()
+                ? CompletableFuture.completedFuture(List.of())
+                : imageVariantGenerator.generate(multipartFile.getInputStream(), variantsToGenerate);
+        CompletableFuture<Map<ImageVariant, String>> variants = generated
+                .thenCompose(images -> {
+                    Map<ImageVariant, String> urls = new ConcurrentHashMap<>();
+                    CompletableFuture<?>[] puts = images.stream()
+                            .map(image -> {
+                                String key = baseKey + image.variant().getKeySuffix() + image.extension();
+                                return objectStorage
+                                        .put(key, new ByteArrayInputStream(image.content()), image.content().length, image.contentType())
+                                        .thenRun(() -> {
+                                            storedKeys.add(key);
+                                            urls.put(image.variant(), objectStorage.urlOf(key));
+                                        });
+                            })
+                            .toArray(CompletableFuture[]::new);
+                    return CompletableFuture.allOf(puts).thenApply(ignored -> urls);
+                });
+
+        return original
+                .thenCombine(variants, (originalUrl, variantUrls) -> new UploadedImage(
+                        originalUrl, variantUrls.get(ImageVariant.MEDIUM), variantUrls.get(ImageVariant.THUMBNAIL)))
+                .whenComplete((uploaded, throwable) -> {
+                    if (throwable != null) {
+                        // 원본/축소본 중 일부만 올라간 경우 정리. 아직 진행 중인 업로드는 완료 후 정리
+                        CompletableFuture.allOf(original, variants)
+                                .whenComplete((ignored, error) -> storedKeys.forEach(this::deleteKeyQuietly));
+                    }
+                });
     }
 
     /**
-     * S3에 업로드된 파일을 삭제합니다.
+     * 이미지 원본과 모든 축소본을 업로드하고 URL을 반환. 호출 위치에 대한 주의사항은 upload와 동일.
      *
-     * @param fileUrl 삭제할 파일의 전체 S3 URL
+     * @param multipartFile 업로드할 이미지
+     * @return 원본/축소본 URL (이미지로 읽을 수 없는 파일이면 축소본 URL은 null)
+     * @throws IOException 파일 처리 또는 업로드 중 발생할 수 있는 예외
      */
-    public void delete(String fileUrl) {
-        if (fileUrl == null || fileUrl.isBlank()) {
-            return;
+    public UploadedImage uploadImage(MultipartFile multipartFile) throws IOException {
+        return await(uploadImageAsync(multipartFile), multipartFile);
+    }
+
+    /**
+     * 이미지 원본과 지정한 축소본만 업로드하고 URL을 반환.
+     *
+     * @param multipartFile 업로드할 이미지
+     * @param variantsToGenerate 생성할 축소본 종류
+     * @return 원본/축소본 URL (생성하지 않았거나 이미지로 읽을 수 없는 파일이면 축소본 URL은 null)
+     * @throws IOException 파일 처리 또는 업로드 중 발생할 수 있는 예외
+     */
+    public UploadedImage uploadImage(MultipartFile multipartFile, Set<ImageVariant> variantsToGenerate) throws IOException {
+        return await(uploadImageAsync(multipartFile, variantsToGenerate), multipartFile);
+    }
+
+    /**
+     * S3에 업로드된 파일 삭제를 예약. 실제 삭제는 ObjectDeletionQueue가 백그라운드에서 일괄 처리.
+     * 호출한 트랜잭션이 커밋될 때만 삭제되므로, 교체/삭제되는 엔티티와 같은 트랜잭션 안에서 호출할 것.
+     *
+     * @param fileUrls 삭제할 파일의 전체 S3 URL 목록
+     */
+    public void deleteLater(Collection<String> fileUrls) {
+        if (!fileUrls.isEmpty()) {
+            objectDeletionQueue.enqueue(fileUrls);
         }
+    }
 
-        try {
-            // 1. URL에서 S3 객체 키(파일 경로) 추출
-            String key = getKeyFromUrl(fileUrl);
+    /**
+     * 트랜잭션 전에 먼저 업로드한 파일을, 현재 트랜잭션이 커밋되지 않으면 삭제하도록 등록 (보상 삭제).
+     * 활성 트랜잭션이 없으면 아무것도 하지 않음.
+     *
+     * @param fileUrl 보상 삭제 대상 파일의 S3 URL
+     */
+    public void deleteOnRollback(String fileUrl) {
+        if (fileUrl != null) {
+            deleteOnRollback(List.of(fileUrl));
+        }
+    }
+
+    /**
+     * 업로드한 이미지의 원본과 축소본 모두를 롤백 시 삭제하도록 등록.
+     *
+     * @param uploadedImage 보상 삭제 대상 이미지 (null이면 무시)
+     */
+    public void deleteOnRollback(UploadedImage uploadedImage) {
+        if (uploadedImage != null) {
+            deleteOnRollback(uploadedImage.urls());
+        }
+    }
 
-            // 2. 삭제 요청 객체 생성
-            DeleteObjectRequest deleteObjectRequest = DeleteObjectRequest.builder()
-                    .bucket(bucketName)
-                    .key(key)
-                    .build();
+    private void deleteOnRollback(List<String> fileUrls) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            return;
+        }
+
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                if (status != STATUS_COMMITTED) {
+                    // 원래 트랜잭션은 이미 끝났으므로 별도 트랜잭션으로 삭제 예약
+                    log.info("트랜잭션 롤백으로 업로드한 파일 삭제 예약: {}", fileUrls);
+                    objectDeletionQueue.enqueueInNewTransaction(fileUrls);
+                }
+            }
+        });
+    }
 
-            // 3. S3Client를 사용하여 파일 삭제
-            s3Client.deleteObject(deleteObjectRequest);
-            log.info("S3에서 파일 삭제 완료: {}", key);
+    private <T> T await(CompletableFuture<T> upload, MultipartFile multipartFile) throws IOException {
+        try {
+            return upload.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException("S3 업로드 대기 중 인터럽트 발생");
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof IOException ioException) {
+                throw ioException;
+            }
+            throw new IOException("S3 파일 업로드 실패: " + multipartFile.getOriginalFilename(), e.getCause());
+        }
+    }
 
+    private void deleteKeyQuietly(String key) {
+        try {
+            objectStorage.delete(key);
         } catch (Exception e) {
-            log.error("S3 파일 삭제 중 오류 발생: {}", fileUrl, e);
-            // TODO: 파일 삭제 실패에 대한 예외 처리 (e.g., 커스텀 예외)
+            log.error("업로드 실패 후 파일 정리 중 오류 발생: {}", key, e);
         }
     }
 
@@ -102,15 +244,4 @@ public class S3UploaderService {
     private String createUniqueFileName(String originalFilename) {
         return UUID.randomUUID().toString() + getFileExtension(originalFilename);
     }
-
-    // 전체 URL에서 객체 키(e.g., images/uuid-filename.jpg)를 추출하는 헬퍼 메서드
-    private String getKeyFromUrl(String fileUrl) {
-        // S3 URL 형식: https://<bucket-name>.s3.<region>.amazonaws.com/<key>
-        // 이 구조를 기반으로 key를 파싱.
-        String baseUrl = "https://"+ bucketName + ".s3.";
-        if (fileUrl.contains(baseUrl)) {
-            return fileUrl.substring(fileUrl.indexOf(s3Dir));
-        }
-        return fileUrl; // URL 형식이 다를 경우를 대비
-    }
-}
\ No newline at end of file
+}
@@ -0,0 +1,24 @@
+package com.gridhub.gridhub.infra.s3;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 업로드된 이미지의 원본 및 축소본 URL.
+ * 이미지로 읽을 수 없는 파일이면 축소본 URL은 null.
+ */
+public record UploadedImage(
+        String originalUrl,
+        String mediumUrl,
+        String thumbnailUrl
+) {
+    public List<String> urls() {
+        List<String> urls = new ArrayList<>(3);
+        for (String url : new String[]{originalUrl, mediumUrl, thumbnailUrl}) {
+            if (url != null) {
+                urls.add(url);
+            }
+        }
+        return urls;
+    }
+}
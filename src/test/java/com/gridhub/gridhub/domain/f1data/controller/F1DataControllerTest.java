@@ -8,14 +8,17 @@ import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
 import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
 import org.springframework.test.web.servlet.MockMvc;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.ZonedDateTime;
 import java.util.List;
 
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
 import static org.springframework.test.web.servlet.result.MockMvcResultHandlers.print;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
@@ -38,6 +41,8 @@ class F1DataControllerTest {
     private DriverRepository driverRepository;
     @Autowired
     private PositionRepository positionRepository;
+    @Autowired
+    private RaceDetailSnapshotRepository raceDetailSnapshotRepository;
 
     private Race testRaceWithResult;
     private Race testRaceWithoutResult;
@@ -100,6 +105,55 @@ class F1DataControllerTest {
                 .andDo(print());
     }
 
+    @DisplayName("GET /api/f1-data/races/{raceId} - ETag와 immutable 캐시 헤더를 응답하고, 같은 ETag로 재요청하면 304")
+    @Test
+    void getRaceDetail_ReturnsETag_AndNotModified() throws Exception {
+        String eTag = mockMvc.perform(get("/api/f1-data/races/" + testRaceWithResult.getId()))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.CACHE_CONTROL, "max-age=31536000, public, immutable"))
+                .andExpect(header().exists(HttpHeaders.ETAG))
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+
+        mockMvc.perform(get("/api/f1-data/races/" + testRaceWithResult.getId())
+                        .header(HttpHeaders.IF_NONE_MATCH, eTag))
+                .andExpect(status().isNotModified())
+                .andDo(print());
+    }
+
+    @DisplayName("GET /api/f1-data/races/{raceId} - gzip을 지원하는 클라이언트에는 압축된 본문과 별도의 ETag를 응답")
+    @Test
+    void getRaceDetail_Gzip() throws Exception {
+        String plainETag = mockMvc.perform(get("/api/f1-data/races/" + testRaceWithResult.getId()))
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+
+        String gzipETag = mockMvc.perform(get("/api/f1-data/races/" + testRaceWithResult.getId())
+                        .header(HttpHeaders.ACCEPT_ENCODING, "gzip, deflate"))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.CONTENT_ENCODING, "gzip"))
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+
+        assertThat(gzipETag).isNotEqualTo(plainETag);
+    }
+
+    @DisplayName("GET /api/f1-data/races/{raceId} - gzip;q=0으로 거부한 클라이언트에는 압축하지 않은 본문을 응답")
+    @Test
+    void getRaceDetail_GzipRejected() throws Exception {
+        mockMvc.perform(get("/api/f1-data/races/" + testRaceWithResult.getId())
+                        .header(HttpHeaders.ACCEPT_ENCODING, "gzip;q=0, identity"))
+                .andExpect(status().isOk())
+                .andExpect(header().doesNotExist(HttpHeaders.CONTENT_ENCODING))
+                .andExpect(jsonPath("$.sessionKey").value(testRaceWithResult.getId()));
+    }
+
+    @DisplayName("GET /api/f1-data/races/{raceId} - 조회 API는 스냅샷을 저장하지 않는다")
+    @Test
+    void getRaceDetail_DoesNotPersistSnapshot() throws Exception {
+        mockMvc.perform(get("/api/f1-data/races/" + testRaceWithResult.getId()))
+                .andExpect(status().isOk());
+
+        assertThat(raceDetailSnapshotRepository.existsById(testRaceWithResult.getId())).isFalse();
+    }
+
     @DisplayName("GET /api/f1-data/drivers - 모든 드라이버 목록 조회 성공")
     @Test
     void getAllDrivers_Success() throws Exception {
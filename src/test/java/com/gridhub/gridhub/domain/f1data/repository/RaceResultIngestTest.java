@@ -0,0 +1,86 @@
+package com.gridhub.gridhub.domain.f1data.repository;
+
+import com.gridhub.gridhub.domain.f1data.entity.*;
+import com.gridhub.gridhub.global.config.JpaConfig;
+import jakarta.persistence.EntityManager;
+import lombok.extern.slf4j.Slf4j;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+
+import java.time.ZonedDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 레이스 결과 저장(Position 20건 + RaceControl 1,000건)이 JDBC 배치로 묶여 전송되는지 측정.
+ */
+@Slf4j
+@DataJpaTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+@Import(JpaConfig.class)
+class RaceResultIngestTest {
+
+    private static final int DRIVER_COUNT = 20;
+    private static final int RACE_CONTROL_COUNT = 1_000;
+
+    @Autowired
+    private EntityManager em;
+    @Autowired
+    private RaceResultRepository raceResultRepository;
+
+    @DisplayName("RaceControl 1,000건을 포함한 레이스 결과가 소수의 배치 문장으로 저장된다")
+    @Test
+    void saveRaceResult_IsBatched() {
+        // given
+        Race race = Race.builder()
+                .id(9999L).sessionName("Race")
+                .dateStart(ZonedDateTime.now().minusHours(3)).dateEnd(ZonedDateTime.now().minusHours(1))
+                .meetingKey(1L).meetingName("Ingest GP").countryName("Testland").circuitShortName("TST").year(2024)
+                .build();
+        em.persist(race);
+
+        Team team = Team.builder().name("Ingest Racing").teamColour("FFFFFF").build();
+        em.persist(team);
+        List<Driver> drivers = new ArrayList<>();
+        for (int i = 1; i <= DRIVER_COUNT; i++) {
+            Driver driver = Driver.builder().id(i).fullName("Driver " + i).team(team).build();
+            em.persist(driver);
+            drivers.add(driver);
+        }
+        em.flush();
+
+        RaceResult raceResult = RaceResult.builder().race(race).latestWeather(Map.of("rainfall", 0)).build();
+        for (int i = 0; i < drivers.size(); i++) {
+            raceResult.addPosition(Position.builder().driver(drivers.get(i)).qualifyingPosition(i + 1).racePosition(i + 1).build());
+        }
+        for (int i = 0; i < RACE_CONTROL_COUNT; i++) {
+            raceResult.addRaceControl(RaceControl.builder().date("2024-05-26T13:" + i).message("Message " + i).flag("GREEN").build());
+        }
+        race.setRaceResult(raceResult);
+
+        Statistics statistics = em.getEntityManagerFactory().unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+
+        // when
+        long startedAt = System.nanoTime();
+        raceResultRepository.save(raceResult);
+        em.flush();
+        long elapsedMillis = (System.nanoTime() - startedAt) / 1_000_000;
+
+        // then
+        long insertedRows = statistics.getEntityInsertCount();
+        long preparedStatements = statistics.getPrepareStatementCount();
+        log.info("레이스 결과 저장: {}건 INSERT, {}개 JDBC 문장(시퀀스 조회 포함), {}ms", insertedRows, preparedStatements, elapsedMillis);
+
+        assertThat(insertedRows).isEqualTo(1 + DRIVER_COUNT + RACE_CONTROL_COUNT);
+        // 행 단위로 INSERT 했다면 1,021개 이상의 문장이 필요. 배치(50건) + pooled 시퀀스(50개 단위)로 수십 개 이내
+        assertThat(preparedStatements).isLessThan(60);
+    }
+}
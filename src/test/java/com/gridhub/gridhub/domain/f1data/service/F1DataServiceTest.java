@@ -1,15 +1,10 @@
 package com.gridhub.gridhub.domain.f1data.service;
 
-import com.gridhub.gridhub.domain.f1data.dto.DriverInfoResponse;
-import com.gridhub.gridhub.domain.f1data.dto.RaceCalendarDto;
-import com.gridhub.gridhub.domain.f1data.dto.RaceDetailResponse;
-import com.gridhub.gridhub.domain.f1data.dto.TeamInfoResponse;
+import com.gridhub.gridhub.domain.f1data.dto.*;
 import com.gridhub.gridhub.domain.f1data.entity.*;
+import com.gridhub.gridhub.domain.f1data.exception.RaceNotFoundException;
 import com.gridhub.gridhub.domain.f1data.exception.RaceResultNotFoundException;
-import com.gridhub.gridhub.domain.f1data.repository.DriverRepository;
-import com.gridhub.gridhub.domain.f1data.repository.RaceRepository;
-import com.gridhub.gridhub.domain.f1data.repository.RaceResultRepository;
-import com.gridhub.gridhub.domain.f1data.repository.TeamRepository;
+import com.gridhub.gridhub.domain.f1data.repository.*;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -17,14 +12,21 @@ import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
 import java.time.ZonedDateTime;
 import java.util.Collections;
 import java.util.List;
 import java.util.Optional;
+import java.util.zip.GZIPOutputStream;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
 
 @ExtendWith(MockitoExtension.class)
 class F1DataServiceTest {
@@ -42,6 +44,14 @@ class F1DataServiceTest {
     private DriverRepository driverRepository;
     @Mock
     private TeamRepository teamRepository;
+    @Mock
+    private PositionRepository positionRepository;
+    @Mock
+    private RaceControlRepository raceControlRepository;
+    @Mock
+    private RaceDetailSnapshotRepository raceDetailSnapshotRepository;
+    @Mock
+    private RaceDetailSnapshotService raceDetailSnapshotService;
 
     @DisplayName("연도별 레이스 캘린더 조회 - 단위 테스트")
     @Test
@@ -92,19 +102,14 @@ class F1DataServiceTest {
     void getRaceDetail_Unit_Test() {
         // given
         Long raceId = 101L;
-
-        // Mock 엔티티 설정
-        Race mockRace = Race.builder().id(raceId).meetingName("Test GP").sessionName("Race").build();
-        RaceResult mockResult = RaceResult.builder().race(mockRace).latestWeather(Collections.emptyMap()).build();
-
-        Team mockTeam = Team.builder().name("Mercedes").teamColour("00D2BE").build();
-        Driver mockDriver = Driver.builder().id(44).fullName("L. Hamilton").team(mockTeam).build();
-        Position mockPosition = Position.builder().driver(mockDriver).racePosition(1).build();
-        mockResult.addPosition(mockPosition); // 연관관계 설정
+        RaceDetailHeaderDto header = new RaceDetailHeaderDto(raceId, "Test GP", "Race", ZonedDateTime.now(), Collections.emptyMap());
+        PositionDto position = new PositionDto(44, "L. Hamilton", "Mercedes", "00D2BE", 2, 1);
+        RaceControlDto raceControl = new RaceControlDto("2024-05-26T13:00:00", "GREEN LIGHT - PIT EXIT OPEN", "GREEN");
 
         // Mock Repository 설정
-        given(raceRepository.findById(raceId)).willReturn(Optional.of(mockRace));
-        given(raceResultRepository.findByRaceWithDetails(mockRace)).willReturn(Optional.of(mockResult));
+        given(raceResultRepository.findDetailHeaderByRaceId(raceId)).willReturn(Optional.of(header));
+        given(positionRepository.findDtosByRaceId(raceId)).willReturn(List.of(position));
+        given(raceControlRepository.findDtosByRaceId(raceId)).willReturn(List.of(raceControl));
 
         // when
         RaceDetailResponse result = f1DataService.getRaceDetail(raceId);
@@ -117,6 +122,7 @@ class F1DataServiceTest {
         assertThat(result.positions().get(0).driverNumber()).isEqualTo(44);
         assertThat(result.positions().get(0).racePosition()).isEqualTo(1);
         assertThat(result.positions().get(0).driverTeamName()).isEqualTo("Mercedes");
+        assertThat(result.raceControlMessages()).containsExactly(raceControl);
     }
 
     @DisplayName("특정 레이스 상세 정보 조회 실패 - 결과 없음")
@@ -124,15 +130,68 @@ class F1DataServiceTest {
     void getRaceDetail_Fail_WhenResultNotFound() {
         // given
         Long raceId = 101L;
-        Race mockRace = Race.builder().id(raceId).build();
 
-        given(raceRepository.findById(raceId)).willReturn(Optional.of(mockRace));
-        given(raceResultRepository.findByRaceWithDetails(mockRace)).willReturn(Optional.empty()); // 결과가 없도록 설정
+        given(raceResultRepository.findDetailHeaderByRaceId(raceId)).willReturn(Optional.empty()); // 결과가 없도록 설정
+        given(raceRepository.existsById(raceId)).willReturn(true);
 
         // when & then
         assertThrows(RaceResultNotFoundException.class, () -> f1DataService.getRaceDetail(raceId));
     }
 
+    @DisplayName("특정 레이스 상세 정보 조회 실패 - 레이스 없음")
+    @Test
+    void getRaceDetail_Fail_WhenRaceNotFound() {
+        // given
+        Long raceId = 9999L;
+
+        given(raceResultRepository.findDetailHeaderByRaceId(raceId)).willReturn(Optional.empty());
+        given(raceRepository.existsById(raceId)).willReturn(false);
+
+        // when & then
+        assertThrows(RaceNotFoundException.class, () -> f1DataService.getRaceDetail(raceId));
+    }
+
+    @DisplayName("레이스 상세 스냅샷 조회 - 이미 생성된 스냅샷은 다시 만들지 않는다")
+    @Test
+    void getRaceDetailSnapshot_WhenSnapshotExists_thenReuseIt() throws IOException {
+        // given
+        Long raceId = 101L;
+        byte[] gzippedBody = gzip("{\"raceId\":101}");
+        RaceDetailSnapshot snapshot = RaceDetailSnapshot.builder().id(raceId).gzippedBody(gzippedBody).etag("abc").build();
+        given(raceDetailSnapshotRepository.findById(raceId)).willReturn(Optional.of(snapshot));
+
+        // when
+        RaceDetailSnapshotDto result = f1DataService.getRaceDetailSnapshot(raceId);
+
+        // then
+        assertThat(result.etag()).isEqualTo("abc");
+        assertThat(result.gzippedBody()).isEqualTo(gzippedBody);
+        // 압축 해제는 캐시에 넣기 전에 한 번만 수행
+        assertThat(new String(result.jsonBody(), StandardCharsets.UTF_8)).isEqualTo("{\"raceId\":101}");
+        verify(raceDetailSnapshotService, never()).materialize(any());
+        verify(raceResultRepository, never()).findDetailHeaderByRaceId(any());
+    }
+
+    @DisplayName("레이스 상세 스냅샷 조회 - 스냅샷이 없으면 메모리에서만 만들고 저장하지 않는다")
+    @Test
+    void getRaceDetailSnapshot_WhenSnapshotMissing_thenBuildWithoutSaving() throws IOException {
+        // given
+        Long raceId = 101L;
+        RaceDetailHeaderDto header = new RaceDetailHeaderDto(raceId, "Test GP", "Race", ZonedDateTime.now(), null);
+        RaceDetailSnapshot snapshot = RaceDetailSnapshot.builder().id(raceId).gzippedBody(gzip("{}")).etag("def").build();
+
+        given(raceDetailSnapshotRepository.findById(raceId)).willReturn(Optional.empty());
+        given(raceResultRepository.findDetailHeaderByRaceId(raceId)).willReturn(Optional.of(header));
+        given(raceDetailSnapshotService.build(any(RaceDetailResponse.class))).willReturn(snapshot);
+
+        // when
+        RaceDetailSnapshotDto result = f1DataService.getRaceDetailSnapshot(raceId);
+
+        // then
+        assertThat(result.etag()).isEqualTo("def");
+        verify(raceDetailSnapshotService, never()).materialize(any());
+    }
+
     @DisplayName("모든 드라이버 목록 조회 - 단위 테스트")
     @Test
     void getAllDrivers_Unit_Test() {
@@ -177,4 +236,12 @@ class F1DataServiceTest {
         assertThat(result.get(0).drivers().get(0).driverNumber()).isEqualTo(44);
         assertThat(result.get(0).drivers().get(1).fullName()).isEqualTo("G. Russell");
     }
-}
\ No newline at end of file
+
+    private static byte[] gzip(String json) throws IOException {
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+        try (GZIPOutputStream gzip = new GZIPOutputStream(output)) {
+            gzip.write(json.getBytes(StandardCharsets.UTF_8));
+        }
+        return output.toByteArray();
+    }
+}
@@ -15,6 +15,7 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.test.context.bean.override.mockito.MockitoBean;
 import org.springframework.transaction.annotation.Transactional;
+import reactor.core.publisher.Mono;
 
 import java.time.ZonedDateTime;
 import java.util.Collections;
@@ -56,14 +57,14 @@ class F1DataSyncServiceIntegrationTest {
         MeetingResponse meeting = new MeetingResponse(1L, "Test GP", "Testland", "TST", 2024);
         SessionResponse raceSession = new SessionResponse(101L, 1L, "Race", ZonedDateTime.now().minusDays(2), ZonedDateTime.now().minusDays(1), 2024);
 
-        given(openF1Client.getMeetingsByYear(anyInt())).willReturn(List.of(meeting));
-        given(openF1Client.getSessionsByMeeting(1L)).willReturn(List.of(raceSession));
-        given(openF1Client.getRaceResult(101L)).willReturn(List.of(new PositionResponse(44, 1, "date", "Finished")));
+        given(openF1Client.fetchMeetingsByYear(anyInt())).willReturn(Mono.just(List.of(meeting)));
+        given(openF1Client.fetchSessionsByMeeting(1L)).willReturn(Mono.just(List.of(raceSession)));
+        given(openF1Client.fetchRaceResult(101L)).willReturn(Mono.just(List.of(new PositionResponse(44, 1, "date", "Finished"))));
 
-        given(openF1Client.getDriversBySession(anyLong())).willReturn(Collections.emptyList());
-        given(openF1Client.getQualifyingResult(anyLong())).willReturn(Collections.emptyList());
-        given(openF1Client.getWeather(anyLong())).willReturn(Collections.emptyList());
-        given(openF1Client.getRaceControlMessages(anyLong())).willReturn(Collections.emptyList());
+        given(openF1Client.fetchDriversBySession(anyLong())).willReturn(Mono.just(Collections.emptyList()));
+        given(openF1Client.fetchQualifyingResult(anyLong())).willReturn(Mono.just(Collections.emptyList()));
+        given(openF1Client.fetchWeather(anyLong())).willReturn(Mono.just(Collections.emptyList()));
+        given(openF1Client.fetchRaceControlMessages(anyLong())).willReturn(Mono.just(Collections.emptyList()));
 
         // when
         f1DataSyncService.synchronizeF1Data();
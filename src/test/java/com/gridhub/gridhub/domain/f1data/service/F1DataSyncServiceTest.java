@@ -1,9 +1,12 @@
 package com.gridhub.gridhub.domain.f1data.service;
 
 import com.gridhub.gridhub.domain.f1data.dto.MeetingResponse;
+import com.gridhub.gridhub.domain.f1data.dto.RaceDetailResponse;
 import com.gridhub.gridhub.domain.f1data.dto.SessionResponse;
 import com.gridhub.gridhub.domain.f1data.entity.Race;
 import com.gridhub.gridhub.domain.f1data.entity.RaceResult;
+import com.gridhub.gridhub.domain.f1data.event.RaceResultSavedEvent;
+import com.gridhub.gridhub.domain.f1data.event.RaceScheduleUpdatedEvent;
 import com.gridhub.gridhub.domain.f1data.repository.*;
 import com.gridhub.gridhub.infra.external.OpenF1Client;
 import org.junit.jupiter.api.DisplayName;
@@ -12,11 +15,16 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import reactor.core.publisher.Mono;
+
 import java.time.ZonedDateTime;
 import java.util.Collections;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyInt;
 import static org.mockito.BDDMockito.given;
@@ -42,6 +50,10 @@ class F1DataSyncServiceTest {
     private PositionRepository positionRepository;
     @Mock
     private RaceControlRepository raceControlRepository;
+    @Mock
+    private RaceDetailSnapshotService raceDetailSnapshotService;
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
 
     @DisplayName("종료된 레이스 + 결과 데이터가 없으면 -> 결과 동기화를 수행한다")
     @Test
@@ -51,9 +63,12 @@ class F1DataSyncServiceTest {
         SessionResponse raceSession = new SessionResponse(101L, 1L, "Race", ZonedDateTime.now().minusDays(2), ZonedDateTime.now().minusDays(1), 2024);
         Race raceWithoutResult = Race.builder().id(101L).build();
 
-        given(openF1Client.getMeetingsByYear(anyInt())).willReturn(List.of(meeting));
-        given(openF1Client.getSessionsByMeeting(1L)).willReturn(List.of(raceSession));
-        given(openF1Client.getDriversBySession(anyLong())).willReturn(Collections.emptyList()); // 빈 리스트 반환
+        given(openF1Client.fetchMeetingsByYear(anyInt())).willReturn(Mono.just(List.of(meeting)));
+        given(openF1Client.fetchSessionsByMeeting(1L)).willReturn(Mono.just(List.of(raceSession)));
+        given(openF1Client.fetchDriversBySession(anyLong())).willReturn(Mono.just(Collections.emptyList())); // 빈 리스트 반환
+        given(openF1Client.fetchRaceResult(101L)).willReturn(Mono.just(Collections.emptyList()));
+        given(openF1Client.fetchRaceControlMessages(101L)).willReturn(Mono.just(Collections.emptyList()));
+        given(openF1Client.fetchWeather(101L)).willReturn(Mono.just(Collections.emptyList()));
 
         given(raceRepository.findById(101L)).willReturn(Optional.of(raceWithoutResult));
 
@@ -62,6 +77,13 @@ class F1DataSyncServiceTest {
 
         // then
         verify(raceResultRepository, times(1)).save(any(RaceResult.class));
+        verify(raceDetailSnapshotService, times(1)).materialize(any(RaceDetailResponse.class));
+        // Meeting 목록과 세션 목록은 한 번의 동기화 동안 한 번씩만 조회한다
+        verify(openF1Client, times(1)).fetchMeetingsByYear(anyInt());
+        verify(openF1Client, times(1)).fetchSessionsByMeeting(1L);
+        // 캐시 무효화를 위해 일정 변경/결과 저장 이벤트를 발행한다
+        verify(eventPublisher).publishEvent(new RaceScheduleUpdatedEvent(Set.of(2024)));
+        verify(eventPublisher).publishEvent(new RaceResultSavedEvent(101L));
     }
 
     @DisplayName("아직 종료되지 않은 레이스는 -> 결과 동기화를 수행하지 않는다")
@@ -71,9 +93,9 @@ class F1DataSyncServiceTest {
         MeetingResponse meeting = new MeetingResponse(1L, "Upcoming GP", "Country", "Circ", 2024);
         SessionResponse raceSession = new SessionResponse(101L, 1L, "Race", ZonedDateTime.now().plusDays(1), ZonedDateTime.now().plusDays(2), 2024);
 
-        given(openF1Client.getMeetingsByYear(anyInt())).willReturn(List.of(meeting));
-        given(openF1Client.getSessionsByMeeting(1L)).willReturn(List.of(raceSession));
-        given(openF1Client.getDriversBySession(anyLong())).willReturn(Collections.emptyList());
+        given(openF1Client.fetchMeetingsByYear(anyInt())).willReturn(Mono.just(List.of(meeting)));
+        given(openF1Client.fetchSessionsByMeeting(1L)).willReturn(Mono.just(List.of(raceSession)));
+        given(openF1Client.fetchDriversBySession(anyLong())).willReturn(Mono.just(Collections.emptyList()));
 
         // when
         f1DataSyncService.synchronizeF1Data();
@@ -92,10 +114,10 @@ class F1DataSyncServiceTest {
         RaceResult mockResult = mock(RaceResult.class);
         raceWithResult.setRaceResult(mockResult);
 
-        given(openF1Client.getMeetingsByYear(anyInt())).willReturn(List.of(meeting));
-        given(openF1Client.getSessionsByMeeting(1L)).willReturn(List.of(raceSession));
+        given(openF1Client.fetchMeetingsByYear(anyInt())).willReturn(Mono.just(List.of(meeting)));
+        given(openF1Client.fetchSessionsByMeeting(1L)).willReturn(Mono.just(List.of(raceSession)));
         // synchronizeDriversAndTeams 내부에서 호출되는 API도 Mocking 추가
-        given(openF1Client.getDriversBySession(anyLong())).willReturn(Collections.emptyList());
+        given(openF1Client.fetchDriversBySession(anyLong())).willReturn(Mono.just(Collections.emptyList()));
 
         given(raceRepository.findById(101L)).willReturn(Optional.of(raceWithResult));
 
@@ -105,4 +127,29 @@ class F1DataSyncServiceTest {
         // then
         verify(raceResultRepository, never()).save(any(RaceResult.class));
     }
-}
\ No newline at end of file
+
+    @DisplayName("이미 저장된 세션의 일정이 변경되면 -> 새로 저장하지 않고 일정만 갱신한다")
+    @Test
+    void whenSessionIsRescheduled_thenUpdateExistingRace() {
+        // given
+        ZonedDateTime originalStart = ZonedDateTime.now().plusDays(10);
+        ZonedDateTime newStart = originalStart.plusDays(7);
+        MeetingResponse meeting = new MeetingResponse(1L, "Rescheduled GP", "Country", "Circ", 2024);
+        SessionResponse rescheduledSession = new SessionResponse(101L, 1L, "Race", newStart, newStart.plusHours(2), 2024);
+        Race savedRace = Race.builder().id(101L).sessionName("Race").dateStart(originalStart).dateEnd(originalStart.plusHours(2)).build();
+
+        given(openF1Client.fetchMeetingsByYear(anyInt())).willReturn(Mono.just(List.of(meeting)));
+        given(openF1Client.fetchSessionsByMeeting(1L)).willReturn(Mono.just(List.of(rescheduledSession)));
+        given(openF1Client.fetchDriversBySession(anyLong())).willReturn(Mono.just(Collections.emptyList()));
+        given(raceRepository.findAllById(List.of(101L))).willReturn(List.of(savedRace));
+
+        // when
+        f1DataSyncService.synchronizeF1Data();
+
+        // then
+        assertThat(savedRace.getDateStart()).isEqualTo(newStart);
+        assertThat(savedRace.getDateEnd()).isEqualTo(newStart.plusHours(2));
+        verify(raceRepository).saveAll(Collections.emptyList());
+        verify(raceRepository, never()).existsById(anyLong());
+    }
+}
@@ -0,0 +1,81 @@
+package com.gridhub.gridhub.domain.f1data.service;
+
+import com.gridhub.gridhub.domain.f1data.dto.RaceDetailResponse;
+import com.gridhub.gridhub.domain.f1data.entity.*;
+import jakarta.persistence.EntityManager;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+
+import java.time.ZonedDateTime;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 레이스 상세 조회가 N+1 없이 고정된 개수의 SQL로 처리되는지 Hibernate 통계로 검증.
+ */
+@DataJpaTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+@Import(F1DataService.class)
+class RaceDetailQueryCountTest {
+
+    private static final int DRIVER_COUNT = 20;
+    private static final int RACE_CONTROL_COUNT = 50;
+
+    @Autowired
+    private EntityManager em;
+    @Autowired
+    private F1DataService f1DataService;
+
+    @MockitoBean
+    private RaceDetailSnapshotService raceDetailSnapshotService;
+
+    @DisplayName("드라이버 20명, 레이스 컨트롤 50건인 레이스 상세 조회는 3개 이하의 SQL로 처리된다")
+    @Test
+    void getRaceDetail_RunsInAtMostThreeStatements() {
+        // given
+        Race race = Race.builder()
+                .id(7777L).sessionName("Race")
+                .dateStart(ZonedDateTime.now().minusHours(3)).dateEnd(ZonedDateTime.now().minusHours(1))
+                .meetingKey(1L).meetingName("Query GP").countryName("Testland").circuitShortName("TST").year(2024)
+                .build();
+        em.persist(race);
+
+        RaceResult raceResult = RaceResult.builder().race(race).latestWeather(Map.of("rainfall", 0)).build();
+        for (int i = 1; i <= DRIVER_COUNT; i++) {
+            // 드라이버마다 다른 팀을 두어 팀 지연 로딩이 발생하면 문장 수가 늘어나도록 구성
+            Team team = Team.builder().name("Team " + i).teamColour("FFFFFF").build();
+            em.persist(team);
+            Driver driver = Driver.builder().id(i).fullName("Driver " + i).team(team).build();
+            em.persist(driver);
+            raceResult.addPosition(Position.builder().driver(driver).qualifyingPosition(i).racePosition(i).build());
+        }
+        for (int i = 0; i < RACE_CONTROL_COUNT; i++) {
+            raceResult.addRaceControl(RaceControl.builder().date("2024-05-26T13:" + i).message("Message " + i).flag("GREEN").build());
+        }
+        race.setRaceResult(raceResult);
+        em.persist(raceResult);
+        em.flush();
+        em.clear();
+
+        Statistics statistics = em.getEntityManagerFactory().unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+
+        // when
+        RaceDetailResponse response = f1DataService.getRaceDetail(race.getId());
+
+        // then
+        assertThat(response.positions()).hasSize(DRIVER_COUNT);
+        assertThat(response.positions().get(0).driverTeamName()).isEqualTo("Team 1");
+        assertThat(response.raceControlMessages()).hasSize(RACE_CONTROL_COUNT);
+        assertThat(response.latestWeather()).containsEntry("rainfall", 0);
+        assertThat(statistics.getPrepareStatementCount()).isLessThanOrEqualTo(3);
+        // DTO 프로젝션이므로 영속성 컨텍스트에 엔티티가 올라오지 않음
+        assertThat(statistics.getEntityLoadCount()).isZero();
+    }
+}
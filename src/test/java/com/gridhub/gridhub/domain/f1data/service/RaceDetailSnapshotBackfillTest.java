@@ -0,0 +1,62 @@
+package com.gridhub.gridhub.domain.f1data.service;
+
+import com.gridhub.gridhub.domain.f1data.dto.RaceDetailResponse;
+import com.gridhub.gridhub.domain.f1data.repository.RaceDetailSnapshotRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+class RaceDetailSnapshotBackfillTest {
+
+    @InjectMocks
+    private RaceDetailSnapshotBackfill raceDetailSnapshotBackfill;
+
+    @Mock
+    private RaceDetailSnapshotRepository raceDetailSnapshotRepository;
+    @Mock
+    private RaceDetailSnapshotService raceDetailSnapshotService;
+    @Mock
+    private F1DataService f1DataService;
+
+    @DisplayName("스냅샷이 없는 레이스 결과만 스냅샷을 생성해 저장한다")
+    @Test
+    void backfill_MaterializesMissingSnapshots() {
+        // given
+        RaceDetailResponse detail101 = new RaceDetailResponse(101L, "GP1", "Race", null, null, List.of(), List.of());
+        RaceDetailResponse detail102 = new RaceDetailResponse(102L, "GP2", "Race", null, null, List.of(), List.of());
+        given(raceDetailSnapshotRepository.findRaceIdsWithoutSnapshot()).willReturn(List.of(101L, 102L));
+        given(f1DataService.getRaceDetail(101L)).willReturn(detail101);
+        given(f1DataService.getRaceDetail(102L)).willReturn(detail102);
+
+        // when
+        raceDetailSnapshotBackfill.backfill();
+
+        // then
+        verify(raceDetailSnapshotService).materialize(detail101);
+        verify(raceDetailSnapshotService).materialize(detail102);
+    }
+
+    @DisplayName("모든 결과에 스냅샷이 있으면 아무것도 하지 않는다")
+    @Test
+    void backfill_NothingMissing() {
+        // given
+        given(raceDetailSnapshotRepository.findRaceIdsWithoutSnapshot()).willReturn(List.of());
+
+        // when
+        raceDetailSnapshotBackfill.backfill();
+
+        // then
+        verify(raceDetailSnapshotService, never()).materialize(any());
+    }
+}
@@ -100,8 +100,8 @@ class NotificationControllerTest {
                         .content(objectMapper.writeValueAsString(commentRequest)))
                 .andExpect(status().isCreated());
 
-        // then: UserA가 SSE 이벤트를 수신했는지 검증
-        String sseResponse = result.getResponse().getContentAsString(StandardCharsets.UTF_8);
+        // then: UserA가 SSE 이벤트를 수신했는지 검증 (이벤트는 디스패처 스레드에서 비동기로 전송됨)
+        String sseResponse = awaitSseResponse(result, "UserB님이 'Post by A' 게시글에 댓글을 남겼습니다.");
 
         assertThat(sseResponse).contains("EventStream Created");
         assertThat(sseResponse).contains("UserB님이 'Post by A' 게시글에 댓글을 남겼습니다.");
@@ -168,4 +168,15 @@ class NotificationControllerTest {
                 .andExpect(jsonPath("$.unreadCount").value(1))
                 .andDo(print());
     }
-}
\ No newline at end of file
+
+    // 응답 본문에 expected가 나타날 때까지 최대 5초 대기
+    private String awaitSseResponse(MvcResult result, String expected) throws Exception {
+        long deadline = System.currentTimeMillis() + 5_000;
+        String content = result.getResponse().getContentAsString(StandardCharsets.UTF_8);
+        while (!content.contains(expected) && System.currentTimeMillis() < deadline) {
+            Thread.sleep(20);
+            content = result.getResponse().getContentAsString(StandardCharsets.UTF_8);
+        }
+        return content;
+    }
+}
@@ -0,0 +1,118 @@
+package com.gridhub.gridhub.domain.notification.controller;
+
+import com.gridhub.gridhub.domain.user.entity.User;
+import com.gridhub.gridhub.domain.user.entity.UserRole;
+import com.gridhub.gridhub.domain.user.repository.UserRepository;
+import com.gridhub.gridhub.global.util.JwtUtil;
+import com.gridhub.gridhub.infra.notification.NotificationSinkRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.core.ParameterizedTypeReference;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.client.reactive.ReactorClientHttpConnector;
+import org.springframework.http.codec.ServerSentEvent;
+import org.springframework.web.reactive.function.client.WebClient;
+import reactor.core.Disposable;
+import reactor.netty.http.client.HttpClient;
+import reactor.netty.resources.ConnectionProvider;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 실제 서버(RANDOM_PORT)에 /api/notifications/stream HTTP 연결 20,000개를 열고 모든 연결이 알림을 받는지 확인.
+ * 서버와 클라이언트가 같은 프로세스에서 소켓을 40,000개 넘게 쓰므로 open files 제한(ulimit -n)을 늘린 뒤 실행해야 함.
+ * 기본 test 작업에서는 제외됨. 실행: ./gradlew performanceTest
+ */
+@Slf4j
+@Tag("performance")
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT,
+        properties = "spring.mvc.async.request-timeout=10m")
+class NotificationStreamLoadTest {
+
+    private static final int USERS = 10_000;
+    private static final int CONNECTIONS = USERS * 2; // 사용자마다 탭 2개
+    private static final String MESSAGE = "load-test";
+
+    @LocalServerPort
+    private int port;
+    @Autowired
+    private UserRepository userRepository;
+    @Autowired
+    private JwtUtil jwtUtil;
+    @Autowired
+    private NotificationSinkRegistry notificationSinkRegistry;
+
+    private final List<User> users = new ArrayList<>();
+    private final List<Disposable> connections = new ArrayList<>(CONNECTIONS);
+    // 클라이언트 기본 커넥션 풀은 동시 연결 수가 제한되므로 테스트 연결 수만큼 허용
+    private final ConnectionProvider connectionProvider = ConnectionProvider.builder("notification-load-test")
+            .maxConnections(CONNECTIONS)
+            .pendingAcquireMaxCount(-1)
+            .build();
+
+    @AfterEach
+    void tearDown() {
+        connections.forEach(Disposable::dispose);
+        connectionProvider.disposeLater().block();
+        userRepository.deleteAllInBatch(users);
+    }
+
+    @DisplayName("HTTP 연결 20,000개가 동시에 열려 있어도 모든 연결이 알림을 받고, 연결마다 스레드를 만들지 않는다")
+    @Test
+    void stream_TwentyThousandHttpConnections() throws InterruptedException {
+        // given: 10,000명의 사용자가 각각 2개의 탭으로 연결
+        users.addAll(userRepository.saveAll(IntStream.range(0, USERS)
+                .mapToObj(i -> User.builder().email("load" + i + "@test.com").password("pw")
+                        .nickname("load" + i).role(UserRole.USER).build())
+                .toList()));
+        List<String> tokens = users.stream().map(user -> jwtUtil.createToken(user.getEmail(), user.getRole())).toList();
+
+        WebClient webClient = WebClient.builder()
+                .baseUrl("http://localhost:" + port)
+                .clientConnector(new ReactorClientHttpConnector(HttpClient.create(connectionProvider)))
+                .build();
+        CountDownLatch connected = new CountDownLatch(CONNECTIONS);
+        CountDownLatch received = new CountDownLatch(CONNECTIONS);
+        long startedAt = System.nanoTime();
+        for (int i = 0; i < CONNECTIONS; i++) {
+            connections.add(webClient.get().uri("/api/notifications/stream")
+                    .header(HttpHeaders.AUTHORIZATION, tokens.get(i % USERS))
+                    .retrieve()
+                    .bodyToFlux(new ParameterizedTypeReference<ServerSentEvent<String>>() {})
+                    .subscribe(event -> {
+                        if (MESSAGE.equals(event.data())) {
+                            received.countDown();
+                        } else if (event.data() != null && event.data().startsWith("EventStream Created")) {
+                            connected.countDown();
+                        }
+                    }));
+        }
+        // 연결 이벤트를 받은 연결은 서버에서 sink 구독까지 끝난 상태
+        assertThat(connected.await(5, TimeUnit.MINUTES)).isTrue();
+        log.info("HTTP 연결 {}개 수립: {}ms", CONNECTIONS, TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startedAt));
+        assertThat(notificationSinkRegistry.totalSubscriberCount()).isEqualTo(CONNECTIONS);
+
+        // when
+        long publishedAt = System.nanoTime();
+        users.forEach(user -> notificationSinkRegistry.publish(String.valueOf(user.getId()),
+                ServerSentEvent.builder().event("sse").data((Object) MESSAGE).build()));
+
+        // then
+        assertThat(received.await(1, TimeUnit.MINUTES)).isTrue();
+        log.info("알림 {}건 수신: {}ms", CONNECTIONS, TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - publishedAt));
+        // 요청 스레드 풀(기본 200)과 이벤트 루프 스레드 외에는 늘어나지 않아야 함
+        assertThat(Thread.activeCount()).isLessThan(1_000);
+    }
+}
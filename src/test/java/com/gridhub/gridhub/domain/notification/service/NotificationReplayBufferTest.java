@@ -0,0 +1,104 @@
+package com.gridhub.gridhub.domain.notification.service;
+
+import com.gridhub.gridhub.domain.notification.dto.NotificationResponse;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class NotificationReplayBufferTest {
+
+    private final NotificationReplayBuffer notificationReplayBuffer = new NotificationReplayBuffer();
+
+    @DisplayName("Last-Event-ID 이후의 알림만 오래된 순으로 돌려준다")
+    @Test
+    void since_ReturnsNotificationsAfterLastEventId() {
+        // given
+        notificationReplayBuffer.initialize(10L);
+        notificationReplayBuffer.append("1", notification(11L));
+        notificationReplayBuffer.append("12", notification(12L));
+        notificationReplayBuffer.append("1", notification(13L));
+
+        // when & then
+        assertThat(ids(notificationReplayBuffer.since("1", 10L))).containsExactly(11L, 13L);
+        assertThat(ids(notificationReplayBuffer.since("1", 11L))).containsExactly(13L);
+        assertThat(ids(notificationReplayBuffer.since("1", 13L))).isEmpty();
+    }
+
+    @DisplayName("기준점 이후 알림이 없었던 사용자는 DB 조회 없이 놓친 알림이 없다고 판단한다")
+    @Test
+    void since_UserWithoutNotifications_ReturnsEmptyList() {
+        // given
+        notificationReplayBuffer.initialize(10L);
+
+        // when & then
+        assertThat(notificationReplayBuffer.since("1", 10L)).contains(List.of());
+    }
+
+    @DisplayName("서버 재시작 이전의 이벤트 ID나 기준점 설정 전에는 버퍼로 판단하지 않는다")
+    @Test
+    void since_UnknownRange_ReturnsEmptyOptional() {
+        // 기준점 설정 전
+        assertThat(notificationReplayBuffer.since("1", 5L)).isEmpty();
+
+        // 기준점(10) 이전의 ID
+        notificationReplayBuffer.initialize(10L);
+        notificationReplayBuffer.append("1", notification(11L));
+        assertThat(notificationReplayBuffer.since("1", 5L)).isEmpty();
+        assertThat(notificationReplayBuffer.since("2", 5L)).isEmpty();
+    }
+
+    @DisplayName("버퍼 용량을 넘어 밀려난 알림 이전의 ID로 재연결하면 버퍼로 판단하지 않는다")
+    @Test
+    void since_AfterOverflow_ReturnsEmptyOptionalForEvictedRange() {
+        // given
+        notificationReplayBuffer.initialize(0L);
+        int total = NotificationReplayBuffer.CAPACITY_PER_USER + 3;
+        for (long id = 1; id <= total; id++) {
+            notificationReplayBuffer.append("1", notification(id));
+        }
+
+        // when & then: 1~3번 알림은 밀려났으므로 3번 이후부터만 버퍼로 복구 가능
+        assertThat(notificationReplayBuffer.since("1", 2L)).isEmpty();
+        assertThat(ids(notificationReplayBuffer.since("1", 3L)))
+                .hasSize(NotificationReplayBuffer.CAPACITY_PER_USER)
+                .startsWith(4L)
+                .endsWith((long) total);
+    }
+
+    @DisplayName("ID 순서와 다르게 기록된(늦게 커밋된) 알림도 오래된 순으로 돌려주고, 가장 오래된 알림부터 밀어낸다")
+    @Test
+    void append_OutOfOrder_KeepsIdOrder() {
+        // given
+        notificationReplayBuffer.initialize(0L);
+        for (long id = 2; id <= NotificationReplayBuffer.CAPACITY_PER_USER; id++) {
+            notificationReplayBuffer.append("1", notification(id));
+        }
+        notificationReplayBuffer.append("1", notification(1L)); // 1번이 가장 늦게 커밋됨
+
+        // when & then
+        assertThat(ids(notificationReplayBuffer.since("1", 0L)))
+                .hasSize(NotificationReplayBuffer.CAPACITY_PER_USER)
+                .isSorted()
+                .startsWith(1L, 2L);
+
+        // when: 용량을 넘으면 가장 작은 ID(1번)가 밀려남
+        notificationReplayBuffer.append("1", notification((long) NotificationReplayBuffer.CAPACITY_PER_USER + 1));
+
+        // then
+        assertThat(notificationReplayBuffer.since("1", 0L)).isEmpty();
+        assertThat(ids(notificationReplayBuffer.since("1", 1L))).startsWith(2L).isSorted();
+    }
+
+    private List<Long> ids(Optional<List<NotificationResponse>> notifications) {
+        assertThat(notifications).isPresent();
+        return notifications.get().stream().map(NotificationResponse::notificationId).toList();
+    }
+
+    private NotificationResponse notification(Long notificationId) {
+        return new NotificationResponse(notificationId, "알림", "/posts/1", false, null);
+    }
+}
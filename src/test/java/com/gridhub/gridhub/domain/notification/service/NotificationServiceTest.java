@@ -1,5 +1,6 @@
 package com.gridhub.gridhub.domain.notification.service;
 
+import com.gridhub.gridhub.domain.notification.dto.NotificationResponse;
 import com.gridhub.gridhub.domain.notification.entity.Notification;
 import com.gridhub.gridhub.domain.notification.exception.NotificationAccessDeniedException;
 import com.gridhub.gridhub.domain.notification.exception.NotificationNotFoundException;
@@ -7,22 +8,37 @@ import com.gridhub.gridhub.domain.notification.repository.EmitterRepository;
 import com.gridhub.gridhub.domain.notification.repository.NotificationRepository;
 import com.gridhub.gridhub.domain.user.entity.User;
 import com.gridhub.gridhub.domain.user.repository.UserRepository;
+import com.gridhub.gridhub.infra.notification.NotificationSinkRegistry;
+import com.gridhub.gridhub.infra.notification.SseEventDispatcher;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.http.codec.ServerSentEvent;
 import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
+import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.atomic.AtomicLong;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.BDDMockito.given;
 import static org.mockito.BDDMockito.then;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
 
 @ExtendWith(MockitoExtension.class)
 class NotificationServiceTest {
@@ -36,6 +52,155 @@ class NotificationServiceTest {
     private UserRepository userRepository;
     @Mock
     private EmitterRepository emitterRepository;
+    @Mock
+    private NotificationSinkRegistry notificationSinkRegistry;
+    @Mock
+    private SseEventDispatcher sseEventDispatcher;
+    @Spy
+    private NotificationReplayBuffer notificationReplayBuffer = new NotificationReplayBuffer();
+
+    @DisplayName("알림 전송 시 DB에 저장하고 리액티브 스트림 구독자에게도 발행한다")
+    @Test
+    void send_PublishesToReactiveSubscribers() {
+        // given
+        User receiver = User.builder().email("receiver@test.com").nickname("Receiver").build();
+        ReflectionTestUtils.setField(receiver, "id", 1L);
+        notificationReplayBuffer.initialize(0L);
+        given(notificationRepository.save(any(Notification.class))).willAnswer(invocation -> {
+            Notification saved = invocation.getArgument(0);
+            ReflectionTestUtils.setField(saved, "id", 10L);
+            return saved;
+        });
+        given(emitterRepository.findAllByUserId("1")).willReturn(Map.of());
+
+        // when
+        notificationService.send(receiver, "새 댓글", "/posts/1");
+
+        // then
+        ArgumentCaptor<ServerSentEvent<Object>> captor = ArgumentCaptor.forClass(ServerSentEvent.class);
+        then(notificationSinkRegistry).should().publish(eq("1"), captor.capture());
+        assertThat(captor.getValue().event()).isEqualTo("sse");
+        assertThat(captor.getValue().id()).isEqualTo("10");
+        assertThat(captor.getValue().data()).isInstanceOf(NotificationResponse.class);
+        assertThat(((NotificationResponse) captor.getValue().data()).content()).isEqualTo("새 댓글");
+        assertThat(notificationReplayBuffer.since("1", 9L)).hasValueSatisfying(missed ->
+                assertThat(missed).extracting(NotificationResponse::notificationId).containsExactly(10L));
+    }
+
+    @DisplayName("트랜잭션 안에서 보낸 알림은 커밋된 뒤에 버퍼에 기록하고 발행하며, 롤백되면 보내지 않는다")
+    @Test
+    void send_InTransaction_DeliversOnlyAfterCommit() {
+        // given
+        User receiver = User.builder().email("receiver@test.com").nickname("Receiver").build();
+        ReflectionTestUtils.setField(receiver, "id", 1L);
+        notificationReplayBuffer.initialize(0L);
+        AtomicLong nextId = new AtomicLong(10L);
+        given(notificationRepository.save(any(Notification.class))).willAnswer(invocation -> {
+            Notification saved = invocation.getArgument(0);
+            ReflectionTestUtils.setField(saved, "id", nextId.getAndIncrement());
+            return saved;
+        });
+        given(emitterRepository.findAllByUserId("1")).willReturn(Map.of());
+
+        try {
+            // when: 커밋되는 트랜잭션
+            TransactionSynchronizationManager.initSynchronization();
+            notificationService.send(receiver, "새 댓글", "/posts/1");
+
+            // then: 커밋 전에는 버퍼에도 없고 발행되지도 않음
+            then(notificationSinkRegistry).should(never()).publish(any(), any());
+            assertThat(notificationReplayBuffer.since("1", 0L)).hasValueSatisfying(missed -> assertThat(missed).isEmpty());
+            complete(TransactionSynchronization.STATUS_COMMITTED);
+            then(notificationSinkRegistry).should().publish(eq("1"), any());
+
+            // when: 롤백되는 트랜잭션
+            TransactionSynchronizationManager.initSynchronization();
+            notificationService.send(receiver, "롤백될 댓글", "/posts/1");
+            complete(TransactionSynchronization.STATUS_ROLLED_BACK);
+        } finally {
+            if (TransactionSynchronizationManager.isSynchronizationActive()) {
+                TransactionSynchronizationManager.clearSynchronization();
+            }
+        }
+
+        // then
+        then(notificationSinkRegistry).should(times(1)).publish(eq("1"), any());
+        assertThat(notificationReplayBuffer.since("1", 0L)).hasValueSatisfying(missed ->
+                assertThat(missed).extracting(NotificationResponse::notificationId).containsExactly(10L));
+    }
+
+    @DisplayName("알림 전송 시 이벤트를 받을 수 없는 연결은 저장소에서 제거한다")
+    @Test
+    void send_RemovesEmittersThatCannotAcceptEvents() {
+        // given
+        User receiver = User.builder().email("receiver@test.com").nickname("Receiver").build();
+        ReflectionTestUtils.setField(receiver, "id", 1L);
+        SseEmitter alive = new SseEmitter();
+        SseEmitter overflowed = new SseEmitter();
+        given(notificationRepository.save(any(Notification.class))).willAnswer(invocation -> invocation.getArgument(0));
+        given(emitterRepository.findAllByUserId("1")).willReturn(Map.of("1_alive", alive, "1_overflowed", overflowed));
+        given(sseEventDispatcher.send(eq(alive), any())).willReturn(true);
+        given(sseEventDispatcher.send(eq(overflowed), any())).willReturn(false);
+
+        // when
+        notificationService.send(receiver, "새 댓글", "/posts/1");
+
+        // then
+        then(emitterRepository).should().deleteById("1", "1_overflowed");
+        then(emitterRepository).should(never()).deleteById("1", "1_alive");
+    }
+
+    @DisplayName("재연결 시 Last-Event-ID 이후의 알림이 버퍼에 있으면 DB를 조회하지 않고 재전송한다")
+    @Test
+    void stream_ReplaysMissedNotificationsFromBuffer() {
+        // given
+        notificationReplayBuffer.initialize(0L);
+        notificationReplayBuffer.append("1", notificationResponse(5L));
+        notificationReplayBuffer.append("1", notificationResponse(6L));
+        given(notificationSinkRegistry.connect(eq("1"), any(), any())).willAnswer(invocation -> invocation.getArgument(1));
+
+        // when
+        List<ServerSentEvent<Object>> events = notificationService.stream(1L, "5").collectList().block();
+
+        // then
+        assertThat(events).extracting(ServerSentEvent::id).containsExactly(null, "6");
+        then(notificationRepository).should(never()).findAllByReceiverIdAndIdGreaterThanOrderByIdAsc(any(), any(), any());
+    }
+
+    @DisplayName("재연결 시 버퍼로 놓친 알림을 알 수 없으면 DB에서 Last-Event-ID 이후의 알림을 조회한다")
+    @Test
+    void stream_ReplaysMissedNotificationsFromDatabase() {
+        // given: 서버 재시작 이전의 이벤트 ID
+        notificationReplayBuffer.initialize(100L);
+        User receiver = User.builder().email("receiver@test.com").nickname("Receiver").build();
+        Notification missed = Notification.builder().receiver(receiver).content("놓친 알림").url("/posts/1").build();
+        ReflectionTestUtils.setField(missed, "id", 42L);
+        given(notificationRepository.findAllByReceiverIdAndIdGreaterThanOrderByIdAsc(eq(1L), eq(40L), any(Pageable.class)))
+                .willReturn(List.of(missed));
+        given(notificationSinkRegistry.connect(eq("1"), any(), any())).willAnswer(invocation -> invocation.getArgument(1));
+
+        // when
+        List<ServerSentEvent<Object>> events = notificationService.stream(1L, "40").collectList().block();
+
+        // then
+        assertThat(events).extracting(ServerSentEvent::id).containsExactly(null, "42");
+    }
+
+    @DisplayName("Last-Event-ID가 없거나 알림 ID 형식이 아니면 재전송하지 않는다")
+    @Test
+    void stream_IgnoresMissingOrLegacyLastEventId() {
+        // given
+        given(notificationSinkRegistry.connect(eq("1"), any(), any())).willAnswer(invocation -> invocation.getArgument(1));
+
+        // when
+        List<ServerSentEvent<Object>> withoutHeader = notificationService.stream(1L, null).collectList().block();
+        List<ServerSentEvent<Object>> legacyId = notificationService.stream(1L, "1_1700000000000").collectList().block();
+
+        // then
+        assertThat(withoutHeader).hasSize(1);
+        assertThat(legacyId).hasSize(1);
+        then(notificationRepository).should(never()).findAllByReceiverIdAndIdGreaterThanOrderByIdAsc(any(), any(), any());
+    }
 
     @DisplayName("알림 목록 조회 성공")
     @Test
@@ -127,4 +292,18 @@ class NotificationServiceTest {
         // then
         assertThat(unreadCount).isEqualTo(5L);
     }
-}
\ No newline at end of file
+
+    private NotificationResponse notificationResponse(Long notificationId) {
+        return new NotificationResponse(notificationId, "알림 " + notificationId, "/posts/1", false, null);
+    }
+
+    // 트랜잭션 매니저가 커밋/롤백 후 호출하는 순서대로 동기화 콜백 실행
+    private void complete(int status) {
+        var synchronizations = TransactionSynchronizationManager.getSynchronizations();
+        TransactionSynchronizationManager.clearSynchronization();
+        if (status == TransactionSynchronization.STATUS_COMMITTED) {
+            synchronizations.forEach(TransactionSynchronization::afterCommit);
+        }
+        synchronizations.forEach(synchronization -> synchronization.afterCompletion(status));
+    }
+}
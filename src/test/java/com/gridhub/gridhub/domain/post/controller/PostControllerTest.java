@@ -6,11 +6,15 @@ import com.gridhub.gridhub.domain.post.dto.PostUpdateRequest;
 import com.gridhub.gridhub.domain.post.entity.Post;
 import com.gridhub.gridhub.domain.post.entity.PostCategory;
 import com.gridhub.gridhub.domain.post.repository.PostRepository;
+import com.gridhub.gridhub.domain.post.service.PostSearchSynchronizer;
+import com.gridhub.gridhub.domain.post.service.PostViewCountBuffer;
+import com.gridhub.gridhub.domain.post.service.PostViewDeduplicator;
 import com.gridhub.gridhub.domain.user.entity.User;
 import com.gridhub.gridhub.domain.user.entity.UserRole;
 import com.gridhub.gridhub.domain.user.repository.UserRepository;
 import com.gridhub.gridhub.global.util.JwtUtil;
 import com.gridhub.gridhub.infra.s3.S3UploaderService;
+import com.gridhub.gridhub.infra.s3.UploadedImage;
 import jakarta.persistence.EntityManager;
 import jakarta.servlet.http.Cookie;
 import org.junit.jupiter.api.BeforeEach;
@@ -23,6 +27,7 @@ import org.springframework.http.HttpMethod;
 import org.springframework.http.MediaType;
 import org.springframework.mock.web.MockMultipartFile;
 import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.test.context.bean.override.mockito.MockitoSpyBean;
 import org.springframework.test.web.servlet.MockMvc;
 import org.springframework.test.web.servlet.MvcResult;
 import org.springframework.transaction.annotation.Transactional;
@@ -34,10 +39,15 @@ import static org.assertj.core.api.Assertions.assertThat;
 import static org.hamcrest.Matchers.everyItem;
 import static org.hamcrest.Matchers.is;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
 import static org.springframework.test.web.servlet.result.MockMvcResultHandlers.print;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.cookie;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
@@ -52,10 +62,17 @@ public class PostControllerTest {
     @Autowired private PostRepository postRepository;
     @Autowired private JwtUtil jwtUtil;
     @Autowired private EntityManager em; // DB와의 동기화를 위해 EntityManager 주입
+    @Autowired private PostSearchSynchronizer postSearchSynchronizer;
 
     @MockitoBean
     private S3UploaderService s3UploaderService;
 
+    @MockitoSpyBean
+    private PostViewCountBuffer postViewCountBuffer; // 조회수 증가 여부 확인용
+
+    @MockitoSpyBean
+    private PostViewDeduplicator postViewDeduplicator;
+
     private String authorToken, anotherUserToken, adminToken;
     private User author, anotherUser;
     private Post testPost; // 다양한 테스트에서 공통으로 사용될 게시글
@@ -84,6 +101,8 @@ public class PostControllerTest {
         // 이후의 조회 쿼리가 DB에서 데이터를 직접 읽어오도록 함
         em.flush();
         em.clear();
+        // 검색 색인은 커밋 후에 갱신되므로, 롤백되는 테스트 트랜잭션에서는 현재 DB 상태로 직접 재생성
+        postSearchSynchronizer.rebuild();
     }
 
     @Test
@@ -98,7 +117,7 @@ public class PostControllerTest {
         MockMultipartFile imageFile = new MockMultipartFile("image", "test.jpg", "image/jpeg", "image".getBytes());
 
         String newImageUrl = "https://s3.../new.jpg";
-        given(s3UploaderService.upload(any(MockMultipartFile.class))).willReturn(newImageUrl);
+        given(s3UploaderService.uploadImage(any(MockMultipartFile.class))).willReturn(new UploadedImage(newImageUrl, null, null));
 
         mockMvc.perform(multipart(HttpMethod.POST, "/api/posts")
                         .file(jsonRequest)
@@ -115,7 +134,8 @@ public class PostControllerTest {
         MockMultipartFile jsonRequest = new MockMultipartFile("request", "", "application/json", objectMapper.writeValueAsString(updateRequest).getBytes(StandardCharsets.UTF_8));
         MockMultipartFile newImageFile = new MockMultipartFile("image", "new.jpg", "image/jpeg", "new image".getBytes());
         String newImageUrl = "https://s3.../new-url.jpg";
-        given(s3UploaderService.upload(any())).willReturn(newImageUrl);
+        String newThumbnailUrl = "https://s3.../new-url_thumb.jpg";
+        given(s3UploaderService.uploadImage(any())).willReturn(new UploadedImage(newImageUrl, null, newThumbnailUrl));
 
         mockMvc.perform(multipart(HttpMethod.PUT, "/api/posts/" + testPost.getId())
                         .file(jsonRequest)
@@ -123,12 +143,13 @@ public class PostControllerTest {
                         .header("Authorization", authorToken))
                 .andExpect(status().isOk());
 
-        // s3UploaderService.delete가 '기존' 이미지 URL로 호출되었는지 검증
-        verify(s3UploaderService).delete(testPost.getImageUrl());
+        // '기존' 이미지 URL의 삭제가 예약되었는지 검증
+        verify(s3UploaderService).deleteLater(List.of(testPost.getImageUrl()));
 
         em.flush(); em.clear(); // DB와 영속성 컨텍스트 동기화
         Post updatedPost = postRepository.findById(testPost.getId()).orElseThrow();
         assertThat(updatedPost.getImageUrl()).isEqualTo(newImageUrl);
+        assertThat(updatedPost.getImageThumbnailUrl()).isEqualTo(newThumbnailUrl);
     }
 
     @Test
@@ -151,7 +172,7 @@ public class PostControllerTest {
                         .header("Authorization", authorToken))
                 .andExpect(status().isNoContent());
 
-        verify(s3UploaderService).delete(testPost.getImageUrl());
+        verify(s3UploaderService).deleteLater(List.of(testPost.getImageUrl()));
     }
 
     @Test
@@ -162,6 +183,44 @@ public class PostControllerTest {
                 .andExpect(status().isNoContent());
     }
 
+    @Test
+    @DisplayName("GET /api/posts/{postId} - 익명 사용자는 viewer_id 쿠키로 구분해 같은 게시글 조회수를 한 번만 올림")
+    void getPost_Anonymous_CountsViewOnce() throws Exception {
+        MvcResult firstView = mockMvc.perform(get("/api/posts/" + testPost.getId()))
+                .andExpect(status().isOk())
+                .andExpect(cookie().exists("viewer_id"))
+                .andReturn();
+        Cookie viewerCookie = firstView.getResponse().getCookie("viewer_id");
+
+        mockMvc.perform(get("/api/posts/" + testPost.getId()).cookie(viewerCookie))
+                .andExpect(status().isOk())
+                .andExpect(cookie().doesNotExist("viewer_id"));
+
+        verify(postViewCountBuffer, times(1)).increment(testPost.getId());
+    }
+
+    @Test
+    @DisplayName("GET /api/posts/{postId} - 로그인 사용자는 계정 기준으로 조회수를 한 번만 올림")
+    void getPost_LoggedIn_CountsViewOnce() throws Exception {
+        for (int i = 0; i < 3; i++) {
+            mockMvc.perform(get("/api/posts/" + testPost.getId()).header("Authorization", anotherUserToken))
+                    .andExpect(status().isOk())
+                    .andExpect(cookie().doesNotExist("viewer_id"));
+        }
+
+        verify(postViewCountBuffer, times(1)).increment(testPost.getId());
+    }
+
+    @Test
+    @DisplayName("GET /api/posts/{postId} - 없는 게시글 조회는 조회 기록을 남기지 않음")
+    void getPost_NotFound_DoesNotRecordView() throws Exception {
+        mockMvc.perform(get("/api/posts/" + Long.MAX_VALUE).header("Authorization", anotherUserToken))
+                .andExpect(status().isNotFound());
+
+        verify(postViewDeduplicator, never()).isFirstView(anyString(), anyLong());
+        verify(postViewCountBuffer, never()).increment(anyLong());
+    }
+
     @Test
     @DisplayName("GET /api/posts - 전체 게시글 목록 조회")
     void getPostList_AllCategories_Success() throws Exception {
@@ -192,7 +251,9 @@ public class PostControllerTest {
         mockMvc.perform(get("/api/posts").param("searchType", "title").param("keyword", "JPA"))
                 .andExpect(status().isOk())
                 .andExpect(jsonPath("$.totalElements").value(1))
-                .andExpect(jsonPath("$.content[0].title").value("JPA Basics"));
+                .andExpect(jsonPath("$.content[0].title").value("JPA Basics"))
+                .andExpect(jsonPath("$.content[0].imageUrl").value("https://s3.../existing.jpg"))
+                .andExpect(jsonPath("$.content[0].thumbnailUrl").value("https://s3.../existing.jpg")); // 축소본이 없으면 원본
     }
 
     @Test
@@ -222,4 +283,39 @@ public class PostControllerTest {
                 .andExpect(jsonPath("$.totalElements").value(1))
                 .andExpect(jsonPath("$.content[0].title").value("Rumor about Spring"));
     }
-}
\ No newline at end of file
+
+    @Test
+    @DisplayName("GET /api/posts/scroll - 커서로 다음 페이지를 중복 없이 이어서 조회")
+    void getPostFeed_ContinuesWithCursor() throws Exception {
+        MvcResult firstPage = mockMvc.perform(get("/api/posts/scroll").param("size", "3"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.content.length()").value(3))
+                .andExpect(jsonPath("$.hasNext").value(true))
+                .andReturn();
+        String nextCursor = objectMapper.readTree(firstPage.getResponse().getContentAsString()).get("nextCursor").asText();
+
+        mockMvc.perform(get("/api/posts/scroll").param("size", "3").param("cursor", nextCursor))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.content.length()").value(1))
+                .andExpect(jsonPath("$.content[0].postId").value(testPost.getId()))
+                .andExpect(jsonPath("$.hasNext").value(false))
+                .andExpect(jsonPath("$.nextCursor").doesNotExist());
+    }
+
+    @Test
+    @DisplayName("GET /api/posts/scroll - 카테고리별 피드 조회")
+    void getPostFeed_ByCategory() throws Exception {
+        mockMvc.perform(get("/api/posts/scroll").param("category", "INFO"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.content.length()").value(2))
+                .andExpect(jsonPath("$.content.[*].category", everyItem(is("INFO"))))
+                .andExpect(jsonPath("$.hasNext").value(false));
+    }
+
+    @Test
+    @DisplayName("GET /api/posts/scroll - 잘못된 커서 요청")
+    void getPostFeed_InvalidCursor_Fail() throws Exception {
+        mockMvc.perform(get("/api/posts/scroll").param("cursor", "not-a-cursor"))
+                .andExpect(status().isBadRequest());
+    }
+}
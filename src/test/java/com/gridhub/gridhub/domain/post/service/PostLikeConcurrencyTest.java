@@ -0,0 +1,102 @@
+package com.gridhub.gridhub.domain.post.service;
+
+import com.gridhub.gridhub.domain.post.entity.Post;
+import com.gridhub.gridhub.domain.post.entity.PostCategory;
+import com.gridhub.gridhub.domain.post.exception.AlreadyLikedPostException;
+import com.gridhub.gridhub.domain.post.repository.PostLikeRepository;
+import com.gridhub.gridhub.domain.post.repository.PostRepository;
+import com.gridhub.gridhub.domain.user.entity.User;
+import com.gridhub.gridhub.domain.user.entity.UserRole;
+import com.gridhub.gridhub.domain.user.repository.UserRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 여러 요청이 각자의 트랜잭션에서 동시에 커밋되어야 하므로 테스트 트랜잭션(@Transactional) 없이 실행하고 직접 정리.
+ */
+@SpringBootTest
+class PostLikeConcurrencyTest {
+
+    private static final int USER_COUNT = 200;
+    private static final int THREAD_COUNT = 32;
+
+    @Autowired private PostService postService;
+    @Autowired private PostRepository postRepository;
+    @Autowired private PostLikeRepository postLikeRepository;
+    @Autowired private UserRepository userRepository;
+
+    private final List<User> users = new ArrayList<>();
+    private Post post;
+
+    @BeforeEach
+    void setUp() {
+        for (int i = 0; i < USER_COUNT; i++) {
+            users.add(User.builder().email("liker" + i + "@test.com").password("encoded")
+                    .nickname("liker" + i).role(UserRole.USER).build());
+        }
+        userRepository.saveAll(users);
+        post = postRepository.save(Post.builder().title("hot").content("hot post")
+                .category(PostCategory.FREE).author(users.get(0)).build());
+    }
+
+    @AfterEach
+    void tearDown() {
+        postLikeRepository.deleteAllInBatch();
+        postRepository.deleteById(post.getId());
+        // 엔티티 단위로 삭제해야 리더보드 인덱스에서도 제거됨
+        userRepository.deleteAll(users);
+    }
+
+    @DisplayName("같은 게시글에 대한 동시 추천은 사용자당 한 번만 반영되고 추천수가 정확히 일치한다")
+    @Test
+    void addLike_Concurrently_ExactCount() throws InterruptedException {
+        // given: 모든 사용자가 같은 게시글을 두 번씩 동시에 추천
+        ExecutorService executor = Executors.newFixedThreadPool(THREAD_COUNT);
+        CountDownLatch start = new CountDownLatch(1);
+        CountDownLatch done = new CountDownLatch(USER_COUNT * 2);
+        AtomicInteger alreadyLiked = new AtomicInteger();
+        AtomicInteger unexpected = new AtomicInteger();
+
+        for (int attempt = 0; attempt < 2; attempt++) {
+            for (User user : users) {
+                executor.submit(() -> {
+                    try {
+                        start.await();
+                        postService.addLike(post.getId(), user.getEmail());
+                    } catch (AlreadyLikedPostException e) {
+                        alreadyLiked.incrementAndGet();
+                    } catch (Exception e) {
+                        unexpected.incrementAndGet();
+                    } finally {
+                        done.countDown();
+                    }
+                });
+            }
+        }
+
+        // when
+        start.countDown();
+        assertThat(done.await(60, TimeUnit.SECONDS)).isTrue();
+        executor.shutdown();
+
+        // then
+        assertThat(unexpected.get()).isZero();
+        assertThat(alreadyLiked.get()).isEqualTo(USER_COUNT);
+        assertThat(postLikeRepository.count()).isEqualTo(USER_COUNT);
+        assertThat(postRepository.findById(post.getId()).orElseThrow().getLikeCount()).isEqualTo(USER_COUNT);
+    }
+}
@@ -0,0 +1,103 @@
+package com.gridhub.gridhub.domain.post.service;
+
+import com.gridhub.gridhub.domain.post.dto.PostSearchDocument;
+import com.gridhub.gridhub.domain.post.entity.PostCategory;
+import com.gridhub.gridhub.domain.post.service.PostSearchIndex.Field;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class PostSearchIndexTest {
+
+    private final PostSearchIndex postSearchIndex = new PostSearchIndex();
+
+    @DisplayName("한글 키워드의 일부만 입력해도 n-gram 으로 검색된다")
+    @Test
+    void search_MatchesKoreanSubstring() {
+        // given
+        postSearchIndex.put(document(1L, 1L, "author", PostCategory.FREE, "모나코 그랑프리 후기", "내용"));
+        postSearchIndex.put(document(2L, 1L, "author", PostCategory.FREE, "싱가포르 야간 레이스", "내용"));
+
+        // when & then
+        assertThat(postSearchIndex.search(Field.TITLE, "그랑프", null)).containsExactly(1L);
+        assertThat(postSearchIndex.search(Field.TITLE, "랑", null)).containsExactly(1L);
+        assertThat(postSearchIndex.search(Field.TITLE, "모나코 후기", null)).containsExactly(1L);
+        assertThat(postSearchIndex.search(Field.TITLE, "모나코 야간", null)).isEmpty();
+        assertThat(postSearchIndex.search(Field.TITLE, "  ", null)).isEmpty();
+    }
+
+    @DisplayName("키워드가 많이 등장하는 게시글이 먼저, 점수가 같으면 최신 게시글이 먼저 나온다")
+    @Test
+    void search_RanksByTermFrequencyThenRecency() {
+        // given
+        postSearchIndex.put(document(1L, 1L, "author", PostCategory.FREE, "제목", "피트 전략"));
+        postSearchIndex.put(document(2L, 1L, "author", PostCategory.FREE, "제목", "피트 스톱, 피트 전략, 피트 레인"));
+        postSearchIndex.put(document(3L, 1L, "author", PostCategory.FREE, "제목", "피트 전략"));
+        postSearchIndex.put(document(4L, 1L, "author", PostCategory.FREE, "제목", "타이어"));
+
+        // when
+        List<Long> result = postSearchIndex.search(Field.CONTENT, "피트", null);
+
+        // then
+        assertThat(result).containsExactly(2L, 3L, 1L);
+    }
+
+    @DisplayName("카테고리를 지정하면 해당 카테고리의 게시글만 검색된다")
+    @Test
+    void search_FiltersByCategory() {
+        // given
+        postSearchIndex.put(document(1L, 1L, "author", PostCategory.INFO, "레드불 소식", "내용"));
+        postSearchIndex.put(document(2L, 1L, "author", PostCategory.FREE, "레드불 잡담", "내용"));
+
+        // when & then
+        assertThat(postSearchIndex.search(Field.TITLE, "레드불", PostCategory.INFO)).containsExactly(1L);
+        assertThat(postSearchIndex.search(Field.TITLE, "레드불", null)).containsExactly(2L, 1L);
+    }
+
+    @DisplayName("게시글을 수정하면 이전 내용의 색인은 제거되고, 삭제하면 검색되지 않는다")
+    @Test
+    void putAndRemove_KeepIndexUpToDate() {
+        // given
+        postSearchIndex.put(document(1L, 1L, "author", PostCategory.FREE, "페라리 우승", "내용"));
+
+        // when
+        postSearchIndex.put(document(1L, 1L, "author", PostCategory.FREE, "맥라렌 우승", "내용"));
+
+        // then
+        assertThat(postSearchIndex.search(Field.TITLE, "페라리", null)).isEmpty();
+        assertThat(postSearchIndex.search(Field.TITLE, "맥라렌", null)).containsExactly(1L);
+        assertThat(postSearchIndex.size()).isEqualTo(1);
+
+        // when
+        postSearchIndex.remove(1L);
+
+        // then
+        assertThat(postSearchIndex.search(Field.TITLE, "맥라렌", null)).isEmpty();
+        assertThat(postSearchIndex.size()).isZero();
+    }
+
+    @DisplayName("작성자 닉네임이 바뀌면 그 작성자의 모든 게시글이 새 닉네임으로 검색된다")
+    @Test
+    void renameAuthor_ReindexesNickname() {
+        // given
+        postSearchIndex.put(document(1L, 1L, "피트크루", PostCategory.FREE, "제목", "내용"));
+        postSearchIndex.put(document(2L, 1L, "피트크루", PostCategory.INFO, "제목", "내용"));
+        postSearchIndex.put(document(3L, 2L, "관중", PostCategory.FREE, "제목", "내용"));
+
+        // when
+        postSearchIndex.renameAuthor(1L, "드라이버");
+
+        // then
+        assertThat(postSearchIndex.search(Field.NICKNAME, "피트크루", null)).isEmpty();
+        assertThat(postSearchIndex.search(Field.NICKNAME, "드라이버", null)).containsExactly(2L, 1L);
+        assertThat(postSearchIndex.search(Field.NICKNAME, "관중", null)).containsExactly(3L);
+    }
+
+    private PostSearchDocument document(Long postId, Long authorId, String nickname,
+                                        PostCategory category, String title, String content) {
+        return new PostSearchDocument(postId, authorId, nickname, category, title, content);
+    }
+}
@@ -0,0 +1,95 @@
+package com.gridhub.gridhub.domain.post.service;
+
+import com.gridhub.gridhub.domain.post.dto.PostSearchDocument;
+import com.gridhub.gridhub.domain.post.entity.PostCategory;
+import com.gridhub.gridhub.domain.post.repository.PostRepository;
+import com.gridhub.gridhub.domain.post.service.PostSearchIndex.Field;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+
+class PostSearchSynchronizerTest {
+
+    private final PostSearchIndex postSearchIndex = new PostSearchIndex();
+    private final PostSearchSynchronizer postSearchSynchronizer =
+            new PostSearchSynchronizer(postSearchIndex, mock(PostRepository.class));
+
+    @AfterEach
+    void tearDown() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    @DisplayName("트랜잭션 안의 변경은 커밋 전에는 검색되지 않고, 커밋 후 마지막 상태로 반영된다")
+    @Test
+    void index_IsVisibleOnlyAfterCommit() {
+        // given
+        postSearchIndex.put(document(1L, "피트크루", "페라리 우승"));
+        TransactionSynchronizationManager.initSynchronization();
+
+        // when
+        postSearchSynchronizer.index(document(1L, "피트크루", "맥라렌 우승"));
+        postSearchSynchronizer.index(document(2L, "피트크루", "레드불 우승"));
+        postSearchSynchronizer.renameAuthor(1L, "드라이버");
+
+        // then
+        assertThat(postSearchIndex.search(Field.TITLE, "페라리", null)).containsExactly(1L);
+        assertThat(postSearchIndex.search(Field.TITLE, "레드불", null)).isEmpty();
+
+        complete(TransactionSynchronization.STATUS_COMMITTED);
+        assertThat(postSearchIndex.search(Field.TITLE, "페라리", null)).isEmpty();
+        assertThat(postSearchIndex.search(Field.TITLE, "맥라렌", null)).containsExactly(1L);
+        assertThat(postSearchIndex.search(Field.NICKNAME, "드라이버", null)).containsExactly(2L, 1L);
+        assertThat(postSearchIndex.search(Field.NICKNAME, "피트크루", null)).isEmpty();
+    }
+
+    @DisplayName("롤백된 트랜잭션의 변경은 반영되지 않고, 그 사이 다른 곳에서 반영된 색인도 덮어쓰지 않는다")
+    @Test
+    void index_IsDiscardedOnRollback() {
+        // given
+        postSearchIndex.put(document(1L, "피트크루", "페라리 우승"));
+        TransactionSynchronizationManager.initSynchronization();
+        postSearchSynchronizer.index(document(1L, "피트크루", "맥라렌 우승"));
+        postSearchSynchronizer.remove(1L);
+
+        // 다른 트랜잭션이 먼저 커밋해 반영한 색인
+        postSearchIndex.put(document(1L, "피트크루", "레드불 우승"));
+
+        // when
+        complete(TransactionSynchronization.STATUS_ROLLED_BACK);
+
+        // then
+        assertThat(postSearchIndex.search(Field.TITLE, "레드불", null)).containsExactly(1L);
+        assertThat(postSearchIndex.search(Field.TITLE, "맥라렌", null)).isEmpty();
+    }
+
+    @DisplayName("트랜잭션 밖의 변경은 바로 반영된다")
+    @Test
+    void index_WithoutTransaction() {
+        postSearchSynchronizer.index(document(1L, "피트크루", "페라리 우승"));
+        assertThat(postSearchIndex.search(Field.TITLE, "페라리", null)).containsExactly(1L);
+
+        postSearchSynchronizer.remove(1L);
+        assertThat(postSearchIndex.size()).isZero();
+    }
+
+    // 트랜잭션 매니저가 커밋/롤백 후 호출하는 순서대로 동기화 콜백 실행
+    private void complete(int status) {
+        var synchronizations = TransactionSynchronizationManager.getSynchronizations();
+        TransactionSynchronizationManager.clearSynchronization();
+        if (status == TransactionSynchronization.STATUS_COMMITTED) {
+            synchronizations.forEach(TransactionSynchronization::afterCommit);
+        }
+        synchronizations.forEach(synchronization -> synchronization.afterCompletion(status));
+    }
+
+    private PostSearchDocument document(Long postId, String nickname, String title) {
+        return new PostSearchDocument(postId, 1L, nickname, PostCategory.FREE, title, "내용");
+    }
+}
@@ -2,10 +2,11 @@ package com.gridhub.gridhub.domain.post.service;
 
 import com.gridhub.gridhub.domain.post.dto.PostRequestDto;
 import com.gridhub.gridhub.domain.post.dto.PostResponse;
+import com.gridhub.gridhub.domain.post.dto.PostSearchDocument;
+import com.gridhub.gridhub.domain.post.dto.PostSimpleResponse;
 import com.gridhub.gridhub.domain.post.dto.PostUpdateRequest;
 import com.gridhub.gridhub.domain.post.entity.Post;
 import com.gridhub.gridhub.domain.post.entity.PostCategory;
-import com.gridhub.gridhub.domain.post.entity.PostLike;
 import com.gridhub.gridhub.domain.post.exception.*;
 import com.gridhub.gridhub.domain.post.repository.PostLikeRepository;
 import com.gridhub.gridhub.domain.post.repository.PostRepository;
@@ -13,6 +14,7 @@ import com.gridhub.gridhub.domain.user.entity.User;
 import com.gridhub.gridhub.domain.user.entity.UserRole;
 import com.gridhub.gridhub.domain.user.repository.UserRepository;
 import com.gridhub.gridhub.infra.s3.S3UploaderService;
+import com.gridhub.gridhub.infra.s3.UploadedImage;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -20,15 +22,20 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.mock.web.MockMultipartFile;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
 import org.springframework.test.util.ReflectionTestUtils;
 import org.springframework.web.multipart.MultipartFile;
 
 import java.io.IOException;
+import java.util.List;
 import java.util.Optional;
 
 import static org.assertj.core.api.Assertions.assertThat;
@@ -55,6 +62,20 @@ class PostServiceTest {
     @Mock
     private S3UploaderService s3UploaderService;
 
+    @Mock
+    private PostViewCountBuffer postViewCountBuffer;
+
+    @Mock
+    private PostViewDeduplicator postViewDeduplicator;
+
+    // 검색 색인은 실제 객체를 사용
+    @Spy
+    private PostSearchIndex postSearchIndex = new PostSearchIndex();
+
+    // 트랜잭션 경계만 흉내내고 콜백은 그대로 실행
+    @Spy
+    private TransactionTemplate transactionTemplate = new TransactionTemplate(mock(PlatformTransactionManager.class));
+
     private User author;
     private User anotherUser;
     private User admin;
@@ -87,7 +108,7 @@ class PostServiceTest {
         postService.createPost(requestDto, null, author.getEmail());
 
         // then
-        verify(s3UploaderService, never()).upload(any(MultipartFile.class)); // upload가 호출되지 않았는지 검증
+        verify(s3UploaderService, never()).uploadImage(any(MultipartFile.class)); // upload가 호출되지 않았는지 검증
         verify(postRepository).save(any(Post.class));
     }
 
@@ -102,9 +123,11 @@ class PostServiceTest {
 
         MockMultipartFile mockImage = new MockMultipartFile("image", "test.jpg", "image/jpeg", "test image".getBytes());
         String fakeImageUrl = "https://s3.amazonaws.com/bucket/images/fake-uuid.jpg";
+        String fakeThumbnailUrl = "https://s3.amazonaws.com/bucket/images/fake-uuid_thumb.jpg";
+        UploadedImage uploadedImage = new UploadedImage(fakeImageUrl, null, fakeThumbnailUrl);
 
         given(userRepository.findByEmail(author.getEmail())).willReturn(Optional.of(author));
-        given(s3UploaderService.upload(mockImage)).willReturn(fakeImageUrl);
+        given(s3UploaderService.uploadImage(mockImage)).willReturn(uploadedImage);
         given(postRepository.save(any(Post.class))).willReturn(post);
 
         // when
@@ -116,7 +139,9 @@ class PostServiceTest {
 
         assertThat(postId).isEqualTo(1L); // 반환된 ID가 예상과 같은지 확인
         assertThat(postCaptor.getValue().getImageUrl()).isEqualTo(fakeImageUrl);
-        verify(s3UploaderService, times(1)).upload(mockImage);
+        assertThat(postCaptor.getValue().getImageThumbnailUrl()).isEqualTo(fakeThumbnailUrl);
+        verify(s3UploaderService, times(1)).uploadImage(mockImage);
+        verify(s3UploaderService).deleteOnRollback(uploadedImage); // 롤백 시 보상 삭제 등록
     }
     // --- 수정 테스트 ---
 
@@ -133,8 +158,8 @@ class PostServiceTest {
 
         // then
         assertThat(post.getTitle()).isEqualTo("updated title");
-        verify(s3UploaderService, never()).upload(any());
-        verify(s3UploaderService, never()).delete(any());
+        verify(s3UploaderService, never()).uploadImage(any());
+        verify(s3UploaderService, never()).deleteLater(any());
     }
 
     @DisplayName("게시글 수정 성공 (새 이미지 추가)")
@@ -142,24 +167,60 @@ class PostServiceTest {
     void updatePost_WithNewImage_Success() throws IOException {
         // given
         String oldImageUrl = "https://s3.../old.jpg";
-        post.update(post.getTitle(), post.getContent(), oldImageUrl);
+        String oldThumbnailUrl = "https://s3.../old_thumb.jpg";
+        post.updateImage(oldImageUrl, null, oldThumbnailUrl);
 
         PostUpdateRequest request = new PostUpdateRequest("updated title", "updated content");
         MockMultipartFile newImage = new MockMultipartFile("image", "new.jpg", "image/jpeg", "new".getBytes());
         String newImageUrl = "https://s3.../new.jpg";
+        String newMediumUrl = "https://s3.../new_medium.jpg";
 
+        given(postRepository.findAuthorIdById(post.getId())).willReturn(Optional.of(author.getId()));
         given(userRepository.findByEmail(author.getEmail())).willReturn(Optional.of(author));
         given(postRepository.findById(post.getId())).willReturn(Optional.of(post));
-        given(s3UploaderService.upload(newImage)).willReturn(newImageUrl);
-        willDoNothing().given(s3UploaderService).delete(oldImageUrl);
+        given(s3UploaderService.uploadImage(newImage)).willReturn(new UploadedImage(newImageUrl, newMediumUrl, null));
 
         // when
         postService.updatePost(post.getId(), request, newImage, author.getEmail());
 
-        // then
-        verify(s3UploaderService).delete(oldImageUrl);
-        verify(s3UploaderService).upload(newImage);
+        // then: 기존 원본과 축소본 모두 삭제 예약
+        verify(s3UploaderService).deleteLater(List.of(oldImageUrl, oldThumbnailUrl));
+        verify(s3UploaderService).uploadImage(newImage);
         assertThat(post.getImageUrl()).isEqualTo(newImageUrl);
+        assertThat(post.getImageMediumUrl()).isEqualTo(newMediumUrl);
+        assertThat(post.getImageThumbnailUrl()).isNull();
+    }
+
+    @DisplayName("게시글 수정 실패 - 작성자가 아니면 새 이미지를 업로드하지 않음")
+    @Test
+    void updatePost_Forbidden_DoesNotUploadImage() throws IOException {
+        // given
+        PostUpdateRequest request = new PostUpdateRequest("updated title", "updated content");
+        MockMultipartFile newImage = new MockMultipartFile("image", "new.jpg", "image/jpeg", "new".getBytes());
+
+        given(postRepository.findAuthorIdById(post.getId())).willReturn(Optional.of(author.getId()));
+        given(userRepository.findByEmail(anotherUser.getEmail())).willReturn(Optional.of(anotherUser));
+
+        // when & then
+        assertThrows(PostUpdateForbiddenException.class,
+                () -> postService.updatePost(post.getId(), request, newImage, anotherUser.getEmail()));
+        verify(s3UploaderService, never()).uploadImage(any());
+        verify(postRepository, never()).findById(any());
+        assertThat(post.getTitle()).isEqualTo("title");
+    }
+
+    @DisplayName("게시글 수정 실패 - 없는 게시글이면 새 이미지를 업로드하지 않음")
+    @Test
+    void updatePost_NotFound_DoesNotUploadImage() throws IOException {
+        // given
+        PostUpdateRequest request = new PostUpdateRequest("updated title", "updated content");
+        MockMultipartFile newImage = new MockMultipartFile("image", "new.jpg", "image/jpeg", "new".getBytes());
+        given(postRepository.findAuthorIdById(99L)).willReturn(Optional.empty());
+
+        // when & then
+        assertThrows(PostNotFoundException.class,
+                () -> postService.updatePost(99L, request, newImage, author.getEmail()));
+        verify(s3UploaderService, never()).uploadImage(any());
     }
 
     // --- 삭제 테스트 ---
@@ -176,7 +237,7 @@ class PostServiceTest {
 
         // then
         verify(postRepository).delete(post);
-        verify(s3UploaderService, never()).delete(any());
+        verify(s3UploaderService, never()).deleteLater(any());
     }
 
     @DisplayName("게시글 삭제 성공 (이미지 포함)")
@@ -184,7 +245,7 @@ class PostServiceTest {
     void deletePost_WithImage_Success() {
         // given
         String imageUrl = "https://s3.../image.jpg";
-        post.update(post.getTitle(), post.getContent(), imageUrl);
+        post.updateImage(imageUrl, null, null);
 
         given(userRepository.findByEmail(author.getEmail())).willReturn(Optional.of(author));
         given(postRepository.findById(post.getId())).willReturn(Optional.of(post));
@@ -193,7 +254,7 @@ class PostServiceTest {
         postService.deletePost(post.getId(), author.getEmail());
 
         // then
-        verify(s3UploaderService).delete(imageUrl);
+        verify(s3UploaderService).deleteLater(List.of(imageUrl));
         verify(postRepository).delete(post);
     }
 
@@ -248,36 +309,64 @@ class PostServiceTest {
         then(postRepository).should(never()).delete(any(Post.class));
     }
 
-    @DisplayName("게시글 조회 및 조회수 증가 성공")
+    @DisplayName("게시글 조회 및 조회수 증가 성공 - 엔티티는 변경하지 않고 버퍼에 기록")
     @Test
     void getPostAndUpdateViewCount_Success() {
         // given
         given(postRepository.findById(post.getId())).willReturn(Optional.of(post));
+        given(postViewDeduplicator.isFirstView("user:viewer", post.getId())).willReturn(true);
+        given(postViewCountBuffer.pending(post.getId())).willReturn(1L);
         int initialViewCount = post.getViewCount();
 
         // when
-        PostResponse response = postService.getPostAndUpdateViewCount(post.getId());
+        PostResponse response = postService.getPostAndUpdateViewCount(post.getId(), "user:viewer");
 
         // then
-        assertThat(response.viewCount()).isEqualTo(initialViewCount + 1);
-        assertThat(post.getViewCount()).isEqualTo(initialViewCount + 1); // 엔티티 상태 변경 확인
+        verify(postViewCountBuffer).increment(post.getId());
+        assertThat(response.viewCount()).isEqualTo(initialViewCount + 1); // 아직 반영되지 않은 조회수 포함
+        assertThat(post.getViewCount()).isEqualTo(initialViewCount); // 엔티티(행)는 수정하지 않음
     }
 
-    @DisplayName("게시글 추천 성공")
+    @DisplayName("최근에 이미 조회한 게시글은 조회수를 올리지 않는다")
+    @Test
+    void getPostAndUpdateViewCount_RepeatedView() {
+        // given
+        given(postRepository.findById(post.getId())).willReturn(Optional.of(post));
+        given(postViewDeduplicator.isFirstView("user:viewer", post.getId())).willReturn(false);
+
+        // when
+        postService.getPostAndUpdateViewCount(post.getId(), "user:viewer");
+
+        // then
+        verify(postViewCountBuffer, never()).increment(anyLong());
+    }
+
+    @DisplayName("존재하지 않는 게시글은 조회 기록과 조회수를 남기지 않는다")
+    @Test
+    void getPostAndUpdateViewCount_Fail_PostNotFound() {
+        // given
+        given(postRepository.findById(999L)).willReturn(Optional.empty());
+
+        // when & then
+        assertThrows(PostNotFoundException.class, () -> postService.getPostAndUpdateViewCount(999L, "user:viewer"));
+        verify(postViewDeduplicator, never()).isFirstView(anyString(), anyLong());
+        verify(postViewCountBuffer, never()).increment(anyLong());
+    }
+
+    @DisplayName("게시글 추천 성공 - 추천 기록 추가 후 추천수를 원자적으로 증가")
     @Test
     void addLike_Success() {
         // given
         given(userRepository.findByEmail(author.getEmail())).willReturn(Optional.of(author));
-        given(postRepository.findById(post.getId())).willReturn(Optional.of(post));
-        given(postLikeRepository.findByUserAndPost(author, post)).willReturn(Optional.empty()); // 아직 추천 안 함
-        int initialLikeCount = post.getLikeCount();
+        given(postRepository.existsById(post.getId())).willReturn(true);
+        given(postLikeRepository.insertIfAbsent(post.getId(), author.getId())).willReturn(1); // 아직 추천 안 함
 
         // when
         postService.addLike(post.getId(), author.getEmail());
 
         // then
-        then(postLikeRepository).should().save(any());
-        assertThat(post.getLikeCount()).isEqualTo(initialLikeCount + 1);
+        then(postRepository).should().increaseLikeCount(post.getId());
+        then(postRepository).should(never()).findById(any());
     }
 
     @DisplayName("게시글 추천 실패 - 이미 추천한 경우")
@@ -285,30 +374,53 @@ class PostServiceTest {
     void addLike_Fail_AlreadyLiked() {
         // given
         given(userRepository.findByEmail(author.getEmail())).willReturn(Optional.of(author));
-        given(postRepository.findById(post.getId())).willReturn(Optional.of(post));
-        given(postLikeRepository.findByUserAndPost(author, post)).willReturn(Optional.of(mock(PostLike.class))); // 이미 추천함
+        given(postRepository.existsById(post.getId())).willReturn(true);
+        given(postLikeRepository.insertIfAbsent(post.getId(), author.getId())).willReturn(0); // 이미 추천함
 
         // when & then
         assertThrows(AlreadyLikedPostException.class, () -> postService.addLike(post.getId(), author.getEmail()));
+        then(postRepository).should(never()).increaseLikeCount(any());
+    }
+
+    @DisplayName("게시글 추천 실패 - 동시 요청으로 유니크 제약 위반")
+    @Test
+    void addLike_Fail_UniqueConstraintViolated() {
+        // given
+        given(userRepository.findByEmail(author.getEmail())).willReturn(Optional.of(author));
+        given(postRepository.existsById(post.getId())).willReturn(true);
+        given(postLikeRepository.insertIfAbsent(post.getId(), author.getId()))
+                .willThrow(new DataIntegrityViolationException("post_like_uk"));
+
+        // when & then
+        assertThrows(AlreadyLikedPostException.class, () -> postService.addLike(post.getId(), author.getEmail()));
+        then(postRepository).should(never()).increaseLikeCount(any());
+    }
+
+    @DisplayName("게시글 추천 실패 - 존재하지 않는 게시글")
+    @Test
+    void addLike_Fail_PostNotFound() {
+        // given
+        given(userRepository.findByEmail(author.getEmail())).willReturn(Optional.of(author));
+        given(postRepository.existsById(999L)).willReturn(false);
+
+        // when & then
+        assertThrows(PostNotFoundException.class, () -> postService.addLike(999L, author.getEmail()));
+        then(postLikeRepository).should(never()).insertIfAbsent(any(), any());
     }
 
     @DisplayName("게시글 추천 취소 성공")
     @Test
     void removeLike_Success() {
         // given
-        PostLike postLike = PostLike.builder().user(author).post(post).build();
         given(userRepository.findByEmail(author.getEmail())).willReturn(Optional.of(author));
-        given(postRepository.findById(post.getId())).willReturn(Optional.of(post));
-        given(postLikeRepository.findByUserAndPost(author, post)).willReturn(Optional.of(postLike));
-        post.increaseLikeCount(); // likeCount를 1로 설정
-        int initialLikeCount = post.getLikeCount();
+        given(postRepository.existsById(post.getId())).willReturn(true);
+        given(postLikeRepository.deleteByPostIdAndUserId(post.getId(), author.getId())).willReturn(1);
 
         // when
         postService.removeLike(post.getId(), author.getEmail());
 
         // then
-        then(postLikeRepository).should().delete(postLike);
-        assertThat(post.getLikeCount()).isEqualTo(initialLikeCount - 1);
+        then(postRepository).should().decreaseLikeCount(post.getId());
     }
 
     @DisplayName("게시글 추천 취소 실패 - 추천 기록이 없는 경우")
@@ -316,11 +428,12 @@ class PostServiceTest {
     void removeLike_Fail_LikeNotFound() {
         // given
         given(userRepository.findByEmail(author.getEmail())).willReturn(Optional.of(author));
-        given(postRepository.findById(post.getId())).willReturn(Optional.of(post));
-        given(postLikeRepository.findByUserAndPost(author, post)).willReturn(Optional.empty());
+        given(postRepository.existsById(post.getId())).willReturn(true);
+        given(postLikeRepository.deleteByPostIdAndUserId(post.getId(), author.getId())).willReturn(0);
 
         // when & then
         assertThrows(LikeNotFoundException.class, () -> postService.removeLike(post.getId(), author.getEmail()));
+        then(postRepository).should(never()).decreaseLikeCount(any());
     }
 
     @DisplayName("게시글 목록 조회 - 검색 조건이 없을 때")
@@ -340,22 +453,25 @@ class PostServiceTest {
         verify(postRepository).findAll(pageable);
     }
 
-    @DisplayName("게시글 목록 조회 - 제목으로 검색")
+    @DisplayName("게시글 목록 조회 - 제목으로 검색 (검색 색인 사용, 카테고리 필터링)")
     @Test
     void getPostList_SearchByTitle() {
         // given
         Pageable pageable = PageRequest.of(0, 10);
-        String keyword = "Test";
+        Post infoPost = indexedPost(10L, "F1 그랑프리 일정", "내용", PostCategory.INFO);
+        Post freePost = indexedPost(11L, "그랑프리 잡담", "내용", PostCategory.FREE);
+        given(postRepository.findAllWithAuthorByIdIn(List.of(10L))).willReturn(List.of(infoPost));
+        given(postRepository.findAllWithAuthorByIdIn(List.of(11L, 10L))).willReturn(List.of(infoPost, freePost));
 
         // 1. 카테고리 O, 제목 검색 O
-        given(postRepository.findByCategoryAndTitleContaining(PostCategory.INFO, keyword, pageable)).willReturn(Page.empty()); // given 추가
-        postService.getPostList(PostCategory.INFO, "title", keyword, pageable);
-        verify(postRepository).findByCategoryAndTitleContaining(PostCategory.INFO, keyword, pageable);
-
-        // 2. 카테고리 X, 제목 검색 O
-        given(postRepository.findByTitleContaining(keyword, pageable)).willReturn(Page.empty()); // given 추가
-        postService.getPostList(null, "title", keyword, pageable);
-        verify(postRepository).findByTitleContaining(keyword, pageable);
+        Page<PostSimpleResponse> infoResult = postService.getPostList(PostCategory.INFO, "title", "그랑프리", pageable);
+        assertThat(infoResult.getContent()).extracting(PostSimpleResponse::postId).containsExactly(10L);
+
+        // 2. 카테고리 X, 제목 검색 O (점수가 같으면 최신 글 먼저)
+        Page<PostSimpleResponse> allResult = postService.getPostList(null, "title", "그랑프리", pageable);
+        assertThat(allResult.getTotalElements()).isEqualTo(2);
+        assertThat(allResult.getContent()).extracting(PostSimpleResponse::postId).containsExactly(11L, 10L);
+        verify(postRepository, never()).findAll(any(Pageable.class));
     }
 
     @DisplayName("게시글 목록 조회 - 내용으로 검색")
@@ -363,17 +479,15 @@ class PostServiceTest {
     void getPostList_SearchByContent() {
         // given
         Pageable pageable = PageRequest.of(0, 10);
-        String keyword = "Test";
+        Post matched = indexedPost(10L, "제목", "베르스타펜 우승 예상", PostCategory.INFO);
+        indexedPost(11L, "제목", "해밀턴 우승 예상", PostCategory.INFO);
+        given(postRepository.findAllWithAuthorByIdIn(List.of(10L))).willReturn(List.of(matched));
 
-        // 1. 카테고리 O, 내용 검색 O
-        given(postRepository.findByCategoryAndContentContaining(PostCategory.INFO, keyword, pageable)).willReturn(Page.empty()); // given 추가
-        postService.getPostList(PostCategory.INFO, "content", keyword, pageable);
-        verify(postRepository).findByCategoryAndContentContaining(PostCategory.INFO, keyword, pageable);
+        // when
+        Page<PostSimpleResponse> result = postService.getPostList(null, "content", "베르스타펜", pageable);
 
-        // 2. 카테고리 X, 내용 검색 O
-        given(postRepository.findByContentContaining(keyword, pageable)).willReturn(Page.empty()); // given 추가
-        postService.getPostList(null, "content", keyword, pageable);
-        verify(postRepository).findByContentContaining(keyword, pageable);
+        // then
+        assertThat(result.getContent()).extracting(PostSimpleResponse::postId).containsExactly(10L);
     }
 
     @DisplayName("게시글 목록 조회 - 작성자 닉네임으로 검색")
@@ -381,17 +495,24 @@ class PostServiceTest {
     void getPostList_SearchByNickname() {
         // given
         Pageable pageable = PageRequest.of(0, 10);
-        String keyword = "Test";
+        Post authorPost = indexedPost(10L, "제목", "내용", PostCategory.INFO);
+        given(postRepository.findAllWithAuthorByIdIn(List.of(10L))).willReturn(List.of(authorPost));
 
-        // 1. 카테고리 O, 닉네임 검색 O
-        given(postRepository.findByCategoryAndAuthor_NicknameContaining(PostCategory.INFO, keyword, pageable)).willReturn(Page.empty()); // given 추가
-        postService.getPostList(PostCategory.INFO, "nickname", keyword, pageable);
-        verify(postRepository).findByCategoryAndAuthor_NicknameContaining(PostCategory.INFO, keyword, pageable);
+        // when
+        Page<PostSimpleResponse> result = postService.getPostList(null, "nickname", "auth", pageable);
+        Page<PostSimpleResponse> noResult = postService.getPostList(null, "nickname", "another", pageable);
+
+        // then
+        assertThat(result.getContent()).extracting(PostSimpleResponse::authorNickname).containsExactly("author");
+        assertThat(noResult.getTotalElements()).isZero();
+    }
 
-        // 2. 카테고리 X, 닉네임 검색 O
-        given(postRepository.findByAuthor_NicknameContaining(keyword, pageable)).willReturn(Page.empty()); // given 추가
-        postService.getPostList(null, "nickname", keyword, pageable);
-        verify(postRepository).findByAuthor_NicknameContaining(keyword, pageable);
+    // 작성자(author)가 쓴 게시글을 만들어 검색 색인에 추가
+    private Post indexedPost(Long id, String title, String content, PostCategory category) {
+        Post indexed = Post.builder().title(title).content(content).category(category).author(author).build();
+        ReflectionTestUtils.setField(indexed, "id", id);
+        postSearchIndex.put(PostSearchDocument.from(indexed));
+        return indexed;
     }
 
     @DisplayName("게시글 목록 조회 - 유효하지 않은 검색 타입일 경우")
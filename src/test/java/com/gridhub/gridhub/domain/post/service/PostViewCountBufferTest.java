@@ -0,0 +1,156 @@
+package com.gridhub.gridhub.domain.post.service;
+
+import com.gridhub.gridhub.domain.post.repository.PostViewCountRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataAccessResourceFailureException;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyMap;
+import static org.mockito.BDDMockito.willThrow;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class PostViewCountBufferTest {
+
+    @InjectMocks
+    private PostViewCountBuffer postViewCountBuffer;
+
+    @Mock
+    private PostViewCountRepository postViewCountRepository;
+
+    @DisplayName("동시에 기록된 조회수를 게시글별로 합산해 한 번의 배치로 반영한다")
+    @Test
+    void flush_AggregatesConcurrentIncrements() throws InterruptedException {
+        // given
+        int threadCount = 8;
+        int viewsPerThread = 10_000;
+        ExecutorService executor = Executors.newFixedThreadPool(threadCount);
+        CountDownLatch done = new CountDownLatch(threadCount);
+        for (int i = 0; i < threadCount; i++) {
+            executor.submit(() -> {
+                for (int v = 0; v < viewsPerThread; v++) {
+                    postViewCountBuffer.increment(1L);
+                    if (v % 2 == 0) {
+                        postViewCountBuffer.increment(2L);
+                    }
+                }
+                done.countDown();
+            });
+        }
+        done.await(10, TimeUnit.SECONDS);
+        executor.shutdown();
+
+        // when
+        postViewCountBuffer.flush();
+
+        // then
+        verify(postViewCountRepository, times(1)).addViewCounts(Map.of(
+                1L, (long) threadCount * viewsPerThread,
+                2L, (long) threadCount * viewsPerThread / 2
+        ));
+        assertThat(postViewCountBuffer.pending(1L)).isZero();
+    }
+
+    @DisplayName("반영할 조회수가 없으면 DB를 호출하지 않는다")
+    @Test
+    void flush_SkipsWhenNothingPending() {
+        // when
+        postViewCountBuffer.flush();
+
+        // then
+        verifyNoInteractions(postViewCountRepository);
+    }
+
+    @DisplayName("반영에 실패하면 증가분을 버퍼에 되돌려 다음 주기에 다시 반영한다")
+    @Test
+    void flush_RestoresPendingOnFailure() {
+        // given
+        postViewCountBuffer.increment(1L);
+        postViewCountBuffer.increment(1L);
+        willThrow(new DataAccessResourceFailureException("db down"))
+                .willDoNothing()
+                .given(postViewCountRepository).addViewCounts(anyMap());
+
+        // when
+        postViewCountBuffer.flush();
+        postViewCountBuffer.increment(1L);
+
+        // then
+        assertThat(postViewCountBuffer.pending(1L)).isEqualTo(3);
+
+        postViewCountBuffer.flush();
+        verify(postViewCountRepository).addViewCounts(Map.of(1L, 3L));
+    }
+
+    @DisplayName("빈 항목을 정리하는 flush와 조회가 동시에 일어나도 조회수가 유실되지 않는다")
+    @Test
+    void flush_ConcurrentWithIncrements_LosesNothing() throws InterruptedException {
+        // given
+        Map<Long, Long> flushed = new ConcurrentHashMap<>();
+        doAnswer(invocation -> {
+            Map<Long, Long> deltas = invocation.getArgument(0);
+            deltas.forEach((postId, delta) -> flushed.merge(postId, delta, Long::sum));
+            return null;
+        }).when(postViewCountRepository).addViewCounts(anyMap());
+
+        int threadCount = 4;
+        int viewsPerThread = 20_000;
+        ExecutorService executor = Executors.newFixedThreadPool(threadCount);
+        CountDownLatch done = new CountDownLatch(threadCount);
+        for (int i = 0; i < threadCount; i++) {
+            executor.submit(() -> {
+                for (int v = 0; v < viewsPerThread; v++) {
+                    postViewCountBuffer.increment(1L);
+                }
+                done.countDown();
+            });
+        }
+
+        // when - 조회가 끊겨 항목이 비는 순간마다 flush가 정리를 시도하도록 계속 실행
+        while (done.getCount() > 0) {
+            postViewCountBuffer.flush();
+        }
+        done.await(10, TimeUnit.SECONDS);
+        executor.shutdown();
+        postViewCountBuffer.flush();
+
+        // then
+        assertThat(flushed.get(1L)).isEqualTo((long) threadCount * viewsPerThread);
+        assertThat(postViewCountBuffer.pending(1L)).isZero();
+    }
+
+    @DisplayName("여러 주기 동안 조회가 없던 게시글은 정리되고, 이후 조회는 새 항목에 집계된다")
+    @Test
+    void flush_EvictsIdlePostsAfterSeveralFlushes() {
+        // given
+        postViewCountBuffer.increment(1L);
+        postViewCountBuffer.increment(2L);
+        postViewCountBuffer.flush();
+
+        // when: 1번 게시글만 계속 조회됨
+        for (int i = 0; i < 3; i++) {
+            postViewCountBuffer.increment(1L);
+            postViewCountBuffer.flush();
+        }
+
+        // then
+        assertThat(postViewCountBuffer.trackedPostCount()).isEqualTo(1);
+
+        postViewCountBuffer.increment(2L);
+        assertThat(postViewCountBuffer.pending(2L)).isEqualTo(1);
+        postViewCountBuffer.flush();
+        verify(postViewCountRepository).addViewCounts(Map.of(2L, 1L));
+    }
+}
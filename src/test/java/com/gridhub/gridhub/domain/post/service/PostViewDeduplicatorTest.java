@@ -0,0 +1,99 @@
+package com.gridhub.gridhub.domain.post.service;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class PostViewDeduplicatorTest {
+
+    private final PostViewDeduplicator postViewDeduplicator = new PostViewDeduplicator();
+
+    @DisplayName("같은 조회자가 같은 게시글을 다시 조회하면 처음 조회로 보지 않는다")
+    @Test
+    void isFirstView_OnlyOncePerViewerAndPost() {
+        assertThat(postViewDeduplicator.isFirstView("user:a@test.com", 1L)).isTrue();
+        assertThat(postViewDeduplicator.isFirstView("user:a@test.com", 1L)).isFalse();
+
+        // 다른 게시글, 다른 조회자는 각각 처음 조회
+        assertThat(postViewDeduplicator.isFirstView("user:a@test.com", 2L)).isTrue();
+        assertThat(postViewDeduplicator.isFirstView("user:b@test.com", 1L)).isTrue();
+    }
+
+    @DisplayName("같은 조회자의 동시 조회는 그중 한 번만 처음 조회로 센다")
+    @Test
+    void isFirstView_ConcurrentSameViewer_CountsOnce() throws InterruptedException {
+        // given
+        int threadCount = 8;
+        int postCount = 2_000;
+        AtomicInteger firstViews = new AtomicInteger();
+        ExecutorService executor = Executors.newFixedThreadPool(threadCount);
+        CountDownLatch start = new CountDownLatch(1);
+        CountDownLatch done = new CountDownLatch(threadCount);
+
+        // when - 모든 스레드가 같은 순서로 같은 (조회자, 게시글) 쌍을 동시에 조회
+        for (int i = 0; i < threadCount; i++) {
+            executor.submit(() -> {
+                try {
+                    start.await();
+                    for (long postId = 0; postId < postCount; postId++) {
+                        if (postViewDeduplicator.isFirstView("user:a@test.com", postId)) {
+                            firstViews.incrementAndGet();
+                        }
+                    }
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                } finally {
+                    done.countDown();
+                }
+            });
+        }
+        start.countDown();
+        done.await(10, TimeUnit.SECONDS);
+        executor.shutdown();
+
+        // then - 오탐으로 덜 셀 수는 있어도 두 번 세지는 않음
+        assertThat(firstViews.get()).isLessThanOrEqualTo(postCount).isGreaterThan(postCount * 9 / 10);
+    }
+
+    @DisplayName("세대가 한 번 교체돼도 기록은 유지되고, 두 번 교체되면 다시 처음 조회로 센다")
+    @Test
+    void rotate_ForgetsAfterTwoWindows() {
+        // given
+        postViewDeduplicator.isFirstView("anonymous:viewer", 1L);
+
+        // when & then
+        postViewDeduplicator.rotate();
+        assertThat(postViewDeduplicator.isFirstView("anonymous:viewer", 1L)).isFalse();
+
+        postViewDeduplicator.rotate();
+        assertThat(postViewDeduplicator.isFirstView("anonymous:viewer", 1L)).isTrue();
+    }
+
+    @DisplayName("많은 조회가 쌓여도 처음 보는 조합의 오탐률은 목표치(1%) 수준으로 유지된다")
+    @Test
+    void isFirstView_FalsePositiveRateIsBounded() {
+        // given
+        for (long postId = 0; postId < 200_000; postId++) {
+            postViewDeduplicator.isFirstView("user:heavy-reader", postId);
+        }
+
+        // when
+        int falsePositives = 0;
+        int probes = 100_000;
+        for (long postId = 0; postId < probes; postId++) {
+            if (!postViewDeduplicator.isFirstView("user:new-reader", postId)) {
+                falsePositives++;
+            }
+        }
+
+        // then
+        assertThat((double) falsePositives / probes).isLessThan(0.01);
+    }
+}
@@ -7,6 +7,8 @@ import com.gridhub.gridhub.domain.f1data.repository.DriverRepository;
 import com.gridhub.gridhub.domain.f1data.repository.RaceRepository;
 import com.gridhub.gridhub.domain.prediction.dto.PredictionRequest;
 import com.gridhub.gridhub.domain.prediction.repository.PredictionRepository;
+import com.gridhub.gridhub.domain.prediction.service.LeaderboardRankSnapshotService;
+import com.gridhub.gridhub.domain.prediction.service.LeaderboardSynchronizer;
 import com.gridhub.gridhub.domain.user.entity.User;
 import com.gridhub.gridhub.domain.user.entity.UserRole;
 import com.gridhub.gridhub.domain.user.repository.UserRepository;
@@ -50,9 +52,14 @@ class PredictionControllerTest {
     private PredictionRepository predictionRepository;
     @Autowired
     private JwtUtil jwtUtil;
+    @Autowired
+    private LeaderboardRankSnapshotService leaderboardRankSnapshotService;
+    @Autowired
+    private LeaderboardSynchronizer leaderboardSynchronizer;
 
     private String userToken;
     private Race predictableRace;
+    private User lowRanker;
 
     @BeforeEach
     void setUp() {
@@ -71,7 +78,12 @@ class PredictionControllerTest {
         user1.addPoints(100);
         user2.addPoints(50);
         user3.addPoints(10);
-        userRepository.saveAll(List.of(user1, user2, user3));
+        userRepository.saveAllAndFlush(List.of(user1, user2, user3));
+        // 순위 변동 계산용 스냅샷 갱신
+        leaderboardRankSnapshotService.refresh();
+        // 리더보드 인덱스는 커밋 후에 갱신되므로, 롤백되는 테스트 트랜잭션에서는 현재 DB 상태로 직접 재생성
+        leaderboardSynchronizer.rebuild();
+        lowRanker = user3;
 
         userToken = jwtUtil.createToken(user.getEmail(), user.getRole());
 
@@ -191,4 +203,49 @@ class PredictionControllerTest {
                 .andExpect(jsonPath("$.content[1].nickname").value("user"))
                 .andDo(print());
     }
-}
\ No newline at end of file
+
+    @DisplayName("GET /api/predictions/leaderboard - 스냅샷 갱신 후 직전 순위와 순위 변동 포함")
+    @Test
+    void getLeaderboard_WithRankMovement() throws Exception {
+        // given: 3위였던 사용자가 포인트를 얻어 1위로 올라감
+        lowRanker.addPoints(200);
+        userRepository.saveAndFlush(lowRanker);
+        leaderboardRankSnapshotService.refresh();
+        leaderboardSynchronizer.rebuild();
+
+        // when & then
+        mockMvc.perform(get("/api/predictions/leaderboard"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.content[0].nickname").value("LowRanker"))
+                .andExpect(jsonPath("$.content[0].rank").value(1))
+                .andExpect(jsonPath("$.content[0].previousRank").value(3))
+                .andExpect(jsonPath("$.content[0].rankChange").value(2))
+                .andExpect(jsonPath("$.content[1].nickname").value("TopRanker"))
+                .andExpect(jsonPath("$.content[1].rankChange").value(-1))
+                .andDo(print());
+    }
+
+    @DisplayName("GET /api/predictions/leaderboard/me - 내 순위 조회 성공")
+    @Test
+    void getMyRank_Success() throws Exception {
+        mockMvc.perform(get("/api/predictions/leaderboard/me")
+                        .header("Authorization", userToken))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.rank").value(4))
+                .andExpect(jsonPath("$.nickname").value("user"))
+                .andDo(print());
+    }
+
+    @DisplayName("GET /api/predictions/leaderboard/me/around - 내 주변 순위 조회 성공")
+    @Test
+    void getLeaderboardAroundMe_Success() throws Exception {
+        mockMvc.perform(get("/api/predictions/leaderboard/me/around")
+                        .param("radius", "1")
+                        .header("Authorization", userToken))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.length()", is(2)))
+                .andExpect(jsonPath("$[0].nickname").value("LowRanker"))
+                .andExpect(jsonPath("$[1].nickname").value("user"))
+                .andDo(print());
+    }
+}
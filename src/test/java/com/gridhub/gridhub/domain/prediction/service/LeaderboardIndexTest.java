@@ -0,0 +1,148 @@
+package com.gridhub.gridhub.domain.prediction.service;
+
+import com.gridhub.gridhub.domain.prediction.dto.LeaderboardEntryDto;
+import com.gridhub.gridhub.domain.prediction.dto.LeaderboardResponse;
+import com.gridhub.gridhub.global.dto.CursorSliceResponse;
+import com.gridhub.gridhub.global.exception.InvalidCursorException;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.*;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class LeaderboardIndexTest {
+
+    private final LeaderboardIndex leaderboardIndex = new LeaderboardIndex();
+
+    @DisplayName("포인트 내림차순, 동점이면 사용자 ID 오름차순으로 순위를 매긴다")
+    @Test
+    void rankOf_OrdersByPointsThenUserId() {
+        // given
+        leaderboardIndex.put(new LeaderboardEntryDto(1L, "a", null, 10));
+        leaderboardIndex.put(new LeaderboardEntryDto(2L, "b", null, 30));
+        leaderboardIndex.put(new LeaderboardEntryDto(3L, "c", null, 10));
+
+        // when & then
+        assertThat(leaderboardIndex.rankOf(2L)).map(LeaderboardResponse::rank).contains(1L);
+        assertThat(leaderboardIndex.rankOf(1L)).map(LeaderboardResponse::rank).contains(2L);
+        assertThat(leaderboardIndex.rankOf(3L)).map(LeaderboardResponse::rank).contains(3L);
+        assertThat(leaderboardIndex.rankOf(99L)).isEmpty();
+    }
+
+    @DisplayName("같은 포인트는 같은 순위이며 다음 순위는 건너뛰지 않는다 (dense rank)")
+    @Test
+    void rank_IsDenseForTies() {
+        // given
+        leaderboardIndex.put(new LeaderboardEntryDto(1L, "a", null, 30));
+        leaderboardIndex.put(new LeaderboardEntryDto(2L, "b", null, 20));
+        leaderboardIndex.put(new LeaderboardEntryDto(3L, "c", null, 20));
+        leaderboardIndex.put(new LeaderboardEntryDto(4L, "d", null, 10));
+
+        // when & then
+        assertThat(leaderboardIndex.scroll(null, 10).content()).extracting(LeaderboardResponse::rank).containsExactly(1L, 2L, 2L, 3L);
+        String afterSecond = leaderboardIndex.scroll(null, 2).nextCursor();
+        assertThat(leaderboardIndex.scroll(afterSecond, 10).content()).extracting(LeaderboardResponse::rank).containsExactly(2L, 3L);
+        assertThat(leaderboardIndex.rankOf(3L)).map(LeaderboardResponse::rank).contains(2L);
+
+        // 유일한 30점 사용자가 빠지면 나머지 순위가 한 칸씩 올라감
+        leaderboardIndex.remove(1L);
+        assertThat(leaderboardIndex.rankOf(4L)).map(LeaderboardResponse::rank).contains(2L);
+    }
+
+    @DisplayName("포인트가 바뀐 사용자는 기존 위치에서 빠지고 새 위치로 이동한다")
+    @Test
+    void put_MovesExistingUser() {
+        // given
+        leaderboardIndex.put(new LeaderboardEntryDto(1L, "a", null, 10));
+        leaderboardIndex.put(new LeaderboardEntryDto(2L, "b", null, 20));
+
+        // when
+        leaderboardIndex.put(new LeaderboardEntryDto(1L, "a", null, 50));
+
+        // then
+        assertThat(leaderboardIndex.size()).isEqualTo(2);
+        assertThat(leaderboardIndex.scroll(null, 10).content()).extracting(LeaderboardResponse::nickname).containsExactly("a", "b");
+    }
+
+    @DisplayName("무작위 갱신/삭제 후에도 정렬한 결과와 순위 및 페이지가 일치한다")
+    @Test
+    void randomUpdates_MatchSortedList() {
+        // given
+        Random random = new Random(42);
+        Map<Long, LeaderboardEntryDto> expected = new HashMap<>();
+        for (int i = 0; i < 5_000; i++) {
+            long userId = random.nextInt(1_000);
+            if (random.nextInt(10) == 0) {
+                leaderboardIndex.remove(userId);
+                expected.remove(userId);
+            } else {
+                LeaderboardEntryDto entry = new LeaderboardEntryDto(userId, "u" + userId, null, random.nextInt(200));
+                leaderboardIndex.put(entry);
+                expected.put(userId, entry);
+            }
+        }
+
+        // when
+        List<LeaderboardEntryDto> sorted = expected.values().stream()
+                .sorted(Comparator.comparingInt(LeaderboardEntryDto::points).reversed()
+                        .thenComparing(LeaderboardEntryDto::userId))
+                .toList();
+
+        // then
+        assertThat(leaderboardIndex.size()).isEqualTo(sorted.size());
+        long denseRank = 0;
+        for (int i = 0; i < sorted.size(); i++) {
+            if (i == 0 || sorted.get(i - 1).points() != sorted.get(i).points()) {
+                denseRank++;
+            }
+            assertThat(leaderboardIndex.rankOf(sorted.get(i).userId())).map(LeaderboardResponse::rank).contains(denseRank);
+        }
+        String after100 = leaderboardIndex.scroll(null, 100).nextCursor();
+        assertThat(leaderboardIndex.scroll(after100, 20).content()).extracting(LeaderboardResponse::nickname)
+                .containsExactlyElementsOf(sorted.subList(100, 120).stream().map(LeaderboardEntryDto::nickname).toList());
+    }
+
+    @DisplayName("내 주변 순위는 위/아래 radius 만큼을 포함하고 양 끝에서는 잘린다")
+    @Test
+    void around_ClampsAtEdges() {
+        // given
+        for (long id = 1; id <= 5; id++) {
+            leaderboardIndex.put(new LeaderboardEntryDto(id, "u" + id, null, (int) (100 - id)));
+        }
+
+        // when & then
+        assertThat(leaderboardIndex.around(3L, 1)).extracting(LeaderboardResponse::rank).containsExactly(2L, 3L, 4L);
+        assertThat(leaderboardIndex.around(1L, 2)).extracting(LeaderboardResponse::rank).containsExactly(1L, 2L, 3L);
+        assertThat(leaderboardIndex.around(5L, 2)).extracting(LeaderboardResponse::rank).containsExactly(3L, 4L, 5L);
+    }
+
+    @DisplayName("커서 조회는 페이지 사이에 앞 순위가 바뀌어도 다음 사용자부터 이어서 조회한다")
+    @Test
+    void scroll_ContinuesAfterCursor() {
+        // given
+        for (long id = 1; id <= 5; id++) {
+            leaderboardIndex.put(new LeaderboardEntryDto(id, "u" + id, null, (int) (100 - id)));
+        }
+        CursorSliceResponse<LeaderboardResponse> firstPage = leaderboardIndex.scroll(null, 2);
+
+        // when: 첫 페이지를 받은 뒤 하위 사용자가 1위로 올라감
+        leaderboardIndex.put(new LeaderboardEntryDto(5L, "u5", null, 500));
+        CursorSliceResponse<LeaderboardResponse> secondPage = leaderboardIndex.scroll(firstPage.nextCursor(), 2);
+
+        // then
+        assertThat(firstPage.content()).extracting(LeaderboardResponse::nickname).containsExactly("u1", "u2");
+        assertThat(firstPage.hasNext()).isTrue();
+        assertThat(secondPage.content()).extracting(LeaderboardResponse::nickname).containsExactly("u3", "u4");
+        assertThat(secondPage.content()).extracting(LeaderboardResponse::rank).containsExactly(4L, 5L);
+        assertThat(secondPage.hasNext()).isFalse();
+        assertThat(secondPage.nextCursor()).isNull();
+    }
+
+    @DisplayName("해석할 수 없는 커서는 InvalidCursorException")
+    @Test
+    void scroll_InvalidCursor() {
+        assertThatThrownBy(() -> leaderboardIndex.scroll("@@@", 10)).isInstanceOf(InvalidCursorException.class);
+    }
+}
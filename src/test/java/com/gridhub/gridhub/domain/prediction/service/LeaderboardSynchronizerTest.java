@@ -0,0 +1,115 @@
+package com.gridhub.gridhub.domain.prediction.service;
+
+import com.gridhub.gridhub.domain.prediction.dto.LeaderboardEntryDto;
+import com.gridhub.gridhub.domain.prediction.dto.LeaderboardPreviousRankDto;
+import com.gridhub.gridhub.domain.prediction.dto.LeaderboardResponse;
+import com.gridhub.gridhub.domain.prediction.repository.LeaderboardRankSnapshotRepository;
+import com.gridhub.gridhub.domain.user.repository.UserRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+
+class LeaderboardSynchronizerTest {
+
+    private final LeaderboardIndex leaderboardIndex = new LeaderboardIndex();
+    private final LeaderboardRankSnapshotRepository leaderboardRankSnapshotRepository = mock(LeaderboardRankSnapshotRepository.class);
+    private final LeaderboardSynchronizer leaderboardSynchronizer =
+            new LeaderboardSynchronizer(leaderboardIndex, mock(UserRepository.class), leaderboardRankSnapshotRepository);
+
+    @AfterEach
+    void tearDown() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    @DisplayName("트랜잭션 안의 변경은 커밋 전에는 보이지 않고, 커밋 후 마지막 상태로 반영된다")
+    @Test
+    void apply_IsVisibleOnlyAfterCommit() {
+        // given
+        leaderboardIndex.put(new LeaderboardEntryDto(1L, "a", null, 10));
+        TransactionSynchronizationManager.initSynchronization();
+
+        // when
+        leaderboardSynchronizer.apply(new LeaderboardEntryDto(1L, "a", null, 20));
+        leaderboardSynchronizer.apply(new LeaderboardEntryDto(1L, "a", null, 30));
+        leaderboardSynchronizer.apply(new LeaderboardEntryDto(2L, "b", null, 5));
+
+        // then
+        assertThat(leaderboardIndex.find(1L)).map(LeaderboardEntryDto::points).contains(10);
+        assertThat(leaderboardIndex.find(2L)).isEmpty();
+
+        complete(TransactionSynchronization.STATUS_COMMITTED);
+        assertThat(leaderboardIndex.find(1L)).map(LeaderboardEntryDto::points).contains(30);
+        assertThat(leaderboardIndex.find(2L)).map(LeaderboardEntryDto::points).contains(5);
+    }
+
+    @DisplayName("롤백된 트랜잭션의 변경은 반영되지 않고, 그 사이 다른 곳에서 반영된 값도 덮어쓰지 않는다")
+    @Test
+    void apply_IsDiscardedOnRollback() {
+        // given
+        leaderboardIndex.put(new LeaderboardEntryDto(1L, "a", null, 10));
+        TransactionSynchronizationManager.initSynchronization();
+        leaderboardSynchronizer.apply(new LeaderboardEntryDto(1L, "a", null, 99));
+        leaderboardSynchronizer.remove(1L);
+
+        // 다른 트랜잭션이 먼저 커밋해 반영한 값
+        leaderboardIndex.put(new LeaderboardEntryDto(1L, "a", null, 50));
+
+        // when
+        complete(TransactionSynchronization.STATUS_ROLLED_BACK);
+
+        // then
+        assertThat(leaderboardIndex.find(1L)).map(LeaderboardEntryDto::points).contains(50);
+    }
+
+    @DisplayName("트랜잭션 밖의 변경은 바로 반영된다")
+    @Test
+    void apply_WithoutTransaction() {
+        leaderboardSynchronizer.apply(new LeaderboardEntryDto(1L, "a", null, 10));
+        assertThat(leaderboardIndex.find(1L)).isPresent();
+
+        leaderboardSynchronizer.remove(1L);
+        assertThat(leaderboardIndex.find(1L)).isEmpty();
+    }
+
+    @DisplayName("순위 스냅샷의 이전 순위는 스냅샷을 갱신한 트랜잭션이 커밋된 뒤에 순위 변동에 반영된다")
+    @Test
+    void reloadPreviousRanks_IsVisibleOnlyAfterCommit() {
+        // given: 3위였던 사용자가 1위가 됨
+        leaderboardIndex.put(new LeaderboardEntryDto(1L, "a", null, 300));
+        leaderboardIndex.put(new LeaderboardEntryDto(2L, "b", null, 100));
+        given(leaderboardRankSnapshotRepository.findPreviousRanks())
+                .willReturn(List.of(new LeaderboardPreviousRankDto(1L, 3L)));
+        TransactionSynchronizationManager.initSynchronization();
+
+        // when
+        leaderboardSynchronizer.reloadPreviousRanks();
+
+        // then
+        assertThat(leaderboardIndex.rankOf(1L)).map(LeaderboardResponse::rankChange).isEmpty();
+
+        complete(TransactionSynchronization.STATUS_COMMITTED);
+        assertThat(leaderboardIndex.rankOf(1L)).map(LeaderboardResponse::previousRank).contains(3L);
+        assertThat(leaderboardIndex.rankOf(1L)).map(LeaderboardResponse::rankChange).contains(2L);
+        assertThat(leaderboardIndex.rankOf(2L)).map(LeaderboardResponse::previousRank).isEmpty();
+    }
+
+    // 트랜잭션 매니저가 커밋/롤백 후 호출하는 순서대로 동기화 콜백 실행
+    private void complete(int status) {
+        var synchronizations = TransactionSynchronizationManager.getSynchronizations();
+        TransactionSynchronizationManager.clearSynchronization();
+        if (status == TransactionSynchronization.STATUS_COMMITTED) {
+            synchronizations.forEach(TransactionSynchronization::afterCommit);
+        }
+        synchronizations.forEach(synchronization -> synchronization.afterCompletion(status));
+    }
+}
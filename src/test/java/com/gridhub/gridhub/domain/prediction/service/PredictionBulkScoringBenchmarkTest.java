@@ -0,0 +1,109 @@
+package com.gridhub.gridhub.domain.prediction.service;
+
+import com.gridhub.gridhub.domain.f1data.entity.Driver;
+import com.gridhub.gridhub.domain.f1data.entity.Position;
+import com.gridhub.gridhub.domain.f1data.entity.Race;
+import com.gridhub.gridhub.domain.f1data.entity.RaceResult;
+import jakarta.persistence.EntityManager;
+import lombok.extern.slf4j.Slf4j;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.ZonedDateTime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 예측 100,000건이 있는 레이스를 집합 UPDATE로 채점하는 데 걸리는 시간과 JDBC 문장 수를 측정.
+ * 시딩에 시간이 걸리고 통계 수집용 컨텍스트를 따로 띄우므로 기본 test 작업에서는 제외됨. 실행: ./gradlew performanceTest
+ */
+@Slf4j
+@Tag("performance")
+@SpringBootTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+@Transactional
+class PredictionBulkScoringBenchmarkTest {
+
+    private static final int PREDICTION_COUNT = 100_000;
+    private static final long RACE_ID = 8888L;
+
+    @Autowired
+    private PredictionScoringService predictionScoringService;
+    @Autowired
+    private EntityManager em;
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @DisplayName("예측 100,000건 레이스의 채점이 소수의 집합 UPDATE로 처리되고 포인트가 정확히 지급된다")
+    @Test
+    void scoreRaceWith100kPredictions() {
+        // given: 실제 포디움은 1 - 2 - 3
+        Driver[] drivers = new Driver[5];
+        for (int i = 1; i <= 5; i++) {
+            drivers[i - 1] = Driver.builder().id(1000 + i).fullName("Bench Driver " + i).build();
+            em.persist(drivers[i - 1]);
+        }
+        Race race = Race.builder()
+                .id(RACE_ID).sessionName("Race")
+                .dateStart(ZonedDateTime.now().minusHours(3)).dateEnd(ZonedDateTime.now().minusHours(1))
+                .meetingKey(1L).meetingName("Bench GP").countryName("Testland").circuitShortName("TST")
+                .year(ZonedDateTime.now().getYear())
+                .build();
+        em.persist(race);
+        RaceResult result = RaceResult.builder().race(race).build();
+        for (int position = 1; position <= 3; position++) {
+            result.addPosition(Position.builder().driver(drivers[position - 1]).racePosition(position).build());
+        }
+        race.setRaceResult(result);
+        em.persist(result);
+        em.flush();
+
+        // 사용자 n명과 예측 n건을 DB에서 직접 생성 (n번째 사용자의 예측: P1 = 1 또는 2, P2 = 2, P3 = 3~5)
+        jdbcTemplate.update("INSERT INTO users (email, password, nickname, role, points) " +
+                "SELECT 'bench' || X || '@test.com', 'pw', 'bench' || X, 'USER', 0 FROM SYSTEM_RANGE(1, ?)", PREDICTION_COUNT);
+        jdbcTemplate.update("INSERT INTO prediction (user_id, race_id, p1_driver_id, p2_driver_id, p3_driver_id, is_correct, earned_points) " +
+                "SELECT u.user_id, ?, " +
+                "CASE WHEN MOD(CAST(SUBSTRING(u.nickname, 6) AS INT), 2) = 0 THEN 1001 ELSE 1002 END, " +
+                "1002, " +
+                "1003 + MOD(CAST(SUBSTRING(u.nickname, 6) AS INT), 3), " +
+                "FALSE, 0 FROM users u WHERE u.nickname LIKE 'bench%'", RACE_ID);
+
+        long expectedPoints = 0;
+        int expectedCorrect = 0;
+        for (int n = 1; n <= PREDICTION_COUNT; n++) {
+            boolean p1 = n % 2 == 0;
+            boolean p3 = n % 3 == 0;
+            expectedPoints += (p1 ? 10 : 0) + 5 + (p3 ? 3 : 0) + (p1 && p3 ? 15 : 0);
+            if (p1 && p3) expectedCorrect++;
+        }
+
+        Statistics statistics = em.getEntityManagerFactory().unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+
+        // when
+        long startedAt = System.nanoTime();
+        predictionScoringService.scorePredictionsForFinishedRaces();
+        long elapsedMillis = (System.nanoTime() - startedAt) / 1_000_000;
+
+        // then
+        long preparedStatements = statistics.getPrepareStatementCount();
+        log.info("예측 {}건 채점: {}개 JDBC 문장, {}ms", PREDICTION_COUNT, preparedStatements, elapsedMillis);
+
+        Long earnedSum = jdbcTemplate.queryForObject("SELECT SUM(earned_points) FROM prediction WHERE race_id = ?", Long.class, RACE_ID);
+        Long userPointSum = jdbcTemplate.queryForObject("SELECT SUM(points) FROM users WHERE nickname LIKE 'bench%'", Long.class);
+        Integer correctCount = jdbcTemplate.queryForObject("SELECT COUNT(*) FROM prediction WHERE race_id = ? AND is_correct", Integer.class, RACE_ID);
+
+        assertThat(earnedSum).isEqualTo(expectedPoints);
+        assertThat(userPointSum).isEqualTo(expectedPoints);
+        assertThat(correctCount).isEqualTo(expectedCorrect);
+        // 대상 레이스 조회, 포디움 조회, 채점 완료 표시, 예측 채점, 포인트 지급, 리더보드 반영용 조회,
+        // 순위 스냅샷 MERGE 및 정리 (엔티티 단위 UPDATE 없음)
+        assertThat(preparedStatements).isLessThanOrEqualTo(8);
+    }
+}
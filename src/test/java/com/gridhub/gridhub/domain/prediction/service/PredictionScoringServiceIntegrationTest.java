@@ -1,29 +1,29 @@
 package com.gridhub.gridhub.domain.prediction.service;
 
-import com.gridhub.gridhub.domain.f1data.dto.PositionResponse;
 import com.gridhub.gridhub.domain.f1data.entity.Driver;
+import com.gridhub.gridhub.domain.f1data.entity.Position;
 import com.gridhub.gridhub.domain.f1data.entity.Race;
+import com.gridhub.gridhub.domain.f1data.entity.RaceResult;
 import com.gridhub.gridhub.domain.f1data.repository.DriverRepository;
 import com.gridhub.gridhub.domain.f1data.repository.RaceRepository;
+import com.gridhub.gridhub.domain.f1data.repository.RaceResultRepository;
 import com.gridhub.gridhub.domain.prediction.entity.Prediction;
 import com.gridhub.gridhub.domain.prediction.repository.PredictionRepository;
 import com.gridhub.gridhub.domain.user.entity.User;
 import com.gridhub.gridhub.domain.user.entity.UserRole;
 import com.gridhub.gridhub.domain.user.repository.UserRepository;
-import com.gridhub.gridhub.infra.external.OpenF1Client;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
-import org.springframework.test.context.bean.override.mockito.MockitoBean;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.ZonedDateTime;
-import java.util.List;
 
 import static org.assertj.core.api.Assertions.assertThat;
-import static org.mockito.BDDMockito.given;
 
 @SpringBootTest
 @Transactional
@@ -40,9 +40,8 @@ class PredictionScoringServiceIntegrationTest {
     private UserRepository userRepository;
     @Autowired
     private DriverRepository driverRepository;
-
-    @MockitoBean
-    private OpenF1Client openF1Client;
+    @Autowired
+    private RaceResultRepository raceResultRepository;
 
     private User user;
     private Race finishedRace;
@@ -80,19 +79,20 @@ class PredictionScoringServiceIntegrationTest {
         predictionRepository.save(Prediction.builder()
                 .user(user).race(finishedRace).predictedP1(p1).predictedP2(p2).predictedP3(p3)
                 .build());
+
+        // 동기화 작업이 저장한 레이스 결과 (1-2-3 순서로 완주)
+        RaceResult result = RaceResult.builder().race(finishedRace).build();
+        result.addPosition(Position.builder().driver(p1).racePosition(1).build());
+        result.addPosition(Position.builder().driver(p2).racePosition(2).build());
+        result.addPosition(Position.builder().driver(p3).racePosition(3).build());
+        finishedRace.setRaceResult(result);
+        raceResultRepository.save(result);
     }
 
-    @DisplayName("통합 테스트: 스케줄러 실행 시, 종료된 레이스의 예측이 채점되고 포인트가 지급된다")
+    @DisplayName("통합 테스트: 스케줄러 실행 시, 결과가 저장된 레이스의 예측이 채점되고 포인트가 지급된다")
     @Test
     void scorePredictionsForFinishedRaces_IntegrationTest() {
         // given
-        List<PositionResponse> actualResults = List.of(
-                new PositionResponse(1, 1, "date", "Finished"),
-                new PositionResponse(2, 2, "date", "Finished"),
-                new PositionResponse(3, 3, "date", "Finished")
-        );
-        given(openF1Client.getRaceResult(finishedRace.getId())).willReturn(actualResults);
-
         int initialUserPoints = user.getPoints();
 
         // when
@@ -105,5 +105,87 @@ class PredictionScoringServiceIntegrationTest {
 
         User updatedUser = userRepository.findById(user.getId()).orElseThrow();
         assertThat(updatedUser.getPoints()).isEqualTo(initialUserPoints + 33);
+
+        // 채점 완료 표시가 남아 다시 실행해도 포인트가 중복 지급되지 않음
+        predictionScoringService.scorePredictionsForFinishedRaces();
+        assertThat(userRepository.findById(user.getId()).orElseThrow().getPoints()).isEqualTo(initialUserPoints + 33);
+    }
+
+    @DisplayName("통합 테스트: 일부만 맞힌 예측은 맞힌 순위의 포인트만 받고, 포디움 전체를 맞혀야 정답으로 표시된다")
+    @ParameterizedTest(name = "예측 {0}-{1}-{2} → {3}점, 정답 {4}")
+    @CsvSource({
+            // 실제 포디움은 1 - 2 - 3. 1위 10점, 2위 5점, 3위 3점, 전체 정답 보너스 15점
+            "1, 2, 3, 33, true",
+            "1, 4, 5, 10, false",
+            "1, 2, 4, 15, false",
+            "4, 2, 3, 8, false",
+            "4, 5, 3, 3, false",
+            "2, 1, 3, 3, false",
+            "3, 1, 2, 0, false"
+    })
+    void scorePredictionsForFinishedRaces_PartiallyCorrect(int predictedP1, int predictedP2, int predictedP3,
+                                                           int expectedPoints, boolean expectedCorrect) {
+        // given
+        driverRepository.save(Driver.builder().id(4).build());
+        driverRepository.save(Driver.builder().id(5).build());
+        User predictor = userRepository.save(User.builder()
+                .email("predictor@test.com")
+                .password("encoded_password")
+                .nickname("predictor")
+                .role(UserRole.USER)
+                .build());
+        predictionRepository.save(Prediction.builder()
+                .user(predictor).race(finishedRace)
+                .predictedP1(driverRepository.getReferenceById(predictedP1))
+                .predictedP2(driverRepository.getReferenceById(predictedP2))
+                .predictedP3(driverRepository.getReferenceById(predictedP3))
+                .build());
+
+        // when
+        predictionScoringService.scorePredictionsForFinishedRaces();
+
+        // then
+        Prediction scored = predictionRepository.findAll().stream()
+                .filter(prediction -> prediction.getUser().getId().equals(predictor.getId()))
+                .findFirst().orElseThrow();
+        assertThat(scored.getEarnedPoints()).isEqualTo(expectedPoints);
+        assertThat(scored.isCorrect()).isEqualTo(expectedCorrect);
+        assertThat(userRepository.findById(predictor.getId()).orElseThrow().getPoints()).isEqualTo(expectedPoints);
+        // 같은 레이스의 다른 예측(setUp의 전체 정답)은 영향을 받지 않음
+        assertThat(userRepository.findById(user.getId()).orElseThrow().getPoints()).isEqualTo(33);
+    }
+
+    @DisplayName("통합 테스트: scoredAt 도입 이전에 채점된 레이스는 정기 채점에서 포인트를 다시 지급하지 않는다")
+    @Test
+    void scorePredictionsForFinishedRaces_SkipsRaceScoredBeforeScoredAt() {
+        // given - 기존 방식으로 채점되어 포인트는 지급됐지만 scoredAt은 비어 있는 레이스
+        Prediction prediction = predictionRepository.findAll().get(0);
+        prediction.updateResult(true, 33);
+        user.addPoints(33);
+        predictionRepository.saveAndFlush(prediction);
+        userRepository.saveAndFlush(user);
+
+        // when
+        predictionScoringService.scorePredictionsForFinishedRaces();
+
+        // then
+        assertThat(userRepository.findById(user.getId()).orElseThrow().getPoints()).isEqualTo(33);
+        assertThat(raceRepository.findById(finishedRace.getId()).orElseThrow().getScoredAt()).isNull();
+    }
+
+    @DisplayName("통합 테스트: 시작 시 백필은 포인트가 지급된 예측이 있는 레이스에만 채점 완료를 표시한다")
+    @Test
+    void backfillScoredAt_MarksOnlyLegacyScoredRaces() {
+        // given
+        Prediction prediction = predictionRepository.findAll().get(0);
+        prediction.updateResult(true, 33);
+        predictionRepository.saveAndFlush(prediction);
+
+        // when
+        predictionScoringService.backfillScoredAt();
+
+        // then
+        assertThat(raceRepository.findById(finishedRace.getId()).orElseThrow().getScoredAt()).isNotNull();
+        assertThat(raceRepository.findUnscoredRaceIdsWithResultSince(ZonedDateTime.now().minusDays(7))).isEmpty();
     }
-}
\ No newline at end of file
+}
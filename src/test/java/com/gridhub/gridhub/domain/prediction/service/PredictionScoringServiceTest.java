@@ -1,26 +1,25 @@
 package com.gridhub.gridhub.domain.prediction.service;
 
-import com.gridhub.gridhub.domain.f1data.dto.PositionResponse;
 import com.gridhub.gridhub.domain.f1data.entity.Driver;
-import com.gridhub.gridhub.domain.f1data.entity.Race;
+import com.gridhub.gridhub.domain.f1data.entity.Position;
+import com.gridhub.gridhub.domain.f1data.repository.PositionRepository;
 import com.gridhub.gridhub.domain.f1data.repository.RaceRepository;
-import com.gridhub.gridhub.domain.prediction.entity.Prediction;
 import com.gridhub.gridhub.domain.prediction.repository.PredictionRepository;
-import com.gridhub.gridhub.domain.user.entity.User;
-import com.gridhub.gridhub.infra.external.OpenF1Client;
+import com.gridhub.gridhub.domain.user.repository.UserRepository;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
 
-import java.time.ZonedDateTime;
 import java.util.List;
 
-import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.any;
-import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.BDDMockito.given;
 import static org.mockito.Mockito.*;
 
@@ -32,93 +31,144 @@ class PredictionScoringServiceTest {
     @Mock
     private RaceRepository raceRepository;
     @Mock
+    private PositionRepository positionRepository;
+    @Mock
     private PredictionRepository predictionRepository;
     @Mock
-    private OpenF1Client openF1Client;
+    private UserRepository userRepository;
+    @Mock
+    private LeaderboardSynchronizer leaderboardSynchronizer;
+    @Mock
+    private LeaderboardRankSnapshotService leaderboardRankSnapshotService;
+
+    // 트랜잭션 경계만 흉내내고 콜백은 그대로 실행
+    @Spy
+    private TransactionTemplate transactionTemplate = new TransactionTemplate(mock(PlatformTransactionManager.class));
+
+    // 저장된 레이스 결과의 1~3위 Position 생성
+    private List<Position> podium(Driver p1, Driver p2, Driver p3) {
+        return List.of(
+                Position.builder().driver(p1).racePosition(1).build(),
+                Position.builder().driver(p2).racePosition(2).build(),
+                Position.builder().driver(p3).racePosition(3).build()
+        );
+    }
+
+    @DisplayName("저장된 포디움과 포인트 정책으로 예측 채점 및 포인트 지급을 집합 UPDATE로 수행한다")
+    @Test
+    void scoreRace_BulkUpdatesWithPodium() {
+        // given
+        Driver p1 = Driver.builder().id(1).build();
+        Driver p2 = Driver.builder().id(16).build();
+        Driver p3 = Driver.builder().id(55).build();
+
+        given(positionRepository.findPodiumByRaceId(1L)).willReturn(podium(p1, p2, p3));
+        given(raceRepository.markScored(eq(1L), any())).willReturn(1);
+        given(predictionRepository.scoreAllByRaceId(1L, 1, 16, 55, 10, 5, 3, 15)).willReturn(3);
+        given(userRepository.addEarnedPointsOfRace(1L)).willReturn(2);
 
-    @DisplayName("포디움 전체 정답 시 보너스 포함 포인트가 정확히 계산된다")
+        // when
+        predictionScoringService.scoreRace(1L);
+
+        // then
+        // 1위 10점, 2위 5점, 3위 3점, 포디움 전체 정답 보너스 15점
+        verify(predictionRepository).scoreAllByRaceId(1L, 1, 16, 55, 10, 5, 3, 15);
+        verify(userRepository).addEarnedPointsOfRace(1L);
+        verify(userRepository).findLeaderboardEntriesRewardedInRace(1L);
+        verify(leaderboardRankSnapshotService).refresh();
+    }
+
+    @DisplayName("이미 채점된 레이스(scoredAt 선점 실패)는 건너뛴다")
     @Test
-    void scoreSingleRace_AllCorrect() {
+    void scoreRace_ShouldSkip_AlreadyScoredRace() {
         // given
-        User user = User.builder().build();
         Driver p1 = Driver.builder().id(1).build();
         Driver p2 = Driver.builder().id(2).build();
         Driver p3 = Driver.builder().id(3).build();
-        Race race = Race.builder().id(1L).build();
-        Prediction correctPrediction = Prediction.builder()
-                .user(user).race(race).predictedP1(p1).predictedP2(p2).predictedP3(p3)
-                .build();
-
-        List<PositionResponse> actualResults = List.of(
-                new PositionResponse(1, 1, "date", "Finished"),
-                new PositionResponse(2, 2, "date", "Finished"),
-                new PositionResponse(3, 3, "date", "Finished")
-        );
 
-        given(openF1Client.getRaceResult(1L)).willReturn(actualResults);
-        given(predictionRepository.findAllByRaceWithUser(race)).willReturn(List.of(correctPrediction));
+        given(positionRepository.findPodiumByRaceId(1L)).willReturn(podium(p1, p2, p3));
+        given(raceRepository.markScored(eq(1L), any())).willReturn(0);
 
         // when
-        // private 메서드 테스트를 위해 직접 호출 (또는 Reflection 사용)
-        // 여기서는 전체 흐름의 일부로 테스트하기 위해 scorePredictionsForFinishedRaces를 호출
-        given(raceRepository.findAllBySessionNameAndDateEndBetween(anyString(), any(), any())).willReturn(List.of(race));
-        predictionScoringService.scorePredictionsForFinishedRaces();
+        predictionScoringService.scoreRace(1L);
 
         // then
-        assertThat(correctPrediction.isCorrect()).isTrue();
-        // 10(1위) + 5(2위) + 3(3위) + 15(보너스) = 33점
-        assertThat(correctPrediction.getEarnedPoints()).isEqualTo(33);
-        assertThat(user.getPoints()).isEqualTo(33);
+        verify(predictionRepository, never()).scoreAllByRaceId(anyLong(), anyInt(), anyInt(), anyInt(), anyInt(), anyInt(), anyInt(), anyInt());
+        verify(userRepository, never()).addEarnedPointsOfRace(anyLong());
+        verify(leaderboardRankSnapshotService, never()).refresh();
     }
 
-    @DisplayName("1위만 정답 시 해당 포인트만 지급된다")
+    @DisplayName("포디움 결과가 완전하지 않으면 채점 완료 표시 없이 건너뛴다")
     @Test
-    void scoreSingleRace_OnlyP1Correct() {
+    void scoreRace_ShouldSkip_WhenPodiumIncomplete() {
         // given
-        User user = User.builder().build();
         Driver p1 = Driver.builder().id(1).build();
-        Driver p2 = Driver.builder().id(99).build(); // 틀린 예측
-        Driver p3 = Driver.builder().id(100).build(); // 틀린 예측
-        Race race = Race.builder().id(1L).build();
-        Prediction prediction = Prediction.builder()
-                .user(user).race(race).predictedP1(p1).predictedP2(p2).predictedP3(p3)
-                .build();
-
-        List<PositionResponse> actualResults = List.of(
-                new PositionResponse(1, 1, "date", "Finished"), // 실제 1위
-                new PositionResponse(2, 2, "date", "Finished"),
-                new PositionResponse(3, 3, "date", "Finished")
-        );
+        given(positionRepository.findPodiumByRaceId(1L))
+                .willReturn(List.of(Position.builder().driver(p1).racePosition(1).build()));
 
-        given(openF1Client.getRaceResult(1L)).willReturn(actualResults);
-        given(predictionRepository.findAllByRaceWithUser(race)).willReturn(List.of(prediction));
-        given(raceRepository.findAllBySessionNameAndDateEndBetween(anyString(), any(), any())).willReturn(List.of(race));
+        // when
+        predictionScoringService.scoreRace(1L);
+
+        // then
+        verify(raceRepository, never()).markScored(anyLong(), any());
+        verify(predictionRepository, never()).scoreAllByRaceId(anyLong(), anyInt(), anyInt(), anyInt(), anyInt(), anyInt(), anyInt(), anyInt());
+        verify(userRepository, never()).addEarnedPointsOfRace(anyLong());
+    }
+
+    @DisplayName("정기 채점은 결과가 저장됐지만 채점되지 않은 레이스만 채점한다")
+    @Test
+    void scorePredictionsForFinishedRaces_ScoresOnlyUnscoredRaces() {
+        // given
+        given(raceRepository.findUnscoredRaceIdsWithResultSince(any())).willReturn(List.of(7L));
+        given(positionRepository.findPodiumByRaceId(7L)).willReturn(List.of());
 
         // when
         predictionScoringService.scorePredictionsForFinishedRaces();
 
         // then
-        assertThat(prediction.isCorrect()).isFalse();
-        assertThat(prediction.getEarnedPoints()).isEqualTo(10); // 1위 맞춘 10점
-        assertThat(user.getPoints()).isEqualTo(10);
+        verify(positionRepository, times(1)).findPodiumByRaceId(anyLong());
+        verify(positionRepository).findPodiumByRaceId(7L);
     }
 
-    @DisplayName("이미 채점된 레이스는 건너뛴다")
+    @DisplayName("정기 채점은 레이스마다 트랜잭션을 나누고, 순위 스냅샷은 마지막에 한 번만 갱신한다")
     @Test
-    void scorePredictions_ShouldSkip_AlreadyScoredRace() {
+    void scorePredictionsForFinishedRaces_RefreshesSnapshotOnce() {
         // given
-        Race race = Race.builder().id(1L).build();
-        Prediction scoredPrediction = Prediction.builder().build();
-        scoredPrediction.updateResult(true, 10); // 이미 10점을 획득한 상태
+        Driver p1 = Driver.builder().id(1).build();
+        Driver p2 = Driver.builder().id(2).build();
+        Driver p3 = Driver.builder().id(3).build();
+        given(raceRepository.findUnscoredRaceIdsWithResultSince(any())).willReturn(List.of(7L, 8L));
+        given(positionRepository.findPodiumByRaceId(anyLong())).willReturn(podium(p1, p2, p3));
+        given(raceRepository.markScored(anyLong(), any())).willReturn(1);
 
-        given(raceRepository.findAllBySessionNameAndDateEndBetween(anyString(), any(), any())).willReturn(List.of(race));
-        given(predictionRepository.findAllByRaceWithUser(race)).willReturn(List.of(scoredPrediction));
+        // when
+        predictionScoringService.scorePredictionsForFinishedRaces();
+
+        // then
+        verify(transactionTemplate, times(2)).execute(any());
+        verify(userRepository).addEarnedPointsOfRace(7L);
+        verify(userRepository).addEarnedPointsOfRace(8L);
+        verify(leaderboardRankSnapshotService, times(1)).refresh();
+    }
+
+    @DisplayName("정기 채점 중 한 레이스가 실패해도 나머지 레이스는 채점된다")
+    @Test
+    void scorePredictionsForFinishedRaces_ContinuesAfterFailure() {
+        // given
+        Driver p1 = Driver.builder().id(1).build();
+        Driver p2 = Driver.builder().id(2).build();
+        Driver p3 = Driver.builder().id(3).build();
+        given(raceRepository.findUnscoredRaceIdsWithResultSince(any())).willReturn(List.of(7L, 8L));
+        given(positionRepository.findPodiumByRaceId(7L)).willThrow(new IllegalStateException("DB 오류"));
+        given(positionRepository.findPodiumByRaceId(8L)).willReturn(podium(p1, p2, p3));
+        given(raceRepository.markScored(eq(8L), any())).willReturn(1);
 
         // when
         predictionScoringService.scorePredictionsForFinishedRaces();
 
         // then
-        // openF1Client.getRaceResult가 호출되지 않았어야 함
-        verify(openF1Client, never()).getRaceResult(anyLong());
+        verify(userRepository, never()).addEarnedPointsOfRace(7L);
+        verify(userRepository).addEarnedPointsOfRace(8L);
+        verify(leaderboardRankSnapshotService, times(1)).refresh();
     }
-}
\ No newline at end of file
+}
@@ -4,6 +4,7 @@ import com.gridhub.gridhub.domain.f1data.entity.Driver;
 import com.gridhub.gridhub.domain.f1data.entity.Race;
 import com.gridhub.gridhub.domain.f1data.repository.DriverRepository;
 import com.gridhub.gridhub.domain.f1data.repository.RaceRepository;
+import com.gridhub.gridhub.domain.prediction.dto.LeaderboardEntryDto;
 import com.gridhub.gridhub.domain.prediction.dto.LeaderboardResponse;
 import com.gridhub.gridhub.domain.prediction.dto.PredictionRequest;
 import com.gridhub.gridhub.domain.prediction.entity.Prediction;
@@ -20,12 +21,13 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.data.domain.Page;
-import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.test.util.ReflectionTestUtils;
 
 import java.time.ZonedDateTime;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 import static org.assertj.core.api.Assertions.assertThat;
@@ -51,15 +53,20 @@ class PredictionServiceTest {
     @Mock
     private DriverRepository driverRepository;
 
+    // 리더보드 인덱스는 실제 객체를 사용
+    private LeaderboardIndex leaderboardIndex;
+
     @BeforeEach
     void setUp() {
         // 테스트가 시작되기 전에, 수동으로 PredictionService 객체를 생성하고
         // @Mock으로 만들어진 가짜 Repository 객체들을 직접 주입합니다.
+        leaderboardIndex = new LeaderboardIndex();
         predictionService = new PredictionService(
                 predictionRepository,
                 userRepository,
                 raceRepository,
-                driverRepository
+                driverRepository,
+                leaderboardIndex
         );
     }
 
@@ -141,59 +148,65 @@ class PredictionServiceTest {
                 () -> predictionService.createPrediction(1L, request, "user@test.com"));
     }
 
-    @DisplayName("리더보드 조회 - 단위 테스트 (0페이지)")
+    @DisplayName("리더보드 조회 - 인덱스에서 현재 순위와 이전 순위 대비 변동을 반환")
     @Test
-    void getLeaderboard_Unit_Test_Page0() {
-        // given
-        // 0번 페이지, 페이지당 10개 요청 가정
+    void getLeaderboard_ReadsIndex() {
+        // given: 동점자는 같은 순위, 이전 순위가 있는 사용자만 순위 변동 포함
+        leaderboardIndex.put(new LeaderboardEntryDto(1L, "user1", null, 100));
+        leaderboardIndex.put(new LeaderboardEntryDto(2L, "user2", null, 90));
+        leaderboardIndex.put(new LeaderboardEntryDto(3L, "user3", null, 90));
+        leaderboardIndex.updatePreviousRanks(Map.of(1L, 2L, 2L, 1L));
         Pageable pageable = PageRequest.of(0, 10);
 
-        // Mock User 데이터 생성
-        User user1 = User.builder().nickname("user1").build(); user1.addPoints(100);
-        User user2 = User.builder().nickname("user2").build(); user2.addPoints(90);
-        List<User> userList = List.of(user1, user2);
-
-        // Mock Repository가 반환할 Page<User> 객체 생성
-        Page<User> userPage = new PageImpl<>(userList, pageable, 50); // 총 50명의 유저가 있다고 가정
-
-        given(userRepository.findAllByOrderByPointsDesc(pageable)).willReturn(userPage);
-
         // when
         Page<LeaderboardResponse> result = predictionService.getLeaderboard(pageable);
 
         // then
-        assertThat(result.getTotalElements()).isEqualTo(50);
-        assertThat(result.getContent()).hasSize(2);
+        assertThat(result.getTotalElements()).isEqualTo(3);
+        assertThat(result.getContent()).extracting(LeaderboardResponse::rank).containsExactly(1L, 2L, 2L);
+        assertThat(result.getContent()).extracting(LeaderboardResponse::rankChange).containsExactly(1L, -1L, null);
+        verifyNoInteractions(userRepository);
+    }
 
-        // 순위(rank)가 올바르게 계산되었는지 검증 (1위, 2위)
-        assertThat(result.getContent().get(0).rank()).isEqualTo(1L);
-        assertThat(result.getContent().get(0).nickname()).isEqualTo("user1");
-        assertThat(result.getContent().get(0).points()).isEqualTo(100);
+    @DisplayName("리더보드 조회 - 요청한 페이지만 잘라서 반환")
+    @Test
+    void getLeaderboard_ReturnsRequestedPage() {
+        // given
+        for (long id = 1; id <= 7; id++) {
+            leaderboardIndex.put(new LeaderboardEntryDto(id, "user" + id, null, (int) (100 - id * 10)));
+        }
+
+        // when
+        Page<LeaderboardResponse> second = predictionService.getLeaderboard(PageRequest.of(1, 5));
+        Page<LeaderboardResponse> beyond = predictionService.getLeaderboard(PageRequest.of(2, 5));
 
-        assertThat(result.getContent().get(1).rank()).isEqualTo(2L);
-        assertThat(result.getContent().get(1).nickname()).isEqualTo("user2");
+        // then
+        assertThat(second.getContent()).extracting(LeaderboardResponse::nickname).containsExactly("user6", "user7");
+        assertThat(second.getContent()).extracting(LeaderboardResponse::rank).containsExactly(6L, 7L);
+        assertThat(second.getTotalElements()).isEqualTo(7);
+        assertThat(beyond.getContent()).isEmpty();
+        assertThat(beyond.getTotalElements()).isEqualTo(7);
     }
 
-    @DisplayName("리더보드 조회 - 단위 테스트 (1페이지)")
+    @DisplayName("내 순위 및 내 주변 순위 조회")
     @Test
-    void getLeaderboard_Unit_Test_Page1() {
+    void getMyRank_And_AroundMe() {
         // given
-        // 1번 페이지, 페이지당 5개 요청 가정
-        Pageable pageable = PageRequest.of(1, 5);
-
-        User user6 = User.builder().nickname("user6").build(); user6.addPoints(50);
-        List<User> userList = List.of(user6);
-        Page<User> userPage = new PageImpl<>(userList, pageable, 25); // 총 25명의 유저
+        User me = User.builder().email("me@test.com").nickname("me").build();
+        ReflectionTestUtils.setField(me, "id", 3L);
+        given(userRepository.findByEmail("me@test.com")).willReturn(Optional.of(me));
 
-        given(userRepository.findAllByOrderByPointsDesc(pageable)).willReturn(userPage);
+        for (long id = 1; id <= 5; id++) {
+            leaderboardIndex.put(new LeaderboardEntryDto(id, "user" + id, null, (int) (60 - id * 10)));
+        }
 
         // when
-        Page<LeaderboardResponse> result = predictionService.getLeaderboard(pageable);
+        LeaderboardResponse myRank = predictionService.getMyRank("me@test.com");
+        List<LeaderboardResponse> around = predictionService.getLeaderboardAroundMe("me@test.com", 1);
 
         // then
-        // 1페이지의 첫 번째 유저는 6위여야 함 (0페이지에 5명)
-        // pageable.getOffset() + 1 = 5 * 1 + 1 = 6
-        assertThat(result.getContent().get(0).rank()).isEqualTo(6L);
-        assertThat(result.getContent().get(0).nickname()).isEqualTo("user6");
+        assertThat(myRank.rank()).isEqualTo(3L);
+        assertThat(around).extracting(LeaderboardResponse::rank).containsExactly(2L, 3L, 4L);
+        assertThat(around).extracting(LeaderboardResponse::nickname).containsExactly("user2", "user3", "user4");
     }
-}
\ No newline at end of file
+}
@@ -13,6 +13,7 @@ import com.gridhub.gridhub.domain.user.entity.UserRole;
 import com.gridhub.gridhub.domain.user.repository.UserRepository;
 import com.gridhub.gridhub.global.util.JwtUtil;
 import com.gridhub.gridhub.infra.s3.S3UploaderService;
+import com.gridhub.gridhub.infra.s3.UploadedImage;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -105,7 +106,9 @@ class UserControllerTest {
         );
 
         String fakeImageUrl = "https://s3.com/profile.jpg";
-        given(s3UploaderService.upload(any(MockMultipartFile.class))).willReturn(fakeImageUrl);
+        String fakeThumbnailUrl = "https://s3.com/profile_thumb.jpg";
+        given(s3UploaderService.uploadImage(any(MockMultipartFile.class), any()))
+                .willReturn(new UploadedImage(fakeImageUrl, null, fakeThumbnailUrl));
 
         // when & then
         mockMvc.perform(multipart(HttpMethod.PATCH, "/api/users/me")
@@ -122,7 +125,8 @@ class UserControllerTest {
                 .andExpect(status().isOk())
                 .andExpect(jsonPath("$.nickname").value("newNick"))
                 .andExpect(jsonPath("$.bio").value("My new bio"))
-                .andExpect(jsonPath("$.profileImageUrl").value(fakeImageUrl));
+                .andExpect(jsonPath("$.profileImageUrl").value(fakeImageUrl))
+                .andExpect(jsonPath("$.profileImageThumbnailUrl").value(fakeThumbnailUrl));
     }
 
     @DisplayName("PATCH /api/users/me - 닉네임 중복 시 400 Bad Request 응답")
@@ -12,18 +12,24 @@ import com.gridhub.gridhub.domain.user.entity.UserRole;
 import com.gridhub.gridhub.domain.user.exception.NicknameAlreadyExistsException;
 import com.gridhub.gridhub.domain.user.exception.UserNotFoundException;
 import com.gridhub.gridhub.domain.user.repository.UserRepository;
+import com.gridhub.gridhub.infra.s3.ImageVariant;
 import com.gridhub.gridhub.infra.s3.S3UploaderService;
+import com.gridhub.gridhub.infra.s3.UploadedImage;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.mock.web.MockMultipartFile;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
 
 import java.io.IOException;
 import java.util.Collections;
+import java.util.EnumSet;
 import java.util.List;
 import java.util.Optional;
 
@@ -50,6 +56,10 @@ class UserServiceTest {
     @Mock
     private PredictionRepository predictionRepository;
 
+    // 트랜잭션 경계만 흉내내고 콜백은 그대로 실행
+    @Spy
+    private TransactionTemplate transactionTemplate = new TransactionTemplate(mock(PlatformTransactionManager.class));
+
     private User testUser;
 
     @BeforeEach
@@ -88,7 +98,7 @@ class UserServiceTest {
         // then
         assertThat(testUser.getNickname()).isEqualTo("newNickname");
         assertThat(testUser.getBio()).isEqualTo("new bio");
-        verify(s3UploaderService, never()).upload(any());
+        verify(s3UploaderService, never()).uploadImage(any(), any());
     }
 
     @DisplayName("내 프로필 수정 실패 - 닉네임 중복")
@@ -113,16 +123,40 @@ class UserServiceTest {
         ProfileUpdateRequest request = new ProfileUpdateRequest();
         MockMultipartFile image = new MockMultipartFile("image", "test.jpg", "image/jpeg", "content".getBytes());
         String fakeImageUrl = "https://s3.com/test.jpg";
+        String fakeThumbnailUrl = "https://s3.com/test_thumb.jpg";
+        UploadedImage uploadedImage = new UploadedImage(fakeImageUrl, null, fakeThumbnailUrl);
 
         given(userRepository.findByEmail("test@test.com")).willReturn(Optional.of(testUser));
-        given(s3UploaderService.upload(image)).willReturn(fakeImageUrl);
+        given(s3UploaderService.uploadImage(image, EnumSet.of(ImageVariant.THUMBNAIL))).willReturn(uploadedImage);
 
         // when
         userService.updateMyProfile("test@test.com", request, image);
 
-        // then
-        verify(s3UploaderService).upload(image);
+        // then - 프로필은 쓰지 않는 중간 크기 축소본을 만들지 않음
+        verify(s3UploaderService).uploadImage(image, EnumSet.of(ImageVariant.THUMBNAIL));
+        verify(s3UploaderService).deleteOnRollback(uploadedImage);
         assertThat(testUser.getProfileImageUrl()).isEqualTo(fakeImageUrl);
+        assertThat(testUser.getProfileImageThumbnailUrl()).isEqualTo(fakeThumbnailUrl);
+    }
+
+    @DisplayName("내 프로필 수정 실패 - 이미지는 트랜잭션 전에 업로드되고, 실패하면 롤백 시 삭제되도록 등록")
+    @Test
+    void updateMyProfile_Fail_UploadedImageRegisteredForRollbackDelete() throws IOException {
+        // given
+        ProfileUpdateRequest request = new ProfileUpdateRequest();
+        request.setNickname("existingNickname");
+        MockMultipartFile image = new MockMultipartFile("image", "test.jpg", "image/jpeg", "content".getBytes());
+        UploadedImage uploadedImage = new UploadedImage("https://s3.com/test.jpg", null, null);
+
+        given(s3UploaderService.uploadImage(image, EnumSet.of(ImageVariant.THUMBNAIL))).willReturn(uploadedImage);
+        given(userRepository.findByEmail("test@test.com")).willReturn(Optional.of(testUser));
+        given(userRepository.existsByNickname("existingNickname")).willReturn(true);
+
+        // when & then
+        assertThrows(NicknameAlreadyExistsException.class,
+                () -> userService.updateMyProfile("test@test.com", request, image));
+        verify(s3UploaderService).deleteOnRollback(uploadedImage);
+        assertThat(testUser.getProfileImageUrl()).isNull();
     }
 
     @DisplayName("내 프로필 조회 시 예측 통계 정보가 포함된다")
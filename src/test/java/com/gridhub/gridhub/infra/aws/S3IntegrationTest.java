@@ -5,8 +5,8 @@ import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.boot.test.context.SpringBootTest;
-import software.amazon.awssdk.core.sync.RequestBody;
-import software.amazon.awssdk.services.s3.S3Client;
+import software.amazon.awssdk.core.async.AsyncRequestBody;
+import software.amazon.awssdk.services.s3.S3AsyncClient;
 import software.amazon.awssdk.services.s3.model.DeleteObjectRequest;
 import software.amazon.awssdk.services.s3.model.HeadObjectRequest;
 import software.amazon.awssdk.services.s3.model.PutObjectRequest;
@@ -18,11 +18,11 @@ import java.io.IOException;
 
 import static org.junit.jupiter.api.Assertions.*;
 
-@SpringBootTest // 실제 Spring 컨텍스트를 로드하여 S3Client Bean을 주입받음
+@SpringBootTest // 실제 Spring 컨텍스트를 로드하여 S3AsyncClient Bean을 주입받음
 class S3IntegrationTest {
 
     @Autowired
-    private S3Client s3Client; // S3Config에서 생성된 Bean이 주입되는지 확인
+    private S3AsyncClient s3AsyncClient; // S3Config에서 생성된 Bean이 주입되는지 확인
 
     @Value("${cloud.aws.s3.bucket}")
     private String bucketName;
@@ -40,9 +40,9 @@ class S3IntegrationTest {
                 .key(fileName) // S3에 저장될 파일 이름
                 .build();
 
-        // s3Client.putObject()가 예외 없이 실행되는지 확인
+        // s3AsyncClient.putObject()가 예외 없이 완료되는지 확인
         assertDoesNotThrow(() -> {
-            s3Client.putObject(putObjectRequest, RequestBody.fromFile(testFile));
+            s3AsyncClient.putObject(putObjectRequest, AsyncRequestBody.fromFile(testFile)).join();
         });
 
         // then: 파일이 S3에 실제로 존재하는지 확인
@@ -51,9 +51,9 @@ class S3IntegrationTest {
                 .key(fileName)
                 .build();
 
-        // s3Client.headObject()는 파일이 존재하면 정상 실행, 없으면 예외 발생
+        // s3AsyncClient.headObject()는 파일이 존재하면 정상 완료, 없으면 예외 발생
         assertDoesNotThrow(() -> {
-            s3Client.headObject(headObjectRequest);
+            s3AsyncClient.headObject(headObjectRequest).join();
         });
 
         // cleanup: 테스트 후 생성된 파일과 S3 객체 삭제
@@ -63,7 +63,7 @@ class S3IntegrationTest {
                 .build();
 
         assertDoesNotThrow(() -> {
-            s3Client.deleteObject(deleteObjectRequest);
+            s3AsyncClient.deleteObject(deleteObjectRequest).join();
         });
 
         testFile.delete(); // 로컬 임시 파일 삭제
@@ -0,0 +1,52 @@
+package com.gridhub.gridhub.infra.external;
+
+import com.gridhub.gridhub.domain.f1data.dto.PositionResponse;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class FinalPositionReducerTest {
+
+    @DisplayName("드라이버별로 가장 마지막 시각의 순위 기록만 남긴다")
+    @Test
+    void toFinalPositions_KeepsLatestSamplePerDriver() {
+        // given
+        FinalPositionReducer reducer = new FinalPositionReducer();
+        List.of(
+                new PositionResponse(1, 2, "2024-05-26T13:00:00", null),
+                new PositionResponse(44, 1, "2024-05-26T13:00:00", null),
+                new PositionResponse(1, 1, "2024-05-26T14:30:00", null),
+                new PositionResponse(44, 2, "2024-05-26T14:29:00", null),
+                new PositionResponse(44, 3, "2024-05-26T13:10:00", null)
+        ).forEach(reducer::accept);
+
+        // when
+        List<PositionResponse> result = reducer.toFinalPositions();
+
+        // then
+        assertThat(result).hasSize(2);
+        assertThat(result.get(0).driverNumber()).isEqualTo(1);
+        assertThat(result.get(0).position()).isEqualTo(1);
+        assertThat(result.get(1).driverNumber()).isEqualTo(44);
+        assertThat(result.get(1).position()).isEqualTo(2);
+    }
+
+    @DisplayName("드라이버 번호가 초기 용량보다 커도 집계된다")
+    @Test
+    void accept_GrowsForLargeDriverNumbers() {
+        // given
+        FinalPositionReducer reducer = new FinalPositionReducer();
+
+        // when
+        reducer.accept(new PositionResponse(250, 5, "2024-05-26T13:00:00", null));
+        reducer.accept(new PositionResponse(null, 1, "2024-05-26T13:00:00", null)); // 무시됨
+
+        // then
+        assertThat(reducer.toFinalPositions())
+                .extracting(PositionResponse::driverNumber)
+                .containsExactly(250);
+    }
+}
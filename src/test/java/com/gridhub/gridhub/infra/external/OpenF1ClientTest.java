@@ -0,0 +1,178 @@
+package com.gridhub.gridhub.infra.external;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.core.io.buffer.DefaultDataBufferFactory;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.reactive.function.client.ClientRequest;
+import org.springframework.web.reactive.function.client.ClientResponse;
+import org.springframework.util.unit.DataSize;
+import org.springframework.web.reactive.function.client.WebClient;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class OpenF1ClientTest {
+
+    private static final String FINISHED_SESSIONS =
+            "[{\"session_key\":10,\"meeting_key\":1,\"date_end\":\"2024-05-26T15:00:00Z\"}]";
+    private static final String WEATHER = "[{\"air_temperature\":21.5,\"humidity\":40}]";
+
+    @TempDir
+    Path cacheDir;
+
+    private final List<ClientRequest> requests = new CopyOnWriteArrayList<>();
+    // 경로 → 응답. 요청마다 새 ClientResponse를 만들어야 하므로 팩토리로 등록
+    private final Map<String, Supplier<ClientResponse>> responses = new ConcurrentHashMap<>();
+
+    private OpenF1ResponseCache responseCache;
+    private OpenF1Client openF1Client;
+
+    @BeforeEach
+    void setUp() {
+        ObjectMapper objectMapper = new ObjectMapper().findAndRegisterModules();
+        responseCache = new OpenF1ResponseCache(objectMapper, cacheDir.toString(), DataSize.ofMegabytes(1));
+        WebClient webClient = WebClient.builder()
+                .baseUrl("https://api.openf1.test/v1")
+                .exchangeFunction(request -> {
+                    requests.add(request);
+                    return Mono.just(responses.get(request.url().getPath()).get());
+                })
+                .build();
+        openF1Client = new OpenF1Client(webClient, responseCache, objectMapper);
+
+        responses.put("/v1/sessions", () -> ok(FINISHED_SESSIONS, null));
+        openF1Client.getSessionsByMeeting(1L);
+        requests.clear();
+    }
+
+    @DisplayName("종료된 세션의 응답은 불변으로 저장되어 다시 요청하지 않는다")
+    @Test
+    void finishedSession_IsCachedAsImmutable() {
+        // given
+        responses.put("/v1/weather", () -> ok(WEATHER, "\"w-1\""));
+
+        // when
+        openF1Client.getWeather(10L);
+        openF1Client.getWeather(10L);
+
+        // then
+        assertThat(requests).hasSize(1);
+        assertThat(responseCache.get("/weather?session_key=10")).hasValueSatisfying(cached ->
+                assertThat(cached.immutable()).isTrue());
+    }
+
+    @DisplayName("종료된 세션이라도 빈 배열 응답은 불변으로 저장하지 않는다 (OpenF1 수집 지연)")
+    @Test
+    void finishedSession_EmptyBodyIsNotImmutable() {
+        // given
+        responses.put("/v1/position", () -> ok("[ ]", null));
+
+        // when
+        assertThat(openF1Client.getRaceResult(10L)).isEmpty();
+
+        // then
+        assertThat(responseCache.get("/position?session_key=10")).hasValueSatisfying(cached ->
+                assertThat(cached.immutable()).isFalse());
+    }
+
+    @DisplayName("유효 시간이 지난 항목은 조건부 요청을 보내고, 304 응답이면 캐시된 본문을 재사용한다")
+    @Test
+    void staleEntry_RevalidatesWithConditionalHeaders() {
+        // given
+        long stale = Instant.now().minus(Duration.ofMinutes(10)).toEpochMilli();
+        cache("/weather?session_key=10", WEATHER,
+                new CachedResponse("\"w-1\"", "Sun, 26 May 2024 15:00:00 GMT", stale, false, false));
+        responses.put("/v1/weather", () -> ClientResponse.create(HttpStatus.NOT_MODIFIED).build());
+
+        // when
+        var weather = openF1Client.getWeather(10L);
+
+        // then
+        assertThat(weather).hasSize(1);
+        assertThat(weather.get(0).airTemperature()).isEqualTo(21.5f);
+        HttpHeaders sent = requests.get(0).headers();
+        assertThat(sent.getIfNoneMatch()).containsExactly("\"w-1\"");
+        assertThat(sent.getFirst(HttpHeaders.IF_MODIFIED_SINCE)).isEqualTo("Sun, 26 May 2024 15:00:00 GMT");
+        assertThat(responseCache.get("/weather?session_key=10")).hasValueSatisfying(cached -> {
+            assertThat(cached.immutable()).isTrue();
+            assertThat(cached.fetchedAtMillis()).isGreaterThan(stale);
+        });
+    }
+
+    @DisplayName("304로 재검증된 빈 배열 항목은 불변이 되지 않는다")
+    @Test
+    void staleEmptyEntry_RevalidatedButNotImmutable() {
+        // given
+        long stale = Instant.now().minus(Duration.ofMinutes(10)).toEpochMilli();
+        cache("/weather?session_key=10", "[]", new CachedResponse("\"empty\"", null, stale, false, true));
+        responses.put("/v1/weather", () -> ClientResponse.create(HttpStatus.NOT_MODIFIED).build());
+
+        // when
+        openF1Client.getWeather(10L);
+
+        // then
+        assertThat(requests).hasSize(1);
+        assertThat(responseCache.get("/weather?session_key=10")).hasValueSatisfying(cached ->
+                assertThat(cached.immutable()).isFalse());
+    }
+
+    @DisplayName("종료 시각을 모르는 세션의 응답은 불변으로 저장하지 않는다")
+    @Test
+    void unknownSession_IsNotImmutable() {
+        // given
+        responses.put("/v1/weather", () -> ok(WEATHER, null));
+
+        // when
+        openF1Client.getWeather(99L);
+
+        // then
+        assertThat(responseCache.get("/weather?session_key=99")).hasValueSatisfying(cached ->
+                assertThat(cached.immutable()).isFalse());
+    }
+
+    @DisplayName("본문 없는 200 응답은 빈 배열로 취급한다")
+    @Test
+    void emptyBody_IsEmptyArray() {
+        // given
+        responses.put("/v1/weather", () -> ClientResponse.create(HttpStatus.OK).build());
+
+        // when & then
+        assertThat(openF1Client.getWeather(10L)).isEmpty();
+        assertThat(responseCache.get("/weather?session_key=10")).hasValueSatisfying(cached -> {
+            assertThat(cached.empty()).isTrue();
+            assertThat(cached.immutable()).isFalse();
+        });
+    }
+
+    private void cache(String key, String body, CachedResponse response) {
+        responseCache.writeBody(key, Flux.just(DefaultDataBufferFactory.sharedInstance.wrap(body.getBytes(StandardCharsets.UTF_8))))
+                .block();
+        responseCache.put(key, response);
+    }
+
+    private static ClientResponse ok(String body, String etag) {
+        ClientResponse.Builder builder = ClientResponse.create(HttpStatus.OK)
+                .header(HttpHeaders.CONTENT_TYPE, "application/json")
+                .body(body);
+        if (etag != null) {
+            builder.header(HttpHeaders.ETAG, etag);
+        }
+        return builder.build();
+    }
+}
@@ -0,0 +1,142 @@
+package com.gridhub.gridhub.infra.external;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DefaultDataBufferFactory;
+import org.springframework.util.unit.DataSize;
+import reactor.core.publisher.Flux;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.Instant;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class OpenF1ResponseCacheTest {
+
+    private static final DataSize MAX_SIZE = DataSize.ofKilobytes(1);
+
+    @TempDir
+    Path cacheDir;
+
+    @DisplayName("저장한 응답은 새 캐시 인스턴스(재시작)에서도 조회된다")
+    @Test
+    void put_ThenGetFromNewInstance() throws IOException {
+        // given
+        CachedResponse response = new CachedResponse("\"etag-1\"", null, Instant.now().toEpochMilli(), true, false);
+        OpenF1ResponseCache cache = new OpenF1ResponseCache(new ObjectMapper(), cacheDir.toString(), MAX_SIZE);
+        assertThat(cache.writeBody("/position?session_key=1", body("[{\"session_key\":1}]")).block()).isFalse();
+        cache.put("/position?session_key=1", response);
+
+        // when
+        OpenF1ResponseCache restarted = new OpenF1ResponseCache(new ObjectMapper(), cacheDir.toString(), MAX_SIZE);
+
+        // then
+        assertThat(restarted.get("/position?session_key=1")).contains(response);
+        assertThat(restarted.get("/position?session_key=2")).isEmpty();
+        try (InputStream body = restarted.openBody("/position?session_key=1")) {
+            assertThat(new String(body.readAllBytes(), StandardCharsets.UTF_8)).isEqualTo("[{\"session_key\":1}]");
+        }
+        assertThat(restarted.totalBytes()).isEqualTo(cache.totalBytes());
+    }
+
+    @DisplayName("여러 버퍼로 나뉘어 도착한 본문을 이어서 파일에 쓰고, 빈 배열 여부를 알려준다")
+    @Test
+    void writeBody_JoinsBuffersAndDetectsEmptyArray() throws IOException {
+        // given
+        OpenF1ResponseCache cache = new OpenF1ResponseCache(new ObjectMapper(), cacheDir.toString(), MAX_SIZE);
+
+        // when
+        Boolean empty = cache.writeBody("/weather?session_key=1", Flux.concat(body(" [ "), body("\n ] "))).block();
+        Boolean notEmpty = cache.writeBody("/weather?session_key=2", Flux.concat(body("[{\"humidity\""), body(":40}]"))).block();
+
+        // then
+        assertThat(empty).isTrue();
+        assertThat(notEmpty).isFalse();
+        try (InputStream body = cache.openBody("/weather?session_key=2")) {
+            assertThat(new String(body.readAllBytes(), StandardCharsets.UTF_8)).isEqualTo("[{\"humidity\":40}]");
+        }
+        try (var files = Files.list(cacheDir)) {
+            assertThat(files).noneMatch(file -> file.toString().endsWith(".tmp"));
+        }
+    }
+
+    @DisplayName("본문 크기의 합이 최대 크기를 넘으면 가장 오래 사용되지 않은 항목부터 지운다")
+    @Test
+    void writeBody_EvictsLeastRecentlyUsed() throws InterruptedException {
+        // given: 400바이트 항목 두 개 (최대 1KB)
+        OpenF1ResponseCache cache = new OpenF1ResponseCache(new ObjectMapper(), cacheDir.toString(), MAX_SIZE);
+        store(cache, "/position?session_key=1", 400);
+        Thread.sleep(5);
+        store(cache, "/position?session_key=2", 400);
+        Thread.sleep(5);
+        assertThat(cache.get("/position?session_key=1")).isPresent(); // 1번을 최근에 사용
+
+        // when
+        Thread.sleep(5);
+        store(cache, "/position?session_key=3", 400);
+
+        // then
+        assertThat(cache.get("/position?session_key=1")).isPresent();
+        assertThat(cache.get("/position?session_key=2")).isEmpty();
+        assertThat(cache.get("/position?session_key=3")).isPresent();
+        assertThat(cache.totalBytes()).isEqualTo(800);
+    }
+
+    @DisplayName("손상된 캐시 파일은 캐시가 없는 것으로 취급한다")
+    @Test
+    void get_IgnoresCorruptedEntry() throws IOException {
+        // given
+        OpenF1ResponseCache cache = new OpenF1ResponseCache(new ObjectMapper(), cacheDir.toString(), MAX_SIZE);
+        cache.writeBody("/weather?session_key=1", body("[]")).block();
+        cache.put("/weather?session_key=1", new CachedResponse(null, null, 0L, false, true));
+        try (var files = Files.list(cacheDir)) {
+            Files.writeString(files.filter(file -> file.toString().endsWith(".json")).findFirst().orElseThrow(), "{broken");
+        }
+
+        // when & then
+        assertThat(cache.get("/weather?session_key=1")).isEmpty();
+    }
+
+    @DisplayName("불변 항목은 항상 유효하고, 나머지는 TTL이 지나면 재검증 대상이 된다")
+    @Test
+    void isFresh_RespectsImmutableAndTtl() {
+        Instant now = Instant.now();
+        long tenMinutesAgo = now.minus(Duration.ofMinutes(10)).toEpochMilli();
+
+        assertThat(new CachedResponse(null, null, tenMinutesAgo, true, false).isFresh(now, Duration.ofMinutes(5))).isTrue();
+        assertThat(new CachedResponse(null, null, tenMinutesAgo, false, false).isFresh(now, Duration.ofMinutes(5))).isFalse();
+        assertThat(new CachedResponse(null, null, tenMinutesAgo, false, false).isFresh(now, Duration.ofMinutes(15))).isTrue();
+    }
+
+    @DisplayName("빈 배열 판별은 공백을 무시한다")
+    @Test
+    void isEmptyArray() throws IOException {
+        assertThat(isEmptyArray("[]")).isTrue();
+        assertThat(isEmptyArray(" [ \n ] ")).isTrue();
+        assertThat(isEmptyArray("")).isTrue();
+        assertThat(isEmptyArray("[{}]")).isFalse();
+        assertThat(isEmptyArray("[{\"air_temperature\":21.5}]")).isFalse();
+    }
+
+    private static void store(OpenF1ResponseCache cache, String key, int bytes) {
+        cache.writeBody(key, body("[" + " ".repeat(bytes - 2) + "]")).block();
+        cache.put(key, new CachedResponse(null, null, Instant.now().toEpochMilli(), false, true));
+    }
+
+    private static Flux<DataBuffer> body(String content) {
+        return Flux.just(DefaultDataBufferFactory.sharedInstance.wrap(content.getBytes(StandardCharsets.UTF_8)));
+    }
+
+    private static boolean isEmptyArray(String body) throws IOException {
+        return OpenF1ResponseCache.isEmptyArray(new ByteArrayInputStream(body.getBytes(StandardCharsets.UTF_8)));
+    }
+}
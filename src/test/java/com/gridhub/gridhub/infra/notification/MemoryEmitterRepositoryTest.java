@@ -0,0 +1,89 @@
+package com.gridhub.gridhub.infra.notification;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class MemoryEmitterRepositoryTest {
+
+    private final MemoryEmitterRepository emitterRepository = new MemoryEmitterRepository();
+
+    @DisplayName("사용자 ID의 접두어가 같아도 다른 사용자의 Emitter는 조회되지 않는다")
+    @Test
+    void findAllByUserId_DoesNotMatchOtherUsersWithSamePrefix() {
+        // given
+        SseEmitter userOne = emitterRepository.save("1", "1_1000", new SseEmitter());
+        emitterRepository.save("12", "12_1000", new SseEmitter());
+        emitterRepository.save("123", "123_1000", new SseEmitter());
+
+        // when & then
+        assertThat(emitterRepository.findAllByUserId("1")).containsOnlyKeys("1_1000").containsValue(userOne);
+        assertThat(emitterRepository.findAllByUserId("12")).containsOnlyKeys("12_1000");
+        assertThat(emitterRepository.findAllByUserId("999")).isEmpty();
+    }
+
+    @DisplayName("한 사용자의 여러 연결 중 하나를 삭제하면 나머지는 유지된다")
+    @Test
+    void deleteById_RemovesOnlyThatEmitter() {
+        // given
+        emitterRepository.save("1", "1_1000", new SseEmitter());
+        emitterRepository.save("1", "1_2000", new SseEmitter());
+
+        // when
+        emitterRepository.deleteById("1", "1_1000");
+        emitterRepository.deleteById("2", "2_1000");
+
+        // then
+        assertThat(emitterRepository.findAllByUserId("1")).containsOnlyKeys("1_2000");
+
+        // when
+        emitterRepository.deleteById("1", "1_2000");
+
+        // then
+        assertThat(emitterRepository.findAllByUserId("1")).isEmpty();
+    }
+
+    @DisplayName("같은 사용자에 대한 연결 추가와 삭제가 동시에 일어나도 추가된 연결이 유실되지 않는다")
+    @Test
+    void saveAndDelete_Concurrently_KeepsRemainingEmitters() throws Exception {
+        // given
+        int threads = 8;
+        int emittersPerThread = 1_000;
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+
+        // when
+        try {
+            List<Future<?>> futures = new ArrayList<>();
+            for (int t = 0; t < threads; t++) {
+                int thread = t;
+                futures.add(executor.submit(() -> {
+                    for (int i = 0; i < emittersPerThread; i++) {
+                        String emitterId = "1_" + thread + "_" + i;
+                        emitterRepository.save("1", emitterId, new SseEmitter());
+                        // 짝수 번째 연결만 바로 끊어서 사용자 버킷이 비었다가 다시 생기는 상황을 반복
+                        if (i % 2 == 0) {
+                            emitterRepository.deleteById("1", emitterId);
+                        }
+                    }
+                }));
+            }
+            for (Future<?> future : futures) {
+                future.get();
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+
+        // then
+        assertThat(emitterRepository.findAllByUserId("1")).hasSize(threads * emittersPerThread / 2);
+        assertThat(emitterRepository.connectionCount()).isEqualTo(threads * emittersPerThread / 2);
+    }
+}
@@ -0,0 +1,251 @@
+package com.gridhub.gridhub.infra.notification;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.codec.ServerSentEvent;
+import org.reactivestreams.Subscription;
+import reactor.core.Disposable;
+import reactor.core.publisher.BaseSubscriber;
+import reactor.core.publisher.Flux;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class NotificationSinkRegistryTest {
+
+    private static final Duration LIFETIME = Duration.ofHours(1);
+    private static final int QUEUE_CAPACITY = 8;
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final SseEventDispatcher sseEventDispatcher = new SseEventDispatcher(meterRegistry, QUEUE_CAPACITY, Duration.ofSeconds(10));
+    private final NotificationSinkRegistry notificationSinkRegistry = new NotificationSinkRegistry(sseEventDispatcher, LIFETIME);
+
+    @DisplayName("연결 직후 연결 이벤트를 받고, 이후 자신에게 발행된 알림만 받는다")
+    @Test
+    void connect_ReceivesOnlyOwnEvents() {
+        // given
+        List<Object> userOneEvents = new CopyOnWriteArrayList<>();
+        List<Object> userTwelveEvents = new CopyOnWriteArrayList<>();
+        Disposable userOne = notificationSinkRegistry.connect("1", Flux.just(event("connected")), LIFETIME)
+                .subscribe(event -> userOneEvents.add(event.data()));
+        Disposable userTwelve = notificationSinkRegistry.connect("12", Flux.just(event("connected")), LIFETIME)
+                .subscribe(event -> userTwelveEvents.add(event.data()));
+
+        // when
+        notificationSinkRegistry.publish("1", event("댓글 알림"));
+
+        // then
+        assertThat(userOneEvents).containsExactly("connected", "댓글 알림");
+        assertThat(userTwelveEvents).containsExactly("connected");
+
+        userOne.dispose();
+        userTwelve.dispose();
+    }
+
+    @DisplayName("마지막 구독자가 끊기면 사용자 sink가 제거되고, 다시 연결하면 새 sink로 알림을 받는다")
+    @Test
+    void disconnect_RemovesSinkAfterLastSubscriber() {
+        // given
+        Disposable firstTab = notificationSinkRegistry.connect("1", Flux.just(event("connected")), LIFETIME).subscribe();
+        Disposable secondTab = notificationSinkRegistry.connect("1", Flux.just(event("connected")), LIFETIME).subscribe();
+        assertThat(notificationSinkRegistry.subscriberCount("1")).isEqualTo(2);
+
+        // when
+        firstTab.dispose();
+
+        // then
+        assertThat(notificationSinkRegistry.subscriberCount("1")).isEqualTo(1);
+
+        // when
+        secondTab.dispose();
+
+        // then
+        assertThat(notificationSinkRegistry.subscriberCount("1")).isZero();
+
+        // when
+        List<Object> events = new CopyOnWriteArrayList<>();
+        Disposable reconnected = notificationSinkRegistry.connect("1", Flux.just(event("connected")), LIFETIME)
+                .subscribe(event -> events.add(event.data()));
+        notificationSinkRegistry.publish("1", event("재연결 후 알림"));
+
+        // then
+        assertThat(events).containsExactly("connected", "재연결 후 알림");
+        reconnected.dispose();
+    }
+
+    @DisplayName("연결 유지 시간이 지나면 스트림이 완료되고 구독이 해제된다")
+    @Test
+    void connect_CompletesAfterLifetime() throws InterruptedException {
+        // given
+        CountDownLatch completed = new CountDownLatch(1);
+
+        // when
+        notificationSinkRegistry.connect("1", Flux.just(event("connected")), Duration.ofMillis(50))
+                .subscribe(event -> { }, error -> { }, completed::countDown);
+
+        // then
+        assertThat(completed.await(5, TimeUnit.SECONDS)).isTrue();
+        assertThat(notificationSinkRegistry.subscriberCount("1")).isZero();
+    }
+
+    @DisplayName("알림이 없어도 하트비트 주기마다 주석 이벤트를 받는다")
+    @Test
+    void connect_SendsHeartbeatWhileIdle() throws InterruptedException {
+        // given
+        NotificationSinkRegistry heartbeatRegistry = new NotificationSinkRegistry(sseEventDispatcher, Duration.ofMillis(20));
+        List<ServerSentEvent<Object>> events = new CopyOnWriteArrayList<>();
+        CountDownLatch heartbeats = new CountDownLatch(2);
+
+        // when
+        Disposable subscription = heartbeatRegistry.connect("1", Flux.just(event("connected")), LIFETIME)
+                .subscribe(event -> {
+                    events.add(event);
+                    if (event.comment() != null) {
+                        heartbeats.countDown();
+                    }
+                });
+
+        // then
+        assertThat(heartbeats.await(5, TimeUnit.SECONDS)).isTrue();
+        subscription.dispose();
+        assertThat(heartbeatRegistry.subscriberCount("1")).isZero();
+        assertThat(events.get(0).data()).isEqualTo("connected");
+        assertThat(events.subList(1, events.size())).allSatisfy(event -> {
+            assertThat(event.comment()).isEqualTo("heartbeat");
+            assertThat(event.id()).isNull();
+            assertThat(event.data()).isNull();
+        });
+    }
+
+    @DisplayName("놓친 알림을 조회하는 동안 발행된 알림도 재전송 뒤에 이어서 받고, 재전송과 겹친 알림은 한 번만 받는다")
+    @Test
+    void connect_PublishedDuringReplayLookup_IsNotLost() throws Exception {
+        // given: 놓친 알림 조회가 끝나지 않은 상태
+        CountDownLatch lookupStarted = new CountDownLatch(1);
+        CountDownLatch lookupReleased = new CountDownLatch(1);
+        Flux<ServerSentEvent<Object>> replay = Flux.defer(() -> {
+            lookupStarted.countDown();
+            try {
+                lookupReleased.await(5, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            return Flux.just(event("1", "놓친 알림"));
+        });
+        List<Object> events = new CopyOnWriteArrayList<>();
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        Future<Disposable> connection = executor.submit(() -> notificationSinkRegistry
+                .connect("1", Flux.concat(Flux.just(event("connected")), replay), LIFETIME)
+                .subscribe(event -> events.add(event.data())));
+        assertThat(lookupStarted.await(5, TimeUnit.SECONDS)).isTrue();
+
+        // when: 조회 도중 조회 결과에 포함될 알림과 새 알림이 발행됨
+        notificationSinkRegistry.publish("1", event("1", "놓친 알림"));
+        notificationSinkRegistry.publish("1", event("2", "조회 중 알림"));
+        lookupReleased.countDown();
+        Disposable subscription = connection.get(5, TimeUnit.SECONDS);
+        executor.shutdown();
+
+        // then
+        assertThat(events).containsExactly("connected", "놓친 알림", "조회 중 알림");
+
+        // when
+        notificationSinkRegistry.publish("1", event("3", "이후 알림"));
+
+        // then
+        assertThat(events).endsWith("이후 알림");
+        subscription.dispose();
+        assertThat(notificationSinkRegistry.subscriberCount("1")).isZero();
+    }
+
+    @DisplayName("이벤트를 받지 못하고 밀린 구독자는 버퍼 크기만큼 최신 이벤트만 남기고, 다른 구독자는 영향을 받지 않는다")
+    @Test
+    void publish_SlowSubscriber_DropsOldestEvents() {
+        // given: 연결 이벤트 하나만 요청하고 멈춘 구독자
+        List<Object> slowEvents = new CopyOnWriteArrayList<>();
+        BaseSubscriber<ServerSentEvent<Object>> slowSubscriber = new BaseSubscriber<>() {
+            @Override
+            protected void hookOnSubscribe(Subscription subscription) {
+                request(1);
+            }
+
+            @Override
+            protected void hookOnNext(ServerSentEvent<Object> event) {
+                slowEvents.add(event.data());
+            }
+        };
+        notificationSinkRegistry.connect("1", Flux.just(event("connected")), LIFETIME).subscribe(slowSubscriber);
+        List<Object> fastEvents = new CopyOnWriteArrayList<>();
+        Disposable fastSubscriber = notificationSinkRegistry.connect("1", Flux.just(event("connected")), LIFETIME)
+                .subscribe(event -> fastEvents.add(event.data()));
+
+        // when
+        int published = QUEUE_CAPACITY + 3;
+        for (int i = 1; i <= published; i++) {
+            notificationSinkRegistry.publish("1", event(i));
+        }
+        slowSubscriber.request(Long.MAX_VALUE);
+
+        // then
+        assertThat(fastEvents).hasSize(published + 1);
+        assertThat(slowEvents).hasSize(QUEUE_CAPACITY + 1).startsWith("connected").endsWith(published);
+        assertThat(slowEvents.get(1)).isEqualTo(4);
+        assertThat(meterRegistry.get("notification.sse.queue.overflow").tag("transport", "stream").counter().count())
+                .isEqualTo(3);
+
+        slowSubscriber.dispose();
+        fastSubscriber.dispose();
+    }
+
+    // HTTP 연결 없이 sink 구독만 확인. 실제 HTTP 연결 부하는 NotificationStreamLoadTest (performanceTest)
+    @DisplayName("20,000개의 구독이 동시에 열려 있어도 구독마다 스레드를 만들지 않고 모두 알림을 받는다 (HTTP 연결 없이 sink만)")
+    @Test
+    void connect_TwentyThousandConcurrentSubscribers() {
+        // given: 10,000명의 사용자가 각각 2개의 탭으로 구독
+        int users = 10_000;
+        int subscribers = users * 2;
+        int threadsBefore = Thread.activeCount();
+        AtomicInteger received = new AtomicInteger();
+        List<Disposable> subscriptions = new ArrayList<>(subscribers);
+        for (int i = 0; i < subscribers; i++) {
+            subscriptions.add(notificationSinkRegistry.connect(String.valueOf(i % users), Flux.just(event("connected")), LIFETIME)
+                    .subscribe(event -> received.incrementAndGet()));
+        }
+
+        // when
+        for (int userId = 0; userId < users; userId++) {
+            notificationSinkRegistry.publish(String.valueOf(userId), event("알림"));
+        }
+
+        // then: 연결 이벤트 + 알림 1건씩
+        assertThat(received.get()).isEqualTo(subscribers * 2);
+        assertThat(notificationSinkRegistry.subscriberCount("0")).isEqualTo(2);
+        // 연결 유지 시간 타이머용 스케줄러 스레드 외에는 늘어나지 않아야 함
+        assertThat(Thread.activeCount() - threadsBefore).isLessThan(Runtime.getRuntime().availableProcessors() + 8);
+
+        // when
+        subscriptions.forEach(Disposable::dispose);
+
+        // then
+        assertThat(notificationSinkRegistry.subscriberCount("0")).isZero();
+    }
+
+    private ServerSentEvent<Object> event(Object data) {
+        return ServerSentEvent.builder().event("sse").data(data).build();
+    }
+
+    private ServerSentEvent<Object> event(String id, Object data) {
+        return ServerSentEvent.builder().id(id).event("sse").data(data).build();
+    }
+}
@@ -0,0 +1,167 @@
+package com.gridhub.gridhub.infra.notification;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class SseEventDispatcherTest {
+
+    private static final int QUEUE_CAPACITY = 4;
+    private static final Duration WRITE_TIMEOUT = Duration.ofSeconds(10);
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final SseEventDispatcher sseEventDispatcher = new SseEventDispatcher(meterRegistry, QUEUE_CAPACITY, WRITE_TIMEOUT);
+
+    @AfterEach
+    void tearDown() {
+        sseEventDispatcher.shutdown();
+    }
+
+    @DisplayName("이벤트는 호출 스레드가 아닌 디스패처 스레드에서 보낸 순서대로 전송된다")
+    @Test
+    void send_WritesInOrderOnDispatcherThread() throws InterruptedException {
+        // given
+        List<String> writes = new CopyOnWriteArrayList<>();
+        CountDownLatch written = new CountDownLatch(3);
+        QueuedSseEmitter emitter = new QueuedSseEmitter(1_000L, sseEventDispatcher, QUEUE_CAPACITY, () -> { }) {
+            @Override
+            public void send(SseEventBuilder builder) {
+                writes.add(Thread.currentThread().getName());
+                written.countDown();
+            }
+        };
+
+        // when
+        for (int i = 0; i < 3; i++) {
+            assertThat(sseEventDispatcher.send(emitter, SseEmitter.event().data(i))).isTrue();
+        }
+
+        // then
+        assertThat(written.await(5, TimeUnit.SECONDS)).isTrue();
+        assertThat(writes).allSatisfy(threadName -> assertThat(threadName).startsWith("sse-dispatch-"));
+    }
+
+    @DisplayName("클라이언트 쓰기가 멈춰 있어도 send는 바로 반환하고, 큐가 넘치면 밀린 이벤트를 버리고 연결을 끊는다")
+    @Test
+    void send_SlowClient_DisconnectsOnOverflow() throws InterruptedException {
+        // given: 첫 쓰기에서 멈춘 클라이언트
+        CountDownLatch writeStarted = new CountDownLatch(1);
+        CountDownLatch releaseWrite = new CountDownLatch(1);
+        CountDownLatch disconnected = new CountDownLatch(1);
+        QueuedSseEmitter emitter = new QueuedSseEmitter(1_000L, sseEventDispatcher, QUEUE_CAPACITY, disconnected::countDown) {
+            @Override
+            public void send(SseEventBuilder builder) throws IOException {
+                writeStarted.countDown();
+                try {
+                    releaseWrite.await();
+                } catch (InterruptedException e) {
+                    throw new IOException(e);
+                }
+            }
+        };
+        assertThat(sseEventDispatcher.send(emitter, SseEmitter.event().data("first"))).isTrue();
+        assertThat(writeStarted.await(5, TimeUnit.SECONDS)).isTrue();
+
+        // when: 쓰기가 멈춘 동안 큐 용량만큼 쌓임
+        long startedAt = System.nanoTime();
+        for (int i = 0; i < QUEUE_CAPACITY; i++) {
+            assertThat(sseEventDispatcher.send(emitter, SseEmitter.event().data(i))).isTrue();
+        }
+        long elapsedMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startedAt);
+
+        // then
+        assertThat(elapsedMillis).isLessThan(1_000);
+        assertThat(emitter.queueDepth()).isEqualTo(QUEUE_CAPACITY);
+        assertThat(meterRegistry.get("notification.sse.queue.depth").gauge().value()).isEqualTo(QUEUE_CAPACITY);
+
+        // when: 용량을 넘는 이벤트
+        boolean accepted = sseEventDispatcher.send(emitter, SseEmitter.event().data("overflow"));
+
+        // then
+        assertThat(accepted).isFalse();
+        assertThat(disconnected.await(5, TimeUnit.SECONDS)).isTrue();
+        assertThat(emitter.queueDepth()).isZero();
+        assertThat(meterRegistry.get("notification.sse.queue.depth").gauge().value()).isZero();
+        assertThat(meterRegistry.get("notification.sse.queue.overflow").tag("transport", "emitter").counter().count())
+                .isEqualTo(1);
+        assertThat(sseEventDispatcher.send(emitter, SseEmitter.event().data("after"))).isFalse();
+
+        releaseWrite.countDown();
+    }
+
+    @DisplayName("쓰기가 제한 시간을 넘긴 연결은 끊고 디스패처 스레드를 돌려받아, 다른 연결의 전송이 막히지 않는다")
+    @Test
+    void send_StalledWrite_AbortsAfterTimeout() throws InterruptedException {
+        // given: 디스패처 스레드 수보다 많은, 쓰기가 끝나지 않는 클라이언트
+        SimpleMeterRegistry timeoutMeterRegistry = new SimpleMeterRegistry();
+        SseEventDispatcher timeoutDispatcher = new SseEventDispatcher(timeoutMeterRegistry, QUEUE_CAPACITY, Duration.ofMillis(200));
+        int stalledClients = Math.max(4, Runtime.getRuntime().availableProcessors() * 2) + 1;
+        CountDownLatch disconnected = new CountDownLatch(stalledClients);
+        AtomicBoolean writerInterrupted = new AtomicBoolean();
+        for (int i = 0; i < stalledClients; i++) {
+            QueuedSseEmitter stalled = new QueuedSseEmitter(1_000L, timeoutDispatcher, QUEUE_CAPACITY, disconnected::countDown) {
+                @Override
+                public void send(SseEventBuilder builder) throws IOException {
+                    try {
+                        new CountDownLatch(1).await();
+                    } catch (InterruptedException e) {
+                        writerInterrupted.set(true);
+                        throw new IOException(e);
+                    }
+                }
+            };
+            assertThat(timeoutDispatcher.send(stalled, SseEmitter.event().data("stalled"))).isTrue();
+        }
+        CountDownLatch written = new CountDownLatch(1);
+        QueuedSseEmitter healthy = new QueuedSseEmitter(1_000L, timeoutDispatcher, QUEUE_CAPACITY, () -> { }) {
+            @Override
+            public void send(SseEventBuilder builder) {
+                written.countDown();
+            }
+        };
+
+        // when
+        assertThat(timeoutDispatcher.send(healthy, SseEmitter.event().data("event"))).isTrue();
+
+        // then
+        assertThat(disconnected.await(5, TimeUnit.SECONDS)).isTrue();
+        assertThat(written.await(5, TimeUnit.SECONDS)).isTrue();
+        assertThat(writerInterrupted).isTrue();
+        assertThat(timeoutMeterRegistry.get("notification.sse.write.timeout").counter().count()).isEqualTo(stalledClients);
+        assertThat(timeoutMeterRegistry.get("notification.sse.reaped").counter().count()).isEqualTo(stalledClients);
+        timeoutDispatcher.shutdown();
+    }
+
+    @DisplayName("전송에 실패한 연결은 끊고, 정리된 연결 수에 집계한다")
+    @Test
+    void send_WriteFailure_Disconnects() throws InterruptedException {
+        // given
+        CountDownLatch disconnected = new CountDownLatch(1);
+        QueuedSseEmitter emitter = new QueuedSseEmitter(1_000L, sseEventDispatcher, QUEUE_CAPACITY, disconnected::countDown) {
+            @Override
+            public void send(SseEventBuilder builder) throws IOException {
+                throw new IOException("Broken pipe");
+            }
+        };
+
+        // when
+        assertThat(sseEventDispatcher.send(emitter, SseEmitter.event().data("event"))).isTrue();
+
+        // then
+        assertThat(disconnected.await(5, TimeUnit.SECONDS)).isTrue();
+        assertThat(meterRegistry.get("notification.sse.reaped").counter().count()).isEqualTo(1);
+        assertThat(sseEventDispatcher.send(emitter, SseEmitter.event().data("after"))).isFalse();
+    }
+}
@@ -0,0 +1,78 @@
+package com.gridhub.gridhub.infra.notification;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class SseHeartbeatSchedulerTest {
+
+    private final MemoryEmitterRepository emitterRepository = new MemoryEmitterRepository();
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final SseEventDispatcher sseEventDispatcher = new SseEventDispatcher(meterRegistry, 64, Duration.ofSeconds(10));
+    private final SseHeartbeatScheduler heartbeatScheduler = new SseHeartbeatScheduler(emitterRepository,
+            new NotificationSinkRegistry(sseEventDispatcher, Duration.ofSeconds(30)), sseEventDispatcher, meterRegistry, Duration.ofSeconds(30));
+
+    @DisplayName("휠을 한 바퀴 돌면 하트비트 전송에 실패한 연결만 정리되고 정상 연결은 유지된다")
+    @Test
+    void heartbeat_ReapsOnlyDeadConnections() {
+        // given
+        emitterRepository.save("1", "1_alive", new SseEmitter());
+        emitterRepository.save("1", "1_disconnected", new DisconnectedEmitter());
+        SseEmitter completed = new SseEmitter();
+        completed.complete();
+        emitterRepository.save("2", "2_completed", completed);
+        assertThat(meterRegistry.get("notification.sse.connections").tag("transport", "emitter").gauge().value()).isEqualTo(3);
+
+        // when
+        int reaped = IntStream.range(0, MemoryEmitterRepository.HEARTBEAT_SLOTS)
+                .map(heartbeatScheduler::heartbeat)
+                .sum();
+
+        // then
+        assertThat(reaped).isEqualTo(2);
+        assertThat(emitterRepository.findAllByUserId("1")).containsOnlyKeys("1_alive");
+        assertThat(emitterRepository.findAllByUserId("2")).isEmpty();
+        assertThat(meterRegistry.get("notification.sse.connections").tag("transport", "emitter").gauge().value()).isEqualTo(1);
+        assertThat(meterRegistry.get("notification.sse.reaped").counter().count()).isEqualTo(2);
+    }
+
+    @DisplayName("한 번의 tick은 한 칸에 배정된 사용자에게만 하트비트를 보낸다")
+    @Test
+    void tick_PingsOneSlotAtATime() {
+        // given: 사용자마다 끊긴 연결 하나씩
+        int users = 1_000;
+        for (int i = 0; i < users; i++) {
+            emitterRepository.save(String.valueOf(i), i + "_dead", new DisconnectedEmitter());
+        }
+
+        // when
+        heartbeatScheduler.tick();
+
+        // then: 한 칸 분량만 정리되고, 나머지는 다음 tick에서 처리
+        int firstSlotSize = users - emitterRepository.connectionCount();
+        assertThat(firstSlotSize).isPositive().isLessThan(users);
+
+        // when
+        for (int i = 1; i < MemoryEmitterRepository.HEARTBEAT_SLOTS; i++) {
+            heartbeatScheduler.tick();
+        }
+
+        // then
+        assertThat(emitterRepository.connectionCount()).isZero();
+    }
+
+    // 클라이언트가 연결을 끊어 응답 쓰기가 실패하는 Emitter
+    private static class DisconnectedEmitter extends SseEmitter {
+        @Override
+        public void send(SseEventBuilder builder) throws IOException {
+            throw new IOException("Broken pipe");
+        }
+    }
+}
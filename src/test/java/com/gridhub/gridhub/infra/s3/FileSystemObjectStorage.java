@@ -0,0 +1,112 @@
+package com.gridhub.gridhub.infra.s3;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 테스트용 S3 대체 저장소. 객체를 root 디렉토리 아래 key 경로의 파일로 저장.
+ * 업로드는 주어진 executor에서 비동기로 실행되며, failNextPuts/failDeletesOf로 업로드/삭제 실패를 흉내낼 수 있음.
+ */
+class FileSystemObjectStorage implements ObjectStorage {
+
+    static final String BASE_URL = "https://test-bucket.local/";
+
+    private final Path root;
+    private final Executor executor;
+    private final AtomicInteger failingPuts = new AtomicInteger();
+    private final Set<String> failingDeleteKeys = ConcurrentHashMap.newKeySet();
+
+    FileSystemObjectStorage(Path root, Executor executor) {
+        this.root = root;
+        this.executor = executor;
+    }
+
+    @Override
+    public CompletableFuture<Void> put(String key, InputStream content, long contentLength, String contentType) {
+        return CompletableFuture.runAsync(() -> {
+            try (content) {
+                if (failingPuts.getAndUpdate(n -> Math.max(0, n - 1)) > 0) {
+                    throw new IOException("simulated upload failure: " + key);
+                }
+                Path target = resolve(key);
+                Files.createDirectories(target.getParent());
+                Files.copy(content, target, StandardCopyOption.REPLACE_EXISTING);
+                // S3와 마찬가지로 선언한 길이와 실제 본문 길이가 다르면 실패
+                if (Files.size(target) != contentLength) {
+                    Files.delete(target);
+                    throw new IOException("content length mismatch: " + key);
+                }
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }, executor);
+    }
+
+    @Override
+    public void delete(String key) {
+        try {
+            Files.deleteIfExists(resolve(key));
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    @Override
+    public Map<String, String> deleteAll(List<String> keys) {
+        Map<String, String> failures = new HashMap<>();
+        for (String key : keys) {
+            if (failingDeleteKeys.contains(key)) {
+                failures.put(key, "simulated delete failure");
+            } else {
+                delete(key);
+            }
+        }
+        return failures;
+    }
+
+    @Override
+    public String urlOf(String key) {
+        return BASE_URL + key;
+    }
+
+    @Override
+    public String keyOf(String url) {
+        return url.startsWith(BASE_URL) ? url.substring(BASE_URL.length()) : url;
+    }
+
+    void failNextPuts(int count) {
+        failingPuts.set(count);
+    }
+
+    void failDeletesOf(String key) {
+        failingDeleteKeys.add(key);
+    }
+
+    boolean exists(String url) {
+        return Files.exists(resolve(keyOf(url)));
+    }
+
+    byte[] read(String url) throws IOException {
+        return Files.readAllBytes(resolve(keyOf(url)));
+    }
+
+    private Path resolve(String key) {
+        Path path = root.resolve(key).normalize();
+        if (!path.startsWith(root)) {
+            throw new IllegalArgumentException("invalid key: " + key);
+        }
+        return path;
+    }
+}
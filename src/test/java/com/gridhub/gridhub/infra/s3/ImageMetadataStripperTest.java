@@ -0,0 +1,161 @@
+package com.gridhub.gridhub.infra.s3;
+
+import com.gridhub.gridhub.infra.s3.ImageMetadataStripper.StrippedImage;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import javax.imageio.ImageIO;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ImageMetadataStripperTest {
+
+    static final String SECRET = "GPS 37.5665N 126.9780E";
+
+    @DisplayName("JPEG의 EXIF는 제거하고 회전 정보만 다시 넣으며, 줄어든 길이를 알려준다")
+    @Test
+    void strip_RemovesExifButKeepsOrientation() throws IOException {
+        // given
+        byte[] original = withExif(jpeg(40, 20), 6);
+
+        // when
+        StrippedImage stripped = ImageMetadataStripper.strip(new ByteArrayInputStream(original));
+        byte[] content = stripped.content().readAllBytes();
+
+        // then
+        assertThat(stripped.orientation()).isEqualTo(6);
+        assertThat(content).hasSize((int) (original.length + stripped.sizeDelta()));
+        assertThat(new String(content, StandardCharsets.ISO_8859_1)).doesNotContain(SECRET)
+                .contains(new String(ImageMetadataStripper.orientationSegment(6), StandardCharsets.ISO_8859_1));
+        BufferedImage decoded = ImageIO.read(new ByteArrayInputStream(content));
+        assertThat(decoded.getWidth()).isEqualTo(40);
+        assertThat(decoded.getHeight()).isEqualTo(20);
+    }
+
+    @DisplayName("회전이 없으면 EXIF를 통째로 제거한다")
+    @Test
+    void strip_NormalOrientation_RemovesWholeExif() throws IOException {
+        byte[] plain = jpeg(40, 20);
+
+        StrippedImage stripped = ImageMetadataStripper.strip(new ByteArrayInputStream(withExif(plain, 1)));
+
+        assertThat(stripped.orientation()).isEqualTo(ImageMetadataStripper.ORIENTATION_NORMAL);
+        assertThat(stripped.content().readAllBytes()).isEqualTo(plain);
+    }
+
+    @DisplayName("EXIF가 없는 JPEG나 JPEG가 아닌 파일은 그대로 전달한다")
+    @Test
+    void strip_LeavesOtherContentUntouched() throws IOException {
+        byte[] plainJpeg = jpeg(40, 20);
+        byte[] text = "not an image".getBytes();
+
+        StrippedImage jpeg = ImageMetadataStripper.strip(new ByteArrayInputStream(plainJpeg));
+        StrippedImage other = ImageMetadataStripper.strip(new ByteArrayInputStream(text));
+
+        assertThat(jpeg.content().readAllBytes()).isEqualTo(plainJpeg);
+        assertThat(jpeg.sizeDelta()).isZero();
+        assertThat(other.content().readAllBytes()).isEqualTo(text);
+        assertThat(other.sizeDelta()).isZero();
+    }
+
+    @DisplayName("IPTC(APP13)와 주석(COM)은 제거하고, ICC 프로파일(APP2)은 남긴다")
+    @Test
+    void strip_RemovesIptcAndCommentButKeepsIccProfile() throws IOException {
+        // given
+        byte[] plain = jpeg(40, 20);
+        byte[] icc = segment(0xE2, concat("ICC_PROFILE\0".getBytes(StandardCharsets.US_ASCII), new byte[]{1, 1, 0, 0, 0, 0}));
+        byte[] original = insertAfterSoi(plain, concat(icc, iptc(SECRET), segment(0xFE, SECRET.getBytes(StandardCharsets.US_ASCII))));
+
+        // when
+        StrippedImage stripped = ImageMetadataStripper.strip(new ByteArrayInputStream(original));
+        byte[] content = stripped.content().readAllBytes();
+
+        // then
+        assertThat(new String(content, StandardCharsets.ISO_8859_1)).doesNotContain(SECRET).doesNotContain("Photoshop");
+        assertThat(content).isEqualTo(insertAfterSoi(plain, icc));
+        assertThat(content).hasSize((int) (original.length + stripped.sizeDelta()));
+        assertThat(stripped.orientation()).isEqualTo(ImageMetadataStripper.ORIENTATION_NORMAL);
+    }
+
+    @DisplayName("IPTC만 제거된 JPEG는 그대로 디코딩된다")
+    @Test
+    void strip_Iptc_StillDecodes() throws IOException {
+        byte[] plain = jpeg(40, 20);
+
+        StrippedImage stripped = ImageMetadataStripper.strip(new ByteArrayInputStream(insertAfterSoi(plain, iptc(SECRET))));
+        byte[] content = stripped.content().readAllBytes();
+
+        assertThat(content).isEqualTo(plain);
+        BufferedImage decoded = ImageIO.read(new ByteArrayInputStream(content));
+        assertThat(decoded.getWidth()).isEqualTo(40);
+    }
+
+    static byte[] jpeg(int width, int height) throws IOException {
+        BufferedImage image = new BufferedImage(width, height, BufferedImage.TYPE_INT_RGB);
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+        ImageIO.write(image, "jpg", output);
+        return output.toByteArray();
+    }
+
+    // 카메라처럼 SOI 바로 뒤에 Orientation과 위치 정보 문자열을 담은 EXIF(APP1, little-endian)를 넣음
+    static byte[] withExif(byte[] jpeg, int orientation) {
+        byte[] description = (SECRET + "\0").getBytes(StandardCharsets.US_ASCII);
+        ByteArrayOutputStream tiff = new ByteArrayOutputStream();
+        tiff.writeBytes(new byte[]{'I', 'I', 42, 0, 8, 0, 0, 0});
+        tiff.writeBytes(new byte[]{2, 0});
+        tiff.writeBytes(new byte[]{0x12, 0x01, 3, 0, 1, 0, 0, 0, (byte) orientation, 0, 0, 0});
+        tiff.writeBytes(new byte[]{0x0E, 0x01, 2, 0, (byte) description.length, 0, 0, 0, 38, 0, 0, 0});
+        tiff.writeBytes(new byte[]{0, 0, 0, 0});
+        tiff.writeBytes(description);
+
+        int length = 2 + 6 + tiff.size();
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+        output.write(jpeg, 0, 2);
+        output.writeBytes(new byte[]{(byte) 0xFF, (byte) 0xE1, (byte) (length >> 8), (byte) length});
+        output.writeBytes("Exif\0\0".getBytes(StandardCharsets.US_ASCII));
+        output.writeBytes(tiff.toByteArray());
+        output.write(jpeg, 2, jpeg.length - 2);
+        return output.toByteArray();
+    }
+
+    // Photoshop 이미지 리소스(8BIM) 0x0404에 IPTC 작성자(2:80) 데이터셋을 담은 APP13 세그먼트
+    static byte[] iptc(String byline) {
+        byte[] value = byline.getBytes(StandardCharsets.US_ASCII);
+        byte[] dataset = concat(new byte[]{0x1C, 2, 80, (byte) (value.length >> 8), (byte) value.length}, value);
+        if (dataset.length % 2 == 1) {
+            dataset = concat(dataset, new byte[]{0}); // 리소스 데이터는 짝수 길이로 채움
+        }
+        int size = dataset.length;
+        byte[] resource = concat(
+                "8BIM".getBytes(StandardCharsets.US_ASCII),
+                new byte[]{0x04, 0x04, 0, 0, (byte) (size >> 24), (byte) (size >> 16), (byte) (size >> 8), (byte) size},
+                dataset);
+        return segment(0xED, concat("Photoshop 3.0\0".getBytes(StandardCharsets.US_ASCII), resource));
+    }
+
+    static byte[] segment(int marker, byte[] payload) {
+        int length = payload.length + 2;
+        return concat(new byte[]{(byte) 0xFF, (byte) marker, (byte) (length >> 8), (byte) length}, payload);
+    }
+
+    static byte[] insertAfterSoi(byte[] jpeg, byte[] segments) {
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+        output.write(jpeg, 0, 2);
+        output.writeBytes(segments);
+        output.write(jpeg, 2, jpeg.length - 2);
+        return output.toByteArray();
+    }
+
+    static byte[] concat(byte[]... parts) {
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+        for (byte[] part : parts) {
+            output.writeBytes(part);
+        }
+        return output.toByteArray();
+    }
+}
@@ -0,0 +1,92 @@
+package com.gridhub.gridhub.infra.s3;
+
+import com.gridhub.gridhub.infra.s3.ImageVariantGenerator.GeneratedImage;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import javax.imageio.ImageIO;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ImageVariantGeneratorTest {
+
+    private final ImageVariantGenerator imageVariantGenerator = new ImageVariantGenerator();
+
+    @AfterEach
+    void tearDown() {
+        imageVariantGenerator.shutdown();
+    }
+
+    @DisplayName("긴 변 기준으로 비율을 유지해 축소하고, 원본보다 작으면 확대하지 않는다")
+    @Test
+    void resize_KeepsAspectRatioWithoutUpscaling() {
+        BufferedImage portrait = new BufferedImage(1500, 3000, BufferedImage.TYPE_INT_RGB);
+        BufferedImage small = new BufferedImage(200, 100, BufferedImage.TYPE_INT_RGB);
+
+        BufferedImage resized = ImageVariantGenerator.resize(portrait, 320);
+        BufferedImage notUpscaled = ImageVariantGenerator.resize(small, 320);
+
+        assertThat(resized.getWidth()).isEqualTo(160);
+        assertThat(resized.getHeight()).isEqualTo(320);
+        assertThat(notUpscaled.getWidth()).isEqualTo(200);
+        assertThat(notUpscaled.getHeight()).isEqualTo(100);
+    }
+
+    @DisplayName("EXIF Orientation에 맞게 회전/반전하고, 90도 회전이면 가로세로가 바뀐다")
+    @Test
+    void orient_AppliesExifOrientation() {
+        BufferedImage source = new BufferedImage(4, 2, BufferedImage.TYPE_INT_RGB);
+        source.setRGB(0, 0, 0xFF0000); // 왼쪽 위 픽셀로 방향 확인
+
+        BufferedImage clockwise = ImageVariantGenerator.orient(source, 6);
+        BufferedImage counterClockwise = ImageVariantGenerator.orient(source, 8);
+        BufferedImage upsideDown = ImageVariantGenerator.orient(source, 3);
+
+        assertThat(ImageVariantGenerator.orient(source, 1)).isSameAs(source);
+        assertThat(clockwise.getWidth()).isEqualTo(2);
+        assertThat(clockwise.getHeight()).isEqualTo(4);
+        assertThat(clockwise.getRGB(1, 0) & 0xFFFFFF).isEqualTo(0xFF0000);
+        assertThat(counterClockwise.getRGB(0, 3) & 0xFFFFFF).isEqualTo(0xFF0000);
+        assertThat(upsideDown.getRGB(3, 1) & 0xFFFFFF).isEqualTo(0xFF0000);
+    }
+
+    @DisplayName("불투명 이미지는 JPEG, 투명도가 있는 이미지는 PNG 축소본으로 생성된다")
+    @Test
+    void generate_ChoosesFormatByTransparency() throws Exception {
+        List<GeneratedImage> opaque = imageVariantGenerator.generate(
+                new ByteArrayInputStream(encode(new BufferedImage(2048, 1536, BufferedImage.TYPE_INT_RGB), "jpg"))).get();
+        List<GeneratedImage> transparent = imageVariantGenerator.generate(
+                new ByteArrayInputStream(encode(new BufferedImage(640, 640, BufferedImage.TYPE_INT_ARGB), "png"))).get();
+
+        assertThat(opaque).extracting(GeneratedImage::variant).containsExactly(ImageVariant.MEDIUM, ImageVariant.THUMBNAIL);
+        assertThat(opaque).extracting(GeneratedImage::contentType).containsOnly("image/jpeg");
+        assertThat(transparent).extracting(GeneratedImage::contentType).containsOnly("image/png");
+
+        BufferedImage thumbnail = ImageIO.read(new ByteArrayInputStream(opaque.get(1).content()));
+        assertThat(thumbnail.getWidth()).isEqualTo(320);
+        assertThat(thumbnail.getHeight()).isEqualTo(240);
+    }
+
+    @DisplayName("이미지가 아니거나 픽셀 수가 제한을 넘으면 축소본을 만들지 않는다")
+    @Test
+    void generate_SkipsUnreadableOrOversizedImages() throws Exception {
+        // 흑백 1bit 이미지라 파일은 작지만 디코딩하면 제한을 넘는 크기
+        BufferedImage oversized = new BufferedImage(8000, 6000, BufferedImage.TYPE_BYTE_BINARY);
+        assertThat((long) oversized.getWidth() * oversized.getHeight()).isGreaterThan(ImageVariantGenerator.MAX_SOURCE_PIXELS);
+
+        assertThat(imageVariantGenerator.generate(new ByteArrayInputStream("plain text".getBytes())).get()).isEmpty();
+        assertThat(imageVariantGenerator.generate(new ByteArrayInputStream(encode(oversized, "png"))).get()).isEmpty();
+    }
+
+    private byte[] encode(BufferedImage image, String format) throws IOException {
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+        ImageIO.write(image, format, output);
+        return output.toByteArray();
+    }
+}
@@ -0,0 +1,189 @@
+package com.gridhub.gridhub.infra.s3;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Pageable;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.io.ByteArrayInputStream;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.LongStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class ObjectDeletionQueueTest {
+
+    @TempDir
+    Path storageRoot;
+
+    @Mock
+    private PendingObjectDeletionRepository pendingObjectDeletionRepository;
+
+    private FileSystemObjectStorage objectStorage;
+    private ObjectDeletionQueue objectDeletionQueue;
+
+    @BeforeEach
+    void setUp() {
+        objectStorage = new FileSystemObjectStorage(storageRoot.toAbsolutePath().normalize(), Runnable::run);
+        objectDeletionQueue = new ObjectDeletionQueue(pendingObjectDeletionRepository, objectStorage);
+    }
+
+    @DisplayName("삭제 요청은 URL을 저장소 키로 바꿔 outbox에 기록만 한다")
+    @Test
+    void enqueue_RecordsKeysWithoutDeleting() throws Exception {
+        // given
+        String url = store("images/a.jpg");
+
+        // when
+        objectDeletionQueue.enqueue(Arrays.asList(url, null, " "));
+
+        // then
+        ArgumentCaptor<Collection<PendingObjectDeletion>> captor = ArgumentCaptor.forClass(Collection.class);
+        then(pendingObjectDeletionRepository).should().saveAll(captor.capture());
+        assertThat(captor.getValue()).extracting(PendingObjectDeletion::getObjectKey).containsExactly("images/a.jpg");
+        assertThat(objectStorage.exists(url)).isTrue();
+    }
+
+    @DisplayName("기한이 된 항목을 한 번에 삭제하고, 실패한 항목만 백오프 후 재시도하도록 남긴다")
+    @Test
+    void drain_DeletesBatchAndRetriesFailures() throws Exception {
+        // given
+        String deletedUrl = store("images/a.jpg");
+        String failingUrl = store("images/b.jpg");
+        objectStorage.failDeletesOf("images/b.jpg");
+        PendingObjectDeletion deleted = pending(1L, "images/a.jpg");
+        PendingObjectDeletion failing = pending(2L, "images/b.jpg");
+        given(pendingObjectDeletionRepository.findDue(any(LocalDateTime.class), any(Pageable.class)))
+                .willReturn(List.of(deleted, failing));
+
+        // when
+        LocalDateTime before = LocalDateTime.now();
+        objectDeletionQueue.drain();
+
+        // then
+        assertThat(objectStorage.exists(deletedUrl)).isFalse();
+        assertThat(objectStorage.exists(failingUrl)).isTrue();
+        then(pendingObjectDeletionRepository).should().deleteAllByIdInBatch(List.of(1L));
+        then(pendingObjectDeletionRepository).should().updateRetries(eq(List.of(2L)), eq(1),
+                eq(failing.getNextAttemptAt()), eq(failing.getLastError()), any(LocalDateTime.class));
+        then(pendingObjectDeletionRepository).should(never()).saveAll(any());
+        assertThat(failing.getAttempts()).isEqualTo(1);
+        assertThat(failing.getLastError()).contains("simulated delete failure");
+        assertThat(failing.getNextAttemptAt()).isAfterOrEqualTo(before.plusSeconds(30));
+    }
+
+    @DisplayName("저장소 호출 자체가 실패하면 배치 전체를 재시도 대상으로 남긴다")
+    @Test
+    void drain_StorageUnavailable_RetriesWholeBatch() {
+        // given
+        ObjectStorage unavailable = mock(ObjectStorage.class);
+        given(unavailable.deleteAll(any())).willThrow(new IllegalStateException("S3 unavailable"));
+        ObjectDeletionQueue queue = new ObjectDeletionQueue(pendingObjectDeletionRepository, unavailable);
+        List<PendingObjectDeletion> batch = List.of(pending(1L, "images/a.jpg"), pending(2L, "images/b.jpg"));
+        given(pendingObjectDeletionRepository.findDue(any(LocalDateTime.class), any(Pageable.class))).willReturn(batch);
+
+        // when
+        queue.drain();
+
+        // then
+        then(pendingObjectDeletionRepository).should(never()).deleteAllByIdInBatch(any());
+        // 같은 오류로 실패한 항목은 UPDATE 한 번으로 갱신
+        then(pendingObjectDeletionRepository).should().updateRetries(eq(List.of(1L, 2L)), eq(1),
+                any(LocalDateTime.class), contains("S3 unavailable"), any(LocalDateTime.class));
+        assertThat(batch).allSatisfy(deletion -> {
+            assertThat(deletion.getAttempts()).isEqualTo(1);
+            assertThat(deletion.getLastError()).contains("S3 unavailable");
+        });
+    }
+
+    @DisplayName("시도 횟수가 다른 실패 항목은 재시도 상태별로 나눠 갱신한다")
+    @Test
+    void drain_GroupsRetriesByState() {
+        // given
+        ObjectStorage unavailable = mock(ObjectStorage.class);
+        given(unavailable.deleteAll(any())).willThrow(new IllegalStateException("S3 unavailable"));
+        ObjectDeletionQueue queue = new ObjectDeletionQueue(pendingObjectDeletionRepository, unavailable);
+        PendingObjectDeletion retried = pending(2L, "images/b.jpg");
+        retried.retryLater(LocalDateTime.now().minusHours(1), "previous error");
+        List<PendingObjectDeletion> batch = List.of(pending(1L, "images/a.jpg"), retried, pending(3L, "images/c.jpg"));
+        given(pendingObjectDeletionRepository.findDue(any(LocalDateTime.class), any(Pageable.class))).willReturn(batch);
+
+        // when
+        queue.drain();
+
+        // then
+        then(pendingObjectDeletionRepository).should().updateRetries(eq(List.of(1L, 3L)), eq(1),
+                any(LocalDateTime.class), any(), any(LocalDateTime.class));
+        then(pendingObjectDeletionRepository).should().updateRetries(eq(List.of(2L)), eq(2),
+                any(LocalDateTime.class), any(), any(LocalDateTime.class));
+    }
+
+    @DisplayName("배치가 가득 차 있으면 남은 항목이 없을 때까지 이어서 처리하며, 한 번에 최대 1,000개 키만 보낸다")
+    @Test
+    void drain_ContinuesWhileBatchesAreFull() {
+        // given
+        ObjectStorage storage = mock(ObjectStorage.class);
+        given(storage.deleteAll(any())).willReturn(Map.of());
+        ObjectDeletionQueue queue = new ObjectDeletionQueue(pendingObjectDeletionRepository, storage);
+        List<PendingObjectDeletion> fullBatch = new ArrayList<>();
+        LongStream.rangeClosed(1, ObjectDeletionQueue.BATCH_SIZE)
+                .forEach(id -> fullBatch.add(pending(id, "images/" + id + ".jpg")));
+        List<PendingObjectDeletion> lastBatch = List.of(pending(5_000L, "images/last.jpg"));
+        given(pendingObjectDeletionRepository.findDue(any(LocalDateTime.class), any(Pageable.class)))
+                .willReturn(fullBatch, lastBatch);
+
+        // when
+        queue.drain();
+
+        // then
+        ArgumentCaptor<List<String>> keys = ArgumentCaptor.forClass(List.class);
+        then(storage).should(times(2)).deleteAll(keys.capture());
+        assertThat(keys.getAllValues().get(0)).hasSize(ObjectDeletionQueue.BATCH_SIZE);
+        assertThat(keys.getAllValues().get(1)).containsExactly("images/last.jpg");
+        then(pendingObjectDeletionRepository).should(times(2)).findDue(any(LocalDateTime.class), any(Pageable.class));
+    }
+
+    @DisplayName("재시도 간격은 지수적으로 늘어나되 1시간을 넘지 않는다")
+    @Test
+    void retryLater_BacksOffExponentiallyUpToOneHour() {
+        PendingObjectDeletion deletion = pending(1L, "images/a.jpg");
+        LocalDateTime now = LocalDateTime.of(2025, 1, 1, 0, 0);
+
+        deletion.retryLater(now, "error");
+        assertThat(deletion.getNextAttemptAt()).isEqualTo(now.plusSeconds(30));
+        deletion.retryLater(now, "error");
+        assertThat(deletion.getNextAttemptAt()).isEqualTo(now.plusMinutes(1));
+
+        for (int i = 0; i < 20; i++) {
+            deletion.retryLater(now, "x".repeat(1_000));
+        }
+        assertThat(deletion.getNextAttemptAt()).isEqualTo(now.plusHours(1));
+        assertThat(deletion.getLastError()).hasSize(500);
+    }
+
+    private PendingObjectDeletion pending(Long id, String key) {
+        PendingObjectDeletion deletion = new PendingObjectDeletion(key, LocalDateTime.now().minusSeconds(1));
+        ReflectionTestUtils.setField(deletion, "id", id);
+        return deletion;
+    }
+
+    private String store(String key) throws Exception {
+        objectStorage.put(key, new ByteArrayInputStream("bytes".getBytes()), 5, "image/jpeg").get();
+        return objectStorage.urlOf(key);
+    }
+}
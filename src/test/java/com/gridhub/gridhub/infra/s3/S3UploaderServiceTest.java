@@ -0,0 +1,280 @@
+package com.gridhub.gridhub.infra.s3;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.mock.web.MockMultipartFile;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.imageio.ImageIO;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.*;
+
+class S3UploaderServiceTest {
+
+    @TempDir
+    Path storageRoot;
+
+    private ExecutorService uploadExecutor;
+    private FileSystemObjectStorage objectStorage;
+    private ImageVariantGenerator imageVariantGenerator;
+    private ObjectDeletionQueue objectDeletionQueue;
+    private S3UploaderService s3UploaderService;
+
+    @BeforeEach
+    void setUp() {
+        uploadExecutor = Executors.newFixedThreadPool(2);
+        objectStorage = new FileSystemObjectStorage(storageRoot.toAbsolutePath().normalize(), uploadExecutor);
+        imageVariantGenerator = new ImageVariantGenerator();
+        objectDeletionQueue = mock(ObjectDeletionQueue.class);
+        s3UploaderService = new S3UploaderService(objectStorage, imageVariantGenerator, objectDeletionQueue);
+    }
+
+    @AfterEach
+    void tearDown() {
+        uploadExecutor.shutdownNow();
+        imageVariantGenerator.shutdown();
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    @DisplayName("업로드하면 images/ 아래 고유한 이름으로 저장되고 URL이 반환된다")
+    @Test
+    void upload_StoresFileAndReturnsUrl() throws IOException {
+        // given
+        MockMultipartFile image = new MockMultipartFile("image", "photo.jpg", "image/jpeg", "image-bytes".getBytes());
+
+        // when
+        String first = s3UploaderService.upload(image);
+        String second = s3UploaderService.upload(image);
+
+        // then
+        assertThat(first).startsWith(FileSystemObjectStorage.BASE_URL + "images/").endsWith(".jpg");
+        assertThat(first).isNotEqualTo(second);
+        assertThat(objectStorage.read(first)).isEqualTo("image-bytes".getBytes());
+    }
+
+    @DisplayName("업로드는 호출 스레드를 막지 않고 future로 완료된다")
+    @Test
+    void uploadAsync_DoesNotBlockCaller() throws Exception {
+        // given: 업로드 스레드를 잠시 붙잡아 둔다
+        CountDownLatch release = new CountDownLatch(1);
+        uploadExecutor.execute(() -> awaitQuietly(release));
+        uploadExecutor.execute(() -> awaitQuietly(release));
+        MockMultipartFile image = new MockMultipartFile("image", "photo.png", "image/png", "png".getBytes());
+
+        // when
+        CompletableFuture<String> future = s3UploaderService.uploadAsync(image);
+
+        // then
+        assertThat(future).isNotDone();
+        release.countDown();
+        String url = future.get(5, TimeUnit.SECONDS);
+        assertThat(objectStorage.exists(url)).isTrue();
+    }
+
+    @DisplayName("빈 파일은 업로드하지 않고 null을 반환한다")
+    @Test
+    void upload_EmptyFile_ReturnsNull() throws IOException {
+        MockMultipartFile empty = new MockMultipartFile("image", "empty.jpg", "image/jpeg", new byte[0]);
+
+        assertThat(s3UploaderService.upload(empty)).isNull();
+    }
+
+    @DisplayName("업로드가 실패하면 IOException으로 전달된다")
+    @Test
+    void upload_Failure_ThrowsIOException() {
+        // given
+        objectStorage.failNextPuts(1);
+        MockMultipartFile image = new MockMultipartFile("image", "photo.jpg", "image/jpeg", "bytes".getBytes());
+
+        // when & then
+        assertThatThrownBy(() -> s3UploaderService.upload(image))
+                .isInstanceOf(IOException.class)
+                .hasMessageContaining("photo.jpg");
+    }
+
+    @DisplayName("이미지를 업로드하면 원본과 함께 크기가 제한된 축소본이 저장된다")
+    @Test
+    void uploadImage_StoresOriginalAndVariants() throws IOException {
+        // given
+        MockMultipartFile image = new MockMultipartFile("image", "photo.jpg", "image/jpeg", jpeg(2000, 1000));
+
+        // when
+        UploadedImage uploaded = s3UploaderService.uploadImage(image);
+
+        // then
+        assertThat(uploaded.originalUrl()).endsWith(".jpg");
+        assertThat(uploaded.mediumUrl()).endsWith("_medium.jpg");
+        assertThat(uploaded.thumbnailUrl()).endsWith("_thumb.jpg");
+        assertThat(objectStorage.read(uploaded.originalUrl())).isEqualTo(image.getBytes());
+
+        BufferedImage medium = ImageIO.read(new ByteArrayInputStream(objectStorage.read(uploaded.mediumUrl())));
+        BufferedImage thumbnail = ImageIO.read(new ByteArrayInputStream(objectStorage.read(uploaded.thumbnailUrl())));
+        assertThat(medium.getWidth()).isEqualTo(1024);
+        assertThat(medium.getHeight()).isEqualTo(512);
+        assertThat(thumbnail.getWidth()).isEqualTo(320);
+        assertThat(thumbnail.getHeight()).isEqualTo(160);
+        assertThat(objectStorage.read(uploaded.thumbnailUrl()).length).isLessThan(image.getBytes().length);
+    }
+
+    @DisplayName("원본의 EXIF(위치 정보)는 제거해 저장하고, 축소본은 EXIF 회전 방향대로 만든다")
+    @Test
+    void uploadImage_StripsExifAndAppliesOrientation() throws IOException {
+        // given: 세로로 찍어 시계 방향 90도 회전 정보가 붙은 800x600 JPEG
+        byte[] original = ImageMetadataStripperTest.withExif(jpeg(800, 600), 6);
+        MockMultipartFile image = new MockMultipartFile("image", "photo.jpg", "image/jpeg", original);
+
+        // when
+        UploadedImage uploaded = s3UploaderService.uploadImage(image);
+
+        // then
+        byte[] stored = objectStorage.read(uploaded.originalUrl());
+        assertThat(new String(stored, StandardCharsets.ISO_8859_1)).doesNotContain(ImageMetadataStripperTest.SECRET);
+        assertThat(ImageIO.read(new ByteArrayInputStream(stored)).getWidth()).isEqualTo(800); // 픽셀은 재인코딩하지 않음
+
+        BufferedImage thumbnail = ImageIO.read(new ByteArrayInputStream(objectStorage.read(uploaded.thumbnailUrl())));
+        assertThat(thumbnail.getWidth()).isEqualTo(240);
+        assertThat(thumbnail.getHeight()).isEqualTo(320);
+    }
+
+    @DisplayName("지정한 축소본만 생성해 저장한다")
+    @Test
+    void uploadImage_OnlyRequestedVariants() throws IOException {
+        MockMultipartFile image = new MockMultipartFile("image", "avatar.jpg", "image/jpeg", jpeg(800, 600));
+
+        UploadedImage uploaded = s3UploaderService.uploadImage(image, EnumSet.of(ImageVariant.THUMBNAIL));
+
+        assertThat(uploaded.mediumUrl()).isNull();
+        assertThat(uploaded.thumbnailUrl()).endsWith("_thumb.jpg");
+        assertThat(storedFileCount()).isEqualTo(2);
+    }
+
+    @DisplayName("이미지로 읽을 수 없는 파일은 원본만 저장하고 축소본 URL은 null이다")
+    @Test
+    void uploadImage_NotAnImage_StoresOriginalOnly() throws IOException {
+        MockMultipartFile file = new MockMultipartFile("image", "notes.jpg", "image/jpeg", "not an image".getBytes());
+
+        UploadedImage uploaded = s3UploaderService.uploadImage(file);
+
+        assertThat(objectStorage.exists(uploaded.originalUrl())).isTrue();
+        assertThat(uploaded.mediumUrl()).isNull();
+        assertThat(uploaded.thumbnailUrl()).isNull();
+        assertThat(uploaded.urls()).containsExactly(uploaded.originalUrl());
+    }
+
+    @DisplayName("원본이나 축소본 중 하나라도 업로드에 실패하면 이미 저장된 파일을 모두 정리한다")
+    @Test
+    void uploadImage_PartialFailure_CleansUpStoredFiles() throws Exception {
+        // given
+        objectStorage.failNextPuts(1);
+        MockMultipartFile image = new MockMultipartFile("image", "photo.jpg", "image/jpeg", jpeg(800, 600));
+
+        // when & then
+        assertThatThrownBy(() -> s3UploaderService.uploadImage(image)).isInstanceOf(IOException.class);
+
+        // 정리는 진행 중이던 나머지 업로드가 끝난 뒤 비동기로 수행됨
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (storedFileCount() > 0 && System.nanoTime() < deadline) {
+            Thread.sleep(20);
+        }
+        assertThat(storedFileCount()).isZero();
+    }
+
+    @DisplayName("트랜잭션이 롤백되면 먼저 업로드한 이미지(원본과 축소본)의 삭제를 예약하고, 커밋되면 유지한다")
+    @Test
+    void deleteOnRollback_EnqueuesOnlyWhenNotCommitted() {
+        // given
+        UploadedImage rolledBack = new UploadedImage("https://bucket/images/a.jpg", "https://bucket/images/a_medium.jpg", null);
+        UploadedImage committed = new UploadedImage("https://bucket/images/b.jpg", null, null);
+
+        // when: 롤백되는 트랜잭션
+        TransactionSynchronizationManager.initSynchronization();
+        s3UploaderService.deleteOnRollback(rolledBack);
+        completeTransaction(TransactionSynchronization.STATUS_ROLLED_BACK);
+
+        // when: 커밋되는 트랜잭션
+        TransactionSynchronizationManager.initSynchronization();
+        s3UploaderService.deleteOnRollback(committed);
+        completeTransaction(TransactionSynchronization.STATUS_COMMITTED);
+
+        // then
+        verify(objectDeletionQueue).enqueueInNewTransaction(List.of(rolledBack.originalUrl(), rolledBack.mediumUrl()));
+        verifyNoMoreInteractions(objectDeletionQueue);
+    }
+
+    @DisplayName("활성 트랜잭션이 없으면 보상 삭제를 등록하지 않는다")
+    @Test
+    void deleteOnRollback_WithoutTransaction_DoesNothing() {
+        s3UploaderService.deleteOnRollback("https://bucket/images/a.jpg");
+
+        verifyNoInteractions(objectDeletionQueue);
+    }
+
+    @DisplayName("삭제 요청은 즉시 지우지 않고 삭제 큐에 넘긴다")
+    @Test
+    void deleteLater_EnqueuesWithoutDeleting() throws IOException {
+        MockMultipartFile image = new MockMultipartFile("image", "photo.jpg", "image/jpeg", "bytes".getBytes());
+        String url = s3UploaderService.upload(image);
+
+        s3UploaderService.deleteLater(List.of(url));
+        s3UploaderService.deleteLater(List.of());
+
+        assertThat(objectStorage.exists(url)).isTrue();
+        verify(objectDeletionQueue).enqueue(List.of(url));
+        verifyNoMoreInteractions(objectDeletionQueue);
+    }
+
+    private byte[] jpeg(int width, int height) throws IOException {
+        BufferedImage image = new BufferedImage(width, height, BufferedImage.TYPE_INT_RGB);
+        for (int x = 0; x < width; x++) {
+            for (int y = 0; y < height; y += 2) {
+                image.setRGB(x, y, (x * 31 + y * 17) & 0xFFFFFF);
+            }
+        }
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+        ImageIO.write(image, "jpg", output);
+        return output.toByteArray();
+    }
+
+    private long storedFileCount() throws IOException {
+        try (Stream<Path> files = Files.walk(storageRoot)) {
+            return files.filter(Files::isRegularFile).count();
+        }
+    }
+
+    private void completeTransaction(int status) {
+        var synchronizations = TransactionSynchronizationManager.getSynchronizations();
+        TransactionSynchronizationManager.clearSynchronization();
+        synchronizations.forEach(synchronization -> synchronization.afterCompletion(status));
+    }
+
+    private void awaitQuietly(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}